@@ -0,0 +1,65 @@
+package com.box.androidsdk.content.benchmark;
+
+import com.box.androidsdk.content.utils.BoxDateFormat;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.text.DateFormat;
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares parsing and formatting the dates returned by the Box API with {@link BoxDateFormat} to the thread local
+ * {@link SimpleDateFormat} it used previously. Run with {@code -prof gc} to compare allocations as well.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class DateFormatBenchmark {
+
+    private static final String DATE = "2012-12-12T10:55:30-08:00";
+
+    private DateFormat mSimpleDateFormat;
+    private Date mDate;
+
+    @Setup
+    public void setUp() throws ParseException {
+        mSimpleDateFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
+        mDate = BoxDateFormat.parse(DATE);
+    }
+
+    @Benchmark
+    public long parseMillis() throws ParseException {
+        return BoxDateFormat.parseMillis(DATE);
+    }
+
+    @Benchmark
+    public Date parse() throws ParseException {
+        return BoxDateFormat.parse(DATE);
+    }
+
+    @Benchmark
+    public Date parseSimpleDateFormat() throws ParseException {
+        // SimpleDateFormat only accepts offsets without a colon on older JVMs, as it did before on Android.
+        return mSimpleDateFormat.parse("2012-12-12T10:55:30-0800");
+    }
+
+    @Benchmark
+    public String format() {
+        return BoxDateFormat.format(mDate);
+    }
+
+    @Benchmark
+    public String formatSimpleDateFormat() {
+        String format = mSimpleDateFormat.format(mDate);
+        return format.substring(0, 22) + ":" + format.substring(22);
+    }
+}
@@ -0,0 +1,81 @@
+package com.box.androidsdk.content.benchmark;
+
+import com.box.androidsdk.content.models.BoxBookmark;
+import com.box.androidsdk.content.models.BoxEntity;
+import com.box.androidsdk.content.models.BoxFile;
+import com.box.androidsdk.content.models.BoxFolder;
+import com.box.androidsdk.content.models.BoxItem;
+import com.eclipsesource.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of turning one entry of the synthetic folder listing of {@link ModelFixtures} into its model class
+ * through {@link BoxEntity#createEntityFromJson(JsonObject)}, compared to the previous implementation that parsed every
+ * entry into a throwaway BoxEntity twice to find its type before parsing it into the concrete class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EntityFactoryBenchmark {
+
+    private static final int ENTRIES = 1000;
+
+    private JsonObject[] mEntries;
+
+    @Setup
+    public void setUp() {
+        mEntries = ModelFixtures.entries(ModelFixtures.loadFolderListing(ENTRIES));
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public void singlePass(Blackhole blackhole) {
+        for (JsonObject entry : mEntries) {
+            blackhole.consume(BoxEntity.createEntityFromJson(entry));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ENTRIES)
+    public void threePass(Blackhole blackhole) {
+        for (JsonObject entry : mEntries) {
+            blackhole.consume(createEntityThreePass(entry));
+        }
+    }
+
+    /**
+     * The dispatch done by BoxEntity.createEntityFromJson and BoxItem.createBoxItemFromJson before the type registry.
+     */
+    private static BoxEntity createEntityThreePass(JsonObject json) {
+        BoxEntity probe = new BoxEntity();
+        probe.createFromJson(json);
+        if (probe.getType() == null) {
+            return probe;
+        }
+        BoxEntity itemProbe = new BoxEntity();
+        itemProbe.createFromJson(json);
+        BoxItem item;
+        if (itemProbe.getType().equals(BoxFile.TYPE)) {
+            item = new BoxFile();
+        } else if (itemProbe.getType().equals(BoxBookmark.TYPE)) {
+            item = new BoxBookmark();
+        } else if (itemProbe.getType().equals(BoxFolder.TYPE)) {
+            item = new BoxFolder();
+        } else {
+            return null;
+        }
+        item.createFromJson(json);
+        return item;
+    }
+}
@@ -0,0 +1,61 @@
+package com.box.androidsdk.content.benchmark;
+
+import com.box.androidsdk.content.BoxConfig;
+import com.box.androidsdk.content.models.BoxItem;
+import com.box.androidsdk.content.models.BoxListItems;
+import com.eclipsesource.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing the synthetic folder listing of {@link ModelFixtures} and reading the fields shown by a typical list UI (id, name and size) for each
+ * model storage mode.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListingParseBenchmark {
+
+    @Param({"default", "compact", "lazy"})
+    public String mode;
+
+    @Param({"1000"})
+    public int entries;
+
+    private JsonObject mListing;
+
+    @Setup
+    public void setUp() {
+        BoxConfig.USE_COMPACT_MODEL_STORAGE = mode.equals("compact");
+        BoxConfig.USE_LAZY_MODEL_PARSING = mode.equals("lazy");
+        mListing = JsonObject.readFrom(ModelFixtures.loadFolderListing(entries));
+    }
+
+    @TearDown
+    public void tearDown() {
+        BoxConfig.USE_COMPACT_MODEL_STORAGE = false;
+        BoxConfig.USE_LAZY_MODEL_PARSING = false;
+    }
+
+    @Benchmark
+    public void parseAndReadListFields(Blackhole blackhole) {
+        BoxListItems items = new BoxListItems();
+        items.createFromJson(mListing);
+        for (BoxItem item : items) {
+            blackhole.consume(item.getId());
+            blackhole.consume(item.getName());
+            blackhole.consume(item.getSize());
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.box.androidsdk.content.benchmark;
+
+import com.box.androidsdk.content.models.BoxEntity;
+import com.box.androidsdk.content.models.BoxFile;
+import com.box.androidsdk.content.models.BoxJsonObject;
+import com.box.androidsdk.content.models.BoxListEvents;
+import com.box.androidsdk.content.models.BoxListItems;
+import com.box.androidsdk.content.models.BoxListUsers;
+import com.eclipsesource.json.JsonObject;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the JSON model layer against synthetic API responses: parsing a response into its model, serializing the
+ * model back to JSON, creating entities through the type registry and copying model properties. Allocation rates are
+ * reported by the gc profiler configured in build.gradle.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class ModelBenchmark {
+
+    @Param({"folder_items_100", "folder_items_1000", "folder_items_10000", "events", "enterprise_users", "file_all_fields"})
+    public String payload;
+
+    private String mJson;
+    private JsonObject[] mEntries;
+    private BoxJsonObject mModel;
+
+    @Setup
+    public void setUp() {
+        if (payload.startsWith(ModelFixtures.FOLDER_ITEMS + "_")) {
+            mJson = ModelFixtures.loadFolderListing(Integer.parseInt(payload.substring(ModelFixtures.FOLDER_ITEMS.length() + 1)));
+        } else {
+            mJson = ModelFixtures.load(payload);
+        }
+        mEntries = ModelFixtures.entries(mJson);
+        mModel = createFromJson();
+    }
+
+    @Benchmark
+    public BoxJsonObject createFromJson() {
+        BoxJsonObject model = newModel();
+        model.createFromJson(mJson);
+        return model;
+    }
+
+    @Benchmark
+    public String toJson() {
+        return mModel.toJson();
+    }
+
+    @Benchmark
+    public void createEntityFromJson(Blackhole blackhole) {
+        for (JsonObject entry : mEntries) {
+            blackhole.consume(BoxEntity.createEntityFromJson(entry));
+        }
+    }
+
+    @Benchmark
+    public HashMap<String, Object> getPropertiesAsHashMap() {
+        return mModel.getPropertiesAsHashMap();
+    }
+
+    private BoxJsonObject newModel() {
+        if (payload.startsWith(ModelFixtures.FOLDER_ITEMS)) {
+            return new BoxListItems();
+        } else if (payload.equals(ModelFixtures.EVENTS)) {
+            return new BoxListEvents();
+        } else if (payload.equals(ModelFixtures.ENTERPRISE_USERS)) {
+            return new BoxListUsers();
+        }
+        return new BoxFile();
+    }
+}
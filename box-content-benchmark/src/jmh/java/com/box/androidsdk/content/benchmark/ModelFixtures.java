@@ -0,0 +1,144 @@
+package com.box.androidsdk.content.benchmark;
+
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.util.Random;
+
+/**
+ * Loads the responses kept in src/jmh/resources/fixtures. They are synthetic: written to have the shape and fields of
+ * Box API responses, not recorded from the API.
+ */
+final class ModelFixtures {
+
+    /** A page of 100 folder items, a third of them with a shared link. */
+    static final String FOLDER_ITEMS = "folder_items";
+    /** A page of 100 events from the user events stream. */
+    static final String EVENTS = "events";
+    /** A page of 100 users from the enterprise users endpoint. */
+    static final String ENTERPRISE_USERS = "enterprise_users";
+    /** A single file requested with BoxFile.ALL_FIELDS. */
+    static final String FILE_ALL_FIELDS = "file_all_fields";
+
+    private static final String[] DESCRIPTIONS = {"", "", "Quarterly report draft for review", "Shared with the design team",
+            "Final version, do not edit"};
+
+    private ModelFixtures() {
+    }
+
+    /**
+     * @param name  the name of the fixture without its extension.
+     * @return the response body.
+     */
+    static String load(String name) {
+        InputStream stream = ModelFixtures.class.getResourceAsStream("/fixtures/" + name + ".json");
+        if (stream == null) {
+            throw new IllegalArgumentException("Unknown fixture " + name);
+        }
+        try {
+            Reader reader = new InputStreamReader(stream, "UTF-8");
+            StringBuilder builder = new StringBuilder();
+            char[] buffer = new char[8192];
+            int read;
+            while ((read = reader.read(buffer)) != -1) {
+                builder.append(buffer, 0, read);
+            }
+            return builder.toString();
+        } catch (IOException e) {
+            throw new IllegalStateException("Unable to read fixture " + name, e);
+        } finally {
+            try {
+                stream.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    /**
+     * Builds a synthetic folder listing of the given size from the entries of the folder items page, so listings larger
+     * than a page do not have to be checked in. Entries past the page get their own id, name, etag, size, sha1,
+     * version, description and comment count from a fixed seed, so the listing does not repeat the page but is the same
+     * on every run.
+     *
+     * @param size  the number of items in the listing.
+     * @return the listing as a response body.
+     */
+    static String loadFolderListing(int size) {
+        JsonObject page = JsonObject.readFrom(load(FOLDER_ITEMS));
+        JsonArray template = page.get("entries").asArray();
+        JsonArray entries = new JsonArray();
+        Random random = new Random(size);
+        for (int i = 0; i < size; i++) {
+            JsonObject entry = JsonObject.readFrom(template.get(i % template.size()).toString());
+            if (i >= template.size()) {
+                vary(entry, i, random);
+            }
+            entries.add(entry);
+        }
+        JsonObject listing = new JsonObject();
+        for (JsonObject.Member member : page) {
+            if (member.getName().equals("entries")) {
+                listing.add("entries", entries);
+            } else if (member.getName().equals("total_count")) {
+                listing.add("total_count", size);
+            } else {
+                listing.add(member.getName(), member.getValue());
+            }
+        }
+        return listing.toString();
+    }
+
+    private static void vary(JsonObject entry, int index, Random random) {
+        entry.set("id", Long.toString(5000948880L + index));
+        String etag = Integer.toString(random.nextInt(20));
+        entry.set("etag", etag);
+        entry.set("sequence_id", etag);
+        entry.set("size", random.nextInt(50000000));
+        entry.set("description", DESCRIPTIONS[random.nextInt(DESCRIPTIONS.length)]);
+        if (entry.get("type").asString().equals("folder")) {
+            entry.set("name", "Folder " + index);
+            return;
+        }
+        String extension = entry.get("extension") == null ? "bin" : entry.get("extension").asString();
+        entry.set("name", "document-" + index + "." + extension);
+        if (entry.get("sha1") != null) {
+            StringBuilder sha1 = new StringBuilder();
+            for (int i = 0; i < 40; i++) {
+                sha1.append(Character.forDigit(random.nextInt(16), 16));
+            }
+            entry.set("sha1", sha1.toString());
+            if (entry.get("file_version") != null) {
+                JsonObject version = entry.get("file_version").asObject();
+                version.set("id", Long.toString(26261748417L + index));
+                version.set("sha1", sha1.toString());
+            }
+        }
+        if (entry.get("comment_count") != null) {
+            entry.set("comment_count", random.nextInt(5));
+        }
+    }
+
+    /**
+     * @param json  a response body.
+     * @return the entries of a page, or the response itself for a single object.
+     */
+    static JsonObject[] entries(String json) {
+        JsonObject object = JsonObject.readFrom(json);
+        JsonValue entries = object.get("entries");
+        if (entries == null) {
+            return new JsonObject[]{object};
+        }
+        JsonArray array = entries.asArray();
+        JsonObject[] result = new JsonObject[array.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = array.get(i).asObject();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,45 @@
+package com.box.androidsdk.content.benchmark;
+
+import com.box.androidsdk.content.BoxConfig;
+import com.box.androidsdk.content.models.BoxEntity;
+import com.eclipsesource.json.JsonObject;
+
+import org.openjdk.jol.info.GraphLayout;
+
+import java.util.Locale;
+
+/**
+ * Prints the heap retained by the entries of the synthetic responses of {@link ModelFixtures} once parsed, for each
+ * property storage layout. Run with ./gradlew :box-content-benchmark:footprint
+ */
+public class PropertyStorageFootprint {
+
+    private static final int FOLDER_ITEMS = 10000;
+
+    public static void main(String[] args) {
+        print("folder_items_" + FOLDER_ITEMS, ModelFixtures.entries(ModelFixtures.loadFolderListing(FOLDER_ITEMS)));
+        print(ModelFixtures.EVENTS, ModelFixtures.entries(ModelFixtures.load(ModelFixtures.EVENTS)));
+        print(ModelFixtures.ENTERPRISE_USERS, ModelFixtures.entries(ModelFixtures.load(ModelFixtures.ENTERPRISE_USERS)));
+        print(ModelFixtures.FILE_ALL_FIELDS, ModelFixtures.entries(ModelFixtures.load(ModelFixtures.FILE_ALL_FIELDS)));
+    }
+
+    private static void print(String payload, JsonObject[] entries) {
+        BoxConfig.USE_COMPACT_MODEL_STORAGE = false;
+        long linked = GraphLayout.parseInstance((Object) parse(entries)).totalSize();
+        BoxConfig.USE_COMPACT_MODEL_STORAGE = true;
+        long compact = GraphLayout.parseInstance((Object) parse(entries)).totalSize();
+        BoxConfig.USE_COMPACT_MODEL_STORAGE = false;
+
+        System.out.println(String.format(Locale.ENGLISH, "%s, %d entries: LinkedHashMap %d bytes (%d per entry), "
+                        + "BoxPropertyMap %d bytes (%d per entry), saved %.1f%%", payload, entries.length, linked,
+                linked / entries.length, compact, compact / entries.length, 100.0 * (linked - compact) / linked));
+    }
+
+    private static BoxEntity[] parse(JsonObject[] entries) {
+        BoxEntity[] entities = new BoxEntity[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            entities[i] = BoxEntity.createEntityFromJson(entries[i]);
+        }
+        return entities;
+    }
+}
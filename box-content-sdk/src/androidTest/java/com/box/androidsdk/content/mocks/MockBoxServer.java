@@ -0,0 +1,306 @@
+package com.box.androidsdk.content.mocks;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.URLDecoder;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal HTTP server on the loopback interface that answers requests with a handler, for testing requests against a
+ * stub of the Box API. Every connection is closed after its response unless keep-alive is enabled.
+ */
+public class MockBoxServer {
+
+    public interface Handler {
+        void handle(Request request, Response response) throws Exception;
+    }
+
+    private final ServerSocket mServerSocket;
+    private final Handler mHandler;
+    private final List<Request> mRequests = new ArrayList<Request>();
+    private final AtomicInteger mActive = new AtomicInteger();
+    private final AtomicInteger mMaxActive = new AtomicInteger();
+    private final AtomicInteger mConnections = new AtomicInteger();
+    private volatile boolean mKeepAlive;
+    private volatile boolean mStopped;
+
+    public MockBoxServer(Handler handler) throws IOException {
+        mHandler = handler;
+        mServerSocket = new ServerSocket(0, 50, InetAddress.getByName("127.0.0.1"));
+        Thread acceptThread = new Thread() {
+            @Override
+            public void run() {
+                while (!mStopped) {
+                    try {
+                        final Socket socket = mServerSocket.accept();
+                        mConnections.incrementAndGet();
+                        Thread connectionThread = new Thread() {
+                            @Override
+                            public void run() {
+                                serve(socket);
+                            }
+                        };
+                        connectionThread.setDaemon(true);
+                        connectionThread.start();
+                    } catch (IOException e) {
+                        // Closed.
+                    }
+                }
+            }
+        };
+        acceptThread.setDaemon(true);
+        acceptThread.start();
+    }
+
+    public String getUrl() {
+        return "http://127.0.0.1:" + mServerSocket.getLocalPort();
+    }
+
+    public List<Request> getRequests() {
+        synchronized (mRequests) {
+            return new ArrayList<Request>(mRequests);
+        }
+    }
+
+    public int getRequestCount() {
+        synchronized (mRequests) {
+            return mRequests.size();
+        }
+    }
+
+    public int getMaxActiveRequests() {
+        return mMaxActive.get();
+    }
+
+    public int getConnectionCount() {
+        return mConnections.get();
+    }
+
+    public MockBoxServer setKeepAlive(boolean keepAlive) {
+        mKeepAlive = keepAlive;
+        return this;
+    }
+
+    public void shutdown() {
+        mStopped = true;
+        try {
+            mServerSocket.close();
+        } catch (IOException e) {
+            // Ignore
+        }
+    }
+
+    private void serve(Socket socket) {
+        try {
+            InputStream input = socket.getInputStream();
+            boolean keepAlive;
+            do {
+                Request request = readRequest(input);
+                if (request == null) {
+                    return;
+                }
+                synchronized (mRequests) {
+                    mRequests.add(request);
+                }
+                int active = mActive.incrementAndGet();
+                synchronized (mMaxActive) {
+                    if (active > mMaxActive.get()) {
+                        mMaxActive.set(active);
+                    }
+                }
+                Response response = new Response();
+                try {
+                    mHandler.handle(request, response);
+                } catch (Exception e) {
+                    response.setStatus(500);
+                    response.setBody("{\"type\":\"error\",\"status\":500}");
+                } finally {
+                    mActive.decrementAndGet();
+                }
+                keepAlive = mKeepAlive;
+                writeResponse(socket.getOutputStream(), request, response, keepAlive);
+            } while (keepAlive);
+        } catch (IOException e) {
+            // The client went away.
+        } finally {
+            try {
+                socket.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+
+    private static Request readRequest(InputStream input) throws IOException {
+        String requestLine = readLine(input);
+        if (requestLine == null || requestLine.length() == 0) {
+            return null;
+        }
+        String[] parts = requestLine.split(" ");
+        Request request = new Request();
+        request.method = parts[0];
+        String target = parts[1];
+        int queryStart = target.indexOf('?');
+        request.path = queryStart < 0 ? target : target.substring(0, queryStart);
+        request.query = queryStart < 0 ? null : target.substring(queryStart + 1);
+        for (String line = readLine(input); line != null && line.length() > 0; line = readLine(input)) {
+            int separator = line.indexOf(':');
+            request.headers.put(line.substring(0, separator).trim().toLowerCase(Locale.ENGLISH), line.substring(separator + 1).trim());
+        }
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        if ("chunked".equalsIgnoreCase(request.getHeader("Transfer-Encoding"))) {
+            for (int size = Integer.parseInt(readLine(input).trim(), 16); size > 0; size = Integer.parseInt(readLine(input).trim(), 16)) {
+                copy(input, body, size);
+                readLine(input);
+            }
+            readLine(input);
+        } else if (request.getHeader("Content-Length") != null) {
+            copy(input, body, Long.parseLong(request.getHeader("Content-Length")));
+        }
+        request.body = body.toByteArray();
+        return request;
+    }
+
+    private static void copy(InputStream input, OutputStream output, long count) throws IOException {
+        byte[] buffer = new byte[8192];
+        while (count > 0) {
+            int read = input.read(buffer, 0, (int) Math.min(buffer.length, count));
+            if (read < 0) {
+                throw new IOException("Unexpected end of request");
+            }
+            output.write(buffer, 0, read);
+            count -= read;
+        }
+    }
+
+    private static String readLine(InputStream input) throws IOException {
+        StringBuilder line = new StringBuilder();
+        for (int c = input.read(); c != '\n'; c = input.read()) {
+            if (c < 0) {
+                return line.length() == 0 ? null : line.toString();
+            }
+            if (c != '\r') {
+                line.append((char) c);
+            }
+        }
+        return line.toString();
+    }
+
+    private static void writeResponse(OutputStream output, Request request, Response response, boolean keepAlive) throws IOException {
+        StringBuilder head = new StringBuilder("HTTP/1.1 " + response.status + " Status\r\n");
+        boolean hasBody = response.status != 204 && response.status != 304 && !request.method.equals("HEAD");
+        for (Map.Entry<String, String> header : response.headers.entrySet()) {
+            head.append(header.getKey()).append(": ").append(header.getValue()).append("\r\n");
+        }
+        head.append("Content-Length: ").append(hasBody ? response.body.length : 0).append("\r\n");
+        head.append(keepAlive ? "Connection: keep-alive\r\n\r\n" : "Connection: close\r\n\r\n");
+        output.write(head.toString().getBytes("ISO-8859-1"));
+        if (hasBody) {
+            output.write(response.body);
+        }
+        output.flush();
+    }
+
+    public static class Request {
+        String method;
+        String path;
+        String query;
+        final Map<String, String> headers = new HashMap<String, String>();
+        byte[] body;
+
+        public String getMethod() {
+            return method;
+        }
+
+        public String getPath() {
+            return path;
+        }
+
+        public String getQuery() {
+            return query;
+        }
+
+        public String getQueryParameter(String name) {
+            if (query == null) {
+                return null;
+            }
+            for (String pair : query.split("&")) {
+                int separator = pair.indexOf('=');
+                String key = separator < 0 ? pair : pair.substring(0, separator);
+                if (key.equals(name)) {
+                    try {
+                        return separator < 0 ? "" : URLDecoder.decode(pair.substring(separator + 1), "UTF-8");
+                    } catch (IOException e) {
+                        return null;
+                    }
+                }
+            }
+            return null;
+        }
+
+        public String getHeader(String name) {
+            return headers.get(name.toLowerCase(Locale.ENGLISH));
+        }
+
+        public byte[] getBody() {
+            return body;
+        }
+
+        public String getBodyString() {
+            try {
+                return new String(body, "UTF-8");
+            } catch (IOException e) {
+                return null;
+            }
+        }
+    }
+
+    public static class Response {
+        int status = 200;
+        final Map<String, String> headers = new LinkedHashMap<String, String>();
+        byte[] body = new byte[0];
+
+        public Response setStatus(int status) {
+            this.status = status;
+            return this;
+        }
+
+        public Response setHeader(String name, String value) {
+            headers.put(name, value);
+            return this;
+        }
+
+        public Response setBody(String json) {
+            setHeader("Content-Type", "application/json");
+            try {
+                body = json.getBytes("UTF-8");
+            } catch (IOException e) {
+                throw new RuntimeException(e);
+            }
+            return this;
+        }
+
+        public Response setBody(byte[] content) {
+            if (!headers.containsKey("Content-Type")) {
+                setHeader("Content-Type", "application/octet-stream");
+            }
+            body = content;
+            return this;
+        }
+
+        public Response setJson(int status, String json) {
+            return setStatus(status).setBody(json);
+        }
+    }
+}
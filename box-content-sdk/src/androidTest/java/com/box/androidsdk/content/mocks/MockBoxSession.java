@@ -14,4 +14,11 @@ public class MockBoxSession extends BoxSession {
     public MockBoxSession(BoxSession session) {
         super(session);
     }
+
+    /**
+     * Creates a session authenticated with the given access token, without an application context.
+     */
+    public MockBoxSession(String accessToken) {
+        super(null, accessToken, null);
+    }
 }
@@ -0,0 +1,42 @@
+package com.box.androidsdk.content.models;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.List;
+
+public class BoxDownloadCheckpointTest extends TestCase {
+
+    public void testCommittedRanges() {
+        BoxFile file = new BoxFile();
+        file.createFromJson("{\"type\":\"file\",\"id\":\"5000948880\",\"etag\":\"3\",\"sha1\":\"134b65991ed521fcfe4724b7d814ab8ded5185dc\",\"size\":100,\"file_version\":{\"type\":\"file_version\",\"id\":\"26261748416\"}}");
+        BoxDownloadCheckpoint checkpoint = new BoxDownloadCheckpoint(file, null);
+        checkpoint.addCommittedRange(50, 59);
+        checkpoint.addCommittedRange(0, 9);
+        checkpoint.addCommittedRange(10, 19);
+        checkpoint.addCommittedRange(55, 69);
+
+        Assert.assertEquals(40, checkpoint.getBytesCommitted());
+        List<long[]> missing = checkpoint.getMissingRanges();
+        Assert.assertEquals(2, missing.size());
+        Assert.assertEquals(20, missing.get(0)[0]);
+        Assert.assertEquals(49, missing.get(0)[1]);
+        Assert.assertEquals(70, missing.get(1)[0]);
+        Assert.assertEquals(99, missing.get(1)[1]);
+
+        BoxDownloadCheckpoint restored = new BoxDownloadCheckpoint();
+        restored.createFromJson(checkpoint.toJson());
+        Assert.assertEquals("26261748416", restored.getVersionId());
+        Assert.assertEquals(40, restored.getBytesCommitted());
+        Assert.assertTrue(restored.matches(file, null));
+
+        restored.addCommittedRange(20, 49);
+        restored.addCommittedRange(70, 99);
+        Assert.assertTrue(restored.isComplete());
+
+        BoxFile changed = new BoxFile();
+        changed.createFromJson("{\"type\":\"file\",\"id\":\"5000948880\",\"etag\":\"4\",\"sha1\":\"085e9d9b21e32e1bc2a1f51d4e3d1d1b4a3d2c4e\",\"size\":100}");
+        Assert.assertFalse(checkpoint.matches(changed, null));
+        Assert.assertTrue(new BoxDownloadCheckpoint(file, "26261748416").matches(changed, "26261748416"));
+    }
+}
@@ -0,0 +1,90 @@
+package com.box.androidsdk.content.models;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+public class BoxEntityTest extends TestCase {
+
+    public void testCreatesClassRegisteredForType() {
+        Assert.assertEquals(BoxFile.class, BoxEntity.createEntityFromJson("{\"type\":\"file\",\"id\":\"1\"}").getClass());
+        Assert.assertEquals(BoxFolder.class, BoxEntity.createEntityFromJson("{\"type\":\"folder\",\"id\":\"2\"}").getClass());
+        Assert.assertEquals(BoxBookmark.class, BoxEntity.createEntityFromJson("{\"type\":\"web_link\",\"id\":\"3\"}").getClass());
+        Assert.assertEquals(BoxUser.class, BoxEntity.createEntityFromJson("{\"type\":\"user\",\"id\":\"4\"}").getClass());
+        Assert.assertEquals(BoxGroup.class, BoxEntity.createEntityFromJson("{\"type\":\"group\",\"id\":\"5\"}").getClass());
+        Assert.assertEquals(BoxComment.class, BoxEntity.createEntityFromJson("{\"type\":\"comment\",\"id\":\"6\"}").getClass());
+        // Enterprise events are a superset of events, so every event is parsed into one.
+        Assert.assertEquals(BoxEnterpriseEvent.class, BoxEntity.createEntityFromJson("{\"type\":\"event\"}").getClass());
+
+        BoxFile file = (BoxFile) BoxEntity.createEntityFromJson("{\"type\":\"file\",\"id\":\"1\",\"name\":\"a.txt\",\"size\":5}");
+        Assert.assertEquals("1", file.getId());
+        Assert.assertEquals("a.txt", file.getName());
+        Assert.assertEquals(Long.valueOf(5), file.getSize());
+    }
+
+    public void testFallsBackToItemType() {
+        BoxEntity entity = BoxEntity.createEntityFromJson("{\"item_type\":\"folder\",\"item_id\":\"7\"}");
+        Assert.assertEquals(BoxFolder.class, entity.getClass());
+        Assert.assertEquals("folder", entity.getType());
+        Assert.assertEquals("7", entity.getId());
+
+        // A type that is not a string does not hide item_type.
+        Assert.assertEquals(BoxFile.class, BoxEntity.createEntityFromJson("{\"type\":null,\"item_type\":\"file\"}").getClass());
+    }
+
+    public void testEntityWithoutType() {
+        BoxEntity entity = BoxEntity.createEntityFromJson("{\"id\":\"8\"}");
+        Assert.assertEquals(BoxEntity.class, entity.getClass());
+        Assert.assertEquals("8", entity.getId());
+        Assert.assertNull(entity.getType());
+    }
+
+    public void testUnknownType() {
+        Assert.assertNull(BoxEntity.createEntityFromJson("{\"type\":\"unknown_type\",\"id\":\"9\"}"));
+        Assert.assertNull(BoxEntity.getEntityType("unknown_type"));
+        Assert.assertNull(BoxItem.createBoxItemFromJson("{\"type\":\"unknown_type\",\"id\":\"9\"}"));
+        Assert.assertNull(BoxCollaborator.createCollaboratorFromJson("{\"type\":\"unknown_type\",\"id\":\"9\"}"));
+    }
+
+    public void testNarrowsToBaseClass() {
+        Assert.assertEquals(BoxFile.class, BoxItem.createBoxItemFromJson("{\"type\":\"file\",\"id\":\"1\"}").getClass());
+        Assert.assertEquals(BoxBookmark.class, BoxItem.createBoxItemFromJson("{\"item_type\":\"web_link\"}").getClass());
+        Assert.assertNull(BoxItem.createBoxItemFromJson("{\"type\":\"user\",\"id\":\"4\"}"));
+        Assert.assertNull(BoxItem.createBoxItemFromJson("{\"id\":\"1\"}"));
+
+        Assert.assertEquals(BoxUser.class, BoxCollaborator.createCollaboratorFromJson("{\"type\":\"user\",\"id\":\"4\"}").getClass());
+        Assert.assertEquals(BoxGroup.class, BoxCollaborator.createCollaboratorFromJson("{\"type\":\"group\",\"id\":\"5\"}").getClass());
+        Assert.assertNull(BoxCollaborator.createCollaboratorFromJson("{\"type\":\"folder\",\"id\":\"2\"}"));
+    }
+
+    public void testRegistersNewType() {
+        BoxEntity.addEntityType(TestEntity.TYPE, TestEntity.class);
+        Assert.assertEquals(TestEntity.class, BoxEntity.getEntityType(TestEntity.TYPE));
+
+        BoxEntity entity = BoxEntity.createEntityFromJson("{\"type\":\"test_entity\",\"id\":\"10\"}");
+        Assert.assertEquals(TestEntity.class, entity.getClass());
+        Assert.assertEquals("10", entity.getId());
+        // The new type is not an item or a collaborator.
+        Assert.assertNull(BoxItem.createBoxItemFromJson("{\"type\":\"test_entity\",\"id\":\"10\"}"));
+        Assert.assertNull(BoxCollaborator.createCollaboratorFromJson("{\"type\":\"test_entity\",\"id\":\"10\"}"));
+    }
+
+    public void testOverridesKnownType() {
+        Assert.assertEquals(BoxFile.class, BoxEntity.getEntityType(BoxFile.TYPE));
+        BoxEntity.addEntityType(BoxFile.TYPE, TestFile.class);
+        try {
+            Assert.assertEquals(TestFile.class, BoxEntity.createEntityFromJson("{\"type\":\"file\",\"id\":\"1\"}").getClass());
+            Assert.assertEquals(TestFile.class, BoxItem.createBoxItemFromJson("{\"type\":\"file\",\"id\":\"1\"}").getClass());
+        } finally {
+            BoxEntity.addEntityType(BoxFile.TYPE, BoxFile.class);
+        }
+        Assert.assertEquals(BoxFile.class, BoxEntity.createEntityFromJson("{\"type\":\"file\",\"id\":\"1\"}").getClass());
+    }
+
+    public static class TestEntity extends BoxEntity {
+
+        public static final String TYPE = "test_entity";
+    }
+
+    public static class TestFile extends BoxFile {
+    }
+}
@@ -1,11 +1,16 @@
 package com.box.androidsdk.content.models;
 
+import com.box.androidsdk.content.BoxConfig;
 import com.box.androidsdk.content.utils.SdkUtils;
 
 import junit.framework.Assert;
 import junit.framework.TestCase;
 
+import java.io.Serializable;
+import java.lang.reflect.Method;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.TimeZone;
 
 public class BoxJsonObjectTest  extends TestCase {
@@ -16,7 +21,92 @@ public class BoxJsonObjectTest  extends TestCase {
         BoxFile file = new BoxFile();
         file.createFromJson(fileJson);
         HashMap<String, Object> properties = file.getPropertiesAsHashMap();
-        Assert.assertEquals(SdkUtils.convertSerializableToString(properties), SdkUtils.convertSerializableToString(file.mProperties));
+        Assert.assertEquals(SdkUtils.convertSerializableToString(properties), SdkUtils.convertSerializableToString((Serializable) file.getPropertyMap()));
 
     }
+
+    public void testCompactStorage() {
+        String fileJson = "{\"type\":\"file\",\"id\":\"5000948880\",\"etag\":\"3\",\"name\":\"tigers.jpeg\",\"description\":\"a picture of tigers\",\"size\":629644,\"path_collection\":{\"total_count\":2,\"entries\":[{\"type\":\"folder\",\"id\":\"0\",\"name\":\"All Files\"},{\"type\":\"folder\",\"id\":\"11446498\",\"name\":\"Pictures\"}]},\"shared_link\":null,\"item_status\":\"active\"}";
+        BoxFile file = new BoxFile();
+        file.createFromJson(fileJson);
+
+        BoxConfig.USE_COMPACT_MODEL_STORAGE = true;
+        try {
+            BoxFile compactFile = new BoxFile();
+            compactFile.createFromJson(fileJson);
+            Assert.assertTrue(compactFile.getPropertyMap() instanceof BoxPropertyMap);
+            Assert.assertEquals(file.toJson(), compactFile.toJson());
+            Assert.assertEquals(file.getPropertiesAsHashMap().keySet(), compactFile.getPropertiesAsHashMap().keySet());
+            Assert.assertEquals(Long.valueOf(629644), compactFile.getSize());
+            Assert.assertEquals("tigers.jpeg", compactFile.getName());
+            Assert.assertEquals(2, compactFile.getPathCollection().size());
+            Assert.assertTrue(compactFile.getPropertyMap().containsKey(BoxItem.FIELD_SHARED_LINK));
+
+            compactFile.getPropertyMap().remove(BoxItem.FIELD_DESCRIPTION);
+            Assert.assertNull(compactFile.getDescription());
+            Assert.assertEquals(file.getPropertyMap().size() - 1, compactFile.getPropertyMap().size());
+
+            BoxFile copy = SdkUtils.cloneSerializable(compactFile);
+            Assert.assertTrue(copy.getPropertyMap() instanceof BoxPropertyMap);
+            Assert.assertEquals(compactFile.toJson(), copy.toJson());
+        } finally {
+            BoxConfig.USE_COMPACT_MODEL_STORAGE = false;
+        }
+    }
+
+    public void testCompactStorageMapMethods() throws Exception {
+        BoxPropertyMap properties = new BoxPropertyMap(BoxFile.class);
+        properties.put(BoxItem.FIELD_NAME, "tigers.jpeg");
+        properties.put(BoxFile.FIELD_SIZE, 629644L);
+        // Every map method has to go through the compact storage, none can fall back on the table of a HashMap.
+        Assert.assertFalse(HashMap.class.isAssignableFrom(BoxPropertyMap.class));
+        LinkedHashMap<String, Object> expected = new LinkedHashMap<String, Object>();
+        expected.put(BoxItem.FIELD_NAME, "tigers.jpeg");
+        expected.put(BoxFile.FIELD_SIZE, 629644L);
+        Assert.assertEquals(expected, properties);
+        Assert.assertEquals(expected.hashCode(), properties.hashCode());
+
+        // The default methods of newer platforms are looked up so that the test also runs where they do not exist.
+        Method getOrDefault = getMapMethod("getOrDefault", Object.class, Object.class);
+        if (getOrDefault != null) {
+            Assert.assertEquals("tigers.jpeg", getOrDefault.invoke(properties, BoxItem.FIELD_NAME, "default"));
+            Assert.assertEquals("default", getOrDefault.invoke(properties, BoxItem.FIELD_DESCRIPTION, "default"));
+        }
+        Method putIfAbsent = getMapMethod("putIfAbsent", Object.class, Object.class);
+        if (putIfAbsent != null) {
+            Assert.assertEquals("tigers.jpeg", putIfAbsent.invoke(properties, BoxItem.FIELD_NAME, "lions.jpeg"));
+            Assert.assertNull(putIfAbsent.invoke(properties, BoxItem.FIELD_DESCRIPTION, "a picture of tigers"));
+            Assert.assertEquals("a picture of tigers", properties.get(BoxItem.FIELD_DESCRIPTION));
+            Assert.assertEquals(3, properties.size());
+        }
+    }
+
+    private static Method getMapMethod(String name, Class<?>... parameterTypes) {
+        try {
+            return Map.class.getMethod(name, parameterTypes);
+        } catch (NoSuchMethodException e) {
+            return null;
+        }
+    }
+
+    public void testLazyParsing() {
+        String fileJson = "{\"type\":\"file\",\"id\":\"5000948880\",\"name\":\"tigers.jpeg\",\"size\":629644,\"created_at\":\"2012-12-12T10:55:30-08:00\",\"path_collection\":{\"total_count\":1,\"entries\":[{\"type\":\"folder\",\"id\":\"0\",\"name\":\"All Files\"}]},\"owned_by\":{\"type\":\"user\",\"id\":\"17738362\",\"name\":\"sean rose\",\"login\":\"sean@box.com\"},\"item_status\":\"active\"}";
+        BoxFile file = new BoxFile();
+        file.createFromJson(fileJson);
+
+        BoxConfig.USE_LAZY_MODEL_PARSING = true;
+        try {
+            BoxFile lazyFile = new BoxFile();
+            lazyFile.createFromJson(fileJson);
+            Assert.assertTrue(((BoxPropertyMap) lazyFile.getPropertyMap()).isLazy());
+            Assert.assertEquals("tigers.jpeg", lazyFile.getName());
+            Assert.assertEquals(Long.valueOf(629644), lazyFile.getSize());
+            Assert.assertSame(lazyFile.getOwnedBy(), lazyFile.getOwnedBy());
+            Assert.assertEquals("sean@box.com", lazyFile.getOwnedBy().getLogin());
+            Assert.assertEquals("All Files", lazyFile.getPathCollection().get(0).getName());
+            Assert.assertEquals(file.toJson(), lazyFile.toJson());
+        } finally {
+            BoxConfig.USE_LAZY_MODEL_PARSING = false;
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package com.box.androidsdk.content.models;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+public class BoxUploadSessionTest extends TestCase {
+
+    public void testParseSession() {
+        BoxUploadSession session = (BoxUploadSession) BoxEntity.createEntityFromJson("{\"type\":\"upload_session\",\"id\":\"F971964745A5CD0C001BBE4E58196BFD\",\"session_expires_at\":\"2012-12-12T10:53:43-08:00\",\"part_size\":8388608,\"total_parts\":1000,\"num_parts_processed\":455,\"session_endpoints\":{\"upload_part\":\"https://upload.box.com/api/2.0/files/upload_sessions/F971964745A5CD0C001BBE4E58196BFD\",\"commit\":\"https://upload.box.com/api/2.0/files/upload_sessions/F971964745A5CD0C001BBE4E58196BFD/commit\",\"abort\":\"https://upload.box.com/api/2.0/files/upload_sessions/F971964745A5CD0C001BBE4E58196BFD\",\"list_parts\":\"https://upload.box.com/api/2.0/files/upload_sessions/F971964745A5CD0C001BBE4E58196BFD/parts\",\"status\":\"https://upload.box.com/api/2.0/files/upload_sessions/F971964745A5CD0C001BBE4E58196BFD\",\"log_event\":\"https://upload.box.com/api/2.0/files/upload_sessions/F971964745A5CD0C001BBE4E58196BFD/log\"}}");
+        Assert.assertEquals("F971964745A5CD0C001BBE4E58196BFD", session.getId());
+        Assert.assertEquals(8388608L, (long) session.getPartSize());
+        Assert.assertEquals(1000L, (long) session.getTotalParts());
+        Assert.assertEquals(455L, (long) session.getNumPartsProcessed());
+        Assert.assertEquals(1355338423000L, session.getSessionExpiresAt().getTime());
+        Assert.assertEquals("https://upload.box.com/api/2.0/files/upload_sessions/F971964745A5CD0C001BBE4E58196BFD/commit", session.getSessionEndpoints().getCommitEndpoint());
+    }
+
+    public void testParseUploadedPart() {
+        BoxUploadSessionPart part = new BoxUploadSessionPart();
+        part.createFromJson("{\"part\":{\"part_id\":\"BFDF5379\",\"offset\":8388608,\"size\":8388608,\"sha1\":\"134b65991ed521fcfe4724b7d814ab8ded5185dc\"}}");
+        Assert.assertEquals("BFDF5379", part.getPartId());
+        Assert.assertEquals(8388608L, (long) part.getOffset());
+        Assert.assertEquals(8388608L, (long) part.getSize());
+        Assert.assertEquals("134b65991ed521fcfe4724b7d814ab8ded5185dc", part.getSha1());
+        Assert.assertEquals("{\"part_id\":\"BFDF5379\",\"offset\":8388608,\"size\":8388608,\"sha1\":\"134b65991ed521fcfe4724b7d814ab8ded5185dc\"}", part.toJson());
+    }
+}
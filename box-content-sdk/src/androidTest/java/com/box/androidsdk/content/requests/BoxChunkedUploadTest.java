@@ -0,0 +1,155 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxFile;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoxChunkedUploadTest extends TestCase {
+
+    private static final int PART_SIZE = 1024;
+
+    private File mFile;
+    private byte[] mContent;
+    private MockBoxServer mServer;
+
+    @Override
+    protected void setUp() throws Exception {
+        mContent = new byte[PART_SIZE * 40 + 100];
+        new Random(13).nextBytes(mContent);
+        mFile = File.createTempFile("chunked", ".bin");
+        FileOutputStream output = new FileOutputStream(mFile);
+        output.write(mContent);
+        output.close();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        if (mServer != null) {
+            mServer.shutdown();
+        }
+        mFile.delete();
+    }
+
+    public void testUploadsPartsAndCommits() throws Exception {
+        mServer = new MockBoxServer(new SessionHandler(-1, 0));
+        BoxFile file = createRequest().setParallelism(4).send();
+
+        Assert.assertEquals("5", file.getId());
+        Assert.assertEquals(41, countRequests("PUT", "/sessions/1"));
+        Assert.assertEquals(0, countRequests("DELETE", "/sessions/1"));
+        MockBoxServer.Request commit = findRequest("POST", "/sessions/1/commit");
+        Assert.assertEquals("sha=" + SdkUtils.hexToBase64(sha1(mContent, 0, mContent.length)), commit.getHeader("Digest"));
+        for (int i = 0; i < 41; i++) {
+            Assert.assertTrue(commit.getBodyString().contains("\"part_id\":\"" + i * PART_SIZE + "\""));
+        }
+    }
+
+    public void testRetriesFailedPart() throws Exception {
+        mServer = new MockBoxServer(new SessionHandler(3 * PART_SIZE, 500));
+        createRequest().setParallelism(2).setPartRetries(1).send();
+
+        Assert.assertEquals(42, countRequests("PUT", "/sessions/1"));
+        Assert.assertNotNull(findRequest("POST", "/sessions/1/commit"));
+    }
+
+    public void testPartFailureAbortsSession() throws Exception {
+        mServer = new MockBoxServer(new SessionHandler(0, 400));
+        try {
+            createRequest().setParallelism(2).send();
+            Assert.fail("Expected the upload to fail");
+        } catch (BoxException e) {
+            Assert.assertEquals(400, e.getResponseCode());
+        }
+
+        // The failed part stops the other connection after its current part rather than once every part is queued.
+        Assert.assertTrue(countRequests("PUT", "/sessions/1") < 5);
+        Assert.assertNull(findRequest("POST", "/sessions/1/commit"));
+        Assert.assertEquals(1, countRequests("DELETE", "/sessions/1"));
+    }
+
+    private BoxRequestsFile.ChunkedUploadFile createRequest() {
+        return new BoxRequestsFile.ChunkedUploadFile(mFile, "0", mServer.getUrl() + "/files/upload_sessions", new MockBoxSession("token"));
+    }
+
+    private int countRequests(String method, String path) {
+        int count = 0;
+        for (MockBoxServer.Request request : mServer.getRequests()) {
+            if (request.getMethod().equals(method) && request.getPath().equals(path)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private MockBoxServer.Request findRequest(String method, String path) {
+        for (MockBoxServer.Request request : mServer.getRequests()) {
+            if (request.getMethod().equals(method) && request.getPath().equals(path)) {
+                return request;
+            }
+        }
+        return null;
+    }
+
+    private static String sha1(byte[] content, int offset, int length) throws Exception {
+        MessageDigest digest = MessageDigest.getInstance("SHA-1");
+        digest.update(content, offset, length);
+        return SdkUtils.toHexString(digest.digest());
+    }
+
+    /**
+     * Stub of the upload session endpoints that fails the first upload of the part at a given offset.
+     */
+    private class SessionHandler implements MockBoxServer.Handler {
+
+        private final long mFailingOffset;
+        private final int mFailureStatus;
+        private final AtomicInteger mFailures = new AtomicInteger();
+
+        SessionHandler(long failingOffset, int failureStatus) {
+            mFailingOffset = failingOffset;
+            mFailureStatus = failureStatus;
+        }
+
+        @Override
+        public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+            String sessionUrl = mServer.getUrl() + "/sessions/1";
+            if (request.getPath().equals("/files/upload_sessions")) {
+                response.setJson(201, "{\"type\":\"upload_session\",\"id\":\"1\",\"part_size\":" + PART_SIZE
+                        + ",\"session_endpoints\":{\"upload_part\":\"" + sessionUrl + "\",\"commit\":\"" + sessionUrl
+                        + "/commit\",\"abort\":\"" + sessionUrl + "\"}}");
+            } else if (request.getMethod().equals("PUT")) {
+                String range = request.getHeader("Content-Range");
+                long offset = Long.parseLong(range.substring("bytes ".length(), range.indexOf('-')));
+                if (offset == mFailingOffset && mFailures.getAndIncrement() == 0) {
+                    response.setJson(mFailureStatus, "{\"type\":\"error\",\"status\":" + mFailureStatus + "}");
+                    return;
+                }
+                // Keep parts in flight long enough for a failure to overtake them.
+                Thread.sleep(20);
+                byte[] body = request.getBody();
+                Assert.assertEquals("sha=" + SdkUtils.hexToBase64(sha1(mContent, (int) offset, body.length)), request.getHeader("Digest"));
+                Assert.assertEquals(sha1(mContent, (int) offset, body.length), sha1(body, 0, body.length));
+                response.setJson(200, String.format(Locale.ENGLISH, "{\"part\":{\"part_id\":\"%d\",\"offset\":%d,\"size\":%d,\"sha1\":\"%s\"}}",
+                        offset, offset, body.length, sha1(body, 0, body.length)));
+            } else if (request.getPath().endsWith("/commit")) {
+                response.setJson(201, "{\"total_count\":1,\"entries\":[{\"type\":\"file\",\"id\":\"5\",\"name\":\"" + mFile.getName() + "\"}]}");
+            } else if (request.getMethod().equals("DELETE")) {
+                response.setStatus(204);
+            } else {
+                response.setStatus(404);
+            }
+        }
+    }
+}
@@ -0,0 +1,160 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+public class BoxConnectionPoolTest extends TestCase {
+
+    private MockBoxServer mServer;
+
+    @Override
+    protected void setUp() throws Exception {
+        mServer = new MockBoxServer(new MockBoxServer.Handler() {
+            @Override
+            public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+                String id = request.getPath().substring("/files/".length());
+                if (id.startsWith("slow")) {
+                    Thread.sleep(200);
+                }
+                response.setJson(200, "{\"type\":\"file\",\"id\":\"" + id + "\"}");
+            }
+        }).setKeepAlive(true);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+    }
+
+    public void testOkHttpTransportCountsReusedConnections() throws Exception {
+        BoxConnectionPool pool = new BoxConnectionPool();
+        BoxOkHttpTransport transport = new BoxOkHttpTransport(pool);
+        for (int i = 0; i < 3; i++) {
+            getFileInfo(String.valueOf(i), transport).send();
+        }
+
+        // The counters follow the connections the server actually saw.
+        Assert.assertEquals(1, mServer.getConnectionCount());
+        Assert.assertEquals(1, pool.getMissCount());
+        Assert.assertEquals(2, pool.getHitCount());
+        Assert.assertEquals(1, transport.getConnectionCount());
+
+        pool.resetStatistics();
+        Assert.assertEquals(0, pool.getMissCount());
+        Assert.assertEquals(0, pool.getHitCount());
+    }
+
+    public void testOkHttpPoolUsesKeepAliveDuration() throws Exception {
+        BoxConnectionPool pool = new BoxConnectionPool().setKeepAliveDuration(1);
+        BoxOkHttpTransport transport = new BoxOkHttpTransport(pool);
+        getFileInfo("1", transport).send();
+        Thread.sleep(50);
+        getFileInfo("2", transport).send();
+
+        Assert.assertEquals(2, mServer.getConnectionCount());
+        Assert.assertEquals(2, pool.getMissCount());
+        Assert.assertEquals(0, pool.getHitCount());
+    }
+
+    public void testOkHttpPoolUsesIdleLimit() throws Exception {
+        BoxConnectionPool pool = new BoxConnectionPool().setMaxIdleConnections(1);
+        BoxOkHttpTransport transport = new BoxOkHttpTransport(pool);
+        sendInParallel(transport, "slow1", "slow2");
+        Assert.assertEquals(2, mServer.getConnectionCount());
+
+        // The second connection released is closed by the pool rather than kept idle.
+        long deadline = System.currentTimeMillis() + 5000;
+        while (transport.getConnectionCount() > 1 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertEquals(1, transport.getConnectionCount());
+
+        BoxOkHttpTransport defaultTransport = new BoxOkHttpTransport(new BoxConnectionPool());
+        sendInParallel(defaultTransport, "slow3", "slow4");
+        Thread.sleep(100);
+        Assert.assertEquals(2, defaultTransport.getConnectionCount());
+    }
+
+    public void testUrlConnectionTransportDoesNotCount() throws Exception {
+        BoxConnectionPool pool = new BoxConnectionPool().setEnabled(true);
+        BoxUrlConnectionTransport transport = new BoxUrlConnectionTransport(pool);
+        getFileInfo("1", transport).send();
+        getFileInfo("2", transport).send();
+
+        // The platform does not say whether it reused a socket, so nothing is counted rather than guessed.
+        Assert.assertEquals(0, pool.getMissCount());
+        Assert.assertEquals(0, pool.getHitCount());
+    }
+
+    public void testLeavesPlatformSettingsAlone() throws Exception {
+        String maxConnections = System.getProperty("http.maxConnections");
+        String keepAliveDuration = System.getProperty("http.keepAliveDuration");
+        BoxConnectionPool pool = new BoxConnectionPool();
+        pool.setEnabled(true);
+        pool.setMaxIdleConnections(9);
+        pool.setKeepAliveDuration(1234);
+        Assert.assertEquals(maxConnections, System.getProperty("http.maxConnections"));
+        Assert.assertEquals(keepAliveDuration, System.getProperty("http.keepAliveDuration"));
+    }
+
+    public void testErrorBodyIsOnlyReadAsString() throws Exception {
+        MockBoxServer server = new MockBoxServer(new MockBoxServer.Handler() {
+            @Override
+            public void handle(MockBoxServer.Request request, MockBoxServer.Response response) {
+                response.setJson(404, "{\"type\":\"error\",\"status\":404}");
+            }
+        });
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(server.getUrl() + "/files/1").openConnection();
+            BoxHttpResponse response = new BoxHttpResponse(connection);
+            response.open();
+            try {
+                response.getBody();
+                Assert.fail("Expected the body of an error response to be unavailable as a stream");
+            } catch (BoxException e) {
+                // The error is read through getStringBody().
+            }
+            Assert.assertEquals("{\"type\":\"error\",\"status\":404}", response.getStringBody());
+            response.disconnect();
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    private BoxRequestsFile.GetFileInfo getFileInfo(String id, BoxHttpTransport transport) {
+        return new BoxRequestsFile.GetFileInfo(id, mServer.getUrl() + "/files/" + id, new MockBoxSession("token"))
+                .setTransport(transport);
+    }
+
+    private void sendInParallel(final BoxHttpTransport transport, String... ids) throws Exception {
+        final BoxException[] failure = new BoxException[1];
+        Thread[] threads = new Thread[ids.length];
+        for (int i = 0; i < ids.length; i++) {
+            final String id = ids[i];
+            threads[i] = new Thread() {
+                @Override
+                public void run() {
+                    try {
+                        getFileInfo(id, transport).send();
+                    } catch (BoxException e) {
+                        failure[0] = e;
+                    }
+                }
+            };
+            threads[i].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxDownloadCheckpoint;
+import com.box.androidsdk.content.models.BoxFile;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Random;
+
+public class BoxDownloadRequestTest extends TestCase {
+
+    private MockBoxServer mServer;
+    private ContentHandler mHandler;
+    private File mTarget;
+
+    @Override
+    protected void setUp() throws Exception {
+        mHandler = new ContentHandler();
+        mServer = new MockBoxServer(mHandler);
+        mTarget = File.createTempFile("download", ".bin");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+        mTarget.delete();
+        BoxDownloadCheckpoint.getCheckpointFile(mTarget).delete();
+    }
+
+    public void testParallelDownloadSettings() {
+        BoxRequestsFile.DownloadFile request = new BoxRequestsFile.DownloadFile(new File("file"), "https://api.box.com/2.0/files/1/content", null)
+                .setParallelism(4)
+                .setRangeSize(1024);
+        Assert.assertEquals(4, request.getParallelism());
+        Assert.assertEquals(1024, request.getRangeSize());
+        Assert.assertTrue(request.isParallelDownload());
+        Assert.assertFalse(request.setRange(0, 99).isParallelDownload());
+
+        BoxRequestsFile.DownloadFile streamRequest = new BoxRequestsFile.DownloadFile(new ByteArrayOutputStream(), "https://api.box.com/2.0/files/1/content", null)
+                .setParallelism(4);
+        Assert.assertFalse(streamRequest.isParallelDownload());
+    }
+
+    public void testTotalFromContentRange() {
+        Assert.assertEquals(5, BoxRequestDownload.DownloadRequestHandler.getTotalFromContentRange("bytes 0-1/5"));
+        Assert.assertEquals(-1, BoxRequestDownload.DownloadRequestHandler.getTotalFromContentRange("bytes 0-1/*"));
+        Assert.assertEquals(-1, BoxRequestDownload.DownloadRequestHandler.getTotalFromContentRange(null));
+    }
+
+    public void testDownloadToCallerFileStream() throws Exception {
+        mHandler.setContent(randomContent(10000));
+        FileOutputStream output = new FileOutputStream(mTarget);
+        try {
+            output.write("header".getBytes("UTF-8"));
+            new BoxRequestsFile.DownloadFile(output, getContentUrl(), new MockBoxSession("token")).send();
+        } finally {
+            output.close();
+        }
+
+        // The content follows what the caller had already written rather than overwriting it.
+        byte[] written = readTarget();
+        Assert.assertEquals(6 + 10000, written.length);
+        Assert.assertEquals("header", new String(written, 0, 6, "UTF-8"));
+        Assert.assertTrue(Arrays.equals(mHandler.mContent, Arrays.copyOfRange(written, 6, written.length)));
+    }
+
+    public void testParallelDownloadReassemblesRanges() throws Exception {
+        byte[] content = randomContent(10007);
+        mHandler.setContent(content);
+        new BoxRequestsFile.DownloadFile(mTarget, getContentUrl(), new MockBoxSession("token"))
+                .setParallelism(4)
+                .setRangeSize(1000)
+                .setExpectedSha1(ContentHandler.sha1(content))
+                .send();
+
+        Assert.assertTrue(Arrays.equals(content, readTarget()));
+        ArrayList<String> ranges = new ArrayList<String>();
+        for (MockBoxServer.Request request : mServer.getRequests()) {
+            ranges.add(request.getHeader("Range"));
+        }
+        Assert.assertEquals(11, ranges.size());
+        for (int start = 0; start < 10000; start += 1000) {
+            Assert.assertTrue(ranges.contains("bytes=" + start + "-" + (start + 999)));
+        }
+        Assert.assertTrue(ranges.contains("bytes=10000-10006"));
+    }
+
+    public void testParallelDownloadDetectsSha1Mismatch() throws Exception {
+        mHandler.setContent(randomContent(5000));
+        try {
+            new BoxRequestsFile.DownloadFile(mTarget, getContentUrl(), new MockBoxSession("token"))
+                    .setParallelism(3)
+                    .setRangeSize(1000)
+                    .setExpectedSha1(ContentHandler.sha1(new byte[0]))
+                    .send();
+            Assert.fail("Expected a SHA1 mismatch");
+        } catch (BoxException.Sha1Mismatch e) {
+            Assert.assertFalse(mTarget.exists());
+        }
+    }
+
+    public void testParallelDownloadOfEmptyFile() throws Exception {
+        writeTarget(randomContent(100));
+        new BoxRequestsFile.DownloadFile(mTarget, getContentUrl(), new MockBoxSession("token"))
+                .setParallelism(4)
+                .send();
+
+        // The first range of an empty file is refused, so the file is requested as a whole.
+        Assert.assertEquals(2, mServer.getRequestCount());
+        Assert.assertNull(mServer.getRequests().get(1).getHeader("Range"));
+        Assert.assertEquals(0, mTarget.length());
+    }
+
+    public void testResumeEmptyFileTruncatesTarget() throws Exception {
+        writeTarget(randomContent(100));
+        new BoxRequestsFile.DownloadFile("5", mTarget, getContentUrl(), new MockBoxSession("token"))
+                .setResumable(true)
+                .setExpectedSha1(ContentHandler.sha1(new byte[0]))
+                .send();
+
+        // Only the information of the file is requested, there is no content to ask for.
+        Assert.assertEquals(1, mServer.getRequestCount());
+        Assert.assertEquals(0, mTarget.length());
+        Assert.assertFalse(BoxDownloadCheckpoint.getCheckpointFile(mTarget).exists());
+    }
+
+    public void testResumeFromCheckpoint() throws Exception {
+        byte[] content = randomContent(10000);
+        mHandler.setContent(content);
+        writeTarget(Arrays.copyOf(content, 4000));
+        BoxFile file = new BoxFile();
+        file.createFromJson("{\"type\":\"file\",\"id\":\"5\",\"etag\":\"1\",\"size\":10000,\"sha1\":\""
+                + ContentHandler.sha1(content) + "\",\"file_version\":{\"type\":\"file_version\",\"id\":\"50\"}}");
+        BoxDownloadCheckpoint checkpoint = new BoxDownloadCheckpoint(file, null);
+        checkpoint.addCommittedRange(0, 3999);
+        checkpoint.save(BoxDownloadCheckpoint.getCheckpointFile(mTarget));
+
+        new BoxRequestsFile.DownloadFile("5", mTarget, getContentUrl(), new MockBoxSession("token"))
+                .setResumable(true)
+                .setExpectedSha1(ContentHandler.sha1(content))
+                .send();
+
+        Assert.assertEquals("bytes=4000-9999", mServer.getRequests().get(1).getHeader("Range"));
+        Assert.assertTrue(Arrays.equals(content, readTarget()));
+        Assert.assertFalse(BoxDownloadCheckpoint.getCheckpointFile(mTarget).exists());
+    }
+
+    public void testParallelResumeAroundCommittedRanges() throws Exception {
+        byte[] content = randomContent(10000);
+        mHandler.setContent(content);
+        byte[] partial = new byte[10000];
+        System.arraycopy(content, 0, partial, 0, 3000);
+        System.arraycopy(content, 6000, partial, 6000, 2000);
+        writeTarget(partial);
+        BoxFile file = new BoxFile();
+        file.createFromJson("{\"type\":\"file\",\"id\":\"5\",\"etag\":\"1\",\"size\":10000,\"sha1\":\""
+                + ContentHandler.sha1(content) + "\",\"file_version\":{\"type\":\"file_version\",\"id\":\"50\"}}");
+        BoxDownloadCheckpoint checkpoint = new BoxDownloadCheckpoint(file, null);
+        checkpoint.addCommittedRange(0, 2999);
+        checkpoint.addCommittedRange(6000, 7999);
+        checkpoint.save(BoxDownloadCheckpoint.getCheckpointFile(mTarget));
+
+        new BoxRequestsFile.DownloadFile("5", mTarget, getContentUrl(), new MockBoxSession("token"))
+                .setResumable(true)
+                .setParallelism(3)
+                .setRangeSize(1000)
+                .setExpectedSha1(ContentHandler.sha1(content))
+                .send();
+
+        // Only the missing ranges are requested and the hash still covers the committed ones.
+        Assert.assertEquals(1 + 5, mServer.getRequestCount());
+        Assert.assertTrue(Arrays.equals(content, readTarget()));
+    }
+
+    private String getContentUrl() {
+        return mServer.getUrl() + "/files/5/content";
+    }
+
+    private void writeTarget(byte[] content) throws Exception {
+        FileOutputStream output = new FileOutputStream(mTarget);
+        try {
+            output.write(content);
+        } finally {
+            output.close();
+        }
+    }
+
+    private byte[] readTarget() throws Exception {
+        FileInputStream input = new FileInputStream(mTarget);
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            SdkUtils.copyStream(input, content);
+            return content.toByteArray();
+        } finally {
+            input.close();
+        }
+    }
+
+    private static byte[] randomContent(int size) {
+        byte[] content = new byte[size];
+        new Random(size).nextBytes(content);
+        return content;
+    }
+
+    /**
+     * Stub of the information and content endpoints of a file, answering range requests the way Box does.
+     */
+    private static class ContentHandler implements MockBoxServer.Handler {
+
+        private volatile byte[] mContent = new byte[0];
+
+        void setContent(byte[] content) {
+            mContent = content;
+        }
+
+        @Override
+        public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+            byte[] content = mContent;
+            if (request.getPath().equals("/files/5")) {
+                response.setJson(200, "{\"type\":\"file\",\"id\":\"5\",\"etag\":\"1\",\"size\":" + content.length
+                        + ",\"sha1\":\"" + sha1(content) + "\",\"file_version\":{\"type\":\"file_version\",\"id\":\"50\"}}");
+                return;
+            }
+            String range = request.getHeader("Range");
+            if (range == null) {
+                response.setBody(content);
+                return;
+            }
+            String[] bounds = range.substring("bytes=".length()).split("-", -1);
+            long start = Long.parseLong(bounds[0]);
+            long end = bounds[1].length() == 0 ? content.length - 1 : Math.min(Long.parseLong(bounds[1]), content.length - 1);
+            if (start >= content.length) {
+                response.setStatus(416).setHeader("Content-Range", "bytes */" + content.length);
+                return;
+            }
+            response.setStatus(206)
+                    .setHeader("Content-Range", "bytes " + start + "-" + end + "/" + content.length)
+                    .setBody(Arrays.copyOfRange(content, (int) start, (int) end + 1));
+        }
+
+        static String sha1(byte[] content) throws Exception {
+            MessageDigest digest = MessageDigest.getInstance("SHA-1");
+            return SdkUtils.toHexString(digest.digest(content));
+        }
+    }
+}
@@ -2,13 +2,18 @@ package com.box.androidsdk.content.requests;
 
 import com.box.androidsdk.content.BoxApiFile;
 import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
 import com.box.androidsdk.content.models.BoxSharedLink;
 import com.box.androidsdk.content.utils.BoxDateFormat;
 
 import junit.framework.Assert;
 import junit.framework.TestCase;
 
+import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
 import java.lang.reflect.InvocationTargetException;
 import java.text.ParseException;
 import java.util.ArrayList;
@@ -42,4 +47,56 @@ public class BoxFileRequestTest extends TestCase {
         String actual = updateReq.getStringBody();
         Assert.assertEquals(expected, actual);
     }
-}
\ No newline at end of file
+
+    public void testUnparsableResponseIsReportedWithoutBody() throws Exception {
+        MockBoxServer server = new MockBoxServer(new MockBoxServer.Handler() {
+            @Override
+            public void handle(MockBoxServer.Request request, MockBoxServer.Response response) {
+                if (request.getPath().equals("/files/1")) {
+                    response.setJson(200, "{\"type\":\"file\",\"id\":\"1\",\"name\":\"a\" \"description\":\"b\"}");
+                } else {
+                    // Ends in the middle of a value, the way a dropped connection would.
+                    response.setJson(200, "{\"type\":\"file\",\"id\":\"2\",\"name\":\"ab");
+                }
+            }
+        });
+        try {
+            for (String id : new String[]{"1", "2"}) {
+                try {
+                    new BoxRequestsFile.GetFileInfo(id, server.getUrl() + "/files/" + id, new MockBoxSession("token")).send();
+                    Assert.fail("Expected the response of " + id + " to fail parsing");
+                } catch (BoxException e) {
+                    // The rest of a partly parsed body is not passed off as the response.
+                    Assert.assertEquals(200, e.getResponseCode());
+                    Assert.assertNull(e.getResponse());
+                    Assert.assertNotNull(e.getCause());
+                }
+            }
+        } finally {
+            server.shutdown();
+        }
+    }
+
+    public void testStreamedBodyIsNotReadAsString() throws Exception {
+        MockBoxServer server = new MockBoxServer(new MockBoxServer.Handler() {
+            @Override
+            public void handle(MockBoxServer.Request request, MockBoxServer.Response response) {
+                response.setJson(200, "{\"type\":\"file\",\"id\":\"1\"}");
+            }
+        });
+        try {
+            BoxHttpResponse response = new BoxHttpResponse((HttpURLConnection) new URL(server.getUrl() + "/files/1").openConnection());
+            response.open();
+            Assert.assertEquals('{', response.getBodyReader().read());
+            try {
+                response.getStringBody();
+                Assert.fail("Expected the streamed body to not be read again");
+            } catch (BoxException e) {
+                Assert.assertFalse(e.getCause() instanceof IOException);
+            }
+            response.disconnect();
+        } finally {
+            server.shutdown();
+        }
+    }
+}
@@ -0,0 +1,280 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxApiFolder;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxFolderTransferSummary;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.InputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class BoxFolderDownloadTest extends TestCase {
+
+    private MockBoxServer mServer;
+    private TreeHandler mHandler;
+    private File mRoot;
+    private File mTarget;
+
+    @Override
+    protected void setUp() throws Exception {
+        mHandler = new TreeHandler();
+        mServer = new MockBoxServer(mHandler);
+        mRoot = File.createTempFile("tree", "");
+        mRoot.delete();
+        mRoot.mkdir();
+        mTarget = new File(mRoot, "download");
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+        delete(mRoot);
+    }
+
+    public void testDownloadsTreeWithApiBaseUri() throws Exception {
+        mHandler.addFile("0", "10", "a.txt", "alpha");
+        mHandler.addFolder("0", "1", "sub");
+        mHandler.addFile("1", "11", "b.txt", "bravo");
+
+        BoxFolderTransferSummary summary = createRequest().send();
+
+        Assert.assertTrue(summary.isComplete());
+        Assert.assertEquals("0", summary.getFolderId());
+        Assert.assertEquals(Integer.valueOf(2), summary.getFoldersCreated());
+        Assert.assertEquals(Integer.valueOf(2), summary.getFilesTransferred());
+        Assert.assertEquals(Integer.valueOf(0), summary.getFilesSkipped());
+        Assert.assertEquals(Long.valueOf(10), summary.getBytesTransferred());
+        Assert.assertEquals("alpha", readFile(new File(mTarget, "a.txt")));
+        Assert.assertEquals("bravo", readFile(new File(mTarget, "sub/b.txt")));
+        // Only the fields the download needs are listed, from the base URI of the API.
+        for (MockBoxServer.Request request : mServer.getRequests()) {
+            if (request.getPath().endsWith("/items")) {
+                Assert.assertEquals("type,id,name,size,sha1", request.getQueryParameter("fields"));
+            }
+        }
+    }
+
+    public void testListsFoldersPageByPage() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mHandler.addFile("0", String.valueOf(20 + i), "file" + i + ".txt", "content" + i);
+        }
+
+        BoxFolderTransferSummary summary = createRequest().setPageSize(2).send();
+
+        Assert.assertTrue(summary.isComplete());
+        Assert.assertEquals(Integer.valueOf(5), summary.getFilesTransferred());
+        Assert.assertEquals("0,2,4", getListingOffsets());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals("content" + i, readFile(new File(mTarget, "file" + i + ".txt")));
+        }
+    }
+
+    public void testEndsListingLikePagedIterator() throws Exception {
+        for (int i = 0; i < 5; i++) {
+            mHandler.addFile("0", String.valueOf(50 + i), "file" + i + ".txt", "content" + i);
+        }
+        // The last item counts in the total but is not visible, so the second page holds fewer items than requested.
+        mHandler.mHidden.add("54");
+
+        BoxFolderTransferSummary summary = createRequest().setPageSize(3).send();
+
+        Assert.assertTrue(summary.isComplete());
+        Assert.assertEquals(Integer.valueOf(4), summary.getFilesTransferred());
+        // The offset has reached the total count, so no empty page is requested past it.
+        Assert.assertEquals("0,3", getListingOffsets());
+    }
+
+    public void testSkipsIdenticalLocalFiles() throws Exception {
+        mHandler.addFile("0", "30", "same.txt", "same");
+        mHandler.addFile("0", "31", "changed.txt", "changed");
+        writeFile(new File(mTarget, "same.txt"), "same");
+        // The local copy has the size of the file on Box, only its hash tells them apart.
+        writeFile(new File(mTarget, "changed.txt"), "chAnged");
+
+        BoxFolderTransferSummary summary = createRequest().send();
+
+        Assert.assertTrue(summary.isComplete());
+        Assert.assertEquals(Integer.valueOf(0), summary.getFoldersCreated());
+        Assert.assertEquals(Integer.valueOf(1), summary.getFilesSkipped());
+        Assert.assertEquals(Integer.valueOf(1), summary.getFilesTransferred());
+        Assert.assertEquals("changed", readFile(new File(mTarget, "changed.txt")));
+        Assert.assertEquals(0, countRequests("/files/30/content"));
+        Assert.assertEquals(1, countRequests("/files/31/content"));
+    }
+
+    public void testFailedFilesDoNotStopTree() throws Exception {
+        mHandler.addFile("0", "40", "missing.txt", "missing");
+        mHandler.addFile("0", "41", "corrupt.txt", "corrupt");
+        mHandler.addFolder("0", "2", "sub");
+        mHandler.addFile("2", "42", "c.txt", "charlie");
+        mHandler.mContents.remove("40");
+        mHandler.mSha1s.put("41", sha1("something else"));
+
+        BoxFolderTransferSummary summary = createRequest().send();
+
+        // Both failures are recorded against their local paths, the rest of the tree is still downloaded.
+        Assert.assertFalse(summary.isComplete());
+        Assert.assertEquals(Integer.valueOf(2), summary.getFilesFailed());
+        Assert.assertEquals(Integer.valueOf(1), summary.getFilesTransferred());
+        Assert.assertTrue(summary.getFailures().contains(new File(mTarget, "missing.txt").getPath()));
+        Assert.assertTrue(summary.getFailures().contains(new File(mTarget, "corrupt.txt").getPath()));
+        Assert.assertNotNull(summary.getException(new File(mTarget, "missing.txt").getPath()));
+        Assert.assertEquals("charlie", readFile(new File(mTarget, "sub/c.txt")));
+    }
+
+    private BoxRequestsFolder.DownloadFolder createRequest() {
+        final String url = mServer.getUrl();
+        BoxApiFolder folderApi = new BoxApiFolder(new MockBoxSession("token")) {
+            {
+                mBaseUri = url;
+                mBaseUploadUri = url + "/upload";
+            }
+        };
+        return folderApi.getDownloadFolderRequest("0", mTarget).setParallelism(2);
+    }
+
+    private String getListingOffsets() {
+        StringBuilder offsets = new StringBuilder();
+        for (MockBoxServer.Request request : mServer.getRequests()) {
+            if (request.getPath().endsWith("/items")) {
+                if (offsets.length() > 0) {
+                    offsets.append(',');
+                }
+                offsets.append(request.getQueryParameter("offset"));
+            }
+        }
+        return offsets.toString();
+    }
+
+    private int countRequests(String path) {
+        int count = 0;
+        for (MockBoxServer.Request request : mServer.getRequests()) {
+            if (request.getPath().equals(path)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void writeFile(File file, String content) throws Exception {
+        file.getParentFile().mkdirs();
+        FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(content.getBytes("UTF-8"));
+        } finally {
+            output.close();
+        }
+    }
+
+    private static String readFile(File file) throws Exception {
+        InputStream input = new FileInputStream(file);
+        try {
+            byte[] content = new byte[(int) file.length()];
+            int read = 0;
+            while (read < content.length) {
+                read += input.read(content, read, content.length - read);
+            }
+            return new String(content, "UTF-8");
+        } finally {
+            input.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static String sha1(String content) throws Exception {
+        return SdkUtils.toHexString(MessageDigest.getInstance("SHA-1").digest(content.getBytes("UTF-8")));
+    }
+
+    /**
+     * Stub of the folder items and file content endpoints over a tree of folders. Files whose content was removed are
+     * answered with a 404 error, and the SHA1 hash listed for a file can be replaced to not match its content. Hidden
+     * items are left out of their page but still counted in the total count.
+     */
+    private static class TreeHandler implements MockBoxServer.Handler {
+
+        final Map<String, List<String>> mEntries = new ConcurrentHashMap<String, List<String>>();
+        final Map<String, String> mContents = new ConcurrentHashMap<String, String>();
+        final Map<String, String> mSha1s = new ConcurrentHashMap<String, String>();
+        final Set<String> mHidden = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+
+        void addFolder(String parentId, String id, String name) {
+            getEntries(parentId).add("{\"type\":\"folder\",\"id\":\"" + id + "\",\"name\":\"" + name + "\"}");
+            getEntries(id);
+        }
+
+        void addFile(String parentId, String id, String name, String content) throws Exception {
+            mContents.put(id, content);
+            mSha1s.put(id, sha1(content));
+            getEntries(parentId).add("{\"type\":\"file\",\"id\":\"" + id + "\",\"name\":\"" + name + "\",\"size\":"
+                    + content.length() + ",\"sha1\":\"%" + id + "%\"}");
+        }
+
+        private List<String> getEntries(String folderId) {
+            if (!mEntries.containsKey(folderId)) {
+                mEntries.put(folderId, new ArrayList<String>());
+            }
+            return mEntries.get(folderId);
+        }
+
+        private boolean isHidden(String entry) {
+            for (String id : mHidden) {
+                if (entry.contains("\"id\":\"" + id + "\"")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        @Override
+        public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+            String path = request.getPath();
+            if (path.matches("/folders/[0-9]+/items")) {
+                List<String> entries = mEntries.get(path.split("/")[2]);
+                int offset = Integer.parseInt(request.getQueryParameter("offset"));
+                int limit = Integer.parseInt(request.getQueryParameter("limit"));
+                StringBuilder page = new StringBuilder();
+                for (int i = offset; i < Math.min(offset + limit, entries.size()); i++) {
+                    if (isHidden(entries.get(i))) {
+                        continue;
+                    }
+                    if (page.length() > 0) {
+                        page.append(',');
+                    }
+                    page.append(entries.get(i));
+                }
+                String json = "{\"total_count\":" + entries.size() + ",\"offset\":" + offset + ",\"limit\":" + limit
+                        + ",\"entries\":[" + page + "]}";
+                for (Map.Entry<String, String> sha1 : mSha1s.entrySet()) {
+                    json = json.replace("%" + sha1.getKey() + "%", sha1.getValue());
+                }
+                response.setJson(200, json);
+            } else if (path.matches("/files/[0-9]+/content") && mContents.containsKey(path.split("/")[2])) {
+                response.setStatus(200).setBody(mContents.get(path.split("/")[2]).getBytes("UTF-8"));
+            } else {
+                response.setJson(404, "{\"type\":\"error\",\"status\":404,\"code\":\"not_found\"}");
+            }
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxApiFolder;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxFolderTransferSummary;
+import com.box.androidsdk.content.utils.SdkUtils;
+import com.eclipsesource.json.JsonObject;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+public class BoxFolderUploadTest extends TestCase {
+
+    private static final Pattern FILE_NAME = Pattern.compile("filename=\"([^\"]+)\"");
+    private static final Pattern PARENT_ID = Pattern.compile("name=\"parent_id\"\r\n\r\n([0-9]+)");
+
+    private MockBoxServer mServer;
+    private TreeHandler mHandler;
+    private File mRoot;
+
+    @Override
+    protected void setUp() throws Exception {
+        mHandler = new TreeHandler();
+        mServer = new MockBoxServer(mHandler);
+        mRoot = File.createTempFile("tree", "");
+        mRoot.delete();
+        mRoot.mkdir();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+        delete(mRoot);
+    }
+
+    public void testUploadsTreeWithApiBaseUris() throws Exception {
+        writeFile(new File(mRoot, "a.txt"), "alpha");
+        writeFile(new File(mRoot, "sub/b.txt"), "bravo");
+
+        BoxFolderTransferSummary summary = createRequest().send();
+
+        Assert.assertTrue(summary.isComplete());
+        Assert.assertEquals(Integer.valueOf(2), summary.getFoldersCreated());
+        Assert.assertEquals(Integer.valueOf(2), summary.getFilesTransferred());
+        Assert.assertEquals(Long.valueOf(10), summary.getBytesTransferred());
+        // The files are uploaded into the folders created for their local folders, through the upload base URI.
+        String rootId = mHandler.mFolderIds.get(mRoot.getName());
+        Assert.assertEquals(rootId, summary.getFolderId());
+        Assert.assertEquals(rootId, mHandler.mUploadedTo.get("a.txt"));
+        Assert.assertEquals(mHandler.mFolderIds.get("sub"), mHandler.mUploadedTo.get("b.txt"));
+    }
+
+    public void testReusesExistingFolder() throws Exception {
+        writeFile(new File(mRoot, "existing/c.txt"), "charlie");
+        mHandler.mConflicts.put("existing", new String[]{"folder", "900"});
+
+        BoxFolderTransferSummary summary = createRequest().send();
+
+        Assert.assertTrue(summary.isComplete());
+        Assert.assertEquals(Integer.valueOf(1), summary.getFoldersCreated());
+        Assert.assertEquals("900", mHandler.mUploadedTo.get("c.txt"));
+    }
+
+    public void testFolderNameUsedByFileFails() throws Exception {
+        writeFile(new File(mRoot, "clash/d.txt"), "delta");
+        writeFile(new File(mRoot, "e.txt"), "echo");
+        mHandler.mConflicts.put("clash", new String[]{"file", "901"});
+
+        BoxFolderTransferSummary summary = createRequest().send();
+
+        // The folder fails rather than the files being uploaded into a file, the rest of the tree is still uploaded.
+        Assert.assertFalse(summary.isComplete());
+        Assert.assertEquals(1, summary.getFailures().size());
+        Assert.assertEquals(new File(mRoot, "clash").getPath(), summary.getFailures().get(0));
+        Assert.assertFalse(mHandler.mUploadedTo.containsKey("d.txt"));
+        Assert.assertTrue(mHandler.mUploadedTo.containsKey("e.txt"));
+    }
+
+    public void testFileConflictPolicies() throws Exception {
+        writeFile(new File(mRoot, "same.txt"), "same");
+        writeFile(new File(mRoot, "changed.txt"), "changed");
+        mHandler.mConflicts.put("same.txt", new String[]{"file", "700"});
+        mHandler.mConflicts.put("changed.txt", new String[]{"file", "701"});
+        mHandler.mSha1s.put("700", sha1("same"));
+        mHandler.mSha1s.put("701", sha1("before"));
+
+        BoxFolderTransferSummary summary = createRequest().setConflictPolicy(BoxRequestsFolder.UploadFolder.ConflictPolicy.NEW_VERSION).send();
+
+        Assert.assertTrue(summary.isComplete());
+        Assert.assertEquals(Integer.valueOf(1), summary.getFilesSkipped());
+        Assert.assertEquals(Integer.valueOf(1), summary.getFilesTransferred());
+        Assert.assertEquals(0, mHandler.mNewVersions.get("700") == null ? 0 : mHandler.mNewVersions.get("700").get());
+        Assert.assertEquals(1, mHandler.mNewVersions.get("701").get());
+    }
+
+    public void testSkipPolicyLeavesExistingFiles() throws Exception {
+        writeFile(new File(mRoot, "changed.txt"), "changed");
+        mHandler.mConflicts.put("changed.txt", new String[]{"file", "701"});
+
+        BoxFolderTransferSummary summary = createRequest().send();
+
+        Assert.assertTrue(summary.isComplete());
+        Assert.assertEquals(Integer.valueOf(1), summary.getFilesSkipped());
+        Assert.assertTrue(mHandler.mNewVersions.isEmpty());
+    }
+
+    private BoxRequestsFolder.UploadFolder createRequest() {
+        final String url = mServer.getUrl();
+        BoxApiFolder folderApi = new BoxApiFolder(new MockBoxSession("token")) {
+            {
+                mBaseUri = url;
+                mBaseUploadUri = url + "/upload";
+            }
+        };
+        return folderApi.getUploadFolderRequest(mRoot, "0").setParallelism(2);
+    }
+
+    private static void writeFile(File file, String content) throws Exception {
+        file.getParentFile().mkdirs();
+        FileOutputStream output = new FileOutputStream(file);
+        try {
+            output.write(content.getBytes("UTF-8"));
+        } finally {
+            output.close();
+        }
+    }
+
+    private static void delete(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+    private static String sha1(String content) throws Exception {
+        return SdkUtils.toHexString(MessageDigest.getInstance("SHA-1").digest(content.getBytes("UTF-8")));
+    }
+
+    /**
+     * Stub of the folder, upload and file information endpoints. Names listed as conflicts are answered with the
+     * item_name_in_use error Box returns for them.
+     */
+    private static class TreeHandler implements MockBoxServer.Handler {
+
+        final Map<String, String[]> mConflicts = new ConcurrentHashMap<String, String[]>();
+        final Map<String, String> mSha1s = new ConcurrentHashMap<String, String>();
+        final Map<String, String> mFolderIds = new ConcurrentHashMap<String, String>();
+        final Map<String, String> mUploadedTo = new ConcurrentHashMap<String, String>();
+        final Map<String, AtomicInteger> mNewVersions = new ConcurrentHashMap<String, AtomicInteger>();
+        private final AtomicInteger mNextId = new AtomicInteger(100);
+
+        @Override
+        public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+            String path = request.getPath();
+            if (path.equals("/folders") && request.getMethod().equals("POST")) {
+                String name = JsonObject.readFrom(request.getBodyString()).get("name").asString();
+                if (!respondConflict(name, response)) {
+                    String id = String.valueOf(mNextId.getAndIncrement());
+                    mFolderIds.put(name, id);
+                    response.setJson(201, "{\"type\":\"folder\",\"id\":\"" + id + "\",\"name\":\"" + name + "\"}");
+                }
+            } else if (path.equals("/upload/files/content")) {
+                String body = request.getBodyString();
+                Matcher name = FILE_NAME.matcher(body);
+                Matcher parent = PARENT_ID.matcher(body);
+                Assert.assertTrue(name.find() && parent.find());
+                if (!respondConflict(name.group(1), response)) {
+                    mUploadedTo.put(name.group(1), parent.group(1));
+                    response.setJson(201, "{\"total_count\":1,\"entries\":[{\"type\":\"file\",\"id\":\""
+                            + mNextId.getAndIncrement() + "\",\"name\":\"" + name.group(1) + "\"}]}");
+                }
+            } else if (path.matches("/upload/files/[0-9]+/content")) {
+                String id = path.split("/")[3];
+                if (!mNewVersions.containsKey(id)) {
+                    mNewVersions.put(id, new AtomicInteger());
+                }
+                mNewVersions.get(id).incrementAndGet();
+                response.setJson(201, "{\"total_count\":1,\"entries\":[{\"type\":\"file\",\"id\":\"" + id + "\"}]}");
+            } else if (path.matches("/files/[0-9]+") && request.getMethod().equals("GET")) {
+                String id = path.substring("/files/".length());
+                response.setJson(200, "{\"type\":\"file\",\"id\":\"" + id + "\",\"sha1\":\"" + mSha1s.get(id) + "\"}");
+            } else {
+                response.setStatus(404);
+            }
+        }
+
+        private boolean respondConflict(String name, MockBoxServer.Response response) {
+            String[] conflict = mConflicts.get(name);
+            if (conflict == null) {
+                return false;
+            }
+            response.setJson(409, "{\"type\":\"error\",\"status\":409,\"code\":\"item_name_in_use\",\"context_info\":{\"conflicts\":[{\"type\":\""
+                    + conflict[0] + "\",\"id\":\"" + conflict[1] + "\",\"name\":\"" + name + "\"}]}}");
+            return true;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxFile;
+import com.squareup.okhttp.OkHttpClient;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+public class BoxOkHttpTransportTest extends TestCase {
+
+    private static final int LARGE_BODY_SIZE = 256 * 1024;
+
+    private MockBoxServer mServer;
+    private BoxConnectionPool mPool;
+    private BoxOkHttpTransport mTransport;
+
+    @Override
+    protected void setUp() throws Exception {
+        mServer = new MockBoxServer(new MockBoxServer.Handler() {
+            @Override
+            public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+                if (request.getPath().equals("/large")) {
+                    response.setStatus(200).setBody(new byte[LARGE_BODY_SIZE]);
+                } else {
+                    String id = request.getPath().substring("/files/".length());
+                    response.setJson(200, "{\"type\":\"file\",\"id\":\"" + id + "\"}");
+                }
+            }
+        }).setKeepAlive(true);
+        mPool = new BoxConnectionPool();
+        mTransport = new BoxOkHttpTransport(mPool);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+    }
+
+    public void testSendsRequestsThroughOkHttp() throws Exception {
+        HttpURLConnection connection = mTransport.open(new URL(mServer.getUrl() + "/files/1"), BoxRequest.Methods.DELETE);
+        Assert.assertEquals("DELETE", connection.getRequestMethod());
+        Assert.assertTrue(connection.getClass().getName(), connection.getClass().getName().startsWith("com.squareup.okhttp"));
+        connection.disconnect();
+
+        BoxFile file = new BoxRequestsFile.GetFileInfo("2", mServer.getUrl() + "/files/2", new MockBoxSession("token"))
+                .setTransport(mTransport)
+                .send();
+
+        Assert.assertEquals("2", file.getId());
+        Assert.assertEquals("/files/2", mServer.getRequests().get(0).getPath());
+        Assert.assertEquals("GET", mServer.getRequests().get(0).getMethod());
+        Assert.assertEquals(1, mPool.getMissCount());
+    }
+
+    public void testReleaseDrainsUnreadBody() throws Exception {
+        HttpURLConnection connection = mTransport.open(new URL(mServer.getUrl() + "/large"), BoxRequest.Methods.GET);
+        BoxHttpResponse response = new BoxHttpResponse(connection);
+        response.open();
+        Assert.assertEquals(200, response.getResponseCode());
+        mTransport.release(connection, response);
+
+        // OkHttp only pools a connection whose body was read to the end, so the next request reuses it.
+        Assert.assertEquals(1, mTransport.getConnectionCount());
+        send("1");
+        Assert.assertEquals(1, mServer.getConnectionCount());
+        Assert.assertEquals(1, mPool.getMissCount());
+        Assert.assertEquals(1, mPool.getHitCount());
+    }
+
+    public void testReleaseWithoutResponseDisconnects() throws Exception {
+        HttpURLConnection connection = mTransport.open(new URL(mServer.getUrl() + "/large"), BoxRequest.Methods.GET);
+        Assert.assertEquals(200, connection.getResponseCode());
+        InputStream body = connection.getInputStream();
+        // The request failed before its response was read, so its connection cannot be handed to another request.
+        mTransport.release(connection, null);
+
+        // Only what was already buffered can still be read from a disconnected connection.
+        int read = 0;
+        try {
+            byte[] buffer = new byte[8192];
+            for (int n = body.read(buffer); n != -1; n = body.read(buffer)) {
+                read += n;
+            }
+        } catch (IOException e) {
+            // Expected once the buffer is used up.
+        }
+        Assert.assertTrue(String.valueOf(read), read < LARGE_BODY_SIZE);
+
+        Assert.assertEquals(0, mTransport.getConnectionCount());
+        send("1");
+        Assert.assertEquals(2, mServer.getConnectionCount());
+        Assert.assertEquals(2, mPool.getMissCount());
+        Assert.assertEquals(0, mPool.getHitCount());
+    }
+
+    public void testUsesCopyOfGivenClient() throws Exception {
+        OkHttpClient client = new OkHttpClient();
+        BoxOkHttpTransport transport = new BoxOkHttpTransport(client);
+
+        // The socket factory that counts new connections is only set on the copy.
+        Assert.assertNotSame(client, transport.getClient());
+        Assert.assertNull(client.getSocketFactory());
+        Assert.assertSame(BoxConnectionPool.getInstance(), transport.getConnectionPool());
+    }
+
+    private void send(String id) throws Exception {
+        new BoxRequestsFile.GetFileInfo(id, mServer.getUrl() + "/files/" + id, new MockBoxSession("token"))
+                .setTransport(mTransport)
+                .send();
+    }
+}
@@ -0,0 +1,146 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxItem;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+
+public class BoxPagedIteratorTest extends TestCase {
+
+    private MockBoxServer mServer;
+    private ItemsHandler mHandler;
+
+    @Override
+    protected void setUp() throws Exception {
+        mHandler = new ItemsHandler();
+        mServer = new MockBoxServer(mHandler);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+    }
+
+    public void testShortPagesAdvanceByPageSize() throws Exception {
+        mHandler.mCount = 25;
+        mHandler.mHiddenEvery = 4;
+        ArrayList<String> ids = iterate(10);
+
+        // Every fourth item is hidden, which must not make the next page start over the entries already returned.
+        ArrayList<String> expected = new ArrayList<String>();
+        for (int i = 0; i < 25; i++) {
+            if (i % 4 != 3) {
+                expected.add(String.valueOf(i));
+            }
+        }
+        Assert.assertEquals(expected, ids);
+        Assert.assertEquals("0,10,20", getOffsets());
+    }
+
+    public void testEndsAtTotalCount() throws Exception {
+        mHandler.mCount = 20;
+        Assert.assertEquals(20, iterate(10).size());
+        Assert.assertEquals("0,10", getOffsets());
+    }
+
+    public void testEndsAtPartialPageWithoutTotalCount() throws Exception {
+        mHandler.mCount = 25;
+        mHandler.mReportTotal = false;
+        Assert.assertEquals(25, iterate(10).size());
+        Assert.assertEquals("0,10,20", getOffsets());
+    }
+
+    public void testEndsAtEmptyPageWithoutTotalCount() throws Exception {
+        mHandler.mCount = 20;
+        mHandler.mReportTotal = false;
+        Assert.assertEquals(20, iterate(10).size());
+        Assert.assertEquals("0,10,20", getOffsets());
+    }
+
+    public void testPrefetchesNextPage() throws Exception {
+        mHandler.mCount = 30;
+        BoxPagedIterator<BoxItem> items = new BoxPagedIterator<BoxItem>(createRequest(), 10);
+        try {
+            Assert.assertEquals("0", items.next().getId());
+            long deadline = System.currentTimeMillis() + 5000;
+            while (mServer.getRequestCount() < 2 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+            // The second page is fetched while the first one is used, but not the third.
+            Thread.sleep(100);
+            Assert.assertEquals("0,10", getOffsets());
+            Assert.assertEquals(Long.valueOf(30), items.getTotalCount());
+        } finally {
+            items.close();
+        }
+        Assert.assertFalse(items.hasNext());
+    }
+
+    public void testPageSizeIsLimitedByRequest() throws Exception {
+        BoxRequestsSearch.Search search = new BoxRequestsSearch.Search("tigers", mServer.getUrl() + "/search", new MockBoxSession("token"));
+        Assert.assertEquals(200, new BoxPagedIterator<BoxItem>(search).getPageSize());
+        Assert.assertEquals(50, new BoxPagedIterator<BoxItem>(search, 50).getPageSize());
+        Assert.assertEquals(BoxPagedIterator.DEFAULT_PAGE_SIZE, new BoxPagedIterator<BoxItem>(createRequest()).getPageSize());
+    }
+
+    private ArrayList<String> iterate(int pageSize) throws Exception {
+        ArrayList<String> ids = new ArrayList<String>();
+        BoxPagedIterator<BoxItem> items = new BoxPagedIterator<BoxItem>(createRequest(), pageSize);
+        try {
+            while (items.hasNext()) {
+                ids.add(items.next().getId());
+            }
+        } finally {
+            items.close();
+        }
+        return ids;
+    }
+
+    private BoxRequestsFolder.GetFolderItems createRequest() {
+        return new BoxRequestsFolder.GetFolderItems("0", mServer.getUrl() + "/folders/0/items", new MockBoxSession("token"));
+    }
+
+    private String getOffsets() {
+        StringBuilder offsets = new StringBuilder();
+        for (MockBoxServer.Request request : mServer.getRequests()) {
+            if (offsets.length() > 0) {
+                offsets.append(',');
+            }
+            offsets.append(request.getQueryParameter("offset"));
+        }
+        return offsets.toString();
+    }
+
+    /**
+     * Stub of the folder items endpoint over a list of files whose ids are their positions in the list.
+     */
+    private static class ItemsHandler implements MockBoxServer.Handler {
+
+        volatile int mCount;
+        // Leaves every nth item out of its page, the way items the user cannot see are left out.
+        volatile int mHiddenEvery;
+        volatile boolean mReportTotal = true;
+
+        @Override
+        public void handle(MockBoxServer.Request request, MockBoxServer.Response response) {
+            int offset = Integer.parseInt(request.getQueryParameter("offset"));
+            int limit = Integer.parseInt(request.getQueryParameter("limit"));
+            StringBuilder entries = new StringBuilder();
+            for (int i = offset; i < Math.min(offset + limit, mCount); i++) {
+                if (mHiddenEvery > 0 && i % mHiddenEvery == mHiddenEvery - 1) {
+                    continue;
+                }
+                if (entries.length() > 0) {
+                    entries.append(',');
+                }
+                entries.append("{\"type\":\"file\",\"id\":\"").append(i).append("\",\"name\":\"file").append(i).append("\"}");
+            }
+            String total = mReportTotal ? "\"total_count\":" + mCount + "," : "";
+            response.setJson(200, "{" + total + "\"offset\":" + offset + ",\"limit\":" + limit + ",\"entries\":[" + entries + "]}");
+        }
+    }
+}
@@ -0,0 +1,265 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxFile;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class BoxRequestBatchTest extends TestCase {
+
+    private MockBoxServer mServer;
+    private BatchHandler mHandler;
+
+    @Override
+    protected void setUp() throws Exception {
+        mHandler = new BatchHandler();
+        mServer = new MockBoxServer(mHandler);
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+    }
+
+    public void testCollapsesRequestsIntoServerBatches() throws Exception {
+        BoxRequestBatch batch = new BoxRequestBatch(mServer.getUrl() + "/batch", new MockBoxSession("token"))
+                .setServerBatchSize(2);
+        for (int i = 0; i < 5; i++) {
+            batch.addRequest(getFileInfo(String.valueOf(i)));
+        }
+        BoxResponseBatch responses = batch.send();
+
+        // Two round trips of two requests each, and the last request alone is sent without the batch endpoint.
+        Assert.assertEquals(3, mServer.getRequestCount());
+        ArrayList<String> batchedUrls = new ArrayList<String>();
+        for (MockBoxServer.Request request : mServer.getRequests()) {
+            if (request.getPath().equals("/batch")) {
+                Assert.assertEquals("POST", request.getMethod());
+                JsonArray items = JsonObject.readFrom(request.getBodyString()).get(BoxRequestBatch.FIELD_REQUESTS).asArray();
+                Assert.assertEquals(2, items.size());
+                for (JsonValue item : items) {
+                    Assert.assertEquals("GET", item.asObject().get(BoxRequestBatch.FIELD_METHOD).asString());
+                    batchedUrls.add(item.asObject().get(BoxRequestBatch.FIELD_RELATIVE_URL).asString());
+                }
+            } else {
+                Assert.assertEquals("/files/4", request.getPath());
+            }
+        }
+        Assert.assertEquals(4, batchedUrls.size());
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(batchedUrls.get(i).startsWith("/files/" + i));
+        }
+        Assert.assertEquals(5, responses.getResponses().size());
+        for (int i = 0; i < 5; i++) {
+            Assert.assertEquals(String.valueOf(i), ((BoxFile) responses.getResponses().get(i).getResult()).getId());
+        }
+    }
+
+    public void testSendsHeadersAndBodiesOfBatchedRequests() throws Exception {
+        BoxRequestBatch batch = new BoxRequestBatch(mServer.getUrl() + "/batch", new MockBoxSession("token"))
+                .addRequest(getFileInfo("1").setIfNoneMatchEtag("3"))
+                .addRequest(new BoxRequestsFile.UpdateFile("2", mServer.getUrl() + "/files/2", new MockBoxSession("token"))
+                        .setName("renamed.txt"));
+        batch.send();
+
+        Assert.assertEquals(1, mServer.getRequestCount());
+        JsonArray items = JsonObject.readFrom(mServer.getRequests().get(0).getBodyString()).get(BoxRequestBatch.FIELD_REQUESTS).asArray();
+        JsonObject info = items.get(0).asObject();
+        Assert.assertEquals("3", info.get(BoxRequestBatch.FIELD_HEADERS).asObject().get("If-None-Match").asString());
+        Assert.assertNull(info.get(BoxRequestBatch.FIELD_BODY));
+        JsonObject update = items.get(1).asObject();
+        Assert.assertEquals("PUT", update.get(BoxRequestBatch.FIELD_METHOD).asString());
+        Assert.assertEquals("renamed.txt", update.get(BoxRequestBatch.FIELD_BODY).asObject().get("name").asString());
+    }
+
+    public void testMapsItemResponsesAndErrors() throws Exception {
+        BoxResponseBatch responses = new BoxRequestBatch(mServer.getUrl() + "/batch", new MockBoxSession("token"))
+                .addRequest(getFileInfo("1"))
+                .addRequest(getFileInfo("404"))
+                .addRequest(getFileInfo("2"))
+                .addRequest(getFileInfo("412"))
+                .send();
+
+        Assert.assertEquals(1, mServer.getRequestCount());
+        ArrayList<BoxResponse> items = responses.getResponses();
+        Assert.assertTrue(items.get(0).isSuccess());
+        Assert.assertEquals("1", ((BoxFile) items.get(0).getResult()).getId());
+        Assert.assertEquals("file1", ((BoxFile) items.get(0).getResult()).getName());
+        assertFailed(items.get(1), 404, "not_found");
+        Assert.assertEquals("2", ((BoxFile) items.get(2).getResult()).getId());
+        assertFailed(items.get(3), 412, "precondition_failed");
+    }
+
+    public void testFailedRoundTripFailsItsRequests() throws Exception {
+        BoxResponseBatch responses = new BoxRequestBatch(mServer.getUrl() + "/broken/batch", new MockBoxSession("token"))
+                .addRequest(new BoxRequestsFile.GetFileInfo("1", mServer.getUrl() + "/broken/files/1", new MockBoxSession("token")))
+                .addRequest(new BoxRequestsFile.GetFileInfo("2", mServer.getUrl() + "/broken/files/2", new MockBoxSession("token")))
+                .send();
+
+        for (BoxResponse response : responses.getResponses()) {
+            Assert.assertFalse(response.isSuccess());
+            Assert.assertEquals(500, ((BoxException) response.getException()).getResponseCode());
+        }
+    }
+
+    public void testFailFastCancelsRemainingRequests() throws Exception {
+        BoxResponseBatch responses = createUnbatched(1, "1", "404", "2", "3")
+                .setFailFast(true)
+                .send();
+
+        // Requests are sent one after another, so nothing is sent after the failure.
+        Assert.assertEquals(2, mServer.getRequestCount());
+        ArrayList<BoxResponse> items = responses.getResponses();
+        Assert.assertEquals(4, items.size());
+        Assert.assertTrue(items.get(0).isSuccess());
+        assertFailed(items.get(1), 404, "not_found");
+        for (int i = 2; i < 4; i++) {
+            Assert.assertFalse(items.get(i).isSuccess());
+            Assert.assertTrue(items.get(i).getException() instanceof CancellationException);
+        }
+    }
+
+    public void testFailFastLetsRequestsInFlightFinish() throws Exception {
+        mHandler.mDelays.put("1", 300);
+        BoxResponseBatch responses = createUnbatched(2, "404", "1", "2", "3", "4", "5")
+                .setFailFast(true)
+                .send();
+
+        ArrayList<BoxResponse> items = responses.getResponses();
+        assertFailed(items.get(0), 404, "not_found");
+        // The slow request may already be in flight when the first one fails, those queued after it are not sent.
+        Assert.assertTrue(mServer.getRequestCount() <= 2);
+        if (mServer.getRequestCount() == 2) {
+            Assert.assertEquals("1", ((BoxFile) items.get(1).getResult()).getId());
+        }
+        for (int i = 2; i < items.size(); i++) {
+            Assert.assertTrue(items.get(i).getException() instanceof CancellationException);
+        }
+    }
+
+    public void testWithoutFailFastSendsEveryRequest() throws Exception {
+        BoxResponseBatch responses = createUnbatched(1, "404", "1", "412", "2").send();
+
+        Assert.assertEquals(4, mServer.getRequestCount());
+        assertFailed(responses.getResponses().get(0), 404, "not_found");
+        Assert.assertEquals("1", ((BoxFile) responses.getResponses().get(1).getResult()).getId());
+        assertFailed(responses.getResponses().get(2), 412, "precondition_failed");
+        Assert.assertEquals("2", ((BoxFile) responses.getResponses().get(3).getResult()).getId());
+    }
+
+    public void testParallelResponsesKeepRequestOrder() throws Exception {
+        String[] ids = new String[8];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = String.valueOf(i);
+            // Earlier requests take longer, so they finish after the later ones.
+            mHandler.mDelays.put(ids[i], (ids.length - i) * 25);
+        }
+        BoxResponseBatch responses = createUnbatched(4, ids).send();
+
+        Assert.assertEquals(8, mServer.getRequestCount());
+        Assert.assertTrue(mServer.getMaxActiveRequests() > 1);
+        Assert.assertTrue(mServer.getMaxActiveRequests() <= 4);
+        ArrayList<BoxResponse> items = responses.getResponses();
+        Assert.assertEquals(ids.length, items.size());
+        for (int i = 0; i < ids.length; i++) {
+            Assert.assertEquals(ids[i], ((BoxFile) items.get(i).getResult()).getId());
+        }
+    }
+
+    public void testParallelServerBatchesKeepRequestOrder() throws Exception {
+        BoxRequestBatch batch = new BoxRequestBatch(mServer.getUrl() + "/batch", new MockBoxSession("token"))
+                .setServerBatchSize(3)
+                .setMaxParallelism(3);
+        for (int i = 0; i < 9; i++) {
+            batch.addRequest(getFileInfo(String.valueOf(i)));
+        }
+        ArrayList<BoxResponse> items = batch.send().getResponses();
+
+        Assert.assertEquals(3, mServer.getRequestCount());
+        for (int i = 0; i < 9; i++) {
+            Assert.assertEquals(String.valueOf(i), ((BoxFile) items.get(i).getResult()).getId());
+        }
+    }
+
+    /**
+     * @return a batch whose requests are each sent on their own, the batch endpoint not being a parent of their URLs.
+     */
+    private BoxRequestBatch createUnbatched(int maxParallelism, String... ids) {
+        BoxRequestBatch batch = new BoxRequestBatch(mServer.getUrl() + "/other/batch", new MockBoxSession("token"))
+                .setMaxParallelism(maxParallelism);
+        for (String id : ids) {
+            batch.addRequest(getFileInfo(id));
+        }
+        return batch;
+    }
+
+    private BoxRequestsFile.GetFileInfo getFileInfo(String id) {
+        return new BoxRequestsFile.GetFileInfo(id, mServer.getUrl() + "/files/" + id, new MockBoxSession("token"));
+    }
+
+    private static void assertFailed(BoxResponse response, int status, String code) {
+        Assert.assertFalse(response.isSuccess());
+        Assert.assertNull(response.getResult());
+        BoxException exception = (BoxException) response.getException();
+        Assert.assertEquals(status, exception.getResponseCode());
+        Assert.assertEquals(code, exception.getAsBoxError().getCode());
+    }
+
+    /**
+     * Stub of the file information endpoint and of a batch endpoint answering each batched request the way the file
+     * information endpoint would. Files whose id is an HTTP error status are answered with that error.
+     */
+    private static class BatchHandler implements MockBoxServer.Handler {
+
+        // Milliseconds the file information endpoint waits before answering for a file id.
+        final Map<String, Integer> mDelays = new ConcurrentHashMap<String, Integer>();
+
+        @Override
+        public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+            if (request.getPath().startsWith("/broken/")) {
+                response.setJson(500, "{\"type\":\"error\",\"status\":500}");
+            } else if (request.getPath().equals("/batch")) {
+                JsonArray responses = new JsonArray();
+                for (JsonValue item : JsonObject.readFrom(request.getBodyString()).get(BoxRequestBatch.FIELD_REQUESTS).asArray()) {
+                    String id = item.asObject().get(BoxRequestBatch.FIELD_RELATIVE_URL).asString().substring("/files/".length()).split("\\?")[0];
+                    int status = getStatus(id);
+                    responses.add(new JsonObject()
+                            .add(BoxRequestBatch.FIELD_STATUS, status)
+                            .add(BoxRequestBatch.FIELD_HEADERS, new JsonObject().add("Content-Type", "application/json"))
+                            .add(BoxRequestBatch.FIELD_RESPONSE, JsonObject.readFrom(getBody(id, status))));
+                }
+                response.setJson(200, new JsonObject().add(BoxRequestBatch.FIELD_RESPONSES, responses).toString());
+            } else {
+                String id = request.getPath().substring("/files/".length());
+                if (mDelays.containsKey(id)) {
+                    Thread.sleep(mDelays.get(id));
+                }
+                response.setJson(getStatus(id), getBody(id, getStatus(id)));
+            }
+        }
+
+        private static int getStatus(String id) {
+            return id.equals("404") || id.equals("412") ? Integer.parseInt(id) : 200;
+        }
+
+        private static String getBody(String id, int status) {
+            if (status == 404) {
+                return "{\"type\":\"error\",\"status\":404,\"code\":\"not_found\"}";
+            } else if (status == 412) {
+                return "{\"type\":\"error\",\"status\":412,\"code\":\"precondition_failed\"}";
+            }
+            return "{\"type\":\"file\",\"id\":\"" + id + "\",\"name\":\"file" + id + "\"}";
+        }
+    }
+}
@@ -0,0 +1,156 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxBulkCheckpoint;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.File;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class BoxRequestBulkTest extends TestCase {
+
+    private MockBoxServer mServer;
+    private final Set<String> mFailing = Collections.newSetFromMap(new ConcurrentHashMap<String, Boolean>());
+    private File mCheckpointFile;
+
+    @Override
+    protected void setUp() throws Exception {
+        mServer = new MockBoxServer(new MockBoxServer.Handler() {
+            @Override
+            public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+                String id = request.getPath().substring("/files/".length());
+                if (mFailing.contains(id)) {
+                    response.setJson(404, "{\"type\":\"error\",\"status\":404,\"code\":\"not_found\"}");
+                } else {
+                    response.setJson(200, "{\"type\":\"file\",\"id\":\"" + id + "\"}");
+                }
+            }
+        });
+        mCheckpointFile = File.createTempFile("bulk", ".json");
+        mCheckpointFile.delete();
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+        mCheckpointFile.delete();
+    }
+
+    public void testThrottleHalvesOnRateLimitAndGrowsBack() {
+        BoxRequestBulk.Throttle throttle = new BoxRequestBulk.Throttle(8);
+        Assert.assertEquals(8, throttle.getLimit());
+        throttle.onRateLimited();
+        Assert.assertEquals(4, throttle.getLimit());
+        throttle.onRateLimited();
+        throttle.onRateLimited();
+        throttle.onRateLimited();
+        Assert.assertEquals(1, throttle.getLimit());
+
+        // The limit grows by one after as many successes in a row as the limit.
+        throttle.onSuccess();
+        Assert.assertEquals(2, throttle.getLimit());
+        throttle.onSuccess();
+        Assert.assertEquals(2, throttle.getLimit());
+        throttle.onSuccess();
+        Assert.assertEquals(3, throttle.getLimit());
+
+        // A rate limit response starts the count of successes over.
+        throttle.onSuccess();
+        throttle.onSuccess();
+        throttle.onRateLimited();
+        Assert.assertEquals(1, throttle.getLimit());
+        throttle.onSuccess();
+        Assert.assertEquals(2, throttle.getLimit());
+
+        for (int i = 0; i < 100; i++) {
+            throttle.onSuccess();
+        }
+        Assert.assertEquals(8, throttle.getLimit());
+    }
+
+    public void testThrottleBlocksAboveLimit() throws Exception {
+        final BoxRequestBulk.Throttle throttle = new BoxRequestBulk.Throttle(2);
+        throttle.acquire();
+        throttle.acquire();
+        final CountDownLatch acquired = new CountDownLatch(1);
+        Thread waiting = new Thread() {
+            @Override
+            public void run() {
+                try {
+                    throttle.acquire();
+                    acquired.countDown();
+                } catch (InterruptedException e) {
+                    // The test fails on the latch.
+                }
+            }
+        };
+        waiting.start();
+        Assert.assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+
+        // Once halved, releasing one of two requests is not enough to let another one through.
+        throttle.onRateLimited();
+        throttle.release();
+        Assert.assertFalse(acquired.await(100, TimeUnit.MILLISECONDS));
+        throttle.release();
+        Assert.assertTrue(acquired.await(5, TimeUnit.SECONDS));
+        waiting.join();
+    }
+
+    public void testResumesFromCheckpoint() throws Exception {
+        mFailing.add("3");
+        BoxResponseBulk responses = createRequest("1", "2", "3", "4", "5").send();
+
+        Assert.assertFalse(responses.isComplete());
+        Assert.assertEquals(Arrays.asList("3"), responses.getFailedIds());
+        Assert.assertEquals(404, ((BoxException) responses.getResponse("3").getException()).getResponseCode());
+        Assert.assertTrue(responses.getSkippedIds().isEmpty());
+        BoxBulkCheckpoint checkpoint = BoxBulkCheckpoint.load(mCheckpointFile);
+        Assert.assertEquals("info", checkpoint.getOperation());
+        Assert.assertEquals(4, checkpoint.getCompletedIds().size());
+        Assert.assertFalse(checkpoint.isCompleted("3"));
+
+        // Sending the operation again only sends the item that failed.
+        mFailing.clear();
+        int sent = mServer.getRequestCount();
+        responses = createRequest("1", "2", "3", "4", "5").send();
+
+        Assert.assertTrue(responses.isComplete());
+        Assert.assertEquals(sent + 1, mServer.getRequestCount());
+        Assert.assertEquals("/files/3", mServer.getRequests().get(sent).getPath());
+        Assert.assertEquals(Arrays.asList("1", "2", "4", "5"), responses.getSkippedIds());
+        Assert.assertEquals(1, responses.getResponsesById().size());
+        Assert.assertFalse(mCheckpointFile.exists());
+    }
+
+    public void testIgnoresCheckpointOfOtherOperation() throws Exception {
+        BoxBulkCheckpoint checkpoint = new BoxBulkCheckpoint("delete");
+        checkpoint.addCompletedId("1");
+        checkpoint.save(mCheckpointFile);
+
+        BoxResponseBulk responses = createRequest("1", "2").send();
+
+        Assert.assertEquals(2, mServer.getRequestCount());
+        Assert.assertTrue(responses.getSkippedIds().isEmpty());
+        Assert.assertTrue(responses.isComplete());
+    }
+
+    private BoxRequestBulk createRequest(String... ids) {
+        return new BoxRequestBulk(Arrays.asList(ids), "info", new BoxRequestBulk.ItemRequestFactory() {
+            @Override
+            public BoxRequest createRequest(String id) {
+                return new BoxRequestsFile.GetFileInfo(id, mServer.getUrl() + "/files/" + id, new MockBoxSession("token"));
+            }
+        }, new MockBoxSession("token"))
+                .setMaxParallelism(2)
+                .setCheckpointFile(mCheckpointFile);
+    }
+}
@@ -0,0 +1,175 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxFile;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class BoxRequestGraphTest extends TestCase {
+
+    private MockBoxServer mServer;
+    private final Map<String, Integer> mDelays = new ConcurrentHashMap<String, Integer>();
+
+    @Override
+    protected void setUp() throws Exception {
+        mServer = new MockBoxServer(new MockBoxServer.Handler() {
+            @Override
+            public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+                String id = request.getPath().substring("/files/".length());
+                if (mDelays.containsKey(id)) {
+                    Thread.sleep(mDelays.get(id));
+                }
+                if (id.equals("404")) {
+                    response.setJson(404, "{\"type\":\"error\",\"status\":404,\"code\":\"not_found\"}");
+                } else {
+                    response.setJson(200, "{\"type\":\"file\",\"id\":\"" + id + "\",\"name\":\"file" + id + "\"}");
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+    }
+
+    public void testSendsNodesAfterTheirParents() throws Exception {
+        mDelays.put("1", 200);
+        BoxRequestGraph graph = new BoxRequestGraph();
+        final BoxRequestGraph.Node<BoxFile> parent = graph.addRequest(getFileInfo("1"));
+        BoxRequestGraph.Node<BoxFile> child = graph.addNode(new BoxRequestGraph.RequestFactory<BoxFile>() {
+            @Override
+            public BoxRequest<BoxFile, ?> createRequest(BoxRequestGraph.Results results) {
+                return getFileInfo(results.get(parent).getId() + "0");
+            }
+        }, parent);
+        BoxRequestGraph.Node<BoxFile> independent = graph.addRequest(getFileInfo("2"));
+        BoxRequestGraph.Node<BoxFile> grandChild = graph.addRequest(getFileInfo("3"), child, independent);
+        ArrayList<BoxResponse> responses = graph.send().getResponses();
+
+        // The independent node is not held back by the slow parent, the others wait for every node they depend on.
+        String paths = getPaths();
+        Assert.assertTrue(paths, paths.startsWith("/files/1,/files/2,") || paths.startsWith("/files/2,/files/1,"));
+        Assert.assertTrue(paths, paths.endsWith(",/files/10,/files/3"));
+        Assert.assertEquals(4, responses.size());
+        Assert.assertEquals("10", ((BoxFile) responses.get(child.getIndex()).getResult()).getId());
+        Assert.assertEquals("2", ((BoxFile) responses.get(independent.getIndex()).getResult()).getId());
+        Assert.assertEquals("3", ((BoxFile) responses.get(grandChild.getIndex()).getResult()).getId());
+    }
+
+    public void testSendsIndependentNodesInParallel() throws Exception {
+        BoxRequestGraph graph = new BoxRequestGraph().setMaxParallelism(3);
+        for (int i = 0; i < 6; i++) {
+            mDelays.put(String.valueOf(i), 100);
+            graph.addRequest(getFileInfo(String.valueOf(i)));
+        }
+        ArrayList<BoxResponse> responses = graph.send().getResponses();
+
+        Assert.assertTrue(mServer.getMaxActiveRequests() > 1);
+        Assert.assertTrue(mServer.getMaxActiveRequests() <= 3);
+        for (int i = 0; i < 6; i++) {
+            Assert.assertEquals(String.valueOf(i), ((BoxFile) responses.get(i).getResult()).getId());
+        }
+    }
+
+    public void testNodesCanOnlyDependOnNodesOfTheGraph() throws Exception {
+        BoxRequestGraph other = new BoxRequestGraph();
+        BoxRequestGraph.Node<BoxFile> foreign = other.addRequest(getFileInfo("1"));
+        BoxRequestGraph graph = new BoxRequestGraph();
+        graph.addRequest(getFileInfo("2"));
+        try {
+            // The node has the index of a node of the graph, but is not one of its nodes.
+            graph.addRequest(getFileInfo("3"), foreign);
+            Assert.fail("Expected the parent to be refused");
+        } catch (IllegalArgumentException e) {
+            // Parents have to be added first, so a node can never end up depending on itself.
+        }
+        try {
+            graph.addRequest(getFileInfo("3"), other.addRequest(getFileInfo("4")));
+            Assert.fail("Expected the parent to be refused");
+        } catch (IllegalArgumentException e) {
+            // Expected
+        }
+        Assert.assertEquals(1, graph.send().getResponses().size());
+    }
+
+    public void testFailureCancelsDescendants() throws Exception {
+        final AtomicInteger created = new AtomicInteger();
+        BoxRequestGraph graph = new BoxRequestGraph().setMaxParallelism(1);
+        BoxRequestGraph.Node<BoxFile> failed = graph.addRequest(getFileInfo("404"));
+        BoxRequestGraph.Node<BoxFile> child = graph.addNode(new BoxRequestGraph.RequestFactory<BoxFile>() {
+            @Override
+            public BoxRequest<BoxFile, ?> createRequest(BoxRequestGraph.Results results) {
+                created.incrementAndGet();
+                return getFileInfo("5");
+            }
+        }, failed);
+        BoxRequestGraph.Node<BoxFile> grandChild = graph.addRequest(getFileInfo("6"), child);
+        BoxRequestGraph.Node<BoxFile> other = graph.addRequest(getFileInfo("7"));
+        ArrayList<BoxResponse> responses = graph.send().getResponses();
+
+        // Only the branch of the failed node is cancelled.
+        Assert.assertEquals("/files/404,/files/7", getPaths());
+        Assert.assertEquals(0, created.get());
+        Assert.assertEquals(404, ((BoxException) responses.get(failed.getIndex()).getException()).getResponseCode());
+        Assert.assertTrue(responses.get(child.getIndex()).getException() instanceof CancellationException);
+        Assert.assertTrue(responses.get(grandChild.getIndex()).getException() instanceof CancellationException);
+        Assert.assertEquals("7", ((BoxFile) responses.get(other.getIndex()).getResult()).getId());
+    }
+
+    public void testFailingFactoryFailsNode() throws Exception {
+        final BoxException failure = new BoxException("No request");
+        BoxRequestGraph graph = new BoxRequestGraph();
+        BoxRequestGraph.Node<BoxFile> parent = graph.addRequest(getFileInfo("1"));
+        BoxRequestGraph.Node<BoxFile> child = graph.addNode(new BoxRequestGraph.RequestFactory<BoxFile>() {
+            @Override
+            public BoxRequest<BoxFile, ?> createRequest(BoxRequestGraph.Results results) throws BoxException {
+                throw failure;
+            }
+        }, parent);
+        BoxRequestGraph.Node<BoxFile> grandChild = graph.addRequest(getFileInfo("2"), child);
+        ArrayList<BoxResponse> responses = graph.send().getResponses();
+
+        Assert.assertTrue(responses.get(parent.getIndex()).isSuccess());
+        Assert.assertSame(failure, responses.get(child.getIndex()).getException());
+        Assert.assertTrue(responses.get(grandChild.getIndex()).getException() instanceof CancellationException);
+        Assert.assertEquals(1, mServer.getRequestCount());
+    }
+
+    public void testFailFastCancelsOtherBranches() throws Exception {
+        BoxRequestGraph graph = new BoxRequestGraph().setMaxParallelism(1).setFailFast(true);
+        BoxRequestGraph.Node<BoxFile> failed = graph.addRequest(getFileInfo("404"));
+        BoxRequestGraph.Node<BoxFile> other = graph.addRequest(getFileInfo("1"));
+        BoxRequestGraph.Node<BoxFile> otherChild = graph.addRequest(getFileInfo("2"), other);
+        ArrayList<BoxResponse> responses = graph.send().getResponses();
+
+        Assert.assertEquals(1, mServer.getRequestCount());
+        Assert.assertFalse(responses.get(failed.getIndex()).isSuccess());
+        Assert.assertTrue(responses.get(other.getIndex()).getException() instanceof CancellationException);
+        Assert.assertTrue(responses.get(otherChild.getIndex()).getException() instanceof CancellationException);
+    }
+
+    private BoxRequestsFile.GetFileInfo getFileInfo(String id) {
+        return new BoxRequestsFile.GetFileInfo(id, mServer.getUrl() + "/files/" + id, new MockBoxSession("token"));
+    }
+
+    private String getPaths() {
+        StringBuilder paths = new StringBuilder();
+        for (MockBoxServer.Request request : mServer.getRequests()) {
+            if (paths.length() > 0) {
+                paths.append(',');
+            }
+            paths.append(request.getPath());
+        }
+        return paths.toString();
+    }
+}
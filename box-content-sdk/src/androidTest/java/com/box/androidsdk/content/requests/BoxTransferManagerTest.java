@@ -0,0 +1,194 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.Random;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class BoxTransferManagerTest extends TestCase {
+
+    private MockBoxServer mServer;
+    private final CountDownLatch mBlocked = new CountDownLatch(1);
+    private byte[] mContent;
+    private String mSha1;
+    private File mJournal;
+    private File mFile;
+    private File mTarget;
+    private BoxTransferManager mManager;
+
+    @Override
+    protected void setUp() throws Exception {
+        mContent = new byte[20000];
+        new Random(17).nextBytes(mContent);
+        mSha1 = SdkUtils.toHexString(MessageDigest.getInstance("SHA-1").digest(mContent));
+        mJournal = File.createTempFile("transfers", ".json");
+        mJournal.delete();
+        mFile = File.createTempFile("upload", ".bin");
+        FileOutputStream output = new FileOutputStream(mFile);
+        output.write(mContent);
+        output.close();
+        mTarget = File.createTempFile("download", ".bin");
+        mServer = new MockBoxServer(new MockBoxServer.Handler() {
+            @Override
+            public void handle(MockBoxServer.Request request, MockBoxServer.Response response) throws Exception {
+                if (request.getPath().equals("/blocked")) {
+                    mBlocked.await(10, TimeUnit.SECONDS);
+                    response.setBody(new byte[0]);
+                } else if (request.getPath().equals("/files/5/content")) {
+                    response.setBody(mContent);
+                } else {
+                    response.setJson(201, "{\"total_count\":1,\"entries\":[{\"type\":\"file\",\"id\":\"5\",\"name\":\"upload.bin\",\"sha1\":\""
+                            + mSha1 + "\"}]}");
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mBlocked.countDown();
+        if (mManager != null) {
+            mManager.shutdown();
+        }
+        mServer.shutdown();
+        mJournal.delete();
+        mFile.delete();
+        mTarget.delete();
+    }
+
+    public void testRunsQueuedTransfers() throws Exception {
+        mManager = new BoxTransferManager(new MockBoxSession("token"), mJournal);
+        BoxTransferManager.Transfer download = mManager.addDownload(
+                new BoxRequestsFile.DownloadFile("5", mTarget, mServer.getUrl() + "/files/5/content", new MockBoxSession("token")),
+                BoxTransferManager.PRIORITY_NORMAL);
+        BoxTransferManager.Transfer upload = mManager.addUpload(createUpload(), BoxTransferManager.PRIORITY_HIGH);
+
+        waitForState(download, BoxTransferManager.State.COMPLETED);
+        waitForState(upload, BoxTransferManager.State.COMPLETED);
+        Assert.assertTrue(Arrays.equals(mContent, readFile(mTarget)));
+        Assert.assertEquals(2 * mContent.length, mManager.getBytesTransferred());
+        Assert.assertEquals(mManager.getTotalBytes(), mManager.getBytesTransferred());
+        waitForJournal("[]");
+
+        mManager.removeFinishedTransfers();
+        Assert.assertEquals(0, mManager.getBytesTransferred());
+        Assert.assertEquals(0, mManager.getTotalBytes());
+    }
+
+    public void testPauseAndResumeAreJournaled() throws Exception {
+        mManager = new BoxTransferManager(new MockBoxSession("token"), mJournal, 1);
+        BoxTransferManager.Transfer blocker = addBlocker(mManager);
+        BoxTransferManager.Transfer upload = mManager.addUpload(createUpload(), BoxTransferManager.PRIORITY_NORMAL);
+        upload.pause();
+        waitForJournal("\"state\":\"PAUSED\"");
+
+        upload.resume();
+        waitForJournal("\"state\":\"QUEUED\"");
+        mBlocked.countDown();
+        waitForState(blocker, BoxTransferManager.State.COMPLETED);
+        waitForState(upload, BoxTransferManager.State.COMPLETED);
+        waitForJournal("[]");
+    }
+
+    public void testRestoresTransfersAfterRestart() throws Exception {
+        mManager = new BoxTransferManager(new MockBoxSession("token"), mJournal, 1);
+        addBlocker(mManager);
+        Date created = new Date(1400000000000L);
+        Date modified = new Date(1500000000000L);
+        BoxRequestsFile.UploadFile upload = createUpload()
+                .setCreatedDate(created)
+                .setModifiedDate(modified)
+                .setVerifySha1(true);
+        upload.setSha1(mSha1);
+        BoxRequestsFile.UploadNewVersion newVersion = new BoxRequestsFile.UploadNewVersion(mFile,
+                mServer.getUrl() + "/files/5/new_version", new MockBoxSession("token"))
+                .setIfMatchEtag("3");
+        newVersion.setModifiedDate(null);
+        String uploadId = mManager.addUpload(upload, BoxTransferManager.PRIORITY_NORMAL).getId();
+        BoxTransferManager.Transfer paused = mManager.addUpload(newVersion, BoxTransferManager.PRIORITY_LOW);
+        paused.pause();
+        mManager.shutdown();
+
+        // The blocking download is not to a file, so only the uploads are restored.
+        mManager = new BoxTransferManager(new MockBoxSession("token"), mJournal, 1);
+        mManager.getTransfer(paused.getId()).resume();
+        Assert.assertEquals(2, mManager.getTransfers().size());
+        BoxTransferManager.Transfer restored = mManager.getTransfer(uploadId);
+        waitForState(restored, BoxTransferManager.State.COMPLETED);
+        BoxRequestsFile.UploadFile restoredUpload = (BoxRequestsFile.UploadFile) restored.getRequest();
+        Assert.assertEquals(created, restoredUpload.getCreatedDate());
+        Assert.assertEquals(modified, restoredUpload.getModifiedDate());
+        Assert.assertEquals(mSha1, restoredUpload.getSha1());
+        Assert.assertTrue(restoredUpload.getVerifySha1());
+        Assert.assertEquals(BoxTransferManager.PRIORITY_NORMAL, restored.getPriority());
+
+        BoxTransferManager.Transfer restoredVersion = mManager.getTransfer(paused.getId());
+        waitForState(restoredVersion, BoxTransferManager.State.COMPLETED);
+        BoxRequestsFile.UploadNewVersion restoredNewVersion = (BoxRequestsFile.UploadNewVersion) restoredVersion.getRequest();
+        Assert.assertEquals("3", restoredNewVersion.getIfMatchEtag());
+        Assert.assertNull(restoredNewVersion.getModifiedDate());
+        Assert.assertFalse(restoredNewVersion.getVerifySha1());
+        MockBoxServer.Request sent = mServer.getRequests().get(mServer.getRequestCount() - 1);
+        Assert.assertEquals("3", sent.getHeader("If-Match"));
+    }
+
+    private BoxRequestsFile.UploadFile createUpload() {
+        return new BoxRequestsFile.UploadFile(mFile, "0", mServer.getUrl() + "/files/content", new MockBoxSession("token"));
+    }
+
+    /**
+     * Adds a download that is not recorded in the journal and holds the only transfer slot until the test releases it.
+     */
+    private BoxTransferManager.Transfer addBlocker(BoxTransferManager manager) throws Exception {
+        BoxTransferManager.Transfer blocker = manager.addDownload(
+                new BoxRequestsFile.DownloadFile(new ByteArrayOutputStream(), mServer.getUrl() + "/blocked", new MockBoxSession("token")),
+                BoxTransferManager.PRIORITY_HIGH);
+        waitForState(blocker, BoxTransferManager.State.RUNNING);
+        return blocker;
+    }
+
+    private static void waitForState(BoxTransferManager.Transfer transfer, BoxTransferManager.State state) throws Exception {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (transfer.getState() != state) {
+            Assert.assertTrue("Transfer is " + transfer.getState() + ", expected " + state, System.currentTimeMillis() < deadline);
+            Thread.sleep(10);
+        }
+    }
+
+    private void waitForJournal(String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 10000;
+        String journal = null;
+        while (System.currentTimeMillis() < deadline) {
+            journal = mJournal.exists() ? new String(readFile(mJournal), "UTF-8") : null;
+            if (journal != null && journal.contains(expected)) {
+                return;
+            }
+            Thread.sleep(10);
+        }
+        Assert.fail("Journal " + journal + " does not contain " + expected);
+    }
+
+    private static byte[] readFile(File file) throws Exception {
+        FileInputStream input = new FileInputStream(file);
+        try {
+            ByteArrayOutputStream content = new ByteArrayOutputStream();
+            SdkUtils.copyStream(input, content);
+            return content.toByteArray();
+        } finally {
+            input.close();
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.listeners.ProgressListener;
+import com.box.androidsdk.content.mocks.MockBoxServer;
+import com.box.androidsdk.content.mocks.MockBoxSession;
+import com.box.androidsdk.content.models.BoxFile;
+import com.box.androidsdk.content.utils.BandwidthLimiter;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.security.MessageDigest;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class BoxUploadRequestTest extends TestCase {
+
+
+    private MockBoxServer mServer;
+    private File mFile;
+    private byte[] mContent;
+    // Hash of the current version returned by the file information endpoint, or null to leave it out.
+    private volatile String mCurrentSha1;
+    // Hash Box reports for the uploaded file, or null to leave it out.
+    private volatile String mUploadedSha1;
+    // Number of uploads still to be answered with a rate limit response.
+    private final AtomicInteger mRateLimits = new AtomicInteger();
+
+    @Override
+    protected void setUp() throws Exception {
+        mContent = new byte[192 * 1024];
+        new Random(18).nextBytes(mContent);
+        mFile = File.createTempFile("upload", ".bin");
+        FileOutputStream output = new FileOutputStream(mFile);
+        output.write(mContent);
+        output.close();
+        mServer = new MockBoxServer(new MockBoxServer.Handler() {
+            @Override
+            public void handle(MockBoxServer.Request request, MockBoxServer.Response response) {
+                if (request.getMethod().equals("GET")) {
+                    // Only the fields asked for are returned, the way Box does when fields are set.
+                    String fields = request.getQueryParameter("fields");
+                    boolean sha1 = mCurrentSha1 != null && (fields == null || fields.contains(BoxFile.FIELD_SHA1));
+                    response.setJson(200, "{\"type\":\"file\",\"id\":\"5\",\"name\":\"current.bin\""
+                            + (sha1 ? ",\"sha1\":\"" + mCurrentSha1 + "\"" : "") + "}");
+                } else if (mRateLimits.getAndDecrement() > 0) {
+                    response.setJson(429, "{\"type\":\"error\",\"status\":429}").setHeader("Retry-After", "1");
+                } else {
+                    response.setJson(201, "{\"total_count\":1,\"entries\":[{\"type\":\"file\",\"id\":\"5\",\"name\":\"upload.bin\""
+                            + (mUploadedSha1 != null ? ",\"sha1\":\"" + mUploadedSha1 + "\"" : "") + "}]}");
+                }
+            }
+        });
+    }
+
+    @Override
+    protected void tearDown() throws Exception {
+        mServer.shutdown();
+        mFile.delete();
+    }
+
+    public void testUploadWithListenerIsPaced() throws Exception {
+        BandwidthLimiter limiter = BandwidthLimiter.get("paced-listener");
+        limiter.setLimit(64 * 1024);
+        final AtomicLong progress = new AtomicLong();
+        try {
+            long start = System.currentTimeMillis();
+            new BoxRequestsFile.UploadFile(mFile, "0", mServer.getUrl() + "/files/content", new MockBoxSession("token"))
+                    .setBandwidthClass("paced-listener")
+                    .setProgressListener(new ProgressListener() {
+                        @Override
+                        public void onProgressChanged(long numBytes, long totalBytes) {
+                            progress.set(numBytes);
+                        }
+                    })
+                    .send();
+
+            // A second worth of content goes out at once, the remaining two seconds worth are paced.
+            Assert.assertTrue(System.currentTimeMillis() - start >= 1500);
+            Assert.assertEquals(mContent.length, progress.get());
+        } finally {
+            limiter.setLimit(0);
+        }
+    }
+
+    public void testSkipIfIdenticalAsksForSha1() throws Exception {
+        mCurrentSha1 = sha1(mContent);
+        BoxRequestsFile.GetFileInfo info = new BoxRequestsFile.GetFileInfo("5", mServer.getUrl() + "/files/5", new MockBoxSession("token"))
+                .setFields(BoxFile.FIELD_NAME);
+        BoxRequestsFile.UploadNewVersion upload = createNewVersion().setSkipIfIdentical(info);
+        BoxFile file = upload.send();
+
+        // The hash is asked for along with the fields of the request, so the identical content is not uploaded.
+        Assert.assertEquals(1, mServer.getRequestCount());
+        Assert.assertEquals(BoxFile.FIELD_NAME + "," + BoxFile.FIELD_SHA1, mServer.getRequests().get(0).getQueryParameter("fields"));
+        Assert.assertTrue(upload.isDeduplicated());
+        Assert.assertEquals("current.bin", file.getName());
+
+        upload.send();
+        Assert.assertEquals(BoxFile.FIELD_NAME + "," + BoxFile.FIELD_SHA1, mServer.getRequests().get(1).getQueryParameter("fields"));
+    }
+
+    public void testSkipIfIdenticalUploadsChangedContent() throws Exception {
+        mCurrentSha1 = sha1(new byte[1]);
+        BoxRequestsFile.UploadNewVersion upload = createNewVersion()
+                .setSkipIfIdentical(new BoxRequestsFile.GetFileInfo("5", mServer.getUrl() + "/files/5", new MockBoxSession("token")));
+        upload.send();
+
+        Assert.assertEquals(2, mServer.getRequestCount());
+        Assert.assertNull(mServer.getRequests().get(0).getQueryParameter("fields"));
+        Assert.assertEquals("POST", mServer.getRequests().get(1).getMethod());
+        Assert.assertFalse(upload.isDeduplicated());
+    }
+
+    public void testSkipIfIdenticalUploadsWithoutCurrentSha1() throws Exception {
+        BoxRequestsFile.UploadNewVersion upload = createNewVersion()
+                .setSkipIfIdentical(new BoxRequestsFile.GetFileInfo("5", mServer.getUrl() + "/files/5", new MockBoxSession("token")));
+        upload.send();
+
+        Assert.assertEquals(2, mServer.getRequestCount());
+        Assert.assertFalse(upload.isDeduplicated());
+    }
+
+    public void testVerifySha1HashesEachSource() throws Exception {
+        String sha1 = sha1(mContent);
+        mUploadedSha1 = sha1;
+        String url = mServer.getUrl() + "/files/content";
+        FileInputStream stream = new FileInputStream(mFile);
+        try {
+            BoxRequestsFile.UploadFile[] uploads = new BoxRequestsFile.UploadFile[]{
+                    new BoxRequestsFile.UploadFile(mFile, "0", url, new MockBoxSession("token")),
+                    new BoxRequestsFile.UploadFile(stream, "upload.bin", "0", url, new MockBoxSession("token")),
+                    new BoxRequestsFile.UploadFile(Channels.newChannel(new ByteArrayInputStream(mContent)), mContent.length,
+                            "upload.bin", "0", url, new MockBoxSession("token")),
+                    new BoxRequestsFile.UploadFile(ByteBuffer.wrap(mContent), "upload.bin", "0", url, new MockBoxSession("token"))
+            };
+            for (BoxRequestsFile.UploadFile upload : uploads) {
+                upload.setVerifySha1(true).send();
+                // The hash covers the contents only, not the rest of the multipart body.
+                Assert.assertEquals(sha1, upload.getComputedSha1());
+            }
+        } finally {
+            stream.close();
+        }
+    }
+
+    public void testVerifySha1DetectsMismatch() throws Exception {
+        mUploadedSha1 = sha1(new byte[1]);
+        BoxRequestsFile.UploadFile upload = new BoxRequestsFile.UploadFile(mFile, "0", mServer.getUrl() + "/files/content",
+                new MockBoxSession("token")).setVerifySha1(true);
+        try {
+            upload.send();
+            Assert.fail("Expected a SHA1 mismatch");
+        } catch (BoxException.Sha1Mismatch e) {
+            Assert.assertEquals(sha1(mContent), e.getExpectedSha1());
+            Assert.assertEquals(mUploadedSha1, e.getActualSha1());
+        }
+    }
+
+    public void testUploadWithoutVerifySha1IsNotHashed() throws Exception {
+        mUploadedSha1 = sha1(new byte[1]);
+        BoxRequestsFile.UploadFile upload = new BoxRequestsFile.UploadFile(mFile, "0", mServer.getUrl() + "/files/content",
+                new MockBoxSession("token"));
+        Assert.assertEquals("5", upload.send().getId());
+        Assert.assertNull(upload.getComputedSha1());
+    }
+
+    public void testKnownSizesAreSentWithFixedLength() throws Exception {
+        String url = mServer.getUrl() + "/files/content";
+        ByteBuffer buffer = ByteBuffer.wrap(mContent);
+        new BoxRequestsFile.UploadFile(mFile, "0", url, new MockBoxSession("token")).send();
+        new BoxRequestsFile.UploadFile(Channels.newChannel(new ByteArrayInputStream(mContent)), mContent.length,
+                "upload.bin", "0", url, new MockBoxSession("token")).send();
+        new BoxRequestsFile.UploadFile(buffer, "upload.bin", "0", url, new MockBoxSession("token")).send();
+        new BoxRequestsFile.UploadFile(Channels.newChannel(new ByteArrayInputStream(mContent)), -1,
+                "upload.bin", "0", url, new MockBoxSession("token")).send();
+
+        Assert.assertEquals(4, mServer.getRequestCount());
+        for (int i = 0; i < 3; i++) {
+            MockBoxServer.Request request = mServer.getRequests().get(i);
+            Assert.assertEquals(String.valueOf(request.getBody().length), request.getHeader("Content-Length"));
+            Assert.assertNull(request.getHeader("Transfer-Encoding"));
+            Assert.assertTrue(containsContent(request));
+        }
+        // Without a size the length of the body is not known up front.
+        MockBoxServer.Request unsized = mServer.getRequests().get(3);
+        Assert.assertEquals("chunked", unsized.getHeader("Transfer-Encoding"));
+        Assert.assertTrue(containsContent(unsized));
+        Assert.assertEquals(0, buffer.position());
+    }
+
+    public void testRetriedFileChannelIsReadAgain() throws Exception {
+        mRateLimits.set(1);
+        FileInputStream stream = new FileInputStream(mFile);
+        try {
+            BoxFile file = new BoxRequestsFile.UploadFile(stream.getChannel(), mContent.length, "upload.bin", "0",
+                    mServer.getUrl() + "/files/content", new MockBoxSession("token")).send();
+
+            Assert.assertEquals("5", file.getId());
+            Assert.assertEquals(2, mServer.getRequestCount());
+            Assert.assertTrue(containsContent(mServer.getRequests().get(0)));
+            Assert.assertTrue(containsContent(mServer.getRequests().get(1)));
+        } finally {
+            stream.close();
+        }
+    }
+
+    public void testRetriedChannelThatCannotBeReadAgainFails() throws Exception {
+        mRateLimits.set(1);
+        try {
+            new BoxRequestsFile.UploadFile(Channels.newChannel(new ByteArrayInputStream(mContent)), mContent.length,
+                    "upload.bin", "0", mServer.getUrl() + "/files/content", new MockBoxSession("token")).send();
+            Assert.fail("Expected the retry to be refused");
+        } catch (BoxException e) {
+            // The rest of a consumed channel is never sent as the contents.
+            Assert.assertEquals(1, mServer.getRequestCount());
+            Assert.assertNull(e.getCause());
+        }
+    }
+
+    private boolean containsContent(MockBoxServer.Request request) throws Exception {
+        return new String(request.getBody(), "ISO-8859-1").contains(new String(mContent, "ISO-8859-1"));
+    }
+
+    private static String sha1(byte[] content) throws Exception {
+        return SdkUtils.toHexString(MessageDigest.getInstance("SHA-1").digest(content));
+    }
+
+    private BoxRequestsFile.UploadNewVersion createNewVersion() {
+        return new BoxRequestsFile.UploadNewVersion(mFile, mServer.getUrl() + "/files/5/content", new MockBoxSession("token"));
+    }
+}
@@ -0,0 +1,54 @@
+package com.box.androidsdk.content.utils;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.text.ParseException;
+import java.text.SimpleDateFormat;
+import java.util.TimeZone;
+
+public class BoxDateFormatTest extends TestCase {
+
+    public void testParse() throws Exception {
+        SimpleDateFormat expectedFormat = new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ss.SSSZ");
+        long expected = expectedFormat.parse("2012-12-12T10:55:30.000-0800").getTime();
+        Assert.assertEquals(expected, BoxDateFormat.parseMillis("2012-12-12T10:55:30-08:00"));
+        Assert.assertEquals(expected, BoxDateFormat.parseMillis("2012-12-12T10:55:30-0800"));
+        Assert.assertEquals(expected, BoxDateFormat.parseMillis("2012-12-12T18:55:30Z"));
+        Assert.assertEquals(expected + 120, BoxDateFormat.parseMillis("2012-12-12T18:55:30.12Z"));
+        Assert.assertEquals(expected, BoxDateFormat.parse("2012-12-13T03:55:30+09:00").getTime());
+        Assert.assertEquals(951782400000L, BoxDateFormat.parseMillis("2000-02-29T00:00:00Z"));
+        Assert.assertEquals(-1000L, BoxDateFormat.parseMillis("1969-12-31T23:59:59Z"));
+    }
+
+    public void testParseInvalid() {
+        String[] invalid = {null, "", "2012-12-12", "2012-12-12T10:55:30", "2012-12-12 10:55:30-08:00",
+                "2012-13-12T10:55:30-08:00", "2012-12-12T10:55:30-08", "2012-12-12T10:55:30.Z", "2012-12-12T10:55:30Zx"};
+        for (String date : invalid) {
+            try {
+                BoxDateFormat.parseMillis(date);
+                Assert.fail("Expected " + date + " to be rejected");
+            } catch (ParseException e) {
+                // expected
+            }
+        }
+    }
+
+    public void testFormat() throws Exception {
+        TimeZone defaultTimeZone = TimeZone.getDefault();
+        try {
+            TimeZone.setDefault(TimeZone.getTimeZone("America/Los_Angeles"));
+            long millis = BoxDateFormat.parseMillis("2012-12-12T10:55:30-08:00");
+            Assert.assertEquals("2012-12-12T10:55:30-08:00", BoxDateFormat.formatMillis(millis));
+            Assert.assertEquals("2012-07-01T05:00:00-07:00", BoxDateFormat.formatMillis(BoxDateFormat.parseMillis("2012-07-01T12:00:00Z")));
+
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Kolkata"));
+            Assert.assertEquals("2012-12-13T00:25:30+05:30", BoxDateFormat.formatMillis(millis));
+
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            Assert.assertEquals("1969-12-31T23:59:59+00:00", BoxDateFormat.formatMillis(-1000L));
+        } finally {
+            TimeZone.setDefault(defaultTimeZone);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.box.androidsdk.content.utils;
+
+import com.box.androidsdk.content.models.BoxFile;
+import com.box.androidsdk.content.models.BoxFolder;
+import com.box.androidsdk.content.models.BoxListItems;
+import com.eclipsesource.json.JsonValue;
+
+import junit.framework.Assert;
+import junit.framework.TestCase;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+public class BoxJsonReaderTest extends TestCase {
+
+    public void testReadValues() throws Exception {
+        String json = "{\"name\":\"a\\\"b\\u00e9\\n\",\"size\":629644,\"ratio\":-1.5e3,\"flags\":[true,false,null],\"empty\":{},\"list\":[]}";
+        BoxJsonReader reader = new BoxJsonReader(new StringReader(json));
+        reader.beginObject();
+        Assert.assertEquals("name", reader.nextName());
+        Assert.assertEquals("a\"bé\n", reader.nextValue().asString());
+        Assert.assertEquals("size", reader.nextName());
+        Assert.assertEquals(629644L, reader.nextValue().asLong());
+        Assert.assertEquals("ratio", reader.nextName());
+        Assert.assertEquals(-1500.0, reader.nextValue().asDouble());
+        Assert.assertEquals("flags", reader.nextName());
+        Assert.assertEquals(BoxJsonReader.Token.BEGIN_ARRAY, reader.peek());
+        Assert.assertEquals(JsonValue.readFrom("[true,false,null]"), reader.nextValue());
+        Assert.assertEquals("empty", reader.nextName());
+        reader.skipValue();
+        Assert.assertEquals("list", reader.nextName());
+        reader.beginArray();
+        Assert.assertFalse(reader.hasNext());
+        reader.endArray();
+        reader.endObject();
+        Assert.assertEquals(BoxJsonReader.Token.END_DOCUMENT, reader.peek());
+    }
+
+    public void testMalformed() throws Exception {
+        BoxJsonReader reader = new BoxJsonReader(new StringReader("{\"name\" \"value\"}"));
+        reader.beginObject();
+        reader.nextName();
+        try {
+            reader.nextValue();
+            Assert.fail("Expected malformed json to be rejected");
+        } catch (IOException e) {
+            // expected
+        }
+    }
+
+    public void testStreamedListMatchesParsedList() throws Exception {
+        String json = "{\"total_count\":2,\"entries\":[{\"type\":\"folder\",\"id\":\"11446498\",\"sequence_id\":\"1\",\"etag\":\"1\",\"name\":\"Pictures\"},{\"type\":\"file\",\"id\":\"5000948880\",\"sequence_id\":\"3\",\"etag\":\"3\",\"name\":\"tigers.jpeg\",\"description\":null}],\"offset\":0,\"limit\":100}";
+        BoxListItems parsed = new BoxListItems();
+        parsed.createFromJson(json);
+        BoxListItems streamed = new BoxListItems();
+        streamed.createFromJson(new BoxJsonReader(new StringReader(json)));
+
+        Assert.assertEquals(parsed.toJson(), streamed.toJson());
+        Assert.assertEquals(2, streamed.size());
+        Assert.assertTrue(streamed.get(0) instanceof BoxFolder);
+        Assert.assertTrue(streamed.get(1) instanceof BoxFile);
+        Assert.assertEquals(Long.valueOf(100), streamed.limit());
+    }
+}
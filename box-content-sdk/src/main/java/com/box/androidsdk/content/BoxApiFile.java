@@ -1,15 +1,24 @@
 package com.box.androidsdk.content;
 
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 
 import com.box.androidsdk.content.models.BoxSession;
+import com.box.androidsdk.content.models.BoxUploadSession;
+import com.box.androidsdk.content.models.BoxUploadSessionPart;
+import com.box.androidsdk.content.requests.BoxContentHashIndex;
+import com.box.androidsdk.content.requests.BoxRequest;
+import com.box.androidsdk.content.requests.BoxRequestBulk;
 import com.box.androidsdk.content.requests.BoxRequestsFile;
 
 /**
@@ -65,6 +74,21 @@ public class BoxApiFile extends BoxApi {
      */
     protected String getFileUploadNewVersionUrl(String id) { return String.format(Locale.ENGLISH, "%s/files/%s/content", getBaseUploadUri(), id); }
 
+    /**
+     * Gets the URL for creating a chunked upload session for a new file
+     *
+     * @return the upload sessions URL
+     */
+    protected String getUploadSessionsUrl() { return String.format(Locale.ENGLISH, "%s/files/upload_sessions", getBaseUploadUri()); }
+
+    /**
+     * Gets the URL for creating a chunked upload session for a new version of a file
+     *
+     * @param id    id of the file
+     * @return the upload sessions URL of the file
+     */
+    protected String getUploadNewVersionSessionsUrl(String id) { return String.format(Locale.ENGLISH, "%s/files/%s/upload_sessions", getBaseUploadUri(), id); }
+
     /**
      * Gets the URL for comments on a file
      * @param id    id of the file
@@ -159,6 +183,23 @@ public class BoxApiFile extends BoxApi {
         return request;
     }
 
+    /**
+     * Gets an index of content already on Box that copies files by their SHA1 hash, for use with
+     * {@link BoxRequestsFile.UploadFile#setContentIndex(BoxContentHashIndex)}
+     *
+     * @param fileIdsBySha1 ids of files on Box keyed by the lower case SHA1 hash of their content
+     * @return  index creating copy requests for the given files
+     */
+    public BoxContentHashIndex getContentHashIndex(final Map<String, String> fileIdsBySha1) {
+        return new BoxContentHashIndex() {
+            @Override
+            public BoxRequestsFile.CopyFile getCopyRequest(String sha1, String destinationFolderId) {
+                String id = fileIdsBySha1.get(sha1.toLowerCase(Locale.ENGLISH));
+                return id == null ? null : BoxApiFile.this.getCopyRequest(id, destinationFolderId);
+            }
+        };
+    }
+
     /**
      * Gets a request that renames a file
      *
@@ -256,6 +297,33 @@ public class BoxApiFile extends BoxApi {
             return request;
     }
 
+    /**
+     * Gets a request that uploads a file from a channel
+     *
+     * @param channel   channel containing the contents of the file
+     * @param size  number of bytes the channel holds, or -1 if it is unknown
+     * @param fileName  name of the new file
+     * @param destinationFolderId   id of the parent folder for the new file
+     * @return  request to upload a file from a channel
+     */
+    public BoxRequestsFile.UploadFile getUploadRequest(ReadableByteChannel channel, long size, String fileName, String destinationFolderId) {
+        BoxRequestsFile.UploadFile request = new BoxRequestsFile.UploadFile(channel, size, fileName, destinationFolderId, getFileUploadUrl(), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that uploads a file from a buffer
+     *
+     * @param buffer    buffer whose remaining bytes are the contents of the file
+     * @param fileName  name of the new file
+     * @param destinationFolderId   id of the parent folder for the new file
+     * @return  request to upload a file from a buffer
+     */
+    public BoxRequestsFile.UploadFile getUploadRequest(ByteBuffer buffer, String fileName, String destinationFolderId) {
+        BoxRequestsFile.UploadFile request = new BoxRequestsFile.UploadFile(buffer, fileName, destinationFolderId, getFileUploadUrl(), mSession);
+        return request;
+    }
+
     /**
      * Gets a request that uploads a new file version from an input stream
      *
@@ -276,14 +344,121 @@ public class BoxApiFile extends BoxApi {
      * @return  request to upload a new file version from an existing file
      */
     public BoxRequestsFile.UploadNewVersion getUploadNewVersionRequest(File file, String destinationFileId) {
-        try {
-            BoxRequestsFile.UploadNewVersion request = getUploadNewVersionRequest(new FileInputStream(file), destinationFileId);
-            request.setUploadSize(file.length());
-            request.setModifiedDate(new Date(file.lastModified()));
-            return request;
-        } catch (FileNotFoundException e) {
-            throw new IllegalArgumentException(e);
-        }
+        BoxRequestsFile.UploadNewVersion request = new BoxRequestsFile.UploadNewVersion(file, getFileUploadNewVersionUrl(destinationFileId), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that uploads a new file version from a channel
+     *
+     * @param channel   channel containing the contents of the new file version
+     * @param size  number of bytes the channel holds, or -1 if it is unknown
+     * @param destinationFileId id of the file to upload a new version of
+     * @return  request to upload a new file version from a channel
+     */
+    public BoxRequestsFile.UploadNewVersion getUploadNewVersionRequest(ReadableByteChannel channel, long size, String destinationFileId) {
+        BoxRequestsFile.UploadNewVersion request = new BoxRequestsFile.UploadNewVersion(channel, size, getFileUploadNewVersionUrl(destinationFileId), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that uploads a new file version from a buffer
+     *
+     * @param buffer    buffer whose remaining bytes are the contents of the new file version
+     * @param destinationFileId id of the file to upload a new version of
+     * @return  request to upload a new file version from a buffer
+     */
+    public BoxRequestsFile.UploadNewVersion getUploadNewVersionRequest(ByteBuffer buffer, String destinationFileId) {
+        BoxRequestsFile.UploadNewVersion request = new BoxRequestsFile.UploadNewVersion(buffer, getFileUploadNewVersionUrl(destinationFileId), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that uploads a file in parts through a chunked upload session. Parts are uploaded in parallel
+     * and retried individually, which suits large files and unreliable networks.
+     *
+     * @param file  file to upload
+     * @param destinationFolderId   id of the parent folder for the new file
+     * @return  request to upload a file in parts
+     */
+    public BoxRequestsFile.ChunkedUploadFile getChunkedUploadRequest(File file, String destinationFolderId) {
+        BoxRequestsFile.ChunkedUploadFile request = new BoxRequestsFile.ChunkedUploadFile(file, destinationFolderId, getUploadSessionsUrl(), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that uploads a new file version in parts through a chunked upload session
+     *
+     * @param file  file to upload as a new version
+     * @param destinationFileId id of the file to upload a new version of
+     * @return  request to upload a new file version in parts
+     */
+    public BoxRequestsFile.ChunkedUploadNewVersion getChunkedUploadNewVersionRequest(File file, String destinationFileId) {
+        BoxRequestsFile.ChunkedUploadNewVersion request = new BoxRequestsFile.ChunkedUploadNewVersion(file, getUploadNewVersionSessionsUrl(destinationFileId), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that creates a chunked upload session for a new file
+     *
+     * @param fileName  name of the new file
+     * @param fileSize  size of the new file in bytes
+     * @param destinationFolderId   id of the parent folder for the new file
+     * @return  request to create an upload session
+     */
+    public BoxRequestsFile.CreateUploadSession getCreateUploadSessionRequest(String fileName, long fileSize, String destinationFolderId) {
+        BoxRequestsFile.CreateUploadSession request = new BoxRequestsFile.CreateUploadSession(fileName, fileSize, destinationFolderId, getUploadSessionsUrl(), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that creates a chunked upload session for a new version of a file
+     *
+     * @param fileSize  size of the new version in bytes
+     * @param destinationFileId id of the file to upload a new version of
+     * @return  request to create an upload session
+     */
+    public BoxRequestsFile.CreateNewVersionUploadSession getCreateNewVersionUploadSessionRequest(long fileSize, String destinationFileId) {
+        BoxRequestsFile.CreateNewVersionUploadSession request = new BoxRequestsFile.CreateNewVersionUploadSession(fileSize, getUploadNewVersionSessionsUrl(destinationFileId), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that uploads one part of a file to an upload session
+     *
+     * @param uploadSession the upload session to upload the part to
+     * @param file  file the part is read from
+     * @param offset    offset of the first byte of the part in the file
+     * @param partSize  size of the part in bytes
+     * @return  request to upload a part
+     */
+    public BoxRequestsFile.UploadSessionPart getUploadSessionPartRequest(BoxUploadSession uploadSession, File file, long offset, long partSize) {
+        BoxRequestsFile.UploadSessionPart request = new BoxRequestsFile.UploadSessionPart(file, offset, partSize, file.length(), uploadSession.getSessionEndpoints().getUploadPartEndpoint(), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that commits an upload session once all parts are uploaded
+     *
+     * @param uploadSession the upload session to commit
+     * @param parts the uploaded parts, in order of their offsets
+     * @param sha1  SHA1 hash of the whole file
+     * @return  request to commit an upload session
+     */
+    public BoxRequestsFile.CommitUploadSession getCommitUploadSessionRequest(BoxUploadSession uploadSession, List<BoxUploadSessionPart> parts, String sha1) {
+        BoxRequestsFile.CommitUploadSession request = new BoxRequestsFile.CommitUploadSession(parts, sha1, uploadSession.getSessionEndpoints().getCommitEndpoint(), mSession);
+        return request;
+    }
+
+    /**
+     * Gets a request that aborts an upload session and discards its parts
+     *
+     * @param uploadSession the upload session to abort
+     * @return  request to abort an upload session
+     */
+    public BoxRequestsFile.AbortUploadSession getAbortUploadSessionRequest(BoxUploadSession uploadSession) {
+        BoxRequestsFile.AbortUploadSession request = new BoxRequestsFile.AbortUploadSession(uploadSession.getSessionEndpoints().getAbortEndpoint(), mSession);
+        return request;
     }
 
     /**
@@ -298,7 +473,7 @@ public class BoxApiFile extends BoxApi {
             if (!target.exists()){
                 throw new FileNotFoundException();
             }
-            BoxRequestsFile.DownloadFile request = new BoxRequestsFile.DownloadFile(target, getFileDownloadUrl(fileId),mSession);
+            BoxRequestsFile.DownloadFile request = new BoxRequestsFile.DownloadFile(fileId, target, getFileDownloadUrl(fileId),mSession);
             return request;
     }
 
@@ -375,6 +550,68 @@ public class BoxApiFile extends BoxApi {
         return request;
     }
 
+    /**
+     * Gets a request that moves many files to another folder
+     *
+     * @param ids       ids of the files to move
+     * @param parentId  id of parent folder to move the files into
+     * @return      request to move files
+     */
+    public BoxRequestBulk getBulkMoveRequest(Collection<String> ids, final String parentId) {
+        return new BoxRequestBulk(ids, "move_files:" + parentId, new BoxRequestBulk.ItemRequestFactory() {
+            @Override
+            public BoxRequest createRequest(String id) {
+                return getMoveRequest(id, parentId);
+            }
+        }, mSession);
+    }
+
+    /**
+     * Gets a request that copies many files into a folder
+     *
+     * @param ids       ids of the files to copy
+     * @param parentId  id of parent folder to copy the files into
+     * @return      request to copy files
+     */
+    public BoxRequestBulk getBulkCopyRequest(Collection<String> ids, final String parentId) {
+        return new BoxRequestBulk(ids, "copy_files:" + parentId, new BoxRequestBulk.ItemRequestFactory() {
+            @Override
+            public BoxRequest createRequest(String id) {
+                return getCopyRequest(id, parentId);
+            }
+        }, mSession);
+    }
+
+    /**
+     * Gets a request that deletes many files
+     *
+     * @param ids       ids of the files to delete
+     * @return      request to delete files
+     */
+    public BoxRequestBulk getBulkDeleteRequest(Collection<String> ids) {
+        return new BoxRequestBulk(ids, "delete_files", new BoxRequestBulk.ItemRequestFactory() {
+            @Override
+            public BoxRequest createRequest(String id) {
+                return getDeleteRequest(id);
+            }
+        }, mSession);
+    }
+
+    /**
+     * Gets a request that restores many trashed files
+     *
+     * @param ids       ids of the files to restore
+     * @return      request to restore files from the trash
+     */
+    public BoxRequestBulk getBulkRestoreTrashedRequest(Collection<String> ids) {
+        return new BoxRequestBulk(ids, "restore_files", new BoxRequestBulk.ItemRequestFactory() {
+            @Override
+            public BoxRequest createRequest(String id) {
+                return getRestoreTrashedFileRequest(id);
+            }
+        }, mSession);
+    }
+
     /**
      * Gets a request that retrieves the comments on a file
      *
@@ -1,8 +1,13 @@
 package com.box.androidsdk.content;
 
 import com.box.androidsdk.content.models.BoxSession;
+import com.box.androidsdk.content.requests.BoxRequest;
+import com.box.androidsdk.content.requests.BoxRequestBulk;
 import com.box.androidsdk.content.requests.BoxRequestsFolder;
 
+import java.io.File;
+import java.util.Collection;
+
 /**
  * Represents the API of the folder endpoint on Box. This class can be used to generate request objects
  * for each of the APIs exposed endpoints
@@ -73,6 +78,19 @@ public class BoxApiFolder extends BoxApi {
     protected String getTrashedItemsUrl() { return getFoldersUrl() + "/trash/items"; }
 
 
+    /**
+     * Gets the API the files of folder trees are transferred with, using the same base URIs as this API
+     *
+     * @return the file API
+     */
+    protected BoxApiFile getFileApi() {
+        BoxApiFile fileApi = new BoxApiFile(mSession);
+        fileApi.mBaseUri = mBaseUri;
+        fileApi.mBaseUploadUri = mBaseUploadUri;
+        return fileApi;
+    }
+
+
     /**
      * Gets a request that retrieves information on a folder
      *
@@ -110,6 +128,32 @@ public class BoxApiFolder extends BoxApi {
     }
 
 
+    /**
+     * Gets a request that uploads a local folder tree into a parent folder
+     *
+     * @param localFolder   local folder to upload
+     * @param parentId  id of the parent folder to create the uploaded folder in
+     * @return      request to upload a folder tree
+     */
+    public BoxRequestsFolder.UploadFolder getUploadFolderRequest(File localFolder, String parentId) {
+        BoxRequestsFolder.UploadFolder request = new BoxRequestsFolder.UploadFolder(localFolder, parentId, getFileApi(), getFoldersUrl(), mSession);
+        return request;
+    }
+
+
+    /**
+     * Gets a request that downloads a folder tree into a local folder
+     *
+     * @param id    id of the folder to download
+     * @param localFolder   local folder to download the items of the folder into
+     * @return      request to download a folder tree
+     */
+    public BoxRequestsFolder.DownloadFolder getDownloadFolderRequest(String id, File localFolder) {
+        BoxRequestsFolder.DownloadFolder request = new BoxRequestsFolder.DownloadFolder(id, localFolder, this, getFileApi(), getFolderItemsUrl(id), mSession);
+        return request;
+    }
+
+
     /**
      * Gets a request that updates a folders information
      *
@@ -271,4 +315,66 @@ public class BoxApiFolder extends BoxApi {
         return request;
     }
 
+    /**
+     * Gets a request that moves many folders to another folder
+     *
+     * @param ids       ids of the folders to move
+     * @param parentId  id of parent folder to move the folders into
+     * @return      request to move folders
+     */
+    public BoxRequestBulk getBulkMoveRequest(Collection<String> ids, final String parentId) {
+        return new BoxRequestBulk(ids, "move_folders:" + parentId, new BoxRequestBulk.ItemRequestFactory() {
+            @Override
+            public BoxRequest createRequest(String id) {
+                return getMoveRequest(id, parentId);
+            }
+        }, mSession);
+    }
+
+    /**
+     * Gets a request that copies many folders into a folder
+     *
+     * @param ids       ids of the folders to copy
+     * @param parentId  id of parent folder to copy the folders into
+     * @return      request to copy folders
+     */
+    public BoxRequestBulk getBulkCopyRequest(Collection<String> ids, final String parentId) {
+        return new BoxRequestBulk(ids, "copy_folders:" + parentId, new BoxRequestBulk.ItemRequestFactory() {
+            @Override
+            public BoxRequest createRequest(String id) {
+                return getCopyRequest(id, parentId);
+            }
+        }, mSession);
+    }
+
+    /**
+     * Gets a request that deletes many folders
+     *
+     * @param ids       ids of the folders to delete
+     * @return      request to delete folders
+     */
+    public BoxRequestBulk getBulkDeleteRequest(Collection<String> ids) {
+        return new BoxRequestBulk(ids, "delete_folders", new BoxRequestBulk.ItemRequestFactory() {
+            @Override
+            public BoxRequest createRequest(String id) {
+                return getDeleteRequest(id);
+            }
+        }, mSession);
+    }
+
+    /**
+     * Gets a request that restores many trashed folders
+     *
+     * @param ids       ids of the folders to restore
+     * @return      request to restore folders from the trash
+     */
+    public BoxRequestBulk getBulkRestoreTrashedRequest(Collection<String> ids) {
+        return new BoxRequestBulk(ids, "restore_folders", new BoxRequestBulk.ItemRequestFactory() {
+            @Override
+            public BoxRequest createRequest(String id) {
+                return getRestoreTrashedFolderRequest(id);
+            }
+        }, mSession);
+    }
+
 }
\ No newline at end of file
@@ -29,6 +29,7 @@ public class BoxConstants {
     public static final String KEY_BOX_REFRESH_TOKEN_EXPIRES_AT = "box_refresh_token_expires_at";
     public static final String KEY_TOKEN = "token";
 
+    public static final int HTTP_STATUS_RANGE_NOT_SATISFIABLE = 416;
     public static final int HTTP_STATUS_TOO_MANY_REQUESTS = 429;
 
     public static final String REQUEST_BOX_APP_FOR_AUTH_INTENT_ACTION = "com.box.android.action.AUTHENTICATE_VIA_BOX_APP";
@@ -239,6 +239,39 @@ public class BoxException extends Exception {
         }
     }
 
+    /**
+     * An exception that indicates the content of a download or upload does not match the SHA1 hash it was expected
+     * to have.
+     */
+    public static class Sha1Mismatch extends BoxException {
+        private final String mExpectedSha1;
+        private final String mActualSha1;
+
+        /**
+         * @param expectedSha1 the SHA1 hash the content was expected to have.
+         * @param actualSha1   the SHA1 hash of the content that was received or stored.
+         */
+        public Sha1Mismatch(String expectedSha1, String actualSha1) {
+            super("SHA1 of content was " + actualSha1 + " but expected " + expectedSha1);
+            mExpectedSha1 = expectedSha1;
+            mActualSha1 = actualSha1;
+        }
+
+        /**
+         * @return the SHA1 hash the content was expected to have.
+         */
+        public String getExpectedSha1() {
+            return mExpectedSha1;
+        }
+
+        /**
+         * @return the SHA1 hash of the content that was received or stored.
+         */
+        public String getActualSha1() {
+            return mActualSha1;
+        }
+    }
+
     public static class RefreshFailure extends BoxException {
 
 
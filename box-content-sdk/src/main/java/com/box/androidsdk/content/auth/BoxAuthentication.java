@@ -540,28 +540,28 @@ public class BoxAuthentication {
         }
 
         public String getClientId() {
-            return (String) mProperties.get(FIELD_CLIENT_ID);
+            return (String) getPropertyMap().get(FIELD_CLIENT_ID);
         }
 
         /**
          * OAuth access token.
          */
         public String accessToken() {
-            return (String) mProperties.get(FIELD_ACCESS_TOKEN);
+            return (String) getPropertyMap().get(FIELD_ACCESS_TOKEN);
         }
 
         /**
          * OAuth refresh token.
          */
         public String refreshToken() {
-            return (String) mProperties.get(FIELD_REFRESH_TOKEN);
+            return (String) getPropertyMap().get(FIELD_REFRESH_TOKEN);
         }
 
         /**
          * Time the oauth is going to expire (in ms).
          */
         public Long expiresIn() {
-            return (Long) mProperties.get(FIELD_EXPIRES_IN);
+            return (Long) getPropertyMap().get(FIELD_EXPIRES_IN);
         }
 
         /**
@@ -570,60 +570,60 @@ public class BoxAuthentication {
          * @return time the OAuth last refreshed.
          */
         public Long getRefreshTime() {
-            return (Long) mProperties.get(FIELD_REFRESH_TIME);
+            return (Long) getPropertyMap().get(FIELD_REFRESH_TIME);
         }
 
         /**
          * Set the refresh time. Called when refresh happened.
          */
         public void setRefreshTime(Long refreshTime) {
-            mProperties.put(FIELD_REFRESH_TIME, refreshTime);
+            getPropertyMap().put(FIELD_REFRESH_TIME, refreshTime);
         }
 
         public void setClientId(String clientId) {
-            mProperties.put(FIELD_CLIENT_ID, clientId);
+            getPropertyMap().put(FIELD_CLIENT_ID, clientId);
         }
 
         /**
          * Setter for access token.
          */
         public void setAccessToken(String access) {
-            mProperties.put(FIELD_ACCESS_TOKEN, access);
+            getPropertyMap().put(FIELD_ACCESS_TOKEN, access);
         }
 
         /**
          * Setter for refresh token
          */
         public void setRefreshToken(String refresh) {
-            mProperties.put(FIELD_REFRESH_TOKEN, refresh);
+            getPropertyMap().put(FIELD_REFRESH_TOKEN, refresh);
         }
 
         /**
          * Setter for base domain.
          */
         public void setBaseDomain(String baseDomain) {
-            mProperties.put(FIELD_BASE_DOMAIN, baseDomain);
+            getPropertyMap().put(FIELD_BASE_DOMAIN, baseDomain);
         }
 
         /**
          * Get the base domain associated with this user.
          */
         public String getBaseDomain() {
-            return (String) mProperties.get(FIELD_BASE_DOMAIN);
+            return (String) getPropertyMap().get(FIELD_BASE_DOMAIN);
         }
 
         /**
          * Setter for BoxUser corresponding to this authentication info.
          */
         public void setUser(BoxUser user) {
-            mProperties.put(FIELD_USER, user);
+            getPropertyMap().put(FIELD_USER, user);
         }
 
         /**
          * Get the BoxUser related to this authentication info.
          */
         public BoxUser getUser() {
-            return (BoxUser) mProperties.get(FIELD_USER);
+            return (BoxUser) getPropertyMap().get(FIELD_USER);
         }
 
         /**
@@ -641,22 +641,22 @@ public class BoxAuthentication {
             String memberName = member.getName();
             JsonValue value = member.getValue();
             if (memberName.equals(FIELD_ACCESS_TOKEN)) {
-                mProperties.put(FIELD_ACCESS_TOKEN, value.asString());
+                getPropertyMap().put(FIELD_ACCESS_TOKEN, value.asString());
                 return;
             } else if (memberName.equals(FIELD_REFRESH_TOKEN)) {
-                mProperties.put(FIELD_REFRESH_TOKEN, value.asString());
+                getPropertyMap().put(FIELD_REFRESH_TOKEN, value.asString());
                 return;
             } else if (memberName.equals(FIELD_USER)) {
-                mProperties.put(FIELD_USER, BoxCollaborator.createCollaboratorFromJson(value.asObject()));
+                getPropertyMap().put(FIELD_USER, BoxCollaborator.createCollaboratorFromJson(value.asObject()));
                 return;
             } else if (memberName.equals(FIELD_EXPIRES_IN)) {
-                this.mProperties.put(FIELD_EXPIRES_IN, value.asLong());
+                getPropertyMap().put(FIELD_EXPIRES_IN, value.asLong());
                 return;
             } else if (memberName.equals(FIELD_REFRESH_TIME)) {
-                this.mProperties.put(FIELD_REFRESH_TIME, SdkUtils.parseJsonValueToLong(value));
+                getPropertyMap().put(FIELD_REFRESH_TIME, SdkUtils.parseJsonValueToLong(value));
                 return;
             } else if (memberName.equals(FIELD_CLIENT_ID)) {
-                this.mProperties.put(FIELD_CLIENT_ID, value.asString());
+                getPropertyMap().put(FIELD_CLIENT_ID, value.asString());
                 return;
             }
 
@@ -1,8 +1,7 @@
 package com.box.androidsdk.content.models;
 
-import android.text.TextUtils;
-
 import com.box.androidsdk.content.BoxConstants;
+import com.box.androidsdk.content.utils.SdkUtils;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
@@ -78,7 +77,7 @@ public class BoxBookmark extends BoxItem {
      * @return the URL of the bookmark.
      */
     public String getUrl() {
-        return (String) mProperties.get(FIELD_URL);
+        return (String) getPropertyMap().get(FIELD_URL);
     }
 
     @Override
@@ -101,7 +100,7 @@ public class BoxBookmark extends BoxItem {
      * @return the permissions that the current user has on the bookmark.
      */
     public EnumSet<Permission> getPermissions() {
-        return (EnumSet<Permission>) mProperties.get(FIELD_PERMISSIONS);
+        return (EnumSet<Permission>) getPropertyMap().get(FIELD_PERMISSIONS);
     }
 
     @Override
@@ -109,10 +108,10 @@ public class BoxBookmark extends BoxItem {
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_URL)) {
-            this.mProperties.put(FIELD_URL, value.asString());
+            getPropertyMap().put(FIELD_URL, value.asString());
             return;
         } else if (memberName.equals(FIELD_PERMISSIONS)) {
-            this.mProperties.put(FIELD_PERMISSIONS, this.parsePermissions(value.asObject()));
+            getPropertyMap().put(FIELD_PERMISSIONS, this.parsePermissions(value.asObject()));
             return;
         }
         super.parseJSONMember(member);
@@ -185,7 +184,7 @@ public class BoxBookmark extends BoxItem {
          * @return enum that corresponds to the text.
          */
         public static Permission fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (Permission a : Permission.values()) {
                     if (text.equalsIgnoreCase(a.name())) {
                         return a;
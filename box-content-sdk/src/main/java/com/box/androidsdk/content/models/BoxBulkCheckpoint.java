@@ -0,0 +1,170 @@
+package com.box.androidsdk.content.models;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+/**
+ * Progress of a bulk operation on many items, persisted in a file chosen by the caller. The checkpoint records the
+ * operation along with the ids of the items it has already succeeded on, so that running the same operation again
+ * skips them and only works on the items that were left or had failed.
+ */
+public class BoxBulkCheckpoint extends BoxJsonObject {
+
+    private static final long serialVersionUID = 7231085467209145236L;
+
+    public static final String FIELD_OPERATION = "operation";
+    public static final String FIELD_COMPLETED_IDS = "completed_ids";
+
+    private transient LinkedHashSet<String> mCompletedIds;
+
+    /**
+     * Constructs an empty BoxBulkCheckpoint object.
+     */
+    public BoxBulkCheckpoint() {
+        super();
+    }
+
+    /**
+     * Constructs a checkpoint for a new bulk operation.
+     *
+     * @param operation description of the operation, such as the kind of request and its destination, that tells
+     *                  whether a saved checkpoint applies to a later run.
+     */
+    public BoxBulkCheckpoint(String operation) {
+        super();
+        getPropertyMap().put(FIELD_OPERATION, operation);
+        getPropertyMap().put(FIELD_COMPLETED_IDS, new ArrayList<String>());
+    }
+
+    @Override
+    protected void parseJSONMember(JsonObject.Member member) {
+        String memberName = member.getName();
+        JsonValue value = member.getValue();
+        if (memberName.equals(FIELD_OPERATION)) {
+            getPropertyMap().put(FIELD_OPERATION, value.asString());
+            return;
+        } else if (memberName.equals(FIELD_COMPLETED_IDS)) {
+            ArrayList<String> ids = new ArrayList<String>();
+            for (JsonValue id : value.asArray()) {
+                ids.add(id.asString());
+            }
+            getPropertyMap().put(FIELD_COMPLETED_IDS, ids);
+            mCompletedIds = null;
+            return;
+        }
+        super.parseJSONMember(member);
+    }
+
+    /**
+     * Gets the operation the checkpoint was recorded for.
+     *
+     * @return the description of the operation.
+     */
+    public String getOperation() {
+        return (String) getPropertyMap().get(FIELD_OPERATION);
+    }
+
+    /**
+     * Gets the ids of the items the operation has succeeded on.
+     *
+     * @return the ids of the completed items, in the order they completed.
+     */
+    public synchronized List<String> getCompletedIds() {
+        return new ArrayList<String>(getCompletedIdSet());
+    }
+
+    /**
+     * @param id    id of an item.
+     * @return true if the operation has already succeeded on the item.
+     */
+    public synchronized boolean isCompleted(String id) {
+        return getCompletedIdSet().contains(id);
+    }
+
+    /**
+     * Records that the operation has succeeded on an item.
+     *
+     * @param id    id of the item.
+     */
+    public synchronized void addCompletedId(String id) {
+        if (getCompletedIdSet().add(id)) {
+            ((List<String>) getPropertyMap().get(FIELD_COMPLETED_IDS)).add(id);
+        }
+    }
+
+    private LinkedHashSet<String> getCompletedIdSet() {
+        if (mCompletedIds == null) {
+            List<String> ids = (List<String>) getPropertyMap().get(FIELD_COMPLETED_IDS);
+            if (ids == null) {
+                ids = new ArrayList<String>();
+                getPropertyMap().put(FIELD_COMPLETED_IDS, ids);
+            }
+            mCompletedIds = new LinkedHashSet<String>(ids);
+        }
+        return mCompletedIds;
+    }
+
+    /**
+     * Reads a checkpoint from a file.
+     *
+     * @param checkpointFile the file the checkpoint was saved to.
+     * @return the checkpoint, or null if the file does not exist or cannot be read.
+     */
+    public static BoxBulkCheckpoint load(File checkpointFile) {
+        if (!checkpointFile.exists()) {
+            return null;
+        }
+        InputStreamReader reader = null;
+        try {
+            reader = new InputStreamReader(new FileInputStream(checkpointFile), "UTF-8");
+            BoxBulkCheckpoint checkpoint = new BoxBulkCheckpoint();
+            checkpoint.createFromJson(JsonObject.readFrom(reader));
+            return checkpoint;
+        } catch (Exception e) {
+            // A damaged checkpoint only means every item is worked on again.
+            return null;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // Ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes this checkpoint to a file. The checkpoint is written to a temporary file first so that an interrupted
+     * save never leaves a damaged checkpoint behind.
+     *
+     * @param checkpointFile the file to save the checkpoint to.
+     * @throws IOException thrown if the checkpoint could not be written.
+     */
+    public synchronized void save(File checkpointFile) throws IOException {
+        File temporary = new File(checkpointFile.getPath() + ".tmp");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(temporary), "UTF-8");
+        try {
+            writer.write(toJson());
+        } finally {
+            writer.close();
+        }
+        if (!temporary.renameTo(checkpointFile)) {
+            checkpointFile.delete();
+            if (!temporary.renameTo(checkpointFile)) {
+                throw new IOException("Unable to save bulk checkpoint to " + checkpointFile);
+            }
+        }
+    }
+}
@@ -1,8 +1,7 @@
 package com.box.androidsdk.content.models;
 
-import android.text.TextUtils;
-
 import com.box.androidsdk.content.utils.BoxDateFormat;
+import com.box.androidsdk.content.utils.SdkUtils;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
@@ -66,7 +65,7 @@ public class BoxCollaboration extends BoxEntity {
      * @return the user who created the collaboration.
      */
     public BoxCollaborator getCreatedBy() {
-        return (BoxCollaborator) mProperties.get(FIELD_CREATED_BY);
+        return (BoxCollaborator) getPropertyMap().get(FIELD_CREATED_BY);
     }
 
     /**
@@ -75,7 +74,7 @@ public class BoxCollaboration extends BoxEntity {
      * @return the time the collaboration was created.
      */
     public Date getCreatedAt() {
-        return (Date) mProperties.get(FIELD_CREATED_AT);
+        return (Date) getPropertyMap().get(FIELD_CREATED_AT);
     }
 
     /**
@@ -84,7 +83,7 @@ public class BoxCollaboration extends BoxEntity {
      * @return the time the collaboration was last modified.
      */
     public Date getModifiedAt() {
-        return (Date) mProperties.get(FIELD_MODIFIED_AT);
+        return (Date) getPropertyMap().get(FIELD_MODIFIED_AT);
     }
 
     /**
@@ -93,7 +92,7 @@ public class BoxCollaboration extends BoxEntity {
      * @return the time the collaboration will expire.
      */
     public Date getExpiresAt() {
-        return (Date) mProperties.get(FIELD_EXPIRES_AT);
+        return (Date) getPropertyMap().get(FIELD_EXPIRES_AT);
     }
 
     /**
@@ -102,7 +101,7 @@ public class BoxCollaboration extends BoxEntity {
      * @return the status of the collaboration.
      */
     public Status getStatus() {
-        return (Status) mProperties.get(FIELD_STATUS);
+        return (Status) getPropertyMap().get(FIELD_STATUS);
     }
 
     /**
@@ -111,7 +110,7 @@ public class BoxCollaboration extends BoxEntity {
      * @return the collaborator who this collaboration applies to.
      */
     public BoxCollaborator getAccessibleBy() {
-        return (BoxCollaborator) mProperties.get(FIELD_ACCESSIBLE_BY);
+        return (BoxCollaborator) getPropertyMap().get(FIELD_ACCESSIBLE_BY);
     }
 
     /**
@@ -120,7 +119,7 @@ public class BoxCollaboration extends BoxEntity {
      * @return the level of access the collaborator has.
      */
     public Role getRole() {
-        return (Role) mProperties.get(FIELD_ROLE);
+        return (Role) getPropertyMap().get(FIELD_ROLE);
     }
 
     /**
@@ -129,7 +128,7 @@ public class BoxCollaboration extends BoxEntity {
      * @return the time the collaboration's status was changed.
      */
     public Date getAcknowledgedAt() {
-        return (Date) mProperties.get(FIELD_ACKNOWLEDGED_AT);
+        return (Date) getPropertyMap().get(FIELD_ACKNOWLEDGED_AT);
     }
 
     /**
@@ -138,7 +137,7 @@ public class BoxCollaboration extends BoxEntity {
      * @return the folder the collaboration is related to.
      */
     public BoxFolder getItem() {
-        return (BoxFolder) mProperties.get(FIELD_ITEM);
+        return (BoxFolder) getPropertyMap().get(FIELD_ITEM);
     }
 
     @Override
@@ -147,30 +146,30 @@ public class BoxCollaboration extends BoxEntity {
         JsonValue value = member.getValue();
         try {
             if (memberName.equals(FIELD_CREATED_BY)) {
-                mProperties.put(FIELD_CREATED_BY, BoxCollaborator.createCollaboratorFromJson(value.asObject()));
+                getPropertyMap().put(FIELD_CREATED_BY, BoxCollaborator.createCollaboratorFromJson(value.asObject()));
                 return;
             } else if (memberName.equals(FIELD_CREATED_AT)) {
-                this.mProperties.put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (memberName.equals(FIELD_MODIFIED_AT)) {
-                this.mProperties.put(FIELD_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (memberName.equals(FIELD_EXPIRES_AT)) {
-                this.mProperties.put(FIELD_EXPIRES_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_EXPIRES_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (memberName.equals(FIELD_STATUS)) {
-                this.mProperties.put(FIELD_STATUS, Status.fromString(value.asString()));
+                getPropertyMap().put(FIELD_STATUS, Status.fromString(value.asString()));
                 return;
             } else if (memberName.equals(FIELD_ACCESSIBLE_BY)) {
                 BoxUser accessibleBy = new BoxUser();
                 accessibleBy.createFromJson(value.asObject());
-                this.mProperties.put(FIELD_ACCESSIBLE_BY, accessibleBy);
+                getPropertyMap().put(FIELD_ACCESSIBLE_BY, accessibleBy);
                 return;
             } else if (memberName.equals(FIELD_ROLE)) {
-                this.mProperties.put(FIELD_ROLE, Role.fromString(value.asString()));
+                getPropertyMap().put(FIELD_ROLE, Role.fromString(value.asString()));
                 return;
             } else if (memberName.equals(FIELD_ACKNOWLEDGED_AT)) {
-                this.mProperties.put(FIELD_ACKNOWLEDGED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_ACKNOWLEDGED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (memberName.equals(FIELD_ITEM)) {
                 JsonObject itemObj = value.asObject();
@@ -182,7 +181,7 @@ public class BoxCollaboration extends BoxEntity {
                 } else {
                     throw new IllegalArgumentException(String.format(Locale.ENGLISH, "Unsupported type \"%s\" for collaboration found", itemType));
                 }
-                this.mProperties.put(FIELD_ITEM, entity);
+                getPropertyMap().put(FIELD_ITEM, entity);
                 return;
             }
         } catch(ParseException e) {
@@ -219,7 +218,7 @@ public class BoxCollaboration extends BoxEntity {
         }
 
         public static Status fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (Status e : Status.values()) {
                     if (text.equalsIgnoreCase(e.toString())) {
                         return e;
@@ -299,7 +298,7 @@ public class BoxCollaboration extends BoxEntity {
         }
 
         public static Role fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (Role e : Role.values()) {
                     if (text.equalsIgnoreCase(e.toString())) {
                         return e;
@@ -42,7 +42,7 @@ public abstract class BoxCollaborator extends BoxEntity {
      * @return the name of the collaborator.
      */
     public String getName() {
-        return (String) mProperties.get(FIELD_NAME);
+        return (String) getPropertyMap().get(FIELD_NAME);
     }
 
     /**
@@ -51,7 +51,7 @@ public abstract class BoxCollaborator extends BoxEntity {
      * @return the date that the collaborator was created.
      */
     public Date getCreatedAt() {
-        return (Date) mProperties.get(FIELD_CREATED_AT);
+        return (Date) getPropertyMap().get(FIELD_CREATED_AT);
     }
 
     /**
@@ -60,7 +60,7 @@ public abstract class BoxCollaborator extends BoxEntity {
      * @return the date that the collaborator was modified.
      */
     public Date getModifiedAt() {
-        return (Date) mProperties.get(FIELD_MODIFIED_AT);
+        return (Date) getPropertyMap().get(FIELD_MODIFIED_AT);
     }
 
     @Override
@@ -68,13 +68,13 @@ public abstract class BoxCollaborator extends BoxEntity {
         try {
             JsonValue value = member.getValue();
             if (member.getName().equals(FIELD_NAME)) {
-                this.mProperties.put(FIELD_NAME, value.asString());
+                getPropertyMap().put(FIELD_NAME, value.asString());
                 return;
             } else if (member.getName().equals(FIELD_CREATED_AT)) {
-                this.mProperties.put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (member.getName().equals(FIELD_MODIFIED_AT)) {
-                this.mProperties.put(FIELD_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             }
         } catch (ParseException e) {
@@ -90,18 +90,7 @@ public abstract class BoxCollaborator extends BoxEntity {
      * @return either a {@link BoxUser} or {@link BoxGroup} based on the json passed in, returns null if type in json is invalid for a known BoxCollaborator type.
      */
     public static BoxCollaborator createCollaboratorFromJson(final String json){
-        BoxEntity createdByEntity = new BoxEntity();
-        createdByEntity.createFromJson(json);
-        if (createdByEntity.getType().equals(BoxUser.TYPE)) {
-            BoxUser user = new BoxUser();
-            user.createFromJson(json);
-            return user;
-        } else if (createdByEntity.getType().equals(BoxGroup.TYPE)) {
-            BoxGroup group = new BoxGroup();
-            group.createFromJson(json);
-           return group;
-        }
-        return null;
+        return createCollaboratorFromJson(JsonObject.readFrom(json));
     }
 
     /**
@@ -110,18 +99,7 @@ public abstract class BoxCollaborator extends BoxEntity {
      * @return either a {@link BoxUser} or {@link BoxGroup} based on the json passed in, returns null if type in json is invalid for a known BoxCollaborator type.
      */
     public static BoxCollaborator createCollaboratorFromJson(final JsonObject json){
-        BoxEntity createdByEntity = new BoxEntity();
-        createdByEntity.createFromJson(json);
-        if (createdByEntity.getType().equals(BoxUser.TYPE)) {
-            BoxUser user = new BoxUser();
-            user.createFromJson(json);
-            return user;
-        } else if (createdByEntity.getType().equals(BoxGroup.TYPE)) {
-            BoxGroup group = new BoxGroup();
-            group.createFromJson(json);
-            return group;
-        }
-        return null;
+        return BoxEntity.createEntityFromJson(json, BoxCollaborator.class);
     }
 
 }
\ No newline at end of file
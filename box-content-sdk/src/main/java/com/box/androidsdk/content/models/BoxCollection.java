@@ -38,7 +38,7 @@ public class BoxCollection extends BoxEntity {
      * @return the name of the collection.
      */
     public String getName() {
-        return (String) mProperties.get(FIELD_NAME);
+        return (String) getPropertyMap().get(FIELD_NAME);
     }
 
     /**
@@ -47,7 +47,7 @@ public class BoxCollection extends BoxEntity {
      * @return type of collection.
      */
     public String getCollectionType() {
-        return (String) mProperties.get(FIELD_COLLECTION_TYPE);
+        return (String) getPropertyMap().get(FIELD_COLLECTION_TYPE);
     }
 
     @Override
@@ -55,10 +55,10 @@ public class BoxCollection extends BoxEntity {
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_NAME)) {
-            mProperties.put(FIELD_NAME, value.asString());
+            getPropertyMap().put(FIELD_NAME, value.asString());
             return;
         } else if (memberName.equals(FIELD_COLLECTION_TYPE)) {
-            mProperties.put(FIELD_COLLECTION_TYPE, value.asString());
+            getPropertyMap().put(FIELD_COLLECTION_TYPE, value.asString());
             return;
         }
 
@@ -61,7 +61,7 @@ public class BoxComment extends BoxEntity {
      * @return true if this comment is a reply to another comment; otherwise false.
      */
     public Boolean getIsReplyComment() {
-        return (Boolean) mProperties.get(FIELD_IS_REPLY_COMMENT);
+        return (Boolean) getPropertyMap().get(FIELD_IS_REPLY_COMMENT);
     }
 
     /**
@@ -70,7 +70,7 @@ public class BoxComment extends BoxEntity {
      * @return the comment's message.
      */
     public String getMessage() {
-        return (String) mProperties.get(FIELD_MESSAGE);
+        return (String) getPropertyMap().get(FIELD_MESSAGE);
     }
 
     /**
@@ -79,7 +79,7 @@ public class BoxComment extends BoxEntity {
      * @return info about the user who created the comment.
      */
     public BoxUser getCreatedBy() {
-        return (BoxUser) mProperties.get(FIELD_CREATED_BY);
+        return (BoxUser) getPropertyMap().get(FIELD_CREATED_BY);
     }
 
     /**
@@ -88,7 +88,7 @@ public class BoxComment extends BoxEntity {
      * @return the time the comment was created.
      */
     public Date getCreatedAt() {
-        return (Date) mProperties.get(FIELD_CREATED_AT);
+        return (Date) getPropertyMap().get(FIELD_CREATED_AT);
     }
 
     /**
@@ -98,7 +98,7 @@ public class BoxComment extends BoxEntity {
      * @return the item this comment is attached to.
      */
     public BoxItem getItem() {
-        return (BoxItem) mProperties.get(FIELD_ITEM);
+        return (BoxItem) getPropertyMap().get(FIELD_ITEM);
     }
 
     /**
@@ -107,7 +107,7 @@ public class BoxComment extends BoxEntity {
      * @return the time the comment was last modified.
      */
     public Date getModifiedAt() {
-        return (Date) mProperties.get(FIELD_MODIFIED_AT);
+        return (Date) getPropertyMap().get(FIELD_MODIFIED_AT);
     }
 
     @Override
@@ -116,24 +116,24 @@ public class BoxComment extends BoxEntity {
             String memberName = member.getName();
             JsonValue value = member.getValue();
             if (memberName.equals(FIELD_IS_REPLY_COMMENT)) {
-                this.mProperties.put(FIELD_IS_REPLY_COMMENT, value.asBoolean());
+                getPropertyMap().put(FIELD_IS_REPLY_COMMENT, value.asBoolean());
                 return;
             } else if (memberName.equals(FIELD_MESSAGE)) {
-                this.mProperties.put(FIELD_MESSAGE, value.asString());
+                getPropertyMap().put(FIELD_MESSAGE, value.asString());
                 return;
             } else if (memberName.equals(FIELD_TAGGED_MESSAGE)) {
-                this.mProperties.put(FIELD_TAGGED_MESSAGE, value.asString());
+                getPropertyMap().put(FIELD_TAGGED_MESSAGE, value.asString());
                 return;
             } else if (memberName.equals(FIELD_CREATED_BY)) {
                 BoxUser createdBy = new BoxUser();
                 createdBy.createFromJson(value.asObject());
-                this.mProperties.put(FIELD_CREATED_BY, createdBy);
+                getPropertyMap().put(FIELD_CREATED_BY, createdBy);
                 return;
             } else if (memberName.equals(FIELD_CREATED_AT)) {
-                this.mProperties.put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (memberName.equals(FIELD_MODIFIED_AT)) {
-                this.mProperties.put(FIELD_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (memberName.equals(FIELD_ITEM)) {
                 JsonObject itemObj = value.asObject();
@@ -151,7 +151,7 @@ public class BoxComment extends BoxEntity {
                 } else {
                     throw new IllegalArgumentException(String.format(Locale.ENGLISH, "Unsupported type \"%s\" for comment found", itemType));
                 }
-                this.mProperties.put(FIELD_ITEM, entity);
+                getPropertyMap().put(FIELD_ITEM, entity);
                 return;
             }
         } catch (ParseException e) {
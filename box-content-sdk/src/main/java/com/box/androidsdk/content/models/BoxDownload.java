@@ -34,18 +34,18 @@ public class BoxDownload extends BoxJsonObject {
         if (!SdkUtils.isEmptyString(contentDisposition)) {
             setFileName(contentDisposition);
         }
-        mProperties.put(FIELD_CONTENT_LENGTH, contentLength);
+        getPropertyMap().put(FIELD_CONTENT_LENGTH, contentLength);
         if(!SdkUtils.isEmptyString(contentType)) {
-            mProperties.put(FIELD_CONTENT_TYPE, contentType);
+            getPropertyMap().put(FIELD_CONTENT_TYPE, contentType);
         }
         if (!SdkUtils.isEmptyString(contentRange)) {
             setContentRange(contentRange);
         }
         if (!SdkUtils.isEmptyString(date)) {
-            mProperties.put(FIELD_DATE, parseDate(date));
+            getPropertyMap().put(FIELD_DATE, parseDate(date));
         }
         if (!SdkUtils.isEmptyString(expirationDate)) {
-            mProperties.put(FIELD_EXPIRATION, parseDate(expirationDate));
+            getPropertyMap().put(FIELD_EXPIRATION, parseDate(expirationDate));
         }
     }
 
@@ -59,7 +59,7 @@ public class BoxDownload extends BoxJsonObject {
                 } else {
                     fileName = disposition.substring(9);
                 }
-                mProperties.put(FIELD_FILE_NAME, fileName);
+                getPropertyMap().put(FIELD_FILE_NAME, fileName);
             }
         }
     }
@@ -70,9 +70,9 @@ public class BoxDownload extends BoxJsonObject {
         int dashPos = contentRange.indexOf("-");
         int bytesPos = contentRange.indexOf("bytes");
 
-        mProperties.put(FIELD_START_RANGE, Long.parseLong(contentRange.substring(bytesPos+6, dashPos)));
-        mProperties.put(FIELD_END_RANGE, Long.parseLong(contentRange.substring(dashPos+1, slashPos)));
-        mProperties.put(FIELD_TOTAL_RANGE, Long.parseLong(contentRange.substring(slashPos+1)));
+        getPropertyMap().put(FIELD_START_RANGE, Long.parseLong(contentRange.substring(bytesPos+6, dashPos)));
+        getPropertyMap().put(FIELD_END_RANGE, Long.parseLong(contentRange.substring(dashPos+1, slashPos)));
+        getPropertyMap().put(FIELD_TOTAL_RANGE, Long.parseLong(contentRange.substring(slashPos+1)));
 
     }
 
@@ -82,7 +82,7 @@ public class BoxDownload extends BoxJsonObject {
      * @return  name of the file downloaded
      */
     public String getFileName(){
-        return ((String)mProperties.get(FIELD_FILE_NAME));
+        return ((String)getPropertyMap().get(FIELD_FILE_NAME));
     }
 
     /**
@@ -100,7 +100,7 @@ public class BoxDownload extends BoxJsonObject {
      * @return  the length of the content in bytes.
      */
     public Long getContentLength(){
-        return (Long)mProperties.get(FIELD_CONTENT_LENGTH);
+        return (Long)getPropertyMap().get(FIELD_CONTENT_LENGTH);
     }
 
     /**
@@ -109,7 +109,7 @@ public class BoxDownload extends BoxJsonObject {
      * @return  the HTTP content type.
      */
     public String getContentType(){
-            return (String)mProperties.get(FIELD_CONTENT_TYPE);
+            return (String)getPropertyMap().get(FIELD_CONTENT_TYPE);
     }
 
     /**
@@ -117,7 +117,7 @@ public class BoxDownload extends BoxJsonObject {
      * @return the starting byte of the range for the download if applicable.
      */
     public Long getStartRange(){
-        return (Long)mProperties.get(FIELD_START_RANGE);
+        return (Long)getPropertyMap().get(FIELD_START_RANGE);
     }
 
     /**
@@ -125,7 +125,7 @@ public class BoxDownload extends BoxJsonObject {
      * @return the ending byte of the range for the download if applicable.
      */
     public Long getEndRange(){
-        return (Long)mProperties.get(FIELD_END_RANGE);
+        return (Long)getPropertyMap().get(FIELD_END_RANGE);
     }
 
     /**
@@ -133,7 +133,7 @@ public class BoxDownload extends BoxJsonObject {
      * @return the total number of bytes covered between the started and end range.
      */
     public Long getTotalRange(){
-        return (Long)mProperties.get(FIELD_TOTAL_RANGE);
+        return (Long)getPropertyMap().get(FIELD_TOTAL_RANGE);
     }
 
     /**
@@ -141,7 +141,7 @@ public class BoxDownload extends BoxJsonObject {
      * @return the date this box download was generated.
      */
     public Date getDate(){
-        return (Date)mProperties.get(FIELD_DATE);
+        return (Date)getPropertyMap().get(FIELD_DATE);
     }
 
     /**
@@ -149,7 +149,7 @@ public class BoxDownload extends BoxJsonObject {
      * @return the estimated date this download is applicable for.
      */
     public Date getExpiration(){
-        return (Date)mProperties.get(FIELD_EXPIRATION);
+        return (Date)getPropertyMap().get(FIELD_EXPIRATION);
     }
 
     private static final Date parseDate(String dateString){
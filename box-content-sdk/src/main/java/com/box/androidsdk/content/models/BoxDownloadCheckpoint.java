@@ -0,0 +1,344 @@
+package com.box.androidsdk.content.models;
+
+import com.box.androidsdk.content.utils.SdkUtils;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Progress of a resumable download, persisted in a small file next to the download target. The checkpoint records
+ * which file and version were being downloaded along with the byte ranges that have been committed to the target, so
+ * that a later attempt can continue from where the previous one stopped.
+ */
+public class BoxDownloadCheckpoint extends BoxJsonObject {
+
+    private static final long serialVersionUID = 4916283645810962270L;
+
+    public static final String FIELD_FILE_ID = "file_id";
+    public static final String FIELD_VERSION_ID = "version_id";
+    public static final String FIELD_ETAG = "etag";
+    public static final String FIELD_SHA1 = "sha1";
+    public static final String FIELD_SIZE = "size";
+    public static final String FIELD_BYTES_COMMITTED = "bytes_committed";
+    public static final String FIELD_COMMITTED_RANGES = "committed_ranges";
+
+    /**
+     * Extension of the checkpoint file that is kept next to the download target.
+     */
+    public static final String FILE_EXTENSION = ".boxcheckpoint";
+
+    /**
+     * Constructs an empty BoxDownloadCheckpoint object.
+     */
+    public BoxDownloadCheckpoint() {
+        super();
+    }
+
+    /**
+     * Constructs a checkpoint for a new download of a file.
+     *
+     * @param file      the file being downloaded, with its etag, sha1, size and file version.
+     * @param versionId the id of the version being downloaded if it is not the current version, null otherwise.
+     */
+    public BoxDownloadCheckpoint(BoxFile file, String versionId) {
+        super();
+        getPropertyMap().put(FIELD_FILE_ID, file.getId());
+        if (versionId != null) {
+            getPropertyMap().put(FIELD_VERSION_ID, versionId);
+        } else if (file.getFileVersion() != null) {
+            getPropertyMap().put(FIELD_VERSION_ID, file.getFileVersion().getId());
+        }
+        getPropertyMap().put(FIELD_ETAG, file.getEtag());
+        getPropertyMap().put(FIELD_SHA1, file.getSha1());
+        if (versionId == null && file.getSize() != null) {
+            getPropertyMap().put(FIELD_SIZE, file.getSize());
+        }
+        getPropertyMap().put(FIELD_BYTES_COMMITTED, 0L);
+        getPropertyMap().put(FIELD_COMMITTED_RANGES, new ArrayList<String>());
+    }
+
+    @Override
+    protected void parseJSONMember(JsonObject.Member member) {
+        String memberName = member.getName();
+        JsonValue value = member.getValue();
+        if (memberName.equals(FIELD_FILE_ID)) {
+            getPropertyMap().put(FIELD_FILE_ID, value.asString());
+            return;
+        } else if (memberName.equals(FIELD_VERSION_ID)) {
+            getPropertyMap().put(FIELD_VERSION_ID, value.asString());
+            return;
+        } else if (memberName.equals(FIELD_ETAG)) {
+            getPropertyMap().put(FIELD_ETAG, value.asString());
+            return;
+        } else if (memberName.equals(FIELD_SHA1)) {
+            getPropertyMap().put(FIELD_SHA1, value.asString());
+            return;
+        } else if (memberName.equals(FIELD_SIZE)) {
+            getPropertyMap().put(FIELD_SIZE, value.asLong());
+            return;
+        } else if (memberName.equals(FIELD_BYTES_COMMITTED)) {
+            getPropertyMap().put(FIELD_BYTES_COMMITTED, value.asLong());
+            return;
+        } else if (memberName.equals(FIELD_COMMITTED_RANGES)) {
+            ArrayList<String> ranges = new ArrayList<String>();
+            for (JsonValue range : value.asArray()) {
+                ranges.add(range.asString());
+            }
+            getPropertyMap().put(FIELD_COMMITTED_RANGES, ranges);
+            return;
+        }
+        super.parseJSONMember(member);
+    }
+
+    /**
+     * Gets the id of the file being downloaded.
+     *
+     * @return the id of the file.
+     */
+    public String getFileId() {
+        return (String) getPropertyMap().get(FIELD_FILE_ID);
+    }
+
+    /**
+     * Gets the id of the version being downloaded.
+     *
+     * @return the id of the file version.
+     */
+    public String getVersionId() {
+        return (String) getPropertyMap().get(FIELD_VERSION_ID);
+    }
+
+    /**
+     * Gets the etag of the file when the download started.
+     *
+     * @return the etag of the file.
+     */
+    public String getEtag() {
+        return (String) getPropertyMap().get(FIELD_ETAG);
+    }
+
+    /**
+     * Gets the SHA1 hash of the file when the download started.
+     *
+     * @return the SHA1 hash of the file.
+     */
+    public String getSha1() {
+        return (String) getPropertyMap().get(FIELD_SHA1);
+    }
+
+    /**
+     * Gets the size of the file being downloaded.
+     *
+     * @return the size of the file in bytes, or null if it is not known yet.
+     */
+    public Long getSize() {
+        return (Long) getPropertyMap().get(FIELD_SIZE);
+    }
+
+    /**
+     * Sets the size of the file being downloaded once it is known from the download response.
+     *
+     * @param size the size of the file in bytes.
+     */
+    public synchronized void setSize(long size) {
+        getPropertyMap().put(FIELD_SIZE, size);
+    }
+
+    /**
+     * Gets the number of bytes that have been committed to the target.
+     *
+     * @return the number of bytes committed.
+     */
+    public synchronized long getBytesCommitted() {
+        Long committed = (Long) getPropertyMap().get(FIELD_BYTES_COMMITTED);
+        return committed == null ? 0 : committed;
+    }
+
+    /**
+     * Gets the byte ranges of the file that have been committed to the target.
+     *
+     * @return the committed ranges in ascending order as pairs of the first and last byte offset.
+     */
+    public synchronized List<long[]> getCommittedRanges() {
+        ArrayList<long[]> ranges = new ArrayList<long[]>();
+        List<String> committed = (List<String>) getPropertyMap().get(FIELD_COMMITTED_RANGES);
+        if (committed != null) {
+            for (String range : committed) {
+                int separator = range.indexOf('-');
+                ranges.add(new long[]{Long.parseLong(range.substring(0, separator)), Long.parseLong(range.substring(separator + 1))});
+            }
+        }
+        return ranges;
+    }
+
+    /**
+     * Gets the byte ranges of the file that still need to be downloaded. If the size of the file is not known yet the
+     * last range ends at -1.
+     *
+     * @return the missing ranges in ascending order as pairs of the first and last byte offset.
+     */
+    public synchronized List<long[]> getMissingRanges() {
+        ArrayList<long[]> missing = new ArrayList<long[]>();
+        long next = 0;
+        for (long[] range : getCommittedRanges()) {
+            if (range[0] > next) {
+                missing.add(new long[]{next, range[0] - 1});
+            }
+            next = range[1] + 1;
+        }
+        Long size = getSize();
+        if (size == null) {
+            missing.add(new long[]{next, -1});
+        } else if (next < size) {
+            missing.add(new long[]{next, size - 1});
+        }
+        return missing;
+    }
+
+    /**
+     * Records that a range of bytes has been written to the target.
+     *
+     * @param start the offset of the first byte written.
+     * @param end   the offset of the last byte written.
+     */
+    public synchronized void addCommittedRange(long start, long end) {
+        if (end < start) {
+            return;
+        }
+        List<long[]> ranges = getCommittedRanges();
+        ArrayList<String> merged = new ArrayList<String>();
+        long committed = 0;
+        boolean added = false;
+        for (long[] range : ranges) {
+            if (range[1] + 1 < start || added) {
+                merged.add(range[0] + "-" + range[1]);
+                committed += range[1] - range[0] + 1;
+            } else if (end + 1 < range[0]) {
+                merged.add(start + "-" + end);
+                committed += end - start + 1;
+                merged.add(range[0] + "-" + range[1]);
+                committed += range[1] - range[0] + 1;
+                added = true;
+            } else {
+                // Overlapping or adjacent ranges are merged into the new range.
+                start = Math.min(start, range[0]);
+                end = Math.max(end, range[1]);
+            }
+        }
+        if (!added) {
+            merged.add(start + "-" + end);
+            committed += end - start + 1;
+        }
+        getPropertyMap().put(FIELD_COMMITTED_RANGES, merged);
+        getPropertyMap().put(FIELD_BYTES_COMMITTED, committed);
+    }
+
+    /**
+     * Removes all committed ranges so the download starts over.
+     */
+    public synchronized void clearCommittedRanges() {
+        getPropertyMap().put(FIELD_COMMITTED_RANGES, new ArrayList<String>());
+        getPropertyMap().put(FIELD_BYTES_COMMITTED, 0L);
+    }
+
+    /**
+     * @return true if every byte of the file has been committed to the target.
+     */
+    public boolean isComplete() {
+        return getSize() != null && getMissingRanges().isEmpty();
+    }
+
+    /**
+     * Checks whether this checkpoint was recorded for the current state of a file, in which case the download can
+     * continue from it.
+     *
+     * @param file      the current information of the file, with its etag, sha1 and file version.
+     * @param versionId the id of the version being downloaded if it is not the current version, null otherwise.
+     * @return true if the checkpoint applies to the file.
+     */
+    public boolean matches(BoxFile file, String versionId) {
+        if (!file.getId().equals(getFileId())) {
+            return false;
+        }
+        if (versionId != null) {
+            // Previous versions never change.
+            return versionId.equals(getVersionId());
+        }
+        if (SdkUtils.isEmptyString(getSha1()) || !getSha1().equals(file.getSha1())) {
+            return false;
+        }
+        return getEtag() == null || getEtag().equals(file.getEtag());
+    }
+
+    /**
+     * Gets the file a checkpoint for a download target is kept in.
+     *
+     * @param target the target of the download.
+     * @return the checkpoint file next to the target.
+     */
+    public static File getCheckpointFile(File target) {
+        return new File(target.getPath() + FILE_EXTENSION);
+    }
+
+    /**
+     * Reads a checkpoint from a file.
+     *
+     * @param checkpointFile the file the checkpoint was saved to.
+     * @return the checkpoint, or null if the file does not exist or cannot be read.
+     */
+    public static BoxDownloadCheckpoint load(File checkpointFile) {
+        if (!checkpointFile.exists()) {
+            return null;
+        }
+        InputStreamReader reader = null;
+        try {
+            reader = new InputStreamReader(new FileInputStream(checkpointFile), "UTF-8");
+            BoxDownloadCheckpoint checkpoint = new BoxDownloadCheckpoint();
+            checkpoint.createFromJson(JsonObject.readFrom(reader));
+            return checkpoint;
+        } catch (Exception e) {
+            // A damaged checkpoint only means the download has to start over.
+            return null;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // Ignore
+                }
+            }
+        }
+    }
+
+    /**
+     * Writes this checkpoint to a file. The checkpoint is written to a temporary file first so that an interrupted
+     * save never leaves a damaged checkpoint behind.
+     *
+     * @param checkpointFile the file to save the checkpoint to.
+     * @throws IOException thrown if the checkpoint could not be written.
+     */
+    public synchronized void save(File checkpointFile) throws IOException {
+        File temporary = new File(checkpointFile.getPath() + ".tmp");
+        Writer writer = new OutputStreamWriter(new FileOutputStream(temporary), "UTF-8");
+        try {
+            writer.write(toJson());
+        } finally {
+            writer.close();
+        }
+        if (!temporary.renameTo(checkpointFile)) {
+            checkpointFile.delete();
+            if (!temporary.renameTo(checkpointFile)) {
+                throw new IOException("Unable to save download checkpoint to " + checkpointFile);
+            }
+        }
+    }
+}
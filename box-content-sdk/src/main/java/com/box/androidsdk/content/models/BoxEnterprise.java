@@ -37,14 +37,14 @@ public class BoxEnterprise extends BoxEntity {
      * @return the name of the item.
      */
     public String getName() {
-        return (String) mProperties.get(FIELD_NAME);
+        return (String) getPropertyMap().get(FIELD_NAME);
     }
 
     @Override
     protected void parseJSONMember(JsonObject.Member member) {
         JsonValue value = member.getValue();
         if (member.getName().equals(FIELD_NAME)) {
-            this.mProperties.put(FIELD_NAME, value.asString());
+            getPropertyMap().put(FIELD_NAME, value.asString());
             return;
         }
 
@@ -24,14 +24,14 @@ public class BoxEnterpriseEvent extends BoxEvent {
 
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_ACCESSIBLE_BY)) {
-            this.mProperties.put(FIELD_ACCESSIBLE_BY, BoxCollaborator.createEntityFromJson(value.asObject()));
+            getPropertyMap().put(FIELD_ACCESSIBLE_BY, BoxCollaborator.createEntityFromJson(value.asObject()));
             return;
         } else if (memberName.equals(FIELD_ADDITIONAL_DETAILS)) {
             //for now just store this as a string. When more defined we can create additional objects based off of the type.
-            this.mProperties.put(FIELD_ADDITIONAL_DETAILS, value.toString());
+            getPropertyMap().put(FIELD_ADDITIONAL_DETAILS, value.toString());
             return;
         } else if (memberName.equals(FIELD_IP_ADDRESS)) {
-            this.mProperties.put(FIELD_IP_ADDRESS, value.asString());
+            getPropertyMap().put(FIELD_IP_ADDRESS, value.asString());
             return;
         }
         super.parseJSONMember(member);
@@ -43,7 +43,7 @@ public class BoxEnterpriseEvent extends BoxEvent {
      * @return The user or group that this event is accessible by.
      */
     public BoxCollaborator getAccessibleBy() {
-        return (BoxCollaborator) mProperties.get(FIELD_ACCESSIBLE_BY);
+        return (BoxCollaborator) getPropertyMap().get(FIELD_ACCESSIBLE_BY);
     }
 
 
@@ -53,7 +53,7 @@ public class BoxEnterpriseEvent extends BoxEvent {
      * @return additional details important for this sdk.
      */
     public String getAdditionalDetails() {
-        return (String) mProperties.get(FIELD_ADDITIONAL_DETAILS);
+        return (String) getPropertyMap().get(FIELD_ADDITIONAL_DETAILS);
     }
 
     /**
@@ -62,7 +62,7 @@ public class BoxEnterpriseEvent extends BoxEvent {
      * @return An ip address of a a user event or enterprise event.
      */
     public String getIpAddress() {
-        return (String) mProperties.get(FIELD_IP_ADDRESS);
+        return (String) getPropertyMap().get(FIELD_IP_ADDRESS);
     }
 
     /**
@@ -4,6 +4,7 @@ import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Class that represents an entity with a type and ID on Box.
@@ -16,6 +17,25 @@ public class BoxEntity extends BoxJsonObject {
     public static final String FIELD_ITEM_TYPE = "item_type";
     public static final String FIELD_ITEM_ID = "item_id";
 
+    // Classes that entities are parsed into, keyed by the value of their type field.
+    private static final ConcurrentHashMap<String, Class<? extends BoxEntity>> mEntityTypes = new ConcurrentHashMap<String, Class<? extends BoxEntity>>();
+
+    static {
+        addEntityType(BoxCollection.TYPE, BoxCollection.class);
+        addEntityType(BoxComment.TYPE, BoxComment.class);
+        addEntityType(BoxCollaboration.TYPE, BoxCollaboration.class);
+        addEntityType(BoxEnterprise.TYPE, BoxEnterprise.class);
+        addEntityType(BoxFileVersion.TYPE, BoxFileVersion.class);
+        // because enterprise events are a superset of BoxEvent create this version if necessary.
+        addEntityType(BoxEvent.TYPE, BoxEnterpriseEvent.class);
+        addEntityType(BoxFile.TYPE, BoxFile.class);
+        addEntityType(BoxBookmark.TYPE, BoxBookmark.class);
+        addEntityType(BoxFolder.TYPE, BoxFolder.class);
+        addEntityType(BoxUser.TYPE, BoxUser.class);
+        addEntityType(BoxGroup.TYPE, BoxGroup.class);
+        addEntityType(BoxUploadSession.TYPE, BoxUploadSession.class);
+    }
+
     /**
      * Constructs an empty BoxEntity object.
      */
@@ -38,9 +58,9 @@ public class BoxEntity extends BoxJsonObject {
      * @return the id of the entity.
      */
     public String getId() {
-        String id =  (String) mProperties.get(FIELD_ID);
+        String id =  (String) getPropertyMap().get(FIELD_ID);
         if (id == null){
-            return (String) mProperties.get(FIELD_ITEM_ID);
+            return (String) getPropertyMap().get(FIELD_ITEM_ID);
         }
         return id;
     }
@@ -51,9 +71,9 @@ public class BoxEntity extends BoxJsonObject {
      * @return the entity type.
      */
     public String getType() {
-        String type =  (String) mProperties.get(FIELD_TYPE);
+        String type =  (String) getPropertyMap().get(FIELD_TYPE);
         if (type == null){
-            return (String) mProperties.get(FIELD_ITEM_TYPE);
+            return (String) getPropertyMap().get(FIELD_ITEM_TYPE);
         }
         return type;
     }
@@ -63,16 +83,16 @@ public class BoxEntity extends BoxJsonObject {
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_ID)) {
-            this.mProperties.put(FIELD_ID, value.asString());
+            getPropertyMap().put(FIELD_ID, value.asString());
             return;
         } else if (memberName.equals(FIELD_TYPE)) {
-            this.mProperties.put(FIELD_TYPE, value.asString());
+            getPropertyMap().put(FIELD_TYPE, value.asString());
             return;
         } else if (memberName.equals(FIELD_ITEM_TYPE)) {
-            this.mProperties.put(FIELD_ITEM_TYPE, value.asString());
+            getPropertyMap().put(FIELD_ITEM_TYPE, value.asString());
             return;
         } else if (memberName.equals(FIELD_ITEM_ID)) {
-            this.mProperties.put(FIELD_ITEM_ID, value.asString());
+            getPropertyMap().put(FIELD_ITEM_ID, value.asString());
             return;
         }
 
@@ -80,53 +100,35 @@ public class BoxEntity extends BoxJsonObject {
     }
 
 
+    /**
+     * Registers the class that entities of the given type should be parsed into by
+     * {@link #createEntityFromJson(JsonObject)}. This can be used to override the class of a known type or to add support
+     * for a type that is not known to the SDK. The class must have a public no argument constructor.
+     *
+     * @param type  the value of the type or item_type field of the entity.
+     * @param clazz the class to parse entities of that type into.
+     */
+    public static void addEntityType(final String type, final Class<? extends BoxEntity> clazz) {
+        mEntityTypes.put(type, clazz);
+    }
+
+    /**
+     * Gets the class that entities of the given type are parsed into.
+     *
+     * @param type  the value of the type or item_type field of the entity.
+     * @return the registered class, or null if the type is not known.
+     */
+    public static Class<? extends BoxEntity> getEntityType(final String type) {
+        return mEntityTypes.get(type);
+    }
+
     /**
      * Helper method that will parse into a known child of BoxEntity.
      * @param json json representing a BoxEntity or one of its known children.
      * @return a BoxEntity or one of its known children.
      */
     public static BoxEntity createEntityFromJson(final String json){
-        BoxEntity createdByEntity = new BoxEntity();
-        createdByEntity.createFromJson(json);
-        if (createdByEntity.getType() == null){
-            return createdByEntity;
-        }
-        if (createdByEntity.getType().equals(BoxCollection.TYPE)) {
-            BoxCollection collection = new BoxCollection();
-            collection.createFromJson(json);
-            return collection;
-        } else if (createdByEntity.getType().equals(BoxComment.TYPE)) {
-            BoxComment comment = new BoxComment();
-            comment.createFromJson(json);
-            return comment;
-        } else if (createdByEntity.getType().equals(BoxCollaboration.TYPE)) {
-            BoxCollaboration collaboration = new BoxCollaboration();
-            collaboration.createFromJson(json);
-            return collaboration;
-        } else if (createdByEntity.getType().equals(BoxEnterprise.TYPE)) {
-            BoxEnterprise enterprise = new BoxEnterprise();
-            enterprise.createFromJson(json);
-            return enterprise;
-        } else if (createdByEntity.getType().equals(BoxFileVersion.TYPE)) {
-            BoxFileVersion version = new BoxFileVersion();
-            version.createFromJson(json);
-            return version;
-        } else if (createdByEntity.getType().equals(BoxEvent.TYPE)) {
-            // because enterprise events are a superset of BoxEvent create this version if necessary.
-            BoxEnterpriseEvent version = new BoxEnterpriseEvent();
-            version.createFromJson(json);
-            return version;
-        }
-
-        BoxEntity item = BoxItem.createBoxItemFromJson(json);
-        if (item != null){
-            return item;
-        }
-        item = BoxCollaborator.createCollaboratorFromJson(json);
-        if (item != null){
-            return item;
-        }
-        return null;
+        return createEntityFromJson(JsonObject.readFrom(json));
     }
 
     /**
@@ -135,47 +137,47 @@ public class BoxEntity extends BoxJsonObject {
      * @return a BoxEntity or one of its known children.
      */
     public static BoxEntity createEntityFromJson(final JsonObject json){
-        BoxEntity createdByEntity = new BoxEntity();
-        createdByEntity.createFromJson(json);
-        if (createdByEntity.getType() == null){
-            return createdByEntity;
-        }
-        if (createdByEntity.getType().equals(BoxCollection.TYPE)) {
-            BoxCollection collection = new BoxCollection();
-            collection.createFromJson(json);
-            return collection;
-        } else if (createdByEntity.getType().equals(BoxComment.TYPE)) {
-                BoxComment comment = new BoxComment();
-                comment.createFromJson(json);
-                return comment;
-        } else if (createdByEntity.getType().equals(BoxCollaboration.TYPE)) {
-                BoxCollaboration collaboration = new BoxCollaboration();
-                collaboration.createFromJson(json);
-                return collaboration;
-        } else if (createdByEntity.getType().equals(BoxEnterprise.TYPE)) {
-                BoxEnterprise enterprise = new BoxEnterprise();
-                enterprise.createFromJson(json);
-                return enterprise;
-        } else if (createdByEntity.getType().equals(BoxFileVersion.TYPE)) {
-                BoxFileVersion version = new BoxFileVersion();
-                version.createFromJson(json);
-                return version;
-        } else if (createdByEntity.getType().equals(BoxEvent.TYPE)) {
-                // because enterprise events are a superset of BoxEvent create this version if necessary.
-                BoxEnterpriseEvent version = new BoxEnterpriseEvent();
-                version.createFromJson(json);
-                return version;
+        if (getType(json) == null) {
+            BoxEntity entity = new BoxEntity();
+            entity.createFromJson(json);
+            return entity;
         }
+        return createEntityFromJson(json, BoxEntity.class);
+    }
 
-        BoxEntity item = BoxItem.createBoxItemFromJson(json);
-        if (item != null){
-            return item;
+    /**
+     * Parses json into the class registered for its type, reading the json only once.
+     *
+     * @param json      JsonObject representing an entity.
+     * @param baseClass class the registered class has to extend.
+     * @return the parsed entity, or null if the type of the json is not registered to a subclass of baseClass.
+     */
+    static <T extends BoxEntity> T createEntityFromJson(final JsonObject json, final Class<T> baseClass) {
+        String type = getType(json);
+        if (type == null) {
+            return null;
+        }
+        Class<? extends BoxEntity> clazz = mEntityTypes.get(type);
+        if (clazz == null || !baseClass.isAssignableFrom(clazz)) {
+            return null;
         }
-        item = BoxCollaborator.createCollaboratorFromJson(json);
-        if (item != null){
-            return item;
+        try {
+            T entity = (T) clazz.newInstance();
+            entity.createFromJson(json);
+            return entity;
+        } catch (InstantiationException e) {
+            throw new IllegalStateException("Unable to create entity of type " + type, e);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Unable to create entity of type " + type, e);
+        }
+    }
+
+    private static String getType(final JsonObject json) {
+        JsonValue type = json.get(FIELD_TYPE);
+        if (type == null || !type.isString()) {
+            type = json.get(FIELD_ITEM_TYPE);
         }
-        return null;
+        return type != null && type.isString() ? type.asString() : null;
     }
 
 }
@@ -46,7 +46,7 @@ public class BoxError extends BoxJsonObject {
      * @return the error type.
      */
     public String getType() {
-        String type =  (String) mProperties.get(FIELD_TYPE);
+        String type =  (String) getPropertyMap().get(FIELD_TYPE);
         return type;
     }
 
@@ -55,7 +55,7 @@ public class BoxError extends BoxJsonObject {
      * @return status code of the error.
      */
     public Integer getStatus(){
-        return  (Integer) mProperties.get(FIELD_STATUS);
+        return  (Integer) getPropertyMap().get(FIELD_STATUS);
     }
 
     /**
@@ -63,11 +63,11 @@ public class BoxError extends BoxJsonObject {
      * @return the code of the error.
      */
     public String getCode(){
-        return  (String) mProperties.get(FIELD_CODE);
+        return  (String) getPropertyMap().get(FIELD_CODE);
     }
 
     public ErrorContext getContextInfo(){
-        return  (ErrorContext) mProperties.get(FIELD_CONTEXT_INFO);
+        return  (ErrorContext) getPropertyMap().get(FIELD_CONTEXT_INFO);
     }
 
     /**
@@ -75,7 +75,7 @@ public class BoxError extends BoxJsonObject {
      * @return a url to get more information about the error.
      */
     public String getFieldHelpUrl(){
-        return  (String) mProperties.get(FIELD_HELP_URL);
+        return  (String) getPropertyMap().get(FIELD_HELP_URL);
     }
 
     /**
@@ -83,7 +83,7 @@ public class BoxError extends BoxJsonObject {
      * @return get a human readable string describing the error.
      */
     public String getMessage(){
-        return  (String) mProperties.get(FIELD_MESSAGE);
+        return  (String) getPropertyMap().get(FIELD_MESSAGE);
     }
 
     /**
@@ -91,7 +91,7 @@ public class BoxError extends BoxJsonObject {
      * @return the id of the error.
      */
     public String getRequestId(){
-        return  (String) mProperties.get(FIELD_REQUEST_ID);
+        return  (String) getPropertyMap().get(FIELD_REQUEST_ID);
     }
 
     /**
@@ -99,7 +99,7 @@ public class BoxError extends BoxJsonObject {
      * @return the error code.
      */
     public String getError(){
-        return (String) mProperties.get(FIELD_ERROR);
+        return (String) getPropertyMap().get(FIELD_ERROR);
     }
 
 
@@ -108,7 +108,7 @@ public class BoxError extends BoxJsonObject {
      * @return the error description.
      */
     public String getErrorDescription(){
-        return (String) mProperties.get(FIELD_ERROR_DESCRIPTION);
+        return (String) getPropertyMap().get(FIELD_ERROR_DESCRIPTION);
     }
 
     @Override
@@ -116,33 +116,33 @@ public class BoxError extends BoxJsonObject {
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_TYPE)) {
-            this.mProperties.put(FIELD_TYPE, value.asString());
+            getPropertyMap().put(FIELD_TYPE, value.asString());
             return;
         } else if (memberName.equals(FIELD_STATUS)) {
-            this.mProperties.put(FIELD_STATUS, value.asInt());
+            getPropertyMap().put(FIELD_STATUS, value.asInt());
             return;
         } else if (memberName.equals(FIELD_CODE)) {
-            this.mProperties.put(FIELD_CODE, value.asString());
+            getPropertyMap().put(FIELD_CODE, value.asString());
             return;
         } else if (memberName.equals(FIELD_CONTEXT_INFO)) {
             ErrorContext mapObject = new ErrorContext();
             mapObject.createFromJson(value.asObject());
-            this.mProperties.put(FIELD_CONTEXT_INFO, mapObject);
+            getPropertyMap().put(FIELD_CONTEXT_INFO, mapObject);
             return;
         } else if (memberName.equals(FIELD_HELP_URL)) {
-            this.mProperties.put(FIELD_HELP_URL, value.asString());
+            getPropertyMap().put(FIELD_HELP_URL, value.asString());
             return;
         } else if (memberName.equals(FIELD_MESSAGE)) {
-            this.mProperties.put(FIELD_MESSAGE, value.asString());
+            getPropertyMap().put(FIELD_MESSAGE, value.asString());
             return;
         } else if (memberName.equals(FIELD_REQUEST_ID)) {
-            this.mProperties.put(FIELD_REQUEST_ID, value.asString());
+            getPropertyMap().put(FIELD_REQUEST_ID, value.asString());
             return;
         } else if (memberName.equals(FIELD_ERROR)) {
-            this.mProperties.put(FIELD_ERROR, value.asString());
+            getPropertyMap().put(FIELD_ERROR, value.asString());
             return;
         } else if (memberName.equals(FIELD_ERROR_DESCRIPTION)) {
-            this.mProperties.put(FIELD_ERROR_DESCRIPTION, value.asString());
+            getPropertyMap().put(FIELD_ERROR_DESCRIPTION, value.asString());
             return;
         }
 
@@ -165,7 +165,7 @@ public class BoxError extends BoxJsonObject {
                 } else {
                     boxItems.add(BoxEntity.createEntityFromJson(value.asObject()));
                 }
-                this.mProperties.put(FIELD_CONFLICTS, boxItems);
+                getPropertyMap().put(FIELD_CONFLICTS, boxItems);
                 return;
             }
 
@@ -177,7 +177,7 @@ public class BoxError extends BoxJsonObject {
          * @return a list of the items that caused a conflict.
          */
         public ArrayList<BoxEntity> getConflicts(){
-            return (ArrayList<BoxEntity>)this.mProperties.get(FIELD_CONFLICTS);
+            return (ArrayList<BoxEntity>)getPropertyMap().get(FIELD_CONFLICTS);
         }
 
 
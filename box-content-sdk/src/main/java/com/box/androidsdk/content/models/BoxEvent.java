@@ -35,38 +35,38 @@ public class BoxEvent extends BoxEntity {
         JsonValue value = member.getValue();
 
         if (memberName.equals(FIELD_TYPE)) {
-            this.mProperties.put(FIELD_TYPE, value.asString());
+            getPropertyMap().put(FIELD_TYPE, value.asString());
             return;
         } else if (memberName.equals(FIELD_EVENT_ID)) {
-            this.mProperties.put(FIELD_EVENT_ID, value.asString());
+            getPropertyMap().put(FIELD_EVENT_ID, value.asString());
             return;
         } else if (memberName.equals(FIELD_CREATED_BY)) {
-            this.mProperties.put(FIELD_CREATED_BY, BoxCollaborator.createCollaboratorFromJson(value.asObject()));
+            getPropertyMap().put(FIELD_CREATED_BY, BoxCollaborator.createCollaboratorFromJson(value.asObject()));
             return;
         } else if (memberName.equals(FIELD_EVENT_TYPE)) {
-            this.mProperties.put(FIELD_EVENT_TYPE, value.asString());
+            getPropertyMap().put(FIELD_EVENT_TYPE, value.asString());
             return;
         } else if (memberName.equals(FIELD_SESSION_ID)) {
-            this.mProperties.put(FIELD_SESSION_ID, value.asString());
+            getPropertyMap().put(FIELD_SESSION_ID, value.asString());
             return;
         } else if (memberName.equals(FIELD_IS_PACKAGE)) {
-            this.mProperties.put(FIELD_IS_PACKAGE, value.asBoolean());
+            getPropertyMap().put(FIELD_IS_PACKAGE, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_SOURCE)) {
-            this.mProperties.put(FIELD_SOURCE, BoxEntity.createEntityFromJson(value.asObject()));
+            getPropertyMap().put(FIELD_SOURCE, BoxEntity.createEntityFromJson(value.asObject()));
             return;
         } else if (memberName.equals(FIELD_CREATED_AT)) {
             try {
-                this.mProperties.put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
             } catch (ParseException e) {
-                mProperties.put(FIELD_CREATED_AT, null);
+                getPropertyMap().put(FIELD_CREATED_AT, null);
             }
             return;
         } else if (memberName.equals(FIELD_RECORDED_AT)) {
             try {
-                this.mProperties.put(FIELD_RECORDED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_RECORDED_AT, BoxDateFormat.parse(value.asString()));
             } catch (ParseException e) {
-                mProperties.put(FIELD_RECORDED_AT, null);
+                getPropertyMap().put(FIELD_RECORDED_AT, null);
             }
             return;
         }
@@ -79,7 +79,7 @@ public class BoxEvent extends BoxEntity {
      * @return The event type, 'event'
      */
     public String getType() {
-        return (String) mProperties.get(TYPE);
+        return (String) getPropertyMap().get(TYPE);
     }
 
 
@@ -89,7 +89,7 @@ public class BoxEvent extends BoxEntity {
      * @return The id of the event, used for de-duplication purposes.
      */
     public String getEventId() {
-        return (String) mProperties.get(FIELD_EVENT_ID);
+        return (String) getPropertyMap().get(FIELD_EVENT_ID);
     }
 
     /**
@@ -98,7 +98,7 @@ public class BoxEvent extends BoxEntity {
      * @return The user that performed the action.
      */
     public BoxCollaborator getCreatedBy() {
-        return (BoxCollaborator) mProperties.get(FIELD_CREATED_BY);
+        return (BoxCollaborator) getPropertyMap().get(FIELD_CREATED_BY);
     }
 
 
@@ -108,7 +108,7 @@ public class BoxEvent extends BoxEntity {
      * @return An event type from either a user event or enterprise event.
      */
     public String getEventType() {
-        return (String) mProperties.get(FIELD_EVENT_TYPE);
+        return (String) getPropertyMap().get(FIELD_EVENT_TYPE);
     }
 
     /**
@@ -117,7 +117,7 @@ public class BoxEvent extends BoxEntity {
      * @return true if the file is an OSX package; otherwise false.
      */
     public String getSessionId() {
-        return (String) mProperties.get(FIELD_SESSION_ID);
+        return (String) getPropertyMap().get(FIELD_SESSION_ID);
     }
 
     /**
@@ -126,7 +126,7 @@ public class BoxEvent extends BoxEntity {
      * @return true if the file is an OSX package; otherwise false.
      */
     public Boolean getIsPackage() {
-        return (Boolean) mProperties.get(FIELD_IS_PACKAGE);
+        return (Boolean) getPropertyMap().get(FIELD_IS_PACKAGE);
     }
 
     /**
@@ -135,7 +135,7 @@ public class BoxEvent extends BoxEntity {
      * @return The object that was modified.
      */
     public BoxEntity getSource() {
-        return (BoxEntity) mProperties.get(FIELD_SOURCE);
+        return (BoxEntity) getPropertyMap().get(FIELD_SOURCE);
     }
 
     /**
@@ -1,8 +1,7 @@
 package com.box.androidsdk.content.models;
 
-import android.text.TextUtils;
-
 import com.box.androidsdk.content.BoxConstants;
+import com.box.androidsdk.content.utils.SdkUtils;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
@@ -97,7 +96,7 @@ public class BoxFile extends BoxItem {
      * @return version info of the current file.
      */
     public BoxFileVersion getFileVersion(){
-        return (BoxFileVersion)mProperties.get(FIELD_FILE_VERSION);
+        return (BoxFileVersion)getPropertyMap().get(FIELD_FILE_VERSION);
     }
 
     /**
@@ -106,7 +105,7 @@ public class BoxFile extends BoxItem {
      * @return the SHA1 hash of the file.
      */
     public String getSha1() {
-        return (String) mProperties.get(FIELD_SHA1);
+        return (String) getPropertyMap().get(FIELD_SHA1);
     }
 
     /**
@@ -115,7 +114,7 @@ public class BoxFile extends BoxItem {
      * @return the current version number of the file.
      */
     public String getVersionNumber() {
-        return (String) mProperties.get(FIELD_VERSION_NUMBER);
+        return (String) getPropertyMap().get(FIELD_VERSION_NUMBER);
     }
 
     /**
@@ -124,7 +123,7 @@ public class BoxFile extends BoxItem {
      * @return the permissions that the current user has on the file.
      */
     public EnumSet<Permission> getPermissions() {
-        return (EnumSet<Permission>) mProperties.get(FIELD_PERMISSIONS);
+        return (EnumSet<Permission>) getPropertyMap().get(FIELD_PERMISSIONS);
     }
 
     /**
@@ -133,7 +132,7 @@ public class BoxFile extends BoxItem {
      * @return the extension of the file.
      */
     public String getExtension() {
-        return (String) mProperties.get(FIELD_EXTENSION);
+        return (String) getPropertyMap().get(FIELD_EXTENSION);
     }
 
     /**
@@ -142,7 +141,7 @@ public class BoxFile extends BoxItem {
      * @return true if the file is an OSX package; otherwise false.
      */
     public Boolean getIsPackage() {
-        return (Boolean) mProperties.get(FIELD_IS_PACKAGE);
+        return (Boolean) getPropertyMap().get(FIELD_IS_PACKAGE);
     }
 
     @Override
@@ -170,25 +169,25 @@ public class BoxFile extends BoxItem {
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_SHA1)) {
-            this.mProperties.put(FIELD_SHA1, value.asString());
+            getPropertyMap().put(FIELD_SHA1, value.asString());
             return;
         } else if (memberName.equals(FIELD_VERSION_NUMBER)) {
-            this.mProperties.put(FIELD_VERSION_NUMBER, value.asString());
+            getPropertyMap().put(FIELD_VERSION_NUMBER, value.asString());
             return;
         } else if (memberName.equals(FIELD_PERMISSIONS)) {
-            this.mProperties.put(FIELD_PERMISSIONS, this.parsePermissions(value.asObject()));
+            getPropertyMap().put(FIELD_PERMISSIONS, this.parsePermissions(value.asObject()));
             return;
         } else if (memberName.equals(FIELD_EXTENSION)) {
-            this.mProperties.put(FIELD_EXTENSION, value.asString());
+            getPropertyMap().put(FIELD_EXTENSION, value.asString());
             return;
         } else if (memberName.equals(FIELD_IS_PACKAGE)) {
-            this.mProperties.put(FIELD_IS_PACKAGE, value.asBoolean());
+            getPropertyMap().put(FIELD_IS_PACKAGE, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_FILE_VERSION)){
             JsonObject jsonObject = value.asObject();
             BoxFileVersion version = new BoxFileVersion();
             version.createFromJson(jsonObject);
-            this.mProperties.put(FIELD_FILE_VERSION, version);
+            getPropertyMap().put(FIELD_FILE_VERSION, version);
             return;
         }
         super.parseJSONMember(member);
@@ -276,7 +275,7 @@ public class BoxFile extends BoxItem {
         }
 
         public static Permission fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (Permission a : Permission.values()) {
                     if (text.equalsIgnoreCase(a.name())) {
                         return a;
@@ -1,8 +1,7 @@
 package com.box.androidsdk.content.models;
 
-import android.text.TextUtils;
-
 import com.box.androidsdk.content.BoxConstants;
+import com.box.androidsdk.content.utils.SdkUtils;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -104,7 +103,7 @@ public class BoxFolder extends BoxItem {
      * @return the upload email for the folder.
      */
     public BoxUploadEmail getUploadEmail() {
-        return (BoxUploadEmail) mProperties.get(FIELD_FOLDER_UPLOAD_EMAIL);
+        return (BoxUploadEmail) getPropertyMap().get(FIELD_FOLDER_UPLOAD_EMAIL);
     }
 
     /**
@@ -113,7 +112,7 @@ public class BoxFolder extends BoxItem {
      * @return true if the folder has collaborations; otherwise false.
      */
     public Boolean getHasCollaborations() {
-        return (Boolean) mProperties.get(FIELD_HAS_COLLABORATIONS);
+        return (Boolean) getPropertyMap().get(FIELD_HAS_COLLABORATIONS);
     }
 
     /**
@@ -122,7 +121,7 @@ public class BoxFolder extends BoxItem {
      * @return the sync state of the folder.
      */
     public SyncState getSyncState() {
-        return (SyncState) mProperties.get(FIELD_SYNC_STATE);
+        return (SyncState) getPropertyMap().get(FIELD_SYNC_STATE);
     }
 
     /**
@@ -131,7 +130,7 @@ public class BoxFolder extends BoxItem {
      * @return the permissions that the current user has on the folder.
      */
     public EnumSet<Permission> getPermissions() {
-        return (EnumSet<Permission>) mProperties.get(FIELD_PERMISSIONS);
+        return (EnumSet<Permission>) getPropertyMap().get(FIELD_PERMISSIONS);
     }
 
     /**
@@ -140,7 +139,7 @@ public class BoxFolder extends BoxItem {
      * @return whether or not the non-owners can invite collaborators to the folder.
      */
     public Boolean getCanNonOwnersInvite() {
-        return (Boolean) mProperties.get(FIELD_CAN_NON_OWNERS_INVITE);
+        return (Boolean) getPropertyMap().get(FIELD_CAN_NON_OWNERS_INVITE);
     }
 
     /**
@@ -149,8 +148,8 @@ public class BoxFolder extends BoxItem {
      * @return list of mini item objects contained in the folder.
      */
     public BoxListItems getItemCollection() {
-        return this.mProperties.containsKey(FIELD_ITEM_COLLECTION) ?
-                (BoxListItems) this.mProperties.get(FIELD_ITEM_COLLECTION) :
+        return getPropertyMap().containsKey(FIELD_ITEM_COLLECTION) ?
+                (BoxListItems) getPropertyMap().get(FIELD_ITEM_COLLECTION) :
                 null;
     }
 
@@ -160,7 +159,7 @@ public class BoxFolder extends BoxItem {
      * @return whether this folder is owned externally.
      */
     public Boolean getIsExternallyOwned() {
-        return (Boolean) mProperties.get(FIELD_IS_EXTERNALLY_OWNED);
+        return (Boolean) getPropertyMap().get(FIELD_IS_EXTERNALLY_OWNED);
     }
 
     /**
@@ -169,7 +168,7 @@ public class BoxFolder extends BoxItem {
      * @return array list of access levels that are allowed by the administrator.
      */
     public ArrayList<BoxSharedLink.Access> getAllowedSharedLinkAccessLevels() {
-        return (ArrayList<BoxSharedLink.Access>) mProperties.get(FIELD_ALLOWED_SHARED_LINK_ACCESS_LEVELS);
+        return (ArrayList<BoxSharedLink.Access>) getPropertyMap().get(FIELD_ALLOWED_SHARED_LINK_ACCESS_LEVELS);
     }
 
     /**
@@ -178,7 +177,7 @@ public class BoxFolder extends BoxItem {
      * @return list of roles allowed for folder collaboration invitees.
      */
     public ArrayList<BoxCollaboration.Role> getAllowedInviteeRoles() {
-        return (ArrayList<BoxCollaboration.Role>) mProperties.get(FIELD_ALLOWED_INVITEE_ROLES);
+        return (ArrayList<BoxCollaboration.Role>) getPropertyMap().get(FIELD_ALLOWED_INVITEE_ROLES);
     }
 
     @Override
@@ -204,28 +203,28 @@ public class BoxFolder extends BoxItem {
         if (memberName.equals(FIELD_FOLDER_UPLOAD_EMAIL)) {
             BoxUploadEmail uploadEmail = new BoxUploadEmail();
             uploadEmail.createFromJson(value.asObject());
-            this.mProperties.put(FIELD_FOLDER_UPLOAD_EMAIL, uploadEmail);
+            getPropertyMap().put(FIELD_FOLDER_UPLOAD_EMAIL, uploadEmail);
             return;
         } else if (memberName.equals(FIELD_HAS_COLLABORATIONS)) {
-            this.mProperties.put(FIELD_HAS_COLLABORATIONS, value.asBoolean());
+            getPropertyMap().put(FIELD_HAS_COLLABORATIONS, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_SYNC_STATE)) {
-            this.mProperties.put(FIELD_SYNC_STATE, SyncState.fromString(value.asString()));
+            getPropertyMap().put(FIELD_SYNC_STATE, SyncState.fromString(value.asString()));
             return;
         } else if (memberName.equals(FIELD_PERMISSIONS)) {
-            this.mProperties.put(FIELD_PERMISSIONS, this.parsePermissions(value.asObject()));
+            getPropertyMap().put(FIELD_PERMISSIONS, this.parsePermissions(value.asObject()));
             return;
         } else if (memberName.equals(FIELD_CAN_NON_OWNERS_INVITE)) {
-            this.mProperties.put(FIELD_CAN_NON_OWNERS_INVITE, value.asBoolean());
+            getPropertyMap().put(FIELD_CAN_NON_OWNERS_INVITE, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_ITEM_COLLECTION)) {
             JsonObject jsonObject = value.asObject();
             BoxListItems collection = new BoxListItems();
             collection.createFromJson(jsonObject);
-            this.mProperties.put(FIELD_ITEM_COLLECTION, collection);
+            getPropertyMap().put(FIELD_ITEM_COLLECTION, collection);
             return;
         } else if (memberName.equals(FIELD_IS_EXTERNALLY_OWNED)) {
-            this.mProperties.put(FIELD_IS_EXTERNALLY_OWNED, value.asBoolean());
+            getPropertyMap().put(FIELD_IS_EXTERNALLY_OWNED, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_ALLOWED_INVITEE_ROLES)) {
             JsonArray rolesArr = value.asArray();
@@ -233,7 +232,7 @@ public class BoxFolder extends BoxItem {
             for (JsonValue val : rolesArr) {
                 allowedRoles.add(BoxCollaboration.Role.fromString(val.asString()));
             }
-            this.mProperties.put(FIELD_ALLOWED_INVITEE_ROLES, allowedRoles);
+            getPropertyMap().put(FIELD_ALLOWED_INVITEE_ROLES, allowedRoles);
             return;
         }
 
@@ -295,7 +294,7 @@ public class BoxFolder extends BoxItem {
         }
 
         public static SyncState fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (SyncState e : SyncState.values()) {
                     if (text.equalsIgnoreCase(e.toString())) {
                         return e;
@@ -357,7 +356,7 @@ public class BoxFolder extends BoxItem {
         }
 
         public static Permission fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (Permission e : Permission.values()) {
                     if (text.equalsIgnoreCase(e.toString())) {
                         return e;
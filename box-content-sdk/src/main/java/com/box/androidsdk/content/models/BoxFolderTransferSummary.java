@@ -0,0 +1,183 @@
+package com.box.androidsdk.content.models;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Class that summarizes the transfer of a folder tree between the device and Box, such as a folder upload or download.
+ */
+public class BoxFolderTransferSummary extends BoxJsonObject {
+
+    private static final long serialVersionUID = -3164807295539013856L;
+
+    public static final String FIELD_FOLDER_ID = "folder_id";
+    public static final String FIELD_FOLDERS_CREATED = "folders_created";
+    public static final String FIELD_FILES_TRANSFERRED = "files_transferred";
+    public static final String FIELD_FILES_SKIPPED = "files_skipped";
+    public static final String FIELD_FILES_FAILED = "files_failed";
+    public static final String FIELD_BYTES_TRANSFERRED = "bytes_transferred";
+    public static final String FIELD_FAILURES = "failures";
+
+    private transient LinkedHashMap<String, Exception> mExceptions = new LinkedHashMap<String, Exception>();
+
+    /**
+     * Constructs an empty BoxFolderTransferSummary object.
+     */
+    public BoxFolderTransferSummary() {
+        super();
+    }
+
+    /**
+     * Constructs a BoxFolderTransferSummary with the provided map values.
+     *
+     * @param map map of keys and values of the object.
+     */
+    public BoxFolderTransferSummary(Map<String, Object> map) {
+        super(map);
+    }
+
+    /**
+     * Constructs a BoxFolderTransferSummary of a finished transfer.
+     *
+     * @param folderId  id of the folder on Box the tree was transferred to or from.
+     * @param foldersCreated    number of folders created at the destination.
+     * @param filesTransferred  number of files whose content was transferred.
+     * @param filesSkipped  number of files left alone because they already existed at the destination.
+     * @param bytesTransferred  number of bytes of content transferred.
+     * @param failures  exceptions of the files and folders that could not be transferred, by local path.
+     */
+    public BoxFolderTransferSummary(String folderId, int foldersCreated, int filesTransferred, int filesSkipped,
+                                    long bytesTransferred, Map<String, Exception> failures) {
+        super();
+        getPropertyMap().put(FIELD_FOLDER_ID, folderId);
+        getPropertyMap().put(FIELD_FOLDERS_CREATED, foldersCreated);
+        getPropertyMap().put(FIELD_FILES_TRANSFERRED, filesTransferred);
+        getPropertyMap().put(FIELD_FILES_SKIPPED, filesSkipped);
+        getPropertyMap().put(FIELD_FILES_FAILED, failures.size());
+        getPropertyMap().put(FIELD_BYTES_TRANSFERRED, bytesTransferred);
+        getPropertyMap().put(FIELD_FAILURES, new ArrayList<String>(failures.keySet()));
+        mExceptions.putAll(failures);
+    }
+
+    /**
+     * Gets the id of the folder on Box the tree was transferred to or from.
+     *
+     * @return the id of the folder.
+     */
+    public String getFolderId() {
+        return (String) getPropertyMap().get(FIELD_FOLDER_ID);
+    }
+
+    /**
+     * Gets the number of folders created at the destination. Folders that already existed are not counted.
+     *
+     * @return the number of folders created.
+     */
+    public Integer getFoldersCreated() {
+        return (Integer) getPropertyMap().get(FIELD_FOLDERS_CREATED);
+    }
+
+    /**
+     * Gets the number of files whose content was transferred.
+     *
+     * @return the number of files transferred.
+     */
+    public Integer getFilesTransferred() {
+        return (Integer) getPropertyMap().get(FIELD_FILES_TRANSFERRED);
+    }
+
+    /**
+     * Gets the number of files that were not transferred because they already existed at the destination.
+     *
+     * @return the number of files skipped.
+     */
+    public Integer getFilesSkipped() {
+        return (Integer) getPropertyMap().get(FIELD_FILES_SKIPPED);
+    }
+
+    /**
+     * Gets the number of files and folders that could not be transferred.
+     *
+     * @return the number of failures.
+     */
+    public Integer getFilesFailed() {
+        return (Integer) getPropertyMap().get(FIELD_FILES_FAILED);
+    }
+
+    /**
+     * Gets the number of bytes of content transferred.
+     *
+     * @return the number of bytes transferred.
+     */
+    public Long getBytesTransferred() {
+        return (Long) getPropertyMap().get(FIELD_BYTES_TRANSFERRED);
+    }
+
+    /**
+     * Gets the local paths of the files and folders that could not be transferred.
+     *
+     * @return the paths of the failures.
+     */
+    public List<String> getFailures() {
+        return (List<String>) getPropertyMap().get(FIELD_FAILURES);
+    }
+
+    /**
+     * Gets the exception that caused a file or folder to not be transferred. Exceptions are not kept when the summary
+     * is serialized.
+     *
+     * @param path  local path of the file or folder, as returned by {@link #getFailures()}.
+     * @return the exception of the failure, or null if it is not known.
+     */
+    public Exception getException(String path) {
+        return mExceptions == null ? null : mExceptions.get(path);
+    }
+
+    /**
+     * Returns whether every file and folder of the tree was transferred or skipped.
+     *
+     * @return true if there were no failures.
+     */
+    public boolean isComplete() {
+        List<String> failures = getFailures();
+        return failures == null || failures.isEmpty();
+    }
+
+    @Override
+    protected void parseJSONMember(JsonObject.Member member) {
+        String memberName = member.getName();
+        JsonValue value = member.getValue();
+        if (memberName.equals(FIELD_FOLDER_ID)) {
+            getPropertyMap().put(FIELD_FOLDER_ID, value.asString());
+            return;
+        } else if (memberName.equals(FIELD_FOLDERS_CREATED)) {
+            getPropertyMap().put(FIELD_FOLDERS_CREATED, value.asInt());
+            return;
+        } else if (memberName.equals(FIELD_FILES_TRANSFERRED)) {
+            getPropertyMap().put(FIELD_FILES_TRANSFERRED, value.asInt());
+            return;
+        } else if (memberName.equals(FIELD_FILES_SKIPPED)) {
+            getPropertyMap().put(FIELD_FILES_SKIPPED, value.asInt());
+            return;
+        } else if (memberName.equals(FIELD_FILES_FAILED)) {
+            getPropertyMap().put(FIELD_FILES_FAILED, value.asInt());
+            return;
+        } else if (memberName.equals(FIELD_BYTES_TRANSFERRED)) {
+            getPropertyMap().put(FIELD_BYTES_TRANSFERRED, value.asLong());
+            return;
+        } else if (memberName.equals(FIELD_FAILURES)) {
+            ArrayList<String> failures = new ArrayList<String>();
+            for (JsonValue path : value.asArray()) {
+                failures.add(path.asString());
+            }
+            getPropertyMap().put(FIELD_FAILURES, failures);
+            return;
+        }
+        super.parseJSONMember(member);
+    }
+}
@@ -59,7 +59,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return a unique string identifying the version of the item.
      */
     public String getEtag() {
-        return (String) mProperties.get(FIELD_ETAG);
+        return (String) getPropertyMap().get(FIELD_ETAG);
     }
 
     /**
@@ -68,7 +68,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the name of the item.
      */
     public String getName() {
-        return (String) mProperties.get(FIELD_NAME);
+        return (String) getPropertyMap().get(FIELD_NAME);
     }
 
     /**
@@ -77,7 +77,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the time the item was created.
      */
     public Date getCreatedAt() {
-        return (Date) mProperties.get(FIELD_CREATED_AT);
+        return (Date) getPropertyMap().get(FIELD_CREATED_AT);
     }
 
     /**
@@ -86,7 +86,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the time the item was last modified.
      */
     public Date getModifiedAt() {
-        return (Date) mProperties.get(FIELD_MODIFIED_AT);
+        return (Date) getPropertyMap().get(FIELD_MODIFIED_AT);
     }
 
     /**
@@ -95,7 +95,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the description of the item.
      */
     public String getDescription() {
-        return (String) mProperties.get(FIELD_DESCRIPTION);
+        return (String) getPropertyMap().get(FIELD_DESCRIPTION);
     }
 
     /**
@@ -104,7 +104,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the size of the item in bytes.
      */
     public Long getSize() {
-        return (Long) mProperties.get(BoxConstants.FIELD_SIZE);
+        return (Long) getPropertyMap().get(BoxConstants.FIELD_SIZE);
     }
 
     /**
@@ -113,7 +113,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the path of folders to the item.
      */
     public BoxList<BoxFolder> getPathCollection() {
-        return (BoxList<BoxFolder>) mProperties.get(FIELD_PATH_COLLECTION);
+        return (BoxList<BoxFolder>) getPropertyMap().get(FIELD_PATH_COLLECTION);
     }
 
     /**
@@ -122,7 +122,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return info about the user who created the item.
      */
     public BoxUser getCreatedBy() {
-        return (BoxUser) mProperties.get(FIELD_CREATED_BY);
+        return (BoxUser) getPropertyMap().get(FIELD_CREATED_BY);
     }
 
     /**
@@ -131,7 +131,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return info about the user who last modified the item.
      */
     public BoxUser getModifiedBy() {
-        return (BoxUser) mProperties.get(FIELD_MODIFIED_BY);
+        return (BoxUser) getPropertyMap().get(FIELD_MODIFIED_BY);
     }
 
     /**
@@ -140,7 +140,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the time that the item was trashed.
      */
     public Date getTrashedAt() {
-        return (Date) mProperties.get(FIELD_TRASHED_AT);
+        return (Date) getPropertyMap().get(FIELD_TRASHED_AT);
     }
 
     /**
@@ -149,7 +149,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the time that the item was purged from the trash.
      */
     public Date getPurgedAt() {
-        return (Date) mProperties.get(FIELD_PURGED_AT);
+        return (Date) getPropertyMap().get(FIELD_PURGED_AT);
     }
 
     /**
@@ -158,7 +158,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the time that the item was created according to the uploader.
      */
     protected Date getContentCreatedAt() {
-        return (Date) mProperties.get(BoxConstants.FIELD_CONTENT_CREATED_AT);
+        return (Date) getPropertyMap().get(BoxConstants.FIELD_CONTENT_CREATED_AT);
     }
 
     /**
@@ -167,7 +167,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the time that the item was last modified according to the uploader.
      */
     protected Date getContentModifiedAt() {
-        return (Date) mProperties.get(BoxConstants.FIELD_CONTENT_MODIFIED_AT);
+        return (Date) getPropertyMap().get(BoxConstants.FIELD_CONTENT_MODIFIED_AT);
     }
 
     /**
@@ -176,7 +176,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return info about the user who owns the item.
      */
     public BoxUser getOwnedBy() {
-        return (BoxUser) mProperties.get(FIELD_OWNED_BY);
+        return (BoxUser) getPropertyMap().get(FIELD_OWNED_BY);
     }
 
     /**
@@ -185,7 +185,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the shared link for the item.
      */
     public BoxSharedLink getSharedLink() {
-        return (BoxSharedLink) mProperties.get(FIELD_SHARED_LINK);
+        return (BoxSharedLink) getPropertyMap().get(FIELD_SHARED_LINK);
     }
 
     /**
@@ -194,7 +194,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return a unique ID for use with the EventStream.
      */
     public String getSequenceID() {
-        return (String) mProperties.get(FIELD_SEQUENCE_ID);
+        return (String) getPropertyMap().get(FIELD_SEQUENCE_ID);
     }
 
 
@@ -204,7 +204,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return possible access level settings for this item.
      */
     public ArrayList<BoxSharedLink.Access> getAllowedSharedLinkAccessLevels() {
-        return (ArrayList<BoxSharedLink.Access>) mProperties.get(FIELD_ALLOWED_SHARED_LINK_ACCESS_LEVELS);
+        return (ArrayList<BoxSharedLink.Access>) getPropertyMap().get(FIELD_ALLOWED_SHARED_LINK_ACCESS_LEVELS);
     }
 
     /**
@@ -213,7 +213,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return info about the parent folder of the item.
      */
     public BoxFolder getParent() {
-        return (BoxFolder) mProperties.get(FIELD_PARENT);
+        return (BoxFolder) getPropertyMap().get(FIELD_PARENT);
     }
 
     /**
@@ -222,7 +222,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the status of the item.
      */
     public String getItemStatus() {
-        return (String) mProperties.get(FIELD_ITEM_STATUS);
+        return (String) getPropertyMap().get(FIELD_ITEM_STATUS);
     }
 
     /**
@@ -231,7 +231,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return true if this item is synced, false otherwise.
      */
     public Boolean getIsSynced() {
-        return (Boolean) mProperties.get(FIELD_SYNCED);
+        return (Boolean) getPropertyMap().get(FIELD_SYNCED);
     }
 
     /**
@@ -240,7 +240,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return the number of comments on the item.
      */
     protected Long getCommentCount() {
-        return (Long) mProperties.get(BoxConstants.FIELD_COMMENT_COUNT);
+        return (Long) getPropertyMap().get(BoxConstants.FIELD_COMMENT_COUNT);
     }
 
     @Override
@@ -248,71 +248,71 @@ public abstract class BoxItem extends BoxEntity {
         try {
             JsonValue value = member.getValue();
             if (member.getName().equals(FIELD_NAME)) {
-                this.mProperties.put(FIELD_NAME, value.asString());
+                getPropertyMap().put(FIELD_NAME, value.asString());
                 return;
             } else if (member.getName().equals(FIELD_SEQUENCE_ID)) {
-                this.mProperties.put(FIELD_SEQUENCE_ID, value.asString());
+                getPropertyMap().put(FIELD_SEQUENCE_ID, value.asString());
                 return;
             } else if (member.getName().equals(FIELD_ETAG)) {
-                this.mProperties.put(FIELD_ETAG, value.asString());
+                getPropertyMap().put(FIELD_ETAG, value.asString());
                 return;
             } else if (member.getName().equals(FIELD_CREATED_AT)) {
-                this.mProperties.put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_CREATED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (member.getName().equals(FIELD_MODIFIED_AT)) {
-                this.mProperties.put(FIELD_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (member.getName().equals(FIELD_DESCRIPTION)) {
-                this.mProperties.put(FIELD_DESCRIPTION, value.asString());
+                getPropertyMap().put(FIELD_DESCRIPTION, value.asString());
                 return;
             } else if (member.getName().equals(BoxConstants.FIELD_SIZE)) {
-                this.mProperties.put(BoxConstants.FIELD_SIZE, Long.valueOf(value.toString()));
+                getPropertyMap().put(BoxConstants.FIELD_SIZE, Long.valueOf(value.toString()));
                 return;
             } else if (member.getName().equals(FIELD_TRASHED_AT)) {
-                this.mProperties.put(FIELD_TRASHED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_TRASHED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (member.getName().equals(FIELD_PURGED_AT)) {
-                this.mProperties.put(FIELD_PURGED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_PURGED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (member.getName().equals(BoxConstants.FIELD_CONTENT_CREATED_AT)) {
-                this.mProperties.put(BoxConstants.FIELD_CONTENT_CREATED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(BoxConstants.FIELD_CONTENT_CREATED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (member.getName().equals(BoxConstants.FIELD_CONTENT_MODIFIED_AT)) {
-                this.mProperties.put(BoxConstants.FIELD_CONTENT_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(BoxConstants.FIELD_CONTENT_MODIFIED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (member.getName().equals(FIELD_PATH_COLLECTION)) {
                 JsonObject jsonObject = value.asObject();
                 BoxList<BoxFolder> collection = new BoxList<BoxFolder>();
                 collection.createFromJson(jsonObject);
-                this.mProperties.put(FIELD_PATH_COLLECTION, collection);
+                getPropertyMap().put(FIELD_PATH_COLLECTION, collection);
                 return;
             } else if (member.getName().equals(FIELD_CREATED_BY)) {
-                this.mProperties.put(FIELD_CREATED_BY, this.parseUserInfo(value.asObject()));
+                getPropertyMap().put(FIELD_CREATED_BY, this.parseUserInfo(value.asObject()));
                 return;
             } else if (member.getName().equals(FIELD_MODIFIED_BY)) {
-                this.mProperties.put(FIELD_MODIFIED_BY, this.parseUserInfo(value.asObject()));
+                getPropertyMap().put(FIELD_MODIFIED_BY, this.parseUserInfo(value.asObject()));
                 return;
             } else if (member.getName().equals(FIELD_OWNED_BY)) {
-                this.mProperties.put(FIELD_OWNED_BY, this.parseUserInfo(value.asObject()));
+                getPropertyMap().put(FIELD_OWNED_BY, this.parseUserInfo(value.asObject()));
                 return;
             } else if (member.getName().equals(FIELD_SHARED_LINK)) {
                 BoxSharedLink sl = new BoxSharedLink();
                 sl.createFromJson(value.asObject());
-                this.mProperties.put(FIELD_SHARED_LINK, sl);
+                getPropertyMap().put(FIELD_SHARED_LINK, sl);
                 return;
             } else if (member.getName().equals(FIELD_PARENT)) {
                 BoxFolder folder = new BoxFolder();
                 folder.createFromJson(value.asObject());
-                this.mProperties.put(FIELD_PARENT, folder);
+                getPropertyMap().put(FIELD_PARENT, folder);
                 return;
             } else if (member.getName().equals(FIELD_ITEM_STATUS)) {
-                this.mProperties.put(FIELD_ITEM_STATUS, value.asString());
+                getPropertyMap().put(FIELD_ITEM_STATUS, value.asString());
                 return;
             } else if (member.getName().equals(FIELD_SYNCED)) {
-                this.mProperties.put(FIELD_SYNCED, value.asBoolean());
+                getPropertyMap().put(FIELD_SYNCED, value.asBoolean());
                 return;
             } else if (member.getName().equals(BoxConstants.FIELD_COMMENT_COUNT)) {
-                this.mProperties.put(BoxConstants.FIELD_COMMENT_COUNT, value.asLong());
+                getPropertyMap().put(BoxConstants.FIELD_COMMENT_COUNT, value.asLong());
                 return;
             } else if (member.getName().equals(FIELD_ALLOWED_SHARED_LINK_ACCESS_LEVELS)) {
                 JsonArray accessArr = value.asArray();
@@ -320,10 +320,10 @@ public abstract class BoxItem extends BoxEntity {
                 for (JsonValue val : accessArr) {
                     accessLevels.add(BoxSharedLink.Access.fromString(val.asString()));
                 }
-                this.mProperties.put(FIELD_ALLOWED_SHARED_LINK_ACCESS_LEVELS, accessLevels);
+                getPropertyMap().put(FIELD_ALLOWED_SHARED_LINK_ACCESS_LEVELS, accessLevels);
                 return;
             } else if (member.getName().equals(FIELD_TAGS)) {
-                this.mProperties.put(FIELD_TAGS, value.asArray());
+                getPropertyMap().put(FIELD_TAGS, value.asArray());
                 return;
             }
         } catch (Exception e) {
@@ -373,23 +373,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return BoxItem object representing information in the JSON string.
      */
     public static BoxItem createBoxItemFromJson(final String json) {
-        BoxEntity createdByEntity = new BoxEntity();
-        createdByEntity.createFromJson(json);
-        if (createdByEntity.getType().equals(BoxFile.TYPE)) {
-            BoxFile file = new BoxFile();
-            file.createFromJson(json);
-            return file;
-        } else if (createdByEntity.getType().equals(BoxBookmark.TYPE)) {
-            BoxBookmark bookmark = new BoxBookmark();
-            bookmark.createFromJson(json);
-            return bookmark;
-        } else if (createdByEntity.getType().equals(BoxFolder.TYPE)) {
-            BoxFolder folder = new BoxFolder();
-            folder.createFromJson(json);
-            return folder;
-
-        }
-        return null;
+        return createBoxItemFromJson(JsonObject.readFrom(json));
     }
 
     /**
@@ -399,23 +383,7 @@ public abstract class BoxItem extends BoxEntity {
      * @return BoxItem object representing information in the JsonObject.
      */
     public static BoxItem createBoxItemFromJson(final JsonObject json) {
-        BoxEntity createdByEntity = new BoxEntity();
-        createdByEntity.createFromJson(json);
-        if (createdByEntity.getType().equals(BoxFile.TYPE)) {
-            BoxFile file = new BoxFile();
-            file.createFromJson(json);
-            return file;
-        } else if (createdByEntity.getType().equals(BoxBookmark.TYPE)) {
-            BoxBookmark bookmark = new BoxBookmark();
-            bookmark.createFromJson(json);
-            return bookmark;
-        } else if (createdByEntity.getType().equals(BoxFolder.TYPE)) {
-            BoxFolder folder = new BoxFolder();
-            folder.createFromJson(json);
-            return folder;
-
-        }
-        return null;
+        return BoxEntity.createEntityFromJson(json, BoxItem.class);
     }
 
 }
@@ -1,11 +1,15 @@
 package com.box.androidsdk.content.models;
 
+import com.box.androidsdk.content.BoxConfig;
 import com.box.androidsdk.content.utils.BoxDateFormat;
+import com.box.androidsdk.content.utils.BoxJsonReader;
 import com.box.androidsdk.content.utils.SdkUtils;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serializable;
 import java.util.Collection;
 import java.util.Date;
@@ -19,14 +23,26 @@ import java.util.Map;
 public abstract class BoxJsonObject extends BoxObject implements Serializable {
 
     private static final long serialVersionUID = 7174936367401884790L;
-    // Map that holds all the properties of the entity. LinkedHashMap was chosen to preserve ordering when outputting json
+    private static final String SDK_PACKAGE = "com.box.androidsdk.content.";
+
+    // Map that holds all the properties of the entity. It preserves insertion ordering when outputting json. Null when
+    // the properties are kept in a BoxPropertyMap, which is only done for classes of the SDK, so that subclasses outside
+    // the SDK can always use this map.
     protected final LinkedHashMap<String, Object> mProperties;
+    // Either mProperties or the BoxPropertyMap used for compact storage.
+    private Map<String, Object> mPropertyMap;
 
     /**
      * Constructs an empty BoxJSONObject.
      */
     public BoxJsonObject() {
-        mProperties= new LinkedHashMap<String, Object>();
+        if (useCompactStorage()) {
+            mProperties = null;
+            mPropertyMap = new BoxPropertyMap(getClass(), BoxConfig.USE_LAZY_MODEL_PARSING ? this : null);
+        } else {
+            mProperties = new LinkedHashMap<String, Object>();
+            mPropertyMap = mProperties;
+        }
     }
 
 
@@ -35,7 +51,43 @@ public abstract class BoxJsonObject extends BoxObject implements Serializable {
      * @param map   map of keys and values that will populate the object.
      */
     public BoxJsonObject(Map<String, Object> map) {
-        mProperties = new LinkedHashMap<String, Object>(map);
+        if (useCompactStorage()) {
+            mProperties = null;
+            mPropertyMap = new BoxPropertyMap(getClass(), BoxConfig.USE_LAZY_MODEL_PARSING ? this : null, map);
+        } else {
+            mProperties = new LinkedHashMap<String, Object>(map);
+            mPropertyMap = mProperties;
+        }
+    }
+
+    /**
+     * @return true if the properties of this object should be kept in a {@link BoxPropertyMap}, which is also used for
+     * lazy parsing. Objects whose property names are defined by the user, such as metadata, always use a regular map, as
+     * do objects of classes outside the SDK, which may use {@link #mProperties} directly.
+     */
+    private boolean useCompactStorage() {
+        return (BoxConfig.USE_COMPACT_MODEL_STORAGE || BoxConfig.USE_LAZY_MODEL_PARSING)
+                && !(this instanceof BoxMapJsonObject) && !(this instanceof BoxMetadata)
+                && getClass().getName().startsWith(SDK_PACKAGE);
+    }
+
+    /**
+     * Gets the map that holds the properties of this object. This is {@link #mProperties}, unless the object is of a
+     * class of the SDK and compact storage or lazy parsing is enabled in {@link BoxConfig}, in which case it is a compact
+     * map that {@link #mProperties} is not set to.
+     *
+     * @return the properties of this object.
+     */
+    protected Map<String, Object> getPropertyMap() {
+        return mPropertyMap;
+    }
+
+    private void readObject(ObjectInputStream in) throws IOException, ClassNotFoundException {
+        in.defaultReadObject();
+        if (mPropertyMap == null) {
+            // Objects serialized before compact storage was added only have mProperties.
+            mPropertyMap = mProperties;
+        }
     }
 
     /**
@@ -58,18 +110,97 @@ public abstract class BoxJsonObject extends BoxObject implements Serializable {
                 parseNullJsonMember(member);
                 continue;
             }
+            if (deferJsonMember(member.getName(), member.getValue())) {
+                continue;
+            }
 
             this.parseJSONMember(member);
         }
     }
 
+    /**
+     * Creates the BoxJsonObject from a stream of json tokens. Members are parsed one at a time as they are read, so the
+     * json document is never held in memory as a whole.
+     *
+     * @param reader    reader positioned at the beginning of a json object.
+     * @throws IOException thrown if the stream could not be read or does not contain a json object.
+     */
+    public void createFromJson(BoxJsonReader reader) throws IOException {
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String memberName = reader.nextName();
+            parseJSONMember(memberName, reader);
+        }
+        reader.endObject();
+    }
+
+    /**
+     * Invoked with the name of a JSON member whenever this object is created from a stream of json tokens. The reader is
+     * positioned at the value of the member, which must be consumed by this method.
+     *
+     * <p>
+     * By default the value is read fully and handed to {@link #parseJSONMember(JsonObject.Member)}. Subclasses can override
+     * this method to read large values such as arrays incrementally.
+     * </p>
+     *
+     * @param memberName    the name of the JSON member to be parsed.
+     * @param reader        reader positioned at the value of the member.
+     * @throws IOException thrown if the value could not be read.
+     */
+    protected void parseJSONMember(String memberName, BoxJsonReader reader) throws IOException {
+        JsonValue value = reader.nextValue();
+        if (!value.isNull() && deferJsonMember(memberName, value)) {
+            return;
+        }
+        // JsonObject.Member cannot be constructed directly so it is taken from a single member object.
+        JsonObject.Member member = new JsonObject().add(memberName, value).iterator().next();
+        if (value.isNull()) {
+            parseNullJsonMember(member);
+            return;
+        }
+        parseJSONMember(member);
+    }
+
+    /**
+     * Stores the raw value of a member instead of parsing it when lazy parsing is enabled. The member is then parsed
+     * through {@link #parseJSONMember(JsonObject.Member)} the first time it is read.
+     *
+     * @param memberName    the name of the member.
+     * @param value         the value of the member.
+     * @return true if the member was stored to be parsed later, false if it has to be parsed now.
+     */
+    private boolean deferJsonMember(String memberName, JsonValue value) {
+        if (!(mPropertyMap instanceof BoxPropertyMap) || !((BoxPropertyMap) mPropertyMap).isLazy()
+                || !isLazyJsonMember(memberName, value)) {
+            return false;
+        }
+        ((BoxPropertyMap) mPropertyMap).putRaw(memberName, value);
+        return true;
+    }
+
+    /**
+     * Checks whether a member can be parsed on first access when lazy parsing is enabled. By default all strings, objects
+     * and arrays are parsed lazily, since these hold dates and nested objects. Numbers and booleans are always parsed right away.
+     *
+     * <p>
+     * Subclasses must override this method to exclude members whose parsed value is not only read through {@link #getPropertyMap()}.
+     * </p>
+     *
+     * @param memberName    the name of the member.
+     * @param value         the value of the member.
+     * @return true if the member can be parsed lazily, false otherwise.
+     */
+    protected boolean isLazyJsonMember(String memberName, JsonValue value) {
+        return value.isString() || value.isObject() || value.isArray();
+    }
+
     /**
      * Handle parsing of null member objects from createFromJson method.
      * @param member a member where getValue returns null.
      */
     public void parseNullJsonMember(final JsonObject.Member member){
         if (!SdkUtils.isEmptyString(member.getName())) {
-            mProperties.put(member.getName(), null);
+            mPropertyMap.put(member.getName(), null);
         }
     }
 
@@ -92,9 +223,9 @@ public abstract class BoxJsonObject extends BoxObject implements Serializable {
       //      throw new RuntimeException("unhandled json member '" + memberName + "' xxx  " + value + " current object " + this.getClass());
         }
         try{
-            mProperties.put(memberName, value.asString());
+            mPropertyMap.put(memberName, value.asString());
         } catch (UnsupportedOperationException e){
-            this.mProperties.put(memberName, value. toString());
+            mPropertyMap.put(memberName, value. toString());
         }
 
 
@@ -111,7 +242,7 @@ public abstract class BoxJsonObject extends BoxObject implements Serializable {
 
     protected JsonObject toJsonObject() {
         JsonObject jsonObj = new JsonObject();
-        for (Map.Entry<String, Object> entry : mProperties.entrySet()) {
+        for (Map.Entry<String, Object> entry : mPropertyMap.entrySet()) {
             JsonValue value = parseJsonObject(entry);
             jsonObj.add(entry.getKey(), value);
         }
@@ -147,6 +278,9 @@ public abstract class BoxJsonObject extends BoxObject implements Serializable {
      * @return  HashMap representing the object's properties.
      */
     public HashMap<String, Object> getPropertiesAsHashMap() {
+        if (mProperties == null) {
+            return SdkUtils.cloneSerializable(new LinkedHashMap<String, Object>(mPropertyMap));
+        }
         return SdkUtils.cloneSerializable(mProperties);
     }
 }
@@ -1,9 +1,11 @@
 package com.box.androidsdk.content.models;
 
+import com.box.androidsdk.content.utils.BoxJsonReader;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Iterator;
@@ -52,7 +54,7 @@ public class BoxList<E extends BoxJsonObject> extends BoxJsonObject implements C
      */
     protected void addCollectionToProperties(){
         if (! collectionInProperties){
-            mProperties.put(FIELD_ENTRIES, collection);
+            getPropertyMap().put(FIELD_ENTRIES, collection);
             collectionInProperties = true;
         }
     }
@@ -80,7 +82,7 @@ public class BoxList<E extends BoxJsonObject> extends BoxJsonObject implements C
      * @return the offset within the full collection where this collection's items begin.
      */
     public Long offset() {
-        return (Long) mProperties.get(FIELD_OFFSET);
+        return (Long) getPropertyMap().get(FIELD_OFFSET);
     }
 
     /**
@@ -89,7 +91,7 @@ public class BoxList<E extends BoxJsonObject> extends BoxJsonObject implements C
      * @return the maximum number of items within the full collection that begin at the offset.
      */
     public Long limit() {
-        return (Long) mProperties.get(FIELD_LIMIT);
+        return (Long) getPropertyMap().get(FIELD_LIMIT);
     }
 
     /**
@@ -98,7 +100,7 @@ public class BoxList<E extends BoxJsonObject> extends BoxJsonObject implements C
      * @return the size of the full collection that this partial collection is based off of.
      */
     public Long fullSize() {
-        return (Long) mProperties.get(FIELD_TOTAL_COUNT);
+        return (Long) getPropertyMap().get(FIELD_TOTAL_COUNT);
     }
 
     @Override
@@ -106,23 +108,22 @@ public class BoxList<E extends BoxJsonObject> extends BoxJsonObject implements C
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_ORDER)) {
-            mProperties.put(FIELD_ORDER, parseOrder(value));
+            getPropertyMap().put(FIELD_ORDER, parseOrder(value));
             return;
         } else if (memberName.equals(FIELD_TOTAL_COUNT)) {
-            this.mProperties.put(FIELD_TOTAL_COUNT, value.asLong());
+            getPropertyMap().put(FIELD_TOTAL_COUNT, value.asLong());
             return;
         } else if (memberName.equals(FIELD_OFFSET)) {
-            this.mProperties.put(FIELD_OFFSET, value.asLong());
+            getPropertyMap().put(FIELD_OFFSET, value.asLong());
             return;
         } else if (memberName.equals(FIELD_LIMIT)) {
-            this.mProperties.put(FIELD_LIMIT, value.asLong());
+            getPropertyMap().put(FIELD_LIMIT, value.asLong());
             return;
         } else if (memberName.equals(FIELD_ENTRIES)) {
             addCollectionToProperties();
             JsonArray entries = value.asArray();
             for (JsonValue entry : entries) {
-                JsonObject obj = entry.asObject();
-                collection.add((E) BoxEntity.createEntityFromJson(obj));
+                parseEntry(entry.asObject());
             }
             return;
         }
@@ -130,6 +131,37 @@ public class BoxList<E extends BoxJsonObject> extends BoxJsonObject implements C
         super.parseJSONMember(member);
     }
 
+    @Override
+    protected void parseJSONMember(String memberName, BoxJsonReader reader) throws IOException {
+        if (memberName.equals(FIELD_ENTRIES) && reader.peek() == BoxJsonReader.Token.BEGIN_ARRAY) {
+            // Entries are added as they are read so that only one entry at a time is held as json.
+            addCollectionToProperties();
+            reader.beginArray();
+            while (reader.hasNext()) {
+                parseEntry(reader.nextValue().asObject());
+            }
+            reader.endArray();
+            return;
+        }
+        super.parseJSONMember(memberName, reader);
+    }
+
+    @Override
+    protected boolean isLazyJsonMember(String memberName, JsonValue value) {
+        // Entries are held in the collection rather than in the properties.
+        return !memberName.equals(FIELD_ENTRIES) && super.isLazyJsonMember(memberName, value);
+    }
+
+    /**
+     * Parses a single entry of the entries array and adds it to this collection. Subclasses that contain a known type
+     * of entry should override this method.
+     *
+     * @param entry the json object of the entry.
+     */
+    protected void parseEntry(JsonObject entry) {
+        collection.add((E) BoxEntity.createEntityFromJson(entry));
+    }
+
     private ArrayList<BoxOrder> parseOrder(JsonValue jsonObject) {
         JsonArray entries = jsonObject.asArray();
         ArrayList<BoxOrder> orders = new ArrayList<BoxOrder>(entries.size());
@@ -248,7 +280,7 @@ public class BoxList<E extends BoxJsonObject> extends BoxJsonObject implements C
     }
 
     public ArrayList<BoxOrder> getSortOrders() {
-        return (ArrayList<BoxOrder>) mProperties.get(FIELD_ORDER);
+        return (ArrayList<BoxOrder>) getPropertyMap().get(FIELD_ORDER);
     }
 
     public static final String FIELD_TOTAL_COUNT = "total_count";
@@ -1,7 +1,6 @@
 package com.box.androidsdk.content.models;
 
 import com.box.androidsdk.content.utils.IStreamPosition;
-import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
@@ -26,25 +25,22 @@ public class BoxListEnterpriseEvents extends BoxList<BoxEnterpriseEvent> impleme
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_NEXT_STREAM_POSITION)) {
-            mProperties.put(FIELD_NEXT_STREAM_POSITION, value.asString());
+            getPropertyMap().put(FIELD_NEXT_STREAM_POSITION, value.asString());
             return;
         } else if (memberName.equals(FIELD_CHUNK_SIZE)) {
-            mProperties.put(FIELD_CHUNK_SIZE, value.asLong());
-            return;
-        } else if (memberName.equals(FIELD_ENTRIES)) {
-            JsonArray entries = value.asArray();
-            for (JsonValue entry : entries) {
-                BoxEnterpriseEvent event = new BoxEnterpriseEvent();
-                JsonObject obj = entry.asObject();
-                event.createFromJson(obj);
-                add(event);
-            }
-            mProperties.put(FIELD_ENTRIES, collection);
+            getPropertyMap().put(FIELD_CHUNK_SIZE, value.asLong());
             return;
         }
         super.parseJSONMember(member);
     }
 
+    @Override
+    protected void parseEntry(JsonObject entry) {
+        BoxEnterpriseEvent event = new BoxEnterpriseEvent();
+        event.createFromJson(entry);
+        add(event);
+    }
+
     @Override
     public boolean add(BoxEnterpriseEvent boxEnterpriseEvent) {
         if (mFilterDuplicates && mEventIds.contains(boxEnterpriseEvent.getEventId())) {
@@ -96,7 +92,7 @@ public class BoxListEnterpriseEvents extends BoxList<BoxEnterpriseEvent> impleme
      * @return number of event records returned.
      */
     public Long getChunkSize() {
-        return (Long) mProperties.get(FIELD_CHUNK_SIZE);
+        return (Long) getPropertyMap().get(FIELD_CHUNK_SIZE);
     }
 
     /**
@@ -105,7 +101,7 @@ public class BoxListEnterpriseEvents extends BoxList<BoxEnterpriseEvent> impleme
      * @return next position in the event stream to request in order to get the next events.
      */
     public Long getNextStreamPosition() {
-        String longValue = (String) mProperties.get(FIELD_NEXT_STREAM_POSITION);
+        String longValue = (String) getPropertyMap().get(FIELD_NEXT_STREAM_POSITION);
         return Long.parseLong(longValue.replace("\"", ""));
     }
 
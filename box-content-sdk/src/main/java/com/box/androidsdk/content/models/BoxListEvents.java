@@ -1,7 +1,6 @@
 package com.box.androidsdk.content.models;
 
 import com.box.androidsdk.content.utils.IStreamPosition;
-import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
@@ -26,25 +25,22 @@ public class BoxListEvents extends BoxList<BoxEvent> implements IStreamPosition
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_NEXT_STREAM_POSITION)) {
-            mProperties.put(FIELD_NEXT_STREAM_POSITION, value.asLong());
+            getPropertyMap().put(FIELD_NEXT_STREAM_POSITION, value.asLong());
             return;
         } else if (memberName.equals(FIELD_CHUNK_SIZE)) {
-            mProperties.put(FIELD_CHUNK_SIZE, value.asLong());
-            return;
-        } else if (memberName.equals(FIELD_ENTRIES)) {
-            JsonArray entries = value.asArray();
-            for (JsonValue entry : entries) {
-                BoxEvent event = new BoxEvent();
-                JsonObject obj = entry.asObject();
-                event.createFromJson(obj);
-                add(event);
-            }
-            mProperties.put(FIELD_ENTRIES, collection);
+            getPropertyMap().put(FIELD_CHUNK_SIZE, value.asLong());
             return;
         }
         super.parseJSONMember(member);
     }
 
+    @Override
+    protected void parseEntry(JsonObject entry) {
+        BoxEvent event = new BoxEvent();
+        event.createFromJson(entry);
+        add(event);
+    }
+
     @Override
     public boolean add(BoxEvent boxEvent) {
         if (mFilterDuplicates && mEventIds.contains(boxEvent.getEventId())) {
@@ -94,7 +90,7 @@ public class BoxListEvents extends BoxList<BoxEvent> implements IStreamPosition
      * @return number of event records returned.
      */
     public Long getChunkSize() {
-        return (Long) mProperties.get(FIELD_CHUNK_SIZE);
+        return (Long) getPropertyMap().get(FIELD_CHUNK_SIZE);
     }
 
     /**
@@ -103,7 +99,7 @@ public class BoxListEvents extends BoxList<BoxEvent> implements IStreamPosition
      * @return next position in the event stream to request in order to get the next events.
      */
     public Long getNextStreamPosition() {
-        return (Long) mProperties.get(FIELD_NEXT_STREAM_POSITION);
+        return (Long) getPropertyMap().get(FIELD_NEXT_STREAM_POSITION);
     }
 
     /**
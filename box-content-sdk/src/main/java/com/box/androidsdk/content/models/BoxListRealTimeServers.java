@@ -1,6 +1,5 @@
 package com.box.androidsdk.content.models;
 
-import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
@@ -17,20 +16,17 @@ public class BoxListRealTimeServers extends BoxList<BoxRealTimeServer> {
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_CHUNK_SIZE)) {
-            mProperties.put(FIELD_CHUNK_SIZE, value.asLong());
-            return;
-        } else if (memberName.equals(FIELD_ENTRIES)) {
-            JsonArray entries = value.asArray();
-            for (JsonValue entry : entries) {
-                BoxRealTimeServer server = new BoxRealTimeServer();
-                JsonObject obj = entry.asObject();
-                server.createFromJson(obj);
-                add(server);
-            }
-            mProperties.put(FIELD_ENTRIES, collection);
+            getPropertyMap().put(FIELD_CHUNK_SIZE, value.asLong());
             return;
         }
         super.parseJSONMember(member);
     }
 
+    @Override
+    protected void parseEntry(JsonObject entry) {
+        BoxRealTimeServer server = new BoxRealTimeServer();
+        server.createFromJson(entry);
+        add(server);
+    }
+
 }
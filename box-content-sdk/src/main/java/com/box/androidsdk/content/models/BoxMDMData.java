@@ -30,11 +30,11 @@ public class BoxMDMData extends BoxJsonObject {
      * @return an object indexed by the given key, or null if there is no such object.
      */
     public Object getValue(final String key){
-        return mProperties.get(key);
+        return getPropertyMap().get(key);
     }
 
     public void setValue(final String key, final String value){
-        mProperties.put(key, value);
+        getPropertyMap().put(key, value);
     }
 
     public void setBundleId(final String bundleId){
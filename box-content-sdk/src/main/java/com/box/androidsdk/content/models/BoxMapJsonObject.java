@@ -21,6 +21,6 @@ public class BoxMapJsonObject extends BoxJsonObject {
      * @return an object indexed by the given key, or null if there is no such object.
      */
     public Object getValue(final String key){
-        return mProperties.get(key);
+        return getPropertyMap().get(key);
     }
 }
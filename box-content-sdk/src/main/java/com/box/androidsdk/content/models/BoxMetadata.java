@@ -52,7 +52,7 @@ public class BoxMetadata extends BoxJsonObject {
      * @return the metadata's parent.
      */
     public String getParent() {
-        return (String) mProperties.get(FIELD_PARENT);
+        return (String) getPropertyMap().get(FIELD_PARENT);
     }
 
     /**
@@ -61,7 +61,7 @@ public class BoxMetadata extends BoxJsonObject {
      * @return the metadata's template.
      */
     public String getTemplate() {
-        return (String) mProperties.get(FIELD_TEMPLATE);
+        return (String) getPropertyMap().get(FIELD_TEMPLATE);
     }
 
     /**
@@ -70,7 +70,7 @@ public class BoxMetadata extends BoxJsonObject {
      * @return the metadata's scope.
      */
     public String getScope() {
-        return (String) mProperties.get(FIELD_SCOPE);
+        return (String) getPropertyMap().get(FIELD_SCOPE);
     }
 
     @Override
@@ -79,16 +79,16 @@ public class BoxMetadata extends BoxJsonObject {
             String memberName = member.getName();
             JsonValue value = member.getValue();
             if (memberName.equals(FIELD_PARENT)) {
-                this.mProperties.put(FIELD_PARENT, value.asString());
+                getPropertyMap().put(FIELD_PARENT, value.asString());
                 return;
             } else if (memberName.equals(FIELD_TEMPLATE)) {
-                this.mProperties.put(FIELD_TEMPLATE, value.asString());
+                getPropertyMap().put(FIELD_TEMPLATE, value.asString());
                 return;
             } else if (memberName.equals(FIELD_SCOPE)) {
-                this.mProperties.put(FIELD_SCOPE, value.asString());
+                getPropertyMap().put(FIELD_SCOPE, value.asString());
                 return;
             } else if (!mMetadataKeys.contains(memberName)){
-                this.mProperties.put(memberName, value.asString());
+                getPropertyMap().put(memberName, value.asString());
                 mMetadataKeys.add(memberName);
                 return;
             }
@@ -17,10 +17,10 @@ public class BoxOrder extends BoxJsonObject {
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_BY)) {
-            this.mProperties.put(FIELD_BY, value.asString());
+            getPropertyMap().put(FIELD_BY, value.asString());
             return;
         } else if (memberName.equals(FIELD_DIRECTION)) {
-            this.mProperties.put(FIELD_DIRECTION, value.asString());
+            getPropertyMap().put(FIELD_DIRECTION, value.asString());
             return;
         }
 
@@ -0,0 +1,657 @@
+package com.box.androidsdk.content.models;
+
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.ConcurrentModificationException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Compact storage for the properties of a {@link BoxJsonObject}.
+ *
+ * <p>All instances of a model class share one table of property names. Each instance only keeps its values in a flat
+ * array indexed by the position of the name in that table, together with the order in which they were added, instead
+ * of one map entry per property. Long values such as sizes and counts are kept unboxed in a separate array.</p>
+ *
+ * <p>When the map is created for lazy parsing, members can be stored as their raw json value through
+ * {@link #putRaw(String, JsonValue)}. The value is parsed by the owning object the first time it is read and the result
+ * replaces the raw value. Access to a lazy map is synchronized so that parsed values are safely shared between threads.</p>
+ *
+ * <p>Insertion order is preserved like in a LinkedHashMap. The class extends AbstractMap rather than a HashMap so that
+ * every method of the map, including the default methods added to {@link Map} in later platform versions, goes through
+ * the compact storage.</p>
+ */
+final class BoxPropertyMap extends AbstractMap<String, Object> implements Cloneable, Serializable {
+
+    private static final long serialVersionUID = -2867447212592779352L;
+
+    // Markers stored in place of a value that is null or that is kept in the long array.
+    private static final Object NULL_VALUE = new Object();
+    private static final Object LONG_VALUE = new Object();
+
+    private static final Object[] EMPTY_VALUES = new Object[0];
+    private static final long[] EMPTY_LONGS = new long[0];
+    private static final int[] EMPTY_ORDER = new int[0];
+
+    private static final ConcurrentHashMap<Class<?>, KeyTable> mKeyTables = new ConcurrentHashMap<Class<?>, KeyTable>();
+
+    private final Class<?> mOwner;
+    private final KeyTable mKeyTable;
+    // Object that parses raw values on first access, or null if values are never stored raw.
+    private final BoxJsonObject mResolver;
+    private Object[] mValues = EMPTY_VALUES;
+    private long[] mLongs = EMPTY_LONGS;
+    // Bit set of the indices whose value is still a raw json value.
+    private long[] mRawIndices = EMPTY_LONGS;
+    // Indices of the keys in the key table in insertion order.
+    private int[] mOrder = EMPTY_ORDER;
+    private int mSize = 0;
+    private transient int mModCount = 0;
+
+    /**
+     * Constructs an empty property map that shares its key table with all other instances of the owner class.
+     *
+     * @param owner the model class the properties belong to.
+     */
+    BoxPropertyMap(Class<?> owner) {
+        this(owner, (BoxJsonObject) null);
+    }
+
+    /**
+     * Constructs an empty property map whose raw values are parsed by the given object on first access.
+     *
+     * @param owner     the model class the properties belong to.
+     * @param resolver  the object the properties belong to, or null if values are never stored raw.
+     */
+    BoxPropertyMap(Class<?> owner, BoxJsonObject resolver) {
+        mOwner = owner;
+        mKeyTable = getKeyTable(owner);
+        mResolver = resolver;
+    }
+
+    /**
+     * Constructs a property map with the provided values that shares its key table with all other instances of the
+     * owner class.
+     *
+     * @param owner the model class the properties belong to.
+     * @param map   map of keys and values to copy.
+     */
+    BoxPropertyMap(Class<?> owner, Map<String, Object> map) {
+        this(owner, null, map);
+    }
+
+    /**
+     * Constructs a property map with the provided values whose raw values are parsed by the given object on first
+     * access.
+     *
+     * @param owner     the model class the properties belong to.
+     * @param resolver  the object the properties belong to, or null if values are never stored raw.
+     * @param map       map of keys and values to copy.
+     */
+    BoxPropertyMap(Class<?> owner, BoxJsonObject resolver, Map<String, Object> map) {
+        this(owner, resolver);
+        putAll(map);
+    }
+
+    private static KeyTable getKeyTable(Class<?> owner) {
+        KeyTable table = mKeyTables.get(owner);
+        if (table == null) {
+            KeyTable newTable = new KeyTable();
+            table = mKeyTables.putIfAbsent(owner, newTable);
+            if (table == null) {
+                table = newTable;
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public int size() {
+        return mSize;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return mSize == 0;
+    }
+
+    /**
+     * @return true if raw values can be stored in this map.
+     */
+    boolean isLazy() {
+        return mResolver != null;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (mResolver != null) {
+            synchronized (this) {
+                return containsKeyInternal(key);
+            }
+        }
+        return containsKeyInternal(key);
+    }
+
+    private boolean containsKeyInternal(Object key) {
+        if (!(key instanceof String)) {
+            return false;
+        }
+        int index = mKeyTable.snapshot().indexOf((String) key);
+        return index != -1 && valueAt(index) != null;
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        if (mResolver != null) {
+            synchronized (this) {
+                return containsValueInternal(value);
+            }
+        }
+        return containsValueInternal(value);
+    }
+
+    private boolean containsValueInternal(Object value) {
+        KeyTable.Snapshot keys = mKeyTable.snapshot();
+        for (int i = 0; i < mSize; i++) {
+            Object v = decode(keys, mOrder[i]);
+            if (value == null ? v == null : value.equals(v)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public Object get(Object key) {
+        if (mResolver != null) {
+            synchronized (this) {
+                return getInternal(key);
+            }
+        }
+        return getInternal(key);
+    }
+
+    private Object getInternal(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        KeyTable.Snapshot keys = mKeyTable.snapshot();
+        int index = keys.indexOf((String) key);
+        if (index == -1 || valueAt(index) == null) {
+            return null;
+        }
+        return decode(keys, index);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        if (mResolver != null) {
+            synchronized (this) {
+                return putInternal(key, value);
+            }
+        }
+        return putInternal(key, value);
+    }
+
+    /**
+     * Stores the raw json value of a member, which is parsed by the owning object the first time it is read.
+     *
+     * @param key   the name of the member.
+     * @param value the raw json value of the member.
+     */
+    synchronized void putRaw(String key, JsonValue value) {
+        if (mResolver == null) {
+            throw new IllegalStateException("Raw values are not supported by this map");
+        }
+        putInternal(key, value);
+        setRaw(mKeyTable.snapshot().indexOf(key), true);
+    }
+
+    private Object putInternal(String key, Object value) {
+        if (key == null) {
+            throw new NullPointerException("key == null");
+        }
+        int index = mKeyTable.indexOfOrAdd(key);
+        if (index >= mValues.length) {
+            mValues = Arrays.copyOf(mValues, Math.max(index + 1, mKeyTable.snapshot().size()));
+        }
+        KeyTable.Snapshot keys = mKeyTable.snapshot();
+        Object previous = null;
+        if (mValues[index] == null) {
+            addToOrder(index);
+        } else {
+            previous = decode(keys, index);
+        }
+
+        setRaw(index, false);
+        if (value instanceof Long) {
+            int slot = mKeyTable.longSlotOrAdd(index);
+            if (slot >= mLongs.length) {
+                mLongs = Arrays.copyOf(mLongs, Math.max(slot + 1, mKeyTable.snapshot().longSlotCount()));
+            }
+            mLongs[slot] = (Long) value;
+            mValues[index] = LONG_VALUE;
+        } else {
+            mValues[index] = value == null ? NULL_VALUE : value;
+        }
+        return previous;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        for (Map.Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (mResolver != null) {
+            synchronized (this) {
+                return removeInternal(key);
+            }
+        }
+        return removeInternal(key);
+    }
+
+    private Object removeInternal(Object key) {
+        if (!(key instanceof String)) {
+            return null;
+        }
+        KeyTable.Snapshot keys = mKeyTable.snapshot();
+        int index = keys.indexOf((String) key);
+        if (index == -1 || valueAt(index) == null) {
+            return null;
+        }
+        Object previous = decode(keys, index);
+        removeAt(index);
+        return previous;
+    }
+
+    @Override
+    public void clear() {
+        if (mResolver != null) {
+            synchronized (this) {
+                clearInternal();
+            }
+            return;
+        }
+        clearInternal();
+    }
+
+    private void clearInternal() {
+        Arrays.fill(mValues, null);
+        Arrays.fill(mRawIndices, 0);
+        mSize = 0;
+        mModCount++;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return new AbstractSet<String>() {
+            @Override
+            public Iterator<String> iterator() {
+                final Iterator<Map.Entry<String, Object>> entries = entrySet().iterator();
+                return new Iterator<String>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public String next() {
+                        return entries.next().getKey();
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return mSize;
+            }
+
+            @Override
+            public boolean contains(Object o) {
+                return containsKey(o);
+            }
+        };
+    }
+
+    @Override
+    public Collection<Object> values() {
+        return new AbstractCollection<Object>() {
+            @Override
+            public Iterator<Object> iterator() {
+                final Iterator<Map.Entry<String, Object>> entries = entrySet().iterator();
+                return new Iterator<Object>() {
+                    @Override
+                    public boolean hasNext() {
+                        return entries.hasNext();
+                    }
+
+                    @Override
+                    public Object next() {
+                        return entries.next().getValue();
+                    }
+
+                    @Override
+                    public void remove() {
+                        entries.remove();
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return mSize;
+            }
+        };
+    }
+
+    @Override
+    public Set<Map.Entry<String, Object>> entrySet() {
+        return new AbstractSet<Map.Entry<String, Object>>() {
+            @Override
+            public Iterator<Map.Entry<String, Object>> iterator() {
+                return new EntryIterator();
+            }
+
+            @Override
+            public int size() {
+                return mSize;
+            }
+        };
+    }
+
+    @Override
+    public Object clone() {
+        return new BoxPropertyMap(mOwner, null, this);
+    }
+
+    /**
+     * Serialized as a plain LinkedHashMap which is turned back into compact storage for the same model class.
+     */
+    private Object writeReplace() throws ObjectStreamException {
+        return new SerializedForm(mOwner, new LinkedHashMap<String, Object>(this));
+    }
+
+    private Object valueAt(int index) {
+        return index < mValues.length ? mValues[index] : null;
+    }
+
+    private Object decode(KeyTable.Snapshot keys, int index) {
+        if (isRaw(index)) {
+            return resolve(index);
+        }
+        Object value = mValues[index];
+        if (value == NULL_VALUE) {
+            return null;
+        } else if (value == LONG_VALUE) {
+            return mLongs[keys.longSlot(index)];
+        }
+        return value;
+    }
+
+    /**
+     * Parses the raw value at the given index through the owning object. The slot keeps its position in the insertion
+     * order and is left empty if the owner does not store a value for the member.
+     */
+    private synchronized Object resolve(int index) {
+        if (!isRaw(index)) {
+            return decode(mKeyTable.snapshot(), index);
+        }
+        JsonValue value = (JsonValue) mValues[index];
+        String key = mKeyTable.snapshot().keyAt(index);
+        setRaw(index, false);
+        mValues[index] = NULL_VALUE;
+        // JsonObject.Member cannot be constructed directly so it is taken from a single member object.
+        mResolver.parseJSONMember(new JsonObject().add(key, value).iterator().next());
+        return decode(mKeyTable.snapshot(), index);
+    }
+
+    private boolean isRaw(int index) {
+        int word = index >> 6;
+        return word < mRawIndices.length && (mRawIndices[word] & (1L << index)) != 0;
+    }
+
+    private void setRaw(int index, boolean raw) {
+        int word = index >> 6;
+        if (word >= mRawIndices.length) {
+            if (!raw) {
+                return;
+            }
+            mRawIndices = Arrays.copyOf(mRawIndices, word + 1);
+        }
+        if (raw) {
+            mRawIndices[word] |= 1L << index;
+        } else {
+            mRawIndices[word] &= ~(1L << index);
+        }
+    }
+
+    private void addToOrder(int index) {
+        if (mSize == mOrder.length) {
+            mOrder = Arrays.copyOf(mOrder, Math.max(4, mValues.length));
+        }
+        mOrder[mSize++] = index;
+        mModCount++;
+    }
+
+    private void removeAt(int index) {
+        mValues[index] = null;
+        setRaw(index, false);
+        for (int i = 0; i < mSize; i++) {
+            if (mOrder[i] == index) {
+                System.arraycopy(mOrder, i + 1, mOrder, i, mSize - i - 1);
+                mSize--;
+                break;
+            }
+        }
+        mModCount++;
+    }
+
+    private class EntryIterator implements Iterator<Map.Entry<String, Object>> {
+        private int mPosition = 0;
+        private int mLastIndex = -1;
+        private int mExpectedModCount = mModCount;
+
+        @Override
+        public boolean hasNext() {
+            return mPosition < mSize;
+        }
+
+        @Override
+        public Map.Entry<String, Object> next() {
+            if (mExpectedModCount != mModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (mPosition >= mSize) {
+                throw new NoSuchElementException();
+            }
+            mLastIndex = mOrder[mPosition++];
+            return new PropertyEntry(mLastIndex);
+        }
+
+        @Override
+        public void remove() {
+            if (mLastIndex == -1) {
+                throw new IllegalStateException();
+            }
+            if (mExpectedModCount != mModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(mLastIndex);
+            mPosition--;
+            mLastIndex = -1;
+            mExpectedModCount = mModCount;
+        }
+    }
+
+    private class PropertyEntry implements Map.Entry<String, Object> {
+        private final int mIndex;
+
+        PropertyEntry(int index) {
+            mIndex = index;
+        }
+
+        @Override
+        public String getKey() {
+            return mKeyTable.snapshot().keyAt(mIndex);
+        }
+
+        @Override
+        public Object getValue() {
+            return decode(mKeyTable.snapshot(), mIndex);
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            return put(getKey(), value);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Map.Entry)) {
+                return false;
+            }
+            Map.Entry<?, ?> other = (Map.Entry<?, ?>) o;
+            Object value = getValue();
+            return getKey().equals(other.getKey()) && (value == null ? other.getValue() == null : value.equals(other.getValue()));
+        }
+
+        @Override
+        public int hashCode() {
+            Object value = getValue();
+            return getKey().hashCode() ^ (value == null ? 0 : value.hashCode());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+    }
+
+    /**
+     * The property names of one model class. Tables only grow and are replaced as a whole when a name is added, so
+     * they can be read without locking.
+     */
+    private static final class KeyTable {
+        private volatile Snapshot mSnapshot = new Snapshot(new HashMap<String, Integer>(), new String[0], new int[0], 0);
+
+        Snapshot snapshot() {
+            return mSnapshot;
+        }
+
+        int indexOfOrAdd(String key) {
+            int index = mSnapshot.indexOf(key);
+            if (index != -1) {
+                return index;
+            }
+            synchronized (this) {
+                Snapshot current = mSnapshot;
+                index = current.indexOf(key);
+                if (index != -1) {
+                    return index;
+                }
+                index = current.mKeys.length;
+                HashMap<String, Integer> indices = new HashMap<String, Integer>(current.mIndices);
+                indices.put(key, index);
+                String[] keys = Arrays.copyOf(current.mKeys, index + 1);
+                keys[index] = key;
+                int[] longSlots = Arrays.copyOf(current.mLongSlots, index + 1);
+                longSlots[index] = -1;
+                mSnapshot = new Snapshot(indices, keys, longSlots, current.mLongSlotCount);
+                return index;
+            }
+        }
+
+        int longSlotOrAdd(int index) {
+            int slot = mSnapshot.longSlot(index);
+            if (slot != -1) {
+                return slot;
+            }
+            synchronized (this) {
+                Snapshot current = mSnapshot;
+                slot = current.longSlot(index);
+                if (slot != -1) {
+                    return slot;
+                }
+                slot = current.mLongSlotCount;
+                int[] longSlots = current.mLongSlots.clone();
+                longSlots[index] = slot;
+                mSnapshot = new Snapshot(current.mIndices, current.mKeys, longSlots, slot + 1);
+                return slot;
+            }
+        }
+
+        private static final class Snapshot {
+            private final HashMap<String, Integer> mIndices;
+            private final String[] mKeys;
+            // Position in the long array of the keys holding long values, or -1.
+            private final int[] mLongSlots;
+            private final int mLongSlotCount;
+
+            Snapshot(HashMap<String, Integer> indices, String[] keys, int[] longSlots, int longSlotCount) {
+                mIndices = indices;
+                mKeys = keys;
+                mLongSlots = longSlots;
+                mLongSlotCount = longSlotCount;
+            }
+
+            int indexOf(String key) {
+                Integer index = mIndices.get(key);
+                return index == null ? -1 : index;
+            }
+
+            String keyAt(int index) {
+                return mKeys[index];
+            }
+
+            int longSlot(int index) {
+                return mLongSlots[index];
+            }
+
+            int size() {
+                return mKeys.length;
+            }
+
+            int longSlotCount() {
+                return mLongSlotCount;
+            }
+        }
+    }
+
+    private static final class SerializedForm implements Serializable {
+        private static final long serialVersionUID = 4325286613478451920L;
+
+        private final Class<?> mOwner;
+        private final LinkedHashMap<String, Object> mProperties;
+
+        SerializedForm(Class<?> owner, LinkedHashMap<String, Object> properties) {
+            mOwner = owner;
+            mProperties = properties;
+        }
+
+        private Object readResolve() throws ObjectStreamException {
+            return new BoxPropertyMap(mOwner, mProperties);
+        }
+    }
+}
@@ -29,19 +29,19 @@ public class BoxRealTimeServer extends BoxJsonObject {
         JsonValue value = member.getValue();
 
         if (memberName.equals(FIELD_TYPE)) {
-            this.mProperties.put(FIELD_TYPE, value.asString());
+            getPropertyMap().put(FIELD_TYPE, value.asString());
             return;
         } else if (memberName.equals(FIELD_URL)) {
-            this.mProperties.put(FIELD_URL, value.asString());
+            getPropertyMap().put(FIELD_URL, value.asString());
             return;
         } else if (memberName.equals(FIELD_TTL)) {
-            this.mProperties.put(FIELD_TTL, SdkUtils.parseJsonValueToLong(value));
+            getPropertyMap().put(FIELD_TTL, SdkUtils.parseJsonValueToLong(value));
             return;
         } else if (memberName.equals(FIELD_MAX_RETRIES)) {
-            this.mProperties.put(FIELD_MAX_RETRIES, SdkUtils.parseJsonValueToLong(value));
+            getPropertyMap().put(FIELD_MAX_RETRIES, SdkUtils.parseJsonValueToLong(value));
             return;
         } else if (memberName.equals(FIELD_RETRY_TIMEOUT)) {
-            this.mProperties.put(FIELD_RETRY_TIMEOUT, SdkUtils.parseJsonValueToLong(value));
+            getPropertyMap().put(FIELD_RETRY_TIMEOUT, SdkUtils.parseJsonValueToLong(value));
             return;
         }
         super.parseJSONMember(member);
@@ -53,7 +53,7 @@ public class BoxRealTimeServer extends BoxJsonObject {
      * @return The realtime_server type, 'realtime_server'
      */
     public String getType() {
-        return (String) mProperties.get(TYPE);
+        return (String) getPropertyMap().get(TYPE);
     }
 
     /**
@@ -62,7 +62,7 @@ public class BoxRealTimeServer extends BoxJsonObject {
      * @return the URL for connecting to this server.
      */
     public String getUrl() {
-        return (String) mProperties.get(FIELD_URL);
+        return (String) getPropertyMap().get(FIELD_URL);
     }
 
     /**
@@ -71,7 +71,7 @@ public class BoxRealTimeServer extends BoxJsonObject {
      * @return The time to live for connections to this server.
      */
     public Long getTTL() {
-        return (Long) mProperties.get(FIELD_TTL);
+        return (Long) getPropertyMap().get(FIELD_TTL);
     }
 
     /**
@@ -80,13 +80,13 @@ public class BoxRealTimeServer extends BoxJsonObject {
      * @return The maximum number of retries connections to this server should make.
      */
     public Long getMaxRetries() {
-        return (Long) mProperties.get(FIELD_MAX_RETRIES);
+        return (Long) getPropertyMap().get(FIELD_MAX_RETRIES);
     }
 
     public Long getFieldRetryTimeout() {
-        Long x = (Long) mProperties.get(FIELD_RETRY_TIMEOUT);
+        Long x = (Long) getPropertyMap().get(FIELD_RETRY_TIMEOUT);
         return x - 590;
-//        return (Long) mProperties.get(FIELD_RETRY_TIMEOUT);
+//        return (Long) getPropertyMap().get(FIELD_RETRY_TIMEOUT);
     }
 
     /**
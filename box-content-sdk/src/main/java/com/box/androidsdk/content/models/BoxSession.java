@@ -159,7 +159,8 @@ public class BoxSession extends BoxObject implements BoxAuthentication.AuthListe
      * @param refreshProvider the refresh provider to use when the access token expires and needs to be refreshed.
      */
     public BoxSession(Context context, BoxAuthentication.BoxAuthenticationInfo authInfo, BoxAuthentication.AuthenticationRefreshProvider refreshProvider) {
-        mApplicationContext = context.getApplicationContext();
+        // The context is only used for debug detection and refreshes, so sessions made outside an app can omit it.
+        mApplicationContext = context == null ? null : context.getApplicationContext();
         setAuthInfo(authInfo);
         mRefreshProvider = refreshProvider;
         setupSession();
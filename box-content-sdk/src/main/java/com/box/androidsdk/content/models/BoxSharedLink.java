@@ -1,8 +1,7 @@
 package com.box.androidsdk.content.models;
 
-import android.text.TextUtils;
-
 import com.box.androidsdk.content.utils.BoxDateFormat;
+import com.box.androidsdk.content.utils.SdkUtils;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
@@ -51,7 +50,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the URL of this shared link.
      */
     public String getURL() {
-        return (String) mProperties.get(FIELD_URL);
+        return (String) getPropertyMap().get(FIELD_URL);
     }
 
     /**
@@ -60,7 +59,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the direct download URL of this shared link.
      */
     public String getDownloadURL() {
-        return (String) mProperties.get(FIELD_DOWNLOAD_URL);
+        return (String) getPropertyMap().get(FIELD_DOWNLOAD_URL);
     }
 
     /**
@@ -69,7 +68,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the vanity URL of this shared link.
      */
     public String getVanityURL() {
-        return (String) mProperties.get(FIELD_VANITY_URL);
+        return (String) getPropertyMap().get(FIELD_VANITY_URL);
     }
 
     /**
@@ -78,7 +77,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return true if there's a password enabled on this shared link; otherwise false.
      */
     public Boolean getIsPasswordEnabled() {
-        return (Boolean) mProperties.get(FIELD_IS_PASSWORD_ENABLED);
+        return (Boolean) getPropertyMap().get(FIELD_IS_PASSWORD_ENABLED);
     }
 
     /**
@@ -87,7 +86,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the time that this shared link will be deactivated.
      */
     public Date getUnsharedDate() {
-        return (Date) mProperties.get(FIELD_UNSHARED_AT);
+        return (Date) getPropertyMap().get(FIELD_UNSHARED_AT);
     }
 
     /**
@@ -96,7 +95,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the number of times that this link has been downloaded.
      */
     public Long getDownloadCount() {
-        return (Long) mProperties.get(FIELD_DOWNLOAD_COUNT);
+        return (Long) getPropertyMap().get(FIELD_DOWNLOAD_COUNT);
     }
 
     /**
@@ -105,7 +104,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the number of times that this link has been previewed.
      */
     public Long getPreviewCount() {
-        return (Long) mProperties.get(FIELD_PREVIEW_COUNT);
+        return (Long) getPropertyMap().get(FIELD_PREVIEW_COUNT);
     }
 
     /**
@@ -114,7 +113,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the access level of this shared link.
      */
     public Access getAccess() {
-        return (Access) mProperties.get(FIELD_ACCESS);
+        return (Access) getPropertyMap().get(FIELD_ACCESS);
     }
 
 
@@ -124,7 +123,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the password of this shared link.
      */
     public String getPassword() {
-        return (String) mProperties.get(FIELD_PASSWORD);
+        return (String) getPropertyMap().get(FIELD_PASSWORD);
     }
 
     /**
@@ -134,7 +133,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the effective access level of this shared link.
      */
     public Access getEffectiveAccess() {
-        return (Access) mProperties.get(FIELD_EFFECTIVE_ACCESS);
+        return (Access) getPropertyMap().get(FIELD_EFFECTIVE_ACCESS);
     }
 
     /**
@@ -143,7 +142,7 @@ public class BoxSharedLink extends BoxJsonObject {
      * @return the permissions associated with this shared link.
      */
     public Permissions getPermissions() {
-        return (Permissions) mProperties.get(FIELD_PERMISSIONS);
+        return (Permissions) getPropertyMap().get(FIELD_PERMISSIONS);
     }
 
     @Override
@@ -151,36 +150,36 @@ public class BoxSharedLink extends BoxJsonObject {
         JsonValue value = member.getValue();
         try {
             if (member.getName().equals(FIELD_URL)) {
-                this.mProperties.put(FIELD_URL, value.asString());
+                getPropertyMap().put(FIELD_URL, value.asString());
                 return;
             } else if (member.getName().equals(FIELD_DOWNLOAD_URL)) {
-                this.mProperties.put(FIELD_DOWNLOAD_URL, value.asString());
+                getPropertyMap().put(FIELD_DOWNLOAD_URL, value.asString());
                 return;
             } else if (member.getName().equals(FIELD_VANITY_URL)) {
-                this.mProperties.put(FIELD_VANITY_URL, value.asString());
+                getPropertyMap().put(FIELD_VANITY_URL, value.asString());
                 return;
             } else if (member.getName().equals(FIELD_IS_PASSWORD_ENABLED)) {
-                this.mProperties.put(FIELD_IS_PASSWORD_ENABLED, value.asBoolean());
+                getPropertyMap().put(FIELD_IS_PASSWORD_ENABLED, value.asBoolean());
                 return;
             } else if (member.getName().equals(FIELD_UNSHARED_AT)) {
-                this.mProperties.put(FIELD_UNSHARED_AT, BoxDateFormat.parse(value.asString()));
+                getPropertyMap().put(FIELD_UNSHARED_AT, BoxDateFormat.parse(value.asString()));
                 return;
             } else if (member.getName().equals(FIELD_DOWNLOAD_COUNT)) {
-                this.mProperties.put(FIELD_DOWNLOAD_COUNT, Double.valueOf(value.toString()).longValue());
+                getPropertyMap().put(FIELD_DOWNLOAD_COUNT, Double.valueOf(value.toString()).longValue());
                 return;
             } else if (member.getName().equals(FIELD_PREVIEW_COUNT)) {
-                this.mProperties.put(FIELD_PREVIEW_COUNT, Double.valueOf(value.toString()).longValue());
+                getPropertyMap().put(FIELD_PREVIEW_COUNT, Double.valueOf(value.toString()).longValue());
                 return;
             } else if (member.getName().equals(FIELD_ACCESS)) {
-                this.mProperties.put(FIELD_ACCESS, Access.fromString(value.asString()));
+                getPropertyMap().put(FIELD_ACCESS, Access.fromString(value.asString()));
                 return;
             } else if (member.getName().equals(FIELD_EFFECTIVE_ACCESS)) {
-                this.mProperties.put(FIELD_EFFECTIVE_ACCESS, Access.fromString(value.asString()));
+                getPropertyMap().put(FIELD_EFFECTIVE_ACCESS, Access.fromString(value.asString()));
                 return;
             } else if (member.getName().equals(FIELD_PERMISSIONS)) {
                 Permissions permissions = new Permissions();
                 permissions.createFromJson(value.asObject());
-                this.mProperties.put(FIELD_PERMISSIONS, permissions);
+                getPropertyMap().put(FIELD_PERMISSIONS, permissions);
                 return;
             }
         } catch (ParseException e) {
@@ -221,16 +220,16 @@ public class BoxSharedLink extends BoxJsonObject {
          * @return true if the shared link can be downloaded; otherwise false.
          */
         public Boolean getCanDownload() {
-            return (Boolean) mProperties.get(FIELD_CAN_DOWNLOAD);
+            return (Boolean) getPropertyMap().get(FIELD_CAN_DOWNLOAD);
         }
 
         @Override
         protected void parseJSONMember(JsonObject.Member member) {
             JsonValue value = member.getValue();
             if (member.getName().equals(FIELD_CAN_DOWNLOAD)) {
-                this.mProperties.put(FIELD_CAN_DOWNLOAD, value.asBoolean());
+                getPropertyMap().put(FIELD_CAN_DOWNLOAD, value.asBoolean());
             } else if (member.getName().equals(FIELD_CAN_PREVIEW)) {
-                this.mProperties.put(FIELD_CAN_PREVIEW, value.asBoolean());
+                getPropertyMap().put(FIELD_CAN_PREVIEW, value.asBoolean());
             }
         }
     }
@@ -262,7 +261,7 @@ public class BoxSharedLink extends BoxJsonObject {
         private final String mValue;
 
         public static Access fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (Access e : Access.values()) {
                     if (text.equalsIgnoreCase(e.toString())) {
                         return e;
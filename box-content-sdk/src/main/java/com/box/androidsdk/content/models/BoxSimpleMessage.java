@@ -19,7 +19,7 @@ public class BoxSimpleMessage extends BoxJsonObject {
     protected void parseJSONMember(JsonObject.Member member) {
         JsonValue value = member.getValue();
         if (member.getName().equals(FIELD_MESSAGE)) {
-            this.mProperties.put(FIELD_MESSAGE, value.asString());
+            getPropertyMap().put(FIELD_MESSAGE, value.asString());
             return;
         }
         super.parseJSONMember(member);
@@ -31,7 +31,7 @@ public class BoxSimpleMessage extends BoxJsonObject {
      * @return message from the server.
      */
     public String getMessage() {
-        return (String) mProperties.get(FIELD_MESSAGE);
+        return (String) getPropertyMap().get(FIELD_MESSAGE);
     }
 
     /**
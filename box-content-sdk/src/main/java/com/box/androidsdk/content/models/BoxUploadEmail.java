@@ -1,7 +1,6 @@
 package com.box.androidsdk.content.models;
 
-import android.text.TextUtils;
-
+import com.box.androidsdk.content.utils.SdkUtils;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
 
@@ -38,7 +37,7 @@ public class BoxUploadEmail extends BoxJsonObject {
      * @return the access level of this upload email.
      */
     public Access getAccess() {
-        return (Access) mProperties.get(FIELD_ACCESS);
+        return (Access) getPropertyMap().get(FIELD_ACCESS);
     }
 
     /**
@@ -47,17 +46,17 @@ public class BoxUploadEmail extends BoxJsonObject {
      * @return the email address of this upload email.
      */
     public String getEmail() {
-        return (String) mProperties.get(FIELD_EMAIL);
+        return (String) getPropertyMap().get(FIELD_EMAIL);
     }
 
     @Override
     protected void parseJSONMember(JsonObject.Member member) {
         JsonValue value = member.getValue();
         if (member.getName().equals(FIELD_ACCESS)) {
-            this.mProperties.put(FIELD_ACCESS, Access.fromString(value.asString()));
+            getPropertyMap().put(FIELD_ACCESS, Access.fromString(value.asString()));
             return;
         } else if (member.getName().equals(FIELD_EMAIL)) {
-            this.mProperties.put(FIELD_EMAIL, value.asString());
+            getPropertyMap().put(FIELD_EMAIL, value.asString());
             return;
         }
 
@@ -81,7 +80,7 @@ public class BoxUploadEmail extends BoxJsonObject {
         private final String mValue;
 
         public static Access fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (Access e : Access.values()) {
                     if (text.equalsIgnoreCase(e.toString())) {
                         return e;
@@ -0,0 +1,187 @@
+package com.box.androidsdk.content.models;
+
+import com.box.androidsdk.content.utils.BoxDateFormat;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.text.ParseException;
+import java.util.Date;
+import java.util.Map;
+
+/**
+ * Class that represents a chunked upload session on Box. The content of the file is uploaded in parts of
+ * {@link #getPartSize()} bytes to the session, which is then committed to create the file or new version.
+ */
+public class BoxUploadSession extends BoxEntity {
+
+    private static final long serialVersionUID = -6912358310772468903L;
+
+    public static final String TYPE = "upload_session";
+    public static final String FIELD_TOTAL_PARTS = "total_parts";
+    public static final String FIELD_PART_SIZE = "part_size";
+    public static final String FIELD_NUM_PARTS_PROCESSED = "num_parts_processed";
+    public static final String FIELD_SESSION_EXPIRES_AT = "session_expires_at";
+    public static final String FIELD_SESSION_ENDPOINTS = "session_endpoints";
+
+    /**
+     * Constructs an empty BoxUploadSession object.
+     */
+    public BoxUploadSession() {
+        super();
+    }
+
+    /**
+     * Constructs a BoxUploadSession with the provided map values.
+     *
+     * @param map map of keys and values of the object.
+     */
+    public BoxUploadSession(Map<String, Object> map) {
+        super(map);
+    }
+
+    /**
+     * Gets the number of parts the file has to be uploaded in.
+     *
+     * @return the total number of parts.
+     */
+    public Long getTotalParts() {
+        return (Long) getPropertyMap().get(FIELD_TOTAL_PARTS);
+    }
+
+    /**
+     * Gets the size of every part but the last one.
+     *
+     * @return the part size in bytes.
+     */
+    public Long getPartSize() {
+        return (Long) getPropertyMap().get(FIELD_PART_SIZE);
+    }
+
+    /**
+     * Gets the number of parts the server has finished processing.
+     *
+     * @return the number of processed parts.
+     */
+    public Long getNumPartsProcessed() {
+        return (Long) getPropertyMap().get(FIELD_NUM_PARTS_PROCESSED);
+    }
+
+    /**
+     * Gets the time the session expires, after which uploaded parts are discarded.
+     *
+     * @return the time the session expires.
+     */
+    public Date getSessionExpiresAt() {
+        return (Date) getPropertyMap().get(FIELD_SESSION_EXPIRES_AT);
+    }
+
+    /**
+     * Gets the URLs used to work with the session.
+     *
+     * @return the session endpoints.
+     */
+    public Endpoints getSessionEndpoints() {
+        return (Endpoints) getPropertyMap().get(FIELD_SESSION_ENDPOINTS);
+    }
+
+    @Override
+    protected void parseJSONMember(JsonObject.Member member) {
+        try {
+            String memberName = member.getName();
+            JsonValue value = member.getValue();
+            if (memberName.equals(FIELD_TOTAL_PARTS)) {
+                getPropertyMap().put(FIELD_TOTAL_PARTS, value.asLong());
+                return;
+            } else if (memberName.equals(FIELD_PART_SIZE)) {
+                getPropertyMap().put(FIELD_PART_SIZE, value.asLong());
+                return;
+            } else if (memberName.equals(FIELD_NUM_PARTS_PROCESSED)) {
+                getPropertyMap().put(FIELD_NUM_PARTS_PROCESSED, value.asLong());
+                return;
+            } else if (memberName.equals(FIELD_SESSION_EXPIRES_AT)) {
+                getPropertyMap().put(FIELD_SESSION_EXPIRES_AT, BoxDateFormat.parse(value.asString()));
+                return;
+            } else if (memberName.equals(FIELD_SESSION_ENDPOINTS)) {
+                Endpoints endpoints = new Endpoints();
+                endpoints.createFromJson(value.asObject());
+                getPropertyMap().put(FIELD_SESSION_ENDPOINTS, endpoints);
+                return;
+            }
+        } catch (ParseException e) {
+            assert false : "A ParseException indicates a bug in the SDK.";
+        }
+
+        super.parseJSONMember(member);
+    }
+
+    /**
+     * Contains the URLs used to work with an upload session.
+     */
+    public static class Endpoints extends BoxJsonObject {
+
+        private static final long serialVersionUID = 3318216254386417290L;
+
+        public static final String FIELD_UPLOAD_PART = "upload_part";
+        public static final String FIELD_COMMIT = "commit";
+        public static final String FIELD_ABORT = "abort";
+        public static final String FIELD_LIST_PARTS = "list_parts";
+        public static final String FIELD_STATUS = "status";
+        public static final String FIELD_LOG_EVENT = "log_event";
+
+        /**
+         * Gets the URL parts are uploaded to.
+         *
+         * @return the upload part URL.
+         */
+        public String getUploadPartEndpoint() {
+            return (String) getPropertyMap().get(FIELD_UPLOAD_PART);
+        }
+
+        /**
+         * Gets the URL the session is committed at.
+         *
+         * @return the commit URL.
+         */
+        public String getCommitEndpoint() {
+            return (String) getPropertyMap().get(FIELD_COMMIT);
+        }
+
+        /**
+         * Gets the URL the session is aborted at.
+         *
+         * @return the abort URL.
+         */
+        public String getAbortEndpoint() {
+            return (String) getPropertyMap().get(FIELD_ABORT);
+        }
+
+        /**
+         * Gets the URL listing the parts uploaded to the session.
+         *
+         * @return the list parts URL.
+         */
+        public String getListPartsEndpoint() {
+            return (String) getPropertyMap().get(FIELD_LIST_PARTS);
+        }
+
+        /**
+         * Gets the URL returning the status of the session.
+         *
+         * @return the status URL.
+         */
+        public String getStatusEndpoint() {
+            return (String) getPropertyMap().get(FIELD_STATUS);
+        }
+
+        @Override
+        protected void parseJSONMember(JsonObject.Member member) {
+            String memberName = member.getName();
+            if (memberName.equals(FIELD_UPLOAD_PART) || memberName.equals(FIELD_COMMIT) || memberName.equals(FIELD_ABORT)
+                    || memberName.equals(FIELD_LIST_PARTS) || memberName.equals(FIELD_STATUS) || memberName.equals(FIELD_LOG_EVENT)) {
+                getPropertyMap().put(memberName, member.getValue().asString());
+                return;
+            }
+            super.parseJSONMember(member);
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.box.androidsdk.content.models;
+
+import com.box.androidsdk.content.BoxConstants;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.util.Map;
+
+/**
+ * Class that represents a part of a file uploaded to a {@link BoxUploadSession}.
+ */
+public class BoxUploadSessionPart extends BoxJsonObject {
+
+    private static final long serialVersionUID = 8451372903357516672L;
+
+    public static final String FIELD_PART = "part";
+    public static final String FIELD_PART_ID = "part_id";
+    public static final String FIELD_OFFSET = "offset";
+    public static final String FIELD_SIZE = BoxConstants.FIELD_SIZE;
+    public static final String FIELD_SHA1 = "sha1";
+
+    /**
+     * Constructs an empty BoxUploadSessionPart object.
+     */
+    public BoxUploadSessionPart() {
+        super();
+    }
+
+    /**
+     * Constructs a BoxUploadSessionPart with the provided map values.
+     *
+     * @param map map of keys and values of the object.
+     */
+    public BoxUploadSessionPart(Map<String, Object> map) {
+        super(map);
+    }
+
+    /**
+     * Gets the id the server assigned to the part.
+     *
+     * @return the id of the part.
+     */
+    public String getPartId() {
+        return (String) getPropertyMap().get(FIELD_PART_ID);
+    }
+
+    /**
+     * Gets the offset of the first byte of the part in the file.
+     *
+     * @return the offset of the part.
+     */
+    public Long getOffset() {
+        return (Long) getPropertyMap().get(FIELD_OFFSET);
+    }
+
+    /**
+     * Gets the size of the part.
+     *
+     * @return the size of the part in bytes.
+     */
+    public Long getSize() {
+        return (Long) getPropertyMap().get(FIELD_SIZE);
+    }
+
+    /**
+     * Gets the SHA1 hash of the part.
+     *
+     * @return the SHA1 hash of the part.
+     */
+    public String getSha1() {
+        return (String) getPropertyMap().get(FIELD_SHA1);
+    }
+
+    @Override
+    protected boolean isLazyJsonMember(String memberName, JsonValue value) {
+        // The wrapped part has to be unpacked for its members to be found.
+        return !memberName.equals(FIELD_PART) && super.isLazyJsonMember(memberName, value);
+    }
+
+    @Override
+    protected void parseJSONMember(JsonObject.Member member) {
+        String memberName = member.getName();
+        JsonValue value = member.getValue();
+        if (memberName.equals(FIELD_PART)) {
+            // Responses to part uploads wrap the part in a single member.
+            createFromJson(value.asObject());
+            return;
+        } else if (memberName.equals(FIELD_PART_ID)) {
+            getPropertyMap().put(FIELD_PART_ID, value.asString());
+            return;
+        } else if (memberName.equals(FIELD_OFFSET)) {
+            getPropertyMap().put(FIELD_OFFSET, value.asLong());
+            return;
+        } else if (memberName.equals(FIELD_SIZE)) {
+            getPropertyMap().put(FIELD_SIZE, value.asLong());
+            return;
+        } else if (memberName.equals(FIELD_SHA1)) {
+            getPropertyMap().put(FIELD_SHA1, value.asString());
+            return;
+        }
+        super.parseJSONMember(member);
+    }
+}
@@ -1,7 +1,6 @@
 package com.box.androidsdk.content.models;
 
-import android.text.TextUtils;
-
+import com.box.androidsdk.content.utils.SdkUtils;
 import com.eclipsesource.json.JsonArray;
 import com.eclipsesource.json.JsonObject;
 import com.eclipsesource.json.JsonValue;
@@ -108,7 +107,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the email address the user uses to login.
      */
     public String getLogin() {
-        return (String) mProperties.get(FIELD_LOGIN);
+        return (String) getPropertyMap().get(FIELD_LOGIN);
     }
 
     /**
@@ -117,7 +116,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the user's enterprise role.
      */
     public Role getRole() {
-        return (Role) mProperties.get(FIELD_ROLE);
+        return (Role) getPropertyMap().get(FIELD_ROLE);
     }
 
     /**
@@ -126,7 +125,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the language of the user.
      */
     public String getLanguage() {
-        return (String) mProperties.get(FIELD_LANGUAGE);
+        return (String) getPropertyMap().get(FIELD_LANGUAGE);
     }
 
     /**
@@ -135,7 +134,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the timezone of the user.
      */
     public String getTimezone() {
-        return (String) mProperties.get(FIELD_TIMEZONE);
+        return (String) getPropertyMap().get(FIELD_TIMEZONE);
     }
 
     /**
@@ -144,7 +143,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the user's total available space in bytes.
      */
     public Long getSpaceAmount() {
-        return (Long) mProperties.get(FIELD_SPACE_AMOUNT);
+        return (Long) getPropertyMap().get(FIELD_SPACE_AMOUNT);
     }
 
     /**
@@ -153,7 +152,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the amount of space the user has used in bytes.
      */
     public Long getSpaceUsed() {
-        return (Long) mProperties.get(FIELD_SPACE_USED);
+        return (Long) getPropertyMap().get(FIELD_SPACE_USED);
     }
 
     /**
@@ -162,7 +161,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the maximum individual file size in bytes the user can have.
      */
     public Long getMaxUploadSize() {
-        return (Long) mProperties.get(FIELD_MAX_UPLOAD_SIZE);
+        return (Long) getPropertyMap().get(FIELD_MAX_UPLOAD_SIZE);
     }
 
     /**
@@ -171,7 +170,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the user's current account status.
      */
     public Status getStatus() {
-        return (Status) mProperties.get(FIELD_STATUS);
+        return (Status) getPropertyMap().get(FIELD_STATUS);
     }
 
     /**
@@ -180,7 +179,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the job title of the user.
      */
     public String getJobTitle() {
-        return (String) mProperties.get(FIELD_JOB_TITLE);
+        return (String) getPropertyMap().get(FIELD_JOB_TITLE);
     }
 
     /**
@@ -189,7 +188,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the phone number of the user.
      */
     public String getPhone() {
-        return (String) mProperties.get(FIELD_PHONE);
+        return (String) getPropertyMap().get(FIELD_PHONE);
     }
 
     /**
@@ -198,7 +197,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the address of the user.
      */
     public String getAddress() {
-        return (String) mProperties.get(FIELD_ADDRESS);
+        return (String) getPropertyMap().get(FIELD_ADDRESS);
     }
 
     /**
@@ -207,7 +206,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the URL of the user's avatar.
      */
     public String getAvatarURL() {
-        return (String) mProperties.get(FIELD_AVATAR_URL);
+        return (String) getPropertyMap().get(FIELD_AVATAR_URL);
     }
 
     /**
@@ -216,7 +215,7 @@ public class BoxUser extends BoxCollaborator {
      * @return list of tracking codes.
      */
     public List<String> getTrackingCodes() {
-        return (List<String>) mProperties.get(FIELD_TRACKING_CODES);
+        return (List<String>) getPropertyMap().get(FIELD_TRACKING_CODES);
     }
 
     /**
@@ -225,7 +224,7 @@ public class BoxUser extends BoxCollaborator {
      * @return whether the user can see managed users.
      */
     public Boolean getCanSeeManagedUsers() {
-        return (Boolean) mProperties.get(FIELD_CAN_SEE_MANAGED_USERS);
+        return (Boolean) getPropertyMap().get(FIELD_CAN_SEE_MANAGED_USERS);
     }
 
     /**
@@ -234,7 +233,7 @@ public class BoxUser extends BoxCollaborator {
      * @return whether sync is enabled.
      */
     public Boolean getIsSyncEnabled() {
-        return (Boolean) mProperties.get(FIELD_IS_SYNC_ENABLED);
+        return (Boolean) getPropertyMap().get(FIELD_IS_SYNC_ENABLED);
     }
 
     /**
@@ -243,7 +242,7 @@ public class BoxUser extends BoxCollaborator {
      * @return if external collaboration is restricted.
      */
     public Boolean getIsExternalCollabRestricted() {
-        return (Boolean) mProperties.get(FIELD_IS_EXTERNAL_COLLAB_RESTRICTED);
+        return (Boolean) getPropertyMap().get(FIELD_IS_EXTERNAL_COLLAB_RESTRICTED);
     }
 
     /**
@@ -252,7 +251,7 @@ public class BoxUser extends BoxCollaborator {
      * @return whether or not the user is exempt from Enterprise device limits.
      */
     public Boolean getIsExemptFromDeviceLimits() {
-        return (Boolean) mProperties.get(FIELD_IS_EXEMPT_FROM_DEVICE_LIMITS);
+        return (Boolean) getPropertyMap().get(FIELD_IS_EXEMPT_FROM_DEVICE_LIMITS);
     }
 
     /**
@@ -261,7 +260,7 @@ public class BoxUser extends BoxCollaborator {
      * @return whether or not the user is exempt from two-factor authentication.
      */
     public Boolean getIsExemptFromLoginVerification() {
-        return (Boolean) mProperties.get(FIELD_IS_EXEMPT_FROM_LOGIN_VERIFICATION);
+        return (Boolean) getPropertyMap().get(FIELD_IS_EXEMPT_FROM_LOGIN_VERIFICATION);
     }
 
     /**
@@ -270,7 +269,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the enterprise of the user.
      */
     public BoxEnterprise getEnterprise() {
-        return (BoxEnterprise) mProperties.get(FIELD_ENTERPRISE);
+        return (BoxEnterprise) getPropertyMap().get(FIELD_ENTERPRISE);
     }
 
     /**
@@ -279,7 +278,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the user's hostname.
      */
     public String getHostname() {
-        return (String) mProperties.get(FIELD_HOSTNAME);
+        return (String) getPropertyMap().get(FIELD_HOSTNAME);
     }
 
     /**
@@ -288,7 +287,7 @@ public class BoxUser extends BoxCollaborator {
      * @return the user's tags.
      */
     public List<String> getMyTags() {
-        return (List<String>) mProperties.get(FIELD_MY_TAGS);
+        return (List<String>) getPropertyMap().get(FIELD_MY_TAGS);
     }
 
     @Override
@@ -296,69 +295,69 @@ public class BoxUser extends BoxCollaborator {
         String memberName = member.getName();
         JsonValue value = member.getValue();
         if (memberName.equals(FIELD_LOGIN)) {
-            this.mProperties.put(FIELD_LOGIN, value.asString());
+            getPropertyMap().put(FIELD_LOGIN, value.asString());
             return;
         } else if (memberName.equals(FIELD_ROLE)) {
-            this.mProperties.put(FIELD_ROLE, this.parseRole(value));
+            getPropertyMap().put(FIELD_ROLE, this.parseRole(value));
             return;
         } else if (memberName.equals(FIELD_LANGUAGE)) {
-            this.mProperties.put(FIELD_LANGUAGE, value.asString());
+            getPropertyMap().put(FIELD_LANGUAGE, value.asString());
             return;
         } else if (memberName.equals(FIELD_TIMEZONE)) {
-            this.mProperties.put(FIELD_TIMEZONE, value.asString());
+            getPropertyMap().put(FIELD_TIMEZONE, value.asString());
             return;
         } else if (memberName.equals(FIELD_SPACE_AMOUNT)) {
-            this.mProperties.put(FIELD_SPACE_AMOUNT, Double.valueOf(value.toString()).longValue());
+            getPropertyMap().put(FIELD_SPACE_AMOUNT, Double.valueOf(value.toString()).longValue());
             return;
         } else if (memberName.equals(FIELD_SPACE_USED)) {
-            this.mProperties.put(FIELD_SPACE_USED, Double.valueOf(value.toString()).longValue());
+            getPropertyMap().put(FIELD_SPACE_USED, Double.valueOf(value.toString()).longValue());
             return;
         } else if (memberName.equals(FIELD_MAX_UPLOAD_SIZE)) {
-            this.mProperties.put(FIELD_MAX_UPLOAD_SIZE, Double.valueOf(value.toString()).longValue());
+            getPropertyMap().put(FIELD_MAX_UPLOAD_SIZE, Double.valueOf(value.toString()).longValue());
             return;
         } else if (memberName.equals(FIELD_STATUS)) {
-            this.mProperties.put(FIELD_STATUS, this.parseStatus(value));
+            getPropertyMap().put(FIELD_STATUS, this.parseStatus(value));
             return;
         } else if (memberName.equals(FIELD_JOB_TITLE)) {
-            this.mProperties.put(FIELD_JOB_TITLE, value.asString());
+            getPropertyMap().put(FIELD_JOB_TITLE, value.asString());
             return;
         } else if (memberName.equals(FIELD_PHONE)) {
-            this.mProperties.put(FIELD_PHONE, value.asString());
+            getPropertyMap().put(FIELD_PHONE, value.asString());
             return;
         } else if (memberName.equals(FIELD_ADDRESS)) {
-            this.mProperties.put(FIELD_ADDRESS, value.asString());
+            getPropertyMap().put(FIELD_ADDRESS, value.asString());
             return;
         } else if (memberName.equals(FIELD_AVATAR_URL)) {
-            this.mProperties.put(FIELD_AVATAR_URL, value.asString());
+            getPropertyMap().put(FIELD_AVATAR_URL, value.asString());
             return;
         } else if (memberName.equals(FIELD_TRACKING_CODES)) {
-            this.mProperties.put(FIELD_TRACKING_CODES, this.parseJsonArray(value.asArray()));
+            getPropertyMap().put(FIELD_TRACKING_CODES, this.parseJsonArray(value.asArray()));
             return;
         } else if (memberName.equals(FIELD_CAN_SEE_MANAGED_USERS)) {
-            this.mProperties.put(FIELD_CAN_SEE_MANAGED_USERS, value.asBoolean());
+            getPropertyMap().put(FIELD_CAN_SEE_MANAGED_USERS, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_IS_SYNC_ENABLED)) {
-            this.mProperties.put(FIELD_IS_SYNC_ENABLED, value.asBoolean());
+            getPropertyMap().put(FIELD_IS_SYNC_ENABLED, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_IS_EXTERNAL_COLLAB_RESTRICTED)) {
-            this.mProperties.put(FIELD_IS_EXTERNAL_COLLAB_RESTRICTED, value.asBoolean());
+            getPropertyMap().put(FIELD_IS_EXTERNAL_COLLAB_RESTRICTED, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_IS_EXEMPT_FROM_DEVICE_LIMITS)) {
-            this.mProperties.put(FIELD_IS_EXEMPT_FROM_DEVICE_LIMITS, value.asBoolean());
+            getPropertyMap().put(FIELD_IS_EXEMPT_FROM_DEVICE_LIMITS, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_IS_EXEMPT_FROM_LOGIN_VERIFICATION)) {
-            this.mProperties.put(FIELD_IS_EXEMPT_FROM_LOGIN_VERIFICATION, value.asBoolean());
+            getPropertyMap().put(FIELD_IS_EXEMPT_FROM_LOGIN_VERIFICATION, value.asBoolean());
             return;
         } else if (memberName.equals(FIELD_ENTERPRISE)) {
             BoxEnterprise enterprise = new BoxEnterprise();
             enterprise.createFromJson(value.asObject());
-            this.mProperties.put(FIELD_ENTERPRISE, enterprise);
+            getPropertyMap().put(FIELD_ENTERPRISE, enterprise);
             return;
         } else if (memberName.equals(FIELD_HOSTNAME)) {
-            this.mProperties.put(FIELD_HOSTNAME, value.asString());
+            getPropertyMap().put(FIELD_HOSTNAME, value.asString());
             return;
         } else if (memberName.equals(FIELD_MY_TAGS)) {
-            this.mProperties.put(FIELD_MY_TAGS, this.parseJsonArray(value.asArray()));
+            getPropertyMap().put(FIELD_MY_TAGS, this.parseJsonArray(value.asArray()));
             return;
         }
         super.parseJSONMember(member);
@@ -409,7 +408,7 @@ public class BoxUser extends BoxCollaborator {
         }
 
         public static Role fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (Role e : Role.values()) {
                     if (text.equalsIgnoreCase(e.toString())) {
                         return e;
@@ -456,7 +455,7 @@ public class BoxUser extends BoxCollaborator {
         }
 
         public static Status fromString(String text) {
-            if (!TextUtils.isEmpty(text)) {
+            if (!SdkUtils.isEmptyString(text)) {
                 for (Status e : Status.values()) {
                     if (text.equalsIgnoreCase(e.toString())) {
                         return e;
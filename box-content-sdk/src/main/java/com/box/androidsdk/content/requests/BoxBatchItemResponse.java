@@ -0,0 +1,84 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.listeners.ProgressListener;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * The response to a single request of a server side batch. It is read from the response of the batch instead of from
+ * a connection, so that the handler of the request can process it like any other response.
+ */
+class BoxBatchItemResponse extends BoxHttpResponse {
+
+    private final Map<String, String> mHeaders;
+    private final String mBody;
+
+    /**
+     * @param responseCode  the status of the response.
+     * @param headers   the headers of the response, by lower case name.
+     * @param body  the body of the response, or null if it does not have one.
+     */
+    BoxBatchItemResponse(int responseCode, Map<String, String> headers, String body) {
+        super(null);
+        mResponseCode = responseCode;
+        mHeaders = headers;
+        mBody = body;
+        mContentType = BoxRequest.ContentTypes.JSON.toString();
+    }
+
+    @Override
+    public void open() {
+        // The response has already been received with the batch.
+    }
+
+    @Override
+    public int getContentLength() {
+        return mBody == null ? 0 : getBytes().length;
+    }
+
+    @Override
+    public String getContentType() {
+        String contentType = getHeaderField("Content-Type");
+        return contentType != null ? contentType : mContentType;
+    }
+
+    @Override
+    public String getHeaderField(String name) {
+        return mHeaders.get(name.toLowerCase(Locale.ENGLISH));
+    }
+
+    @Override
+    public InputStream getBody(ProgressListener listener) throws BoxException {
+        return mBody == null ? null : new ByteArrayInputStream(getBytes());
+    }
+
+    @Override
+    public Reader getBodyReader() throws BoxException {
+        return mBody == null ? null : new StringReader(mBody);
+    }
+
+    @Override
+    public String getStringBody() throws BoxException {
+        return mBody;
+    }
+
+    @Override
+    public void disconnect() {
+        // There is no connection to release.
+    }
+
+    private byte[] getBytes() {
+        try {
+            return mBody.getBytes("UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxConstants;
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.listeners.ProgressListener;
+import com.box.androidsdk.content.models.BoxUploadSession;
+import com.box.androidsdk.content.models.BoxUploadSessionPart;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Uploads the parts of a file to an upload session. The calling thread reads the file once from start to end,
+ * computing the SHA1 hash of every part along with the hash of the whole file, and queues each part as soon as its
+ * hash is known. Up to {@link BoxRequestChunkedUpload#getParallelism()} connections take parts from the queue and
+ * upload them, retrying parts that fail with a network or server error.
+ */
+class BoxChunkedUpload {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * Delay before the first retry of a failed part, doubled for every further retry.
+     */
+    static final int PART_RETRY_DELAY_MILLIS = 1000;
+
+    private static final Part END = new Part(-1, 0, 0, null);
+
+    private final BoxRequestChunkedUpload mRequest;
+    private final BoxUploadSession mSession;
+    private final ProgressListener mListener;
+    private final File mFile;
+    private final long mTotal;
+
+    private final LinkedBlockingQueue<Part> mQueue = new LinkedBlockingQueue<Part>();
+    private BoxUploadSessionPart[] mParts;
+    private String mSha1;
+    private long mUploaded;
+    private volatile boolean mCancelled;
+
+    /**
+     * @param request   the request being uploaded.
+     * @param session   the upload session created for the request.
+     */
+    BoxChunkedUpload(BoxRequestChunkedUpload request, BoxUploadSession session) {
+        mRequest = request;
+        mSession = session;
+        mListener = request.mListener;
+        mFile = request.getFile();
+        mTotal = mFile.length();
+    }
+
+    /**
+     * Uploads all parts of the file, blocking until they are uploaded.
+     *
+     * @return the uploaded parts in order of their offsets.
+     * @throws BoxException thrown if any of the parts could not be uploaded.
+     */
+    List<BoxUploadSessionPart> uploadParts() throws BoxException {
+        long partSize = mSession.getPartSize();
+        int count = (int) ((mTotal + partSize - 1) / partSize);
+        mParts = new BoxUploadSessionPart[count];
+
+        int workers = Math.max(1, Math.min(mRequest.getParallelism(), count));
+        ThreadPoolExecutor executor = SdkUtils.createDefaultThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS);
+        ArrayList<Future<Void>> futures = new ArrayList<Future<Void>>(workers);
+        Exception failure = null;
+        try {
+            if (mListener != null) {
+                mListener.onProgressChanged(0, mTotal);
+            }
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        try {
+                            uploadQueuedParts();
+                        } catch (Exception e) {
+                            // Stop hashing and the other connections right away rather than once the file is read.
+                            mCancelled = true;
+                            throw e;
+                        }
+                        return null;
+                    }
+                }));
+            }
+            hashParts(partSize, count);
+        } catch (Exception e) {
+            failure = e;
+            mCancelled = true;
+        } finally {
+            mQueue.offer(END);
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                        mCancelled = true;
+                    }
+                } catch (InterruptedException e) {
+                    if (failure == null) {
+                        failure = e;
+                        mCancelled = true;
+                    }
+                }
+            }
+            executor.shutdown();
+        }
+
+        if (failure instanceof BoxException) {
+            throw (BoxException) failure;
+        } else if (failure != null) {
+            throw new BoxException(failure.getMessage(), failure);
+        }
+        return Arrays.asList(mParts);
+    }
+
+    /**
+     * @return the SHA1 hash of the whole file as a hexadecimal string, known once all parts have been queued.
+     */
+    String getSha1() {
+        return mSha1;
+    }
+
+    private void hashParts(long partSize, int count) throws Exception {
+        MessageDigest fileDigest = MessageDigest.getInstance("SHA-1");
+        MessageDigest partDigest = MessageDigest.getInstance("SHA-1");
+        byte[] buffer = new byte[BUFFER_SIZE];
+        FileInputStream input = new FileInputStream(mFile);
+        try {
+            for (int i = 0; i < count && !mCancelled; i++) {
+                long offset = i * partSize;
+                long size = Math.min(partSize, mTotal - offset);
+                long remaining = size;
+                while (remaining > 0 && !mCancelled) {
+                    int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read == -1) {
+                        throw new IOException("File ended before the expected " + mTotal + " bytes");
+                    }
+                    fileDigest.update(buffer, 0, read);
+                    partDigest.update(buffer, 0, read);
+                    remaining -= read;
+                }
+                if (mCancelled) {
+                    return;
+                }
+                mQueue.put(new Part(i, offset, size, SdkUtils.toHexString(partDigest.digest())));
+            }
+            mSha1 = SdkUtils.toHexString(fileDigest.digest());
+        } finally {
+            input.close();
+        }
+    }
+
+    private void uploadQueuedParts() throws BoxException, InterruptedException {
+        while (!mCancelled) {
+            Part part = mQueue.take();
+            if (part == END) {
+                // Leave the marker for the other connections.
+                mQueue.put(END);
+                return;
+            }
+            uploadPart(part);
+        }
+    }
+
+    private void uploadPart(Part part) throws BoxException, InterruptedException {
+        for (int attempt = 0; ; attempt++) {
+            PartProgress progress = new PartProgress();
+            try {
+                mParts[part.mIndex] = new BoxRequestsFile.UploadSessionPart(mFile, part.mOffset, part.mSize, mTotal,
+                        mSession.getSessionEndpoints().getUploadPartEndpoint(), mRequest.getSession())
+                        .setSha1(part.mSha1)
+                        .setProgressListener(progress)
+                        .setBandwidthClass(mRequest.getBandwidthClass())
+                        .setTransport(mRequest.mTransport)
+                        .send();
+                return;
+            } catch (BoxException e) {
+                onBytesUploaded(-progress.mSent);
+                if (mCancelled || attempt >= mRequest.getPartRetries() || !isRetryable(e)) {
+                    throw e;
+                }
+            }
+            Thread.sleep(PART_RETRY_DELAY_MILLIS << attempt);
+        }
+    }
+
+    /**
+     * @return true if the failure of a part may not happen again, such as a network or server error.
+     */
+    private static boolean isRetryable(BoxException e) {
+        int code = e.getResponseCode();
+        return code == 0 || code >= 500 || code == 408 || code == BoxConstants.HTTP_STATUS_TOO_MANY_REQUESTS;
+    }
+
+    private synchronized void onBytesUploaded(long count) {
+        mUploaded += count;
+        if (mListener != null && count != 0) {
+            mListener.onProgressChanged(mUploaded, mTotal);
+        }
+    }
+
+    /**
+     * Forwards the progress of a single part to the progress of the whole upload.
+     */
+    private class PartProgress implements ProgressListener {
+
+        private long mSent;
+
+        @Override
+        public void onProgressChanged(long numBytes, long totalBytes) {
+            long count = numBytes - mSent;
+            mSent = numBytes;
+            onBytesUploaded(count);
+        }
+    }
+
+    private static class Part {
+
+        final int mIndex;
+        final long mOffset;
+        final long mSize;
+        final String mSha1;
+
+        Part(int index, long offset, long size, String sha1) {
+            mIndex = index;
+            mOffset = offset;
+            mSize = size;
+            mSha1 = sha1;
+        }
+    }
+}
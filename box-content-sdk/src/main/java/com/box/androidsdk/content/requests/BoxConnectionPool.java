@@ -0,0 +1,142 @@
+package com.box.androidsdk.content.requests;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Connection reuse settings and counters for requests sent through {@link BoxRequest#send()}.
+ *
+ * <p>With {@link BoxUrlConnectionTransport}, the default transport, only {@link #setEnabled(boolean)} applies. When
+ * pooling is enabled, requests no longer call {@link java.net.HttpURLConnection#disconnect()} once a response has been
+ * handled. Instead the response body is fully drained and closed so that the platform HTTP stack can keep the socket
+ * alive and reuse it for the next request to the same host, saving a TCP and TLS handshake per call. The size and idle
+ * timeout of the platform pool are process wide and cannot be set from here, and the platform does not tell whether a
+ * socket was reused, so no hits or misses are counted on this path.</p>
+ *
+ * <p>{@link BoxOkHttpTransport} keeps its connections in an OkHttp connection pool created with the idle limit and
+ * keep-alive duration of this class, and counts for every request whether it was sent over a connection OkHttp had
+ * already used or over a new one. Settings apply to transports created after they are changed.</p>
+ */
+public class BoxConnectionPool {
+
+    public static final int DEFAULT_MAX_IDLE_CONNECTIONS = 5;
+    public static final long DEFAULT_KEEP_ALIVE_DURATION_MILLIS = 5 * 60 * 1000;
+
+    private static final BoxConnectionPool mPool = new BoxConnectionPool();
+
+    private volatile boolean mEnabled = false;
+    private volatile int mMaxIdleConnections = DEFAULT_MAX_IDLE_CONNECTIONS;
+    private volatile long mKeepAliveDurationMillis = DEFAULT_KEEP_ALIVE_DURATION_MILLIS;
+
+    private final AtomicLong mHitCount = new AtomicLong();
+    private final AtomicLong mMissCount = new AtomicLong();
+
+    protected BoxConnectionPool() {
+    }
+
+    /**
+     * Get the connection pool shared by all requests of the SDK.
+     *
+     * @return the shared connection pool.
+     */
+    public static BoxConnectionPool getInstance() {
+        return mPool;
+    }
+
+    /**
+     * Sets whether requests sent through {@link BoxUrlConnectionTransport} should return their connections to the
+     * platform keep-alive pool instead of disconnecting them. {@link BoxOkHttpTransport} always returns its connections
+     * to its pool.
+     *
+     * @param enabled true to reuse connections, false to disconnect after every request.
+     * @return this connection pool.
+     */
+    public BoxConnectionPool setEnabled(boolean enabled) {
+        mEnabled = enabled;
+        return this;
+    }
+
+    /**
+     * @return true if requests return their connections to the keep-alive pool, false otherwise.
+     */
+    public boolean isEnabled() {
+        return mEnabled;
+    }
+
+    /**
+     * Sets the maximum number of idle connections the pool of a {@link BoxOkHttpTransport} keeps alive across all hosts.
+     *
+     * @param maxIdleConnections maximum number of idle connections, must be greater than 0.
+     * @return this connection pool.
+     */
+    public BoxConnectionPool setMaxIdleConnections(int maxIdleConnections) {
+        if (maxIdleConnections <= 0) {
+            throw new IllegalArgumentException("maxIdleConnections must be greater than 0");
+        }
+        mMaxIdleConnections = maxIdleConnections;
+        return this;
+    }
+
+    /**
+     * @return the maximum number of idle connections kept alive by the pool of a {@link BoxOkHttpTransport}.
+     */
+    public int getMaxIdleConnections() {
+        return mMaxIdleConnections;
+    }
+
+    /**
+     * Sets how long the pool of a {@link BoxOkHttpTransport} keeps an idle connection alive before it is closed.
+     *
+     * @param keepAliveDurationMillis idle timeout in milliseconds, must be greater than 0.
+     * @return this connection pool.
+     */
+    public BoxConnectionPool setKeepAliveDuration(long keepAliveDurationMillis) {
+        if (keepAliveDurationMillis <= 0) {
+            throw new IllegalArgumentException("keepAliveDurationMillis must be greater than 0");
+        }
+        mKeepAliveDurationMillis = keepAliveDurationMillis;
+        return this;
+    }
+
+    /**
+     * @return how long in milliseconds the pool of a {@link BoxOkHttpTransport} keeps an idle connection alive.
+     */
+    public long getKeepAliveDuration() {
+        return mKeepAliveDurationMillis;
+    }
+
+    /**
+     * @return the number of requests sent through a {@link BoxOkHttpTransport} over a connection that was already used
+     * by an earlier request.
+     */
+    public long getHitCount() {
+        return mHitCount.get();
+    }
+
+    /**
+     * @return the number of requests sent through a {@link BoxOkHttpTransport} that had to open a new connection.
+     */
+    public long getMissCount() {
+        return mMissCount.get();
+    }
+
+    /**
+     * Resets the hit and miss counters.
+     */
+    public void resetStatistics() {
+        mHitCount.set(0);
+        mMissCount.set(0);
+    }
+
+    /**
+     * Called by a transport once it knows which connection a request is sent over.
+     *
+     * @param reused true if the connection was used by an earlier request, false if it was opened for this one.
+     */
+    void onConnectionUsed(boolean reused) {
+        if (reused) {
+            mHitCount.incrementAndGet();
+        } else {
+            mMissCount.incrementAndGet();
+        }
+    }
+}
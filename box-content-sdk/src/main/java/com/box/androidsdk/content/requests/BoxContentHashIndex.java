@@ -0,0 +1,18 @@
+package com.box.androidsdk.content.requests;
+
+/**
+ * An index of content already stored on Box, keyed by SHA1 hash. Used before uploading a file to copy a file with
+ * identical content on the server instead of transferring the content again.
+ */
+public interface BoxContentHashIndex {
+
+    /**
+     * Returns a request that copies a file whose content has the given SHA1 hash into a folder, such as one created by
+     * {@link com.box.androidsdk.content.BoxApiFile#getCopyRequest(String, String)}.
+     *
+     * @param sha1  the SHA1 hash of the content about to be uploaded as a lower case hexadecimal string.
+     * @param destinationFolderId   id of the folder the content is uploaded to.
+     * @return  a request copying a file with the same content into the folder, or null if no such file is known.
+     */
+    BoxRequestsFile.CopyFile getCopyRequest(String sha1, String destinationFolderId);
+}
@@ -0,0 +1,209 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxApiFile;
+import com.box.androidsdk.content.BoxApiFolder;
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.models.BoxFile;
+import com.box.androidsdk.content.models.BoxFolder;
+import com.box.androidsdk.content.models.BoxFolderTransferSummary;
+import com.box.androidsdk.content.models.BoxItem;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Downloads a folder tree from Box. The items of every folder are listed page by page, subfolders are created locally
+ * and listed in turn, and files are queued for download into their local folder as soon as they are listed. Up to
+ * {@link BoxRequestsFolder.DownloadFolder#getParallelism()} connections run the queued work, listing pending folders
+ * before downloading files. Files whose local copy already has the SHA1 hash of the file on Box are not downloaded.
+ */
+class BoxFolderDownload extends BoxFolderTransfer {
+
+    private static final String[] ITEM_FIELDS = new String[]{BoxItem.FIELD_TYPE, BoxItem.FIELD_ID, BoxItem.FIELD_NAME,
+            BoxFile.FIELD_SIZE, BoxFile.FIELD_SHA1};
+
+    private final BoxRequestsFolder.DownloadFolder mRequest;
+    private final BoxApiFolder mFolderApi;
+    private final BoxApiFile mFileApi;
+
+    /**
+     * @param request   the request being downloaded.
+     */
+    BoxFolderDownload(BoxRequestsFolder.DownloadFolder request) {
+        super(request.mListener, request.getParallelism());
+        mRequest = request;
+        mFolderApi = request.getFolderApi();
+        mFileApi = request.getFileApi();
+    }
+
+    /**
+     * Downloads the whole tree, blocking until every folder and file has been downloaded or has failed.
+     *
+     * @return the summary of the download.
+     * @throws BoxException thrown if the top folder could not be created locally or the download was interrupted.
+     */
+    BoxFolderTransferSummary download() throws BoxException {
+        File root = mRequest.getLocalFolder();
+        if (!createDirectory(root)) {
+            throw new BoxException("Unable to create local folder " + root);
+        }
+        runAll(new FolderTask(mRequest.getId(), root, 0));
+        return createSummary(mRequest.getId());
+    }
+
+    private boolean createDirectory(File directory) {
+        if (directory.isDirectory()) {
+            return true;
+        }
+        if (directory.mkdirs()) {
+            onFolderCreated();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Lists the items of a folder one page at a time through a {@link BoxPagedIterator}, so the listing ends on the same
+     * page as any other paged listing, queuing each item as soon as its page is received.
+     */
+    private void listFolder(String folderId, File directory, int depth) throws BoxException {
+        BoxRequestsFolder.GetFolderItems request = mFolderApi.getItemsRequest(folderId)
+                .setFields(ITEM_FIELDS)
+                .setTransport(mRequest.mTransport);
+        BoxPagedIterator<BoxItem> items = new BoxPagedIterator<BoxItem>(request, mRequest.getPageSize());
+        try {
+            while (items.hasNext()) {
+                BoxItem item = items.next();
+                File target = new File(directory, item.getName());
+                if (item instanceof BoxFolder) {
+                    schedule(new FolderTask(item.getId(), target, depth + 1));
+                } else if (item instanceof BoxFile) {
+                    long size = item.getSize() == null ? 0 : item.getSize();
+                    addToTotal(size);
+                    schedule(new FileTask((BoxFile) item, target, depth + 1));
+                }
+            }
+        } finally {
+            items.close();
+        }
+    }
+
+    private void downloadFile(BoxFile file, File target) throws BoxException {
+        long size = file.getSize() == null ? 0 : file.getSize();
+        FileProgress progress = new FileProgress();
+        if (file.getSha1() != null && target.isFile() && target.length() == size && file.getSha1().equals(getSha1(target))) {
+            onFileSkipped(size, progress);
+            return;
+        }
+        try {
+            if (!target.exists() && !target.createNewFile()) {
+                throw new IOException("Unable to create " + target);
+            }
+            mFileApi.getDownloadRequest(target, file.getId())
+                    .setExpectedSha1(file.getSha1())
+                    .setProgressListener(progress)
+                    .setBandwidthClass(mRequest.getBandwidthClass())
+                    .setTransport(mRequest.mTransport)
+                    .send();
+        } catch (IOException e) {
+            progress.reset();
+            throw new BoxException("Unable to download to " + target, e);
+        } catch (BoxException e) {
+            progress.reset();
+            throw e;
+        }
+        onFileTransferred(size, progress);
+    }
+
+    /**
+     * @return the SHA1 hash of a local file, or null if it could not be read.
+     */
+    private static String getSha1(File file) {
+        InputStream input = null;
+        try {
+            input = new FileInputStream(file);
+            return SdkUtils.sha1(input);
+        } catch (Exception e) {
+            return null;
+        } finally {
+            if (input != null) {
+                try {
+                    input.close();
+                } catch (IOException e) {
+                    // Nothing to do, the hash has already been read.
+                }
+            }
+        }
+    }
+
+    private class FolderTask extends Task {
+
+        private final String mFolderId;
+        private final File mDirectory;
+
+        FolderTask(String folderId, File directory, int depth) {
+            super(depth);
+            mFolderId = folderId;
+            mDirectory = directory;
+        }
+
+        @Override
+        boolean isFolder() {
+            return true;
+        }
+
+        @Override
+        String getPath() {
+            return mDirectory.getPath();
+        }
+
+        @Override
+        long getSize() {
+            // The content of an unlisted folder was never counted.
+            return 0;
+        }
+
+        @Override
+        void execute() throws BoxException {
+            if (!createDirectory(mDirectory)) {
+                throw new BoxException("Unable to create local folder " + mDirectory);
+            }
+            listFolder(mFolderId, mDirectory, mDepth);
+        }
+    }
+
+    private class FileTask extends Task {
+
+        private final BoxFile mFile;
+        private final File mTarget;
+
+        FileTask(BoxFile file, File target, int depth) {
+            super(depth);
+            mFile = file;
+            mTarget = target;
+        }
+
+        @Override
+        boolean isFolder() {
+            return false;
+        }
+
+        @Override
+        String getPath() {
+            return mTarget.getPath();
+        }
+
+        @Override
+        long getSize() {
+            return mFile.getSize() == null ? 0 : mFile.getSize();
+        }
+
+        @Override
+        void execute() throws BoxException {
+            downloadFile(mFile, mTarget);
+        }
+    }
+}
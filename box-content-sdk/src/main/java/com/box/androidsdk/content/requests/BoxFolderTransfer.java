@@ -0,0 +1,236 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.listeners.ProgressListener;
+import com.box.androidsdk.content.models.BoxFolderTransferSummary;
+
+import java.util.LinkedHashMap;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transfers a folder tree between the device and Box with a bounded number of connections. Work on folders and files
+ * is queued as it is discovered and run in order of {@link Task} priority, and the transfer ends once nothing is left
+ * to run. Failed files and folders are recorded without stopping the rest of the tree.
+ */
+abstract class BoxFolderTransfer {
+
+    private final ProgressListener mListener;
+    private final int mParallelism;
+
+    private ThreadPoolExecutor mExecutor;
+    private long mSequence;
+    private int mPending;
+    private volatile boolean mCancelled;
+
+    private long mTotal;
+    private long mProcessed;
+    private int mFoldersCreated;
+    private int mFilesTransferred;
+    private int mFilesSkipped;
+    private long mBytesTransferred;
+    private final LinkedHashMap<String, Exception> mFailures = new LinkedHashMap<String, Exception>();
+
+    /**
+     * @param listener  listener notified of the bytes of all files processed so far, or null.
+     * @param parallelism   the number of tasks run at the same time.
+     */
+    BoxFolderTransfer(ProgressListener listener, int parallelism) {
+        mListener = listener;
+        mParallelism = parallelism;
+    }
+
+    /**
+     * Runs a task along with all the tasks it queues, blocking until every one of them has finished.
+     *
+     * @param first the task the transfer starts with.
+     * @throws BoxException thrown if the transfer was interrupted.
+     */
+    void runAll(Task first) throws BoxException {
+        mExecutor = new ThreadPoolExecutor(mParallelism, mParallelism, 60, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<Runnable>());
+        try {
+            schedule(first);
+            synchronized (this) {
+                while (mPending > 0) {
+                    wait();
+                }
+            }
+        } catch (InterruptedException e) {
+            mCancelled = true;
+            throw new BoxException("Folder transfer was interrupted", e);
+        } finally {
+            if (mCancelled) {
+                mExecutor.shutdownNow();
+            } else {
+                mExecutor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * Queues a task to run once a connection is available.
+     *
+     * @param task  the task to run.
+     */
+    synchronized void schedule(Task task) {
+        if (mCancelled) {
+            return;
+        }
+        task.mSequence = mSequence++;
+        mPending++;
+        mExecutor.execute(task);
+    }
+
+    private synchronized void onTaskFinished() {
+        mPending--;
+        if (mPending == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * @param folderId  id of the folder on Box the tree was transferred to or from.
+     * @return the summary of the work done so far.
+     */
+    synchronized BoxFolderTransferSummary createSummary(String folderId) {
+        return new BoxFolderTransferSummary(folderId, mFoldersCreated, mFilesTransferred, mFilesSkipped,
+                mBytesTransferred, mFailures);
+    }
+
+    synchronized void onFolderCreated() {
+        mFoldersCreated++;
+    }
+
+    /**
+     * Records a file whose content was transferred. Content transferred without progress being reported, such as
+     * small files, is added to the progress.
+     */
+    synchronized void onFileTransferred(long size, FileProgress progress) {
+        onProgress(size - progress.mTransferred);
+        mFilesTransferred++;
+        mBytesTransferred += size;
+    }
+
+    /**
+     * Records a file left alone because it already exists at the destination.
+     */
+    synchronized void onFileSkipped(long size, FileProgress progress) {
+        onProgress(size - progress.mTransferred);
+        mFilesSkipped++;
+    }
+
+    /**
+     * Records a file or folder that could not be transferred.
+     *
+     * @param path  the local path of the file or folder.
+     * @param size  the size of the content that will not be transferred because of the failure.
+     * @param e the cause of the failure.
+     */
+    synchronized void onFailed(String path, long size, Exception e) {
+        mFailures.put(path, e);
+        // The content that will never be transferred no longer counts towards the total.
+        mTotal -= size;
+        if (mListener != null) {
+            mListener.onProgressChanged(mProcessed, mTotal);
+        }
+    }
+
+    /**
+     * Adds content to the total size of the transfer, as it is discovered.
+     */
+    synchronized void addToTotal(long size) {
+        mTotal += size;
+        if (mListener != null) {
+            mListener.onProgressChanged(mProcessed, mTotal);
+        }
+    }
+
+    synchronized void onProgress(long count) {
+        mProcessed += count;
+        if (mListener != null && count != 0) {
+            mListener.onProgressChanged(mProcessed, mTotal);
+        }
+    }
+
+    /**
+     * Work queued for the connections. Folders run before files and shallower items before deeper ones, otherwise
+     * items run in the order they were queued.
+     */
+    abstract class Task implements Runnable, Comparable<Task> {
+
+        final int mDepth;
+        long mSequence;
+
+        Task(int depth) {
+            mDepth = depth;
+        }
+
+        /**
+         * @return true if the task works on a folder rather than a file.
+         */
+        abstract boolean isFolder();
+
+        /**
+         * @return the local path of the file or folder, used to report failures.
+         */
+        abstract String getPath();
+
+        /**
+         * @return the size of the content left untransferred if the task fails.
+         */
+        abstract long getSize();
+
+        abstract void execute() throws BoxException;
+
+        @Override
+        public void run() {
+            try {
+                if (!mCancelled) {
+                    execute();
+                }
+            } catch (BoxException e) {
+                onFailed(getPath(), getSize(), e);
+            } catch (RuntimeException e) {
+                onFailed(getPath(), getSize(), e);
+            } finally {
+                onTaskFinished();
+            }
+        }
+
+        @Override
+        public int compareTo(Task another) {
+            if (isFolder() != another.isFolder()) {
+                return isFolder() ? -1 : 1;
+            }
+            if (mDepth != another.mDepth) {
+                return mDepth < another.mDepth ? -1 : 1;
+            }
+            return mSequence < another.mSequence ? -1 : (mSequence == another.mSequence ? 0 : 1);
+        }
+    }
+
+    /**
+     * Forwards the progress of a single file to the progress of the whole tree.
+     */
+    class FileProgress implements ProgressListener {
+
+        private long mTransferred;
+
+        @Override
+        public void onProgressChanged(long numBytes, long totalBytes) {
+            long count = numBytes - mTransferred;
+            mTransferred = numBytes;
+            onProgress(count);
+        }
+
+        /**
+         * Removes the progress of the file from the progress of the tree, such as before retrying or after a failure.
+         */
+        void reset() {
+            onProgress(-mTransferred);
+            mTransferred = 0;
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxApiFile;
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.models.BoxEntity;
+import com.box.androidsdk.content.models.BoxError;
+import com.box.androidsdk.content.models.BoxFile;
+import com.box.androidsdk.content.models.BoxFolder;
+import com.box.androidsdk.content.models.BoxFolderTransferSummary;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+/**
+ * Uploads a local folder tree to Box. Remote folders are created breadth-first, each as soon as the id of its parent is
+ * known, and the files of a folder are queued for upload as soon as the folder exists. Up to
+ * {@link BoxRequestsFolder.UploadFolder#getParallelism()} connections run the queued work, always creating pending
+ * folders before uploading files so that the whole tree becomes available to upload into as early as possible.
+ */
+class BoxFolderUpload extends BoxFolderTransfer {
+
+    private static final String ERROR_ITEM_NAME_IN_USE = "item_name_in_use";
+
+    private final BoxRequestsFolder.UploadFolder mRequest;
+    private final BoxApiFile mFileApi;
+
+    /**
+     * @param request   the request being uploaded.
+     */
+    BoxFolderUpload(BoxRequestsFolder.UploadFolder request) {
+        super(request.mListener, request.getParallelism());
+        mRequest = request;
+        mFileApi = request.getFileApi();
+    }
+
+    /**
+     * Uploads the whole tree, blocking until every folder and file has been uploaded or has failed.
+     *
+     * @return the summary of the upload.
+     * @throws BoxException thrown if the top folder could not be created or the upload was interrupted.
+     */
+    BoxFolderTransferSummary upload() throws BoxException {
+        final File root = mRequest.getLocalFolder();
+        if (!root.isDirectory()) {
+            throw new BoxException("Local folder " + root + " does not exist");
+        }
+        addToTotal(getTreeSize(root));
+        final BoxFolder rootFolder = createFolder(mRequest.getParentId(), mRequest.getFolderName());
+        runAll(new Task(0) {
+            @Override
+            boolean isFolder() {
+                return true;
+            }
+
+            @Override
+            String getPath() {
+                return root.getPath();
+            }
+
+            @Override
+            long getSize() {
+                return getTreeSize(root);
+            }
+
+            @Override
+            void execute() {
+                queueChildren(root, rootFolder.getId(), 0);
+            }
+        });
+        return createSummary(rootFolder.getId());
+    }
+
+    /**
+     * Queues the subfolders and files of a local folder once the matching folder exists on Box.
+     */
+    private void queueChildren(File directory, String folderId, int depth) {
+        File[] children = directory.listFiles();
+        if (children == null) {
+            onFailed(directory.getPath(), 0, new IOException("Unable to list " + directory));
+            return;
+        }
+        for (File child : children) {
+            if (child.isDirectory()) {
+                schedule(new FolderTask(child, folderId, depth + 1));
+            }
+        }
+        for (File child : children) {
+            if (child.isFile()) {
+                schedule(new FileTask(child, folderId, depth + 1));
+            }
+        }
+    }
+
+    /**
+     * Creates a folder, or returns the folder of the same name that already exists in the parent. A file of the same
+     * name is a failure of the folder.
+     */
+    private BoxFolder createFolder(String parentId, String name) throws BoxException {
+        try {
+            BoxFolder folder = new BoxRequestsFolder.CreateFolder(parentId, name, mRequest.mRequestUrlString,
+                    mRequest.getSession())
+                    .setTransport(mRequest.mTransport)
+                    .send();
+            onFolderCreated();
+            return folder;
+        } catch (BoxException e) {
+            String existingId = getConflictingId(e, BoxFolder.TYPE);
+            if (existingId == null) {
+                throw e;
+            }
+            HashMap<String, Object> map = new HashMap<String, Object>();
+            map.put(BoxFolder.FIELD_ID, existingId);
+            map.put(BoxFolder.FIELD_NAME, name);
+            return new BoxFolder(map);
+        }
+    }
+
+    /**
+     * @param e     the failure to create an item.
+     * @param type  the type the conflicting item has to be of.
+     * @return the id of the item whose name prevented an item from being created, or null if the failure was not a
+     * name conflict with an item of the given type.
+     */
+    static String getConflictingId(BoxException e, String type) {
+        if (e.getResponseCode() != HttpURLConnection.HTTP_CONFLICT) {
+            return null;
+        }
+        BoxError error = e.getAsBoxError();
+        if (error == null || !ERROR_ITEM_NAME_IN_USE.equals(error.getCode()) || error.getContextInfo() == null) {
+            return null;
+        }
+        List<BoxEntity> conflicts = error.getContextInfo().getConflicts();
+        if (conflicts == null || conflicts.isEmpty() || !type.equals(conflicts.get(0).getType())) {
+            return null;
+        }
+        return conflicts.get(0).getId();
+    }
+
+    private void uploadFile(File file, String folderId) throws BoxException {
+        FileProgress progress = new FileProgress();
+        try {
+            BoxRequestsFile.UploadFile request = mFileApi.getUploadRequest(file, folderId)
+                    .setProgressListener(progress)
+                    .setBandwidthClass(mRequest.getBandwidthClass())
+                    .setTransport(mRequest.mTransport);
+            request.send();
+            onUploaded(file, progress, request.isDeduplicated());
+        } catch (BoxException e) {
+            progress.reset();
+            String existingId = getConflictingId(e, BoxFile.TYPE);
+            if (existingId == null) {
+                throw e;
+            }
+            switch (mRequest.getConflictPolicy()) {
+                case NEW_VERSION:
+                    BoxRequestsFile.UploadNewVersion request = mFileApi.getUploadNewVersionRequest(file, existingId)
+                            .setSkipIfIdentical(mFileApi.getInfoRequest(existingId))
+                            .setProgressListener(progress)
+                            .setBandwidthClass(mRequest.getBandwidthClass())
+                            .setTransport(mRequest.mTransport);
+                    try {
+                        request.send();
+                    } catch (BoxException versionException) {
+                        progress.reset();
+                        throw versionException;
+                    }
+                    onUploaded(file, progress, request.isDeduplicated());
+                    break;
+                case SKIP:
+                    onFileSkipped(file.length(), progress);
+                    break;
+                default:
+                    throw e;
+            }
+        }
+    }
+
+    private void onUploaded(File file, FileProgress progress, boolean deduplicated) {
+        if (deduplicated) {
+            onFileSkipped(file.length(), progress);
+        } else {
+            onFileTransferred(file.length(), progress);
+        }
+    }
+
+    /**
+     * @return the total size of the files in a local folder tree.
+     */
+    static long getTreeSize(File directory) {
+        long size = 0;
+        ArrayList<File> directories = new ArrayList<File>();
+        directories.add(directory);
+        for (int i = 0; i < directories.size(); i++) {
+            File[] children = directories.get(i).listFiles();
+            if (children == null) {
+                continue;
+            }
+            for (File child : children) {
+                if (child.isDirectory()) {
+                    directories.add(child);
+                } else if (child.isFile()) {
+                    size += child.length();
+                }
+            }
+        }
+        return size;
+    }
+
+    private class FolderTask extends Task {
+
+        private final File mDirectory;
+        private final String mParentId;
+
+        FolderTask(File directory, String parentId, int depth) {
+            super(depth);
+            mDirectory = directory;
+            mParentId = parentId;
+        }
+
+        @Override
+        boolean isFolder() {
+            return true;
+        }
+
+        @Override
+        String getPath() {
+            return mDirectory.getPath();
+        }
+
+        @Override
+        long getSize() {
+            return getTreeSize(mDirectory);
+        }
+
+        @Override
+        void execute() throws BoxException {
+            BoxFolder folder = createFolder(mParentId, mDirectory.getName());
+            queueChildren(mDirectory, folder.getId(), mDepth);
+        }
+    }
+
+    private class FileTask extends Task {
+
+        private final File mFile;
+        private final String mFolderId;
+
+        FileTask(File file, String folderId, int depth) {
+            super(depth);
+            mFile = file;
+            mFolderId = folderId;
+        }
+
+        @Override
+        boolean isFolder() {
+            return false;
+        }
+
+        @Override
+        String getPath() {
+            return mFile.getPath();
+        }
+
+        @Override
+        long getSize() {
+            return mFile.length();
+        }
+
+        @Override
+        void execute() throws BoxException {
+            uploadFile(mFile, mFolderId);
+        }
+    }
+}
@@ -25,8 +25,20 @@ class BoxHttpRequest {
      * @throws IOException
      */
     public BoxHttpRequest(URL url, BoxRequest.Methods method, ProgressListener listener) throws IOException {
-        mUrlConnection = (HttpURLConnection) url.openConnection();
-        mUrlConnection.setRequestMethod(method.toString());
+        this(url, method, listener, BoxRequest.getDefaultTransport());
+    }
+
+    /**
+     * Constructs an HTTP request whose connection is opened through the given transport.
+     *
+     * @param url   URL to connect to.
+     * @param method    method type for the HTTP request.
+     * @param listener  progress listener for a long-running API call.
+     * @param transport transport used to open the connection.
+     * @throws IOException
+     */
+    public BoxHttpRequest(URL url, BoxRequest.Methods method, ProgressListener listener, BoxHttpTransport transport) throws IOException {
+        mUrlConnection = transport.open(url, method);
         mListener = listener;
     }
 
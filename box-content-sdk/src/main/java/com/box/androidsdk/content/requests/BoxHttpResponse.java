@@ -4,9 +4,13 @@ import com.box.androidsdk.content.BoxException;
 import com.box.androidsdk.content.utils.ProgressInputStream;
 import com.box.androidsdk.content.listeners.ProgressListener;
 
+import java.io.FilterInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.util.zip.GZIPInputStream;
 
@@ -43,6 +47,16 @@ public class BoxHttpResponse {
      */
     private InputStream mInputStream;
 
+    /**
+     * Set once the raw InputStream has been closed, either by this class or by a consumer of getBody().
+     */
+    private boolean mRawInputStreamClosed;
+
+    /**
+     * Set once the body has been handed out by getBodyReader() to be parsed while it is read from the connection.
+     */
+    private boolean mBodyStreamed;
+
     /**
      * Constructs a BoxAPIResponse using an HttpURLConnection.
      * @param  connection a connection that has already sent a request to the API.
@@ -85,6 +99,16 @@ public class BoxHttpResponse {
         return mContentType;
     }
 
+    /**
+     * Gets the value of a response header.
+     *
+     * @param name  the name of the header.
+     * @return  the value of the header, or null if the response does not contain it.
+     */
+    public String getHeaderField(String name) {
+        return mConnection.getHeaderField(name);
+    }
+
     /**
      * Gets an InputStream for reading this response's body.
      * @return an InputStream for reading the response's body.
@@ -103,7 +127,7 @@ public class BoxHttpResponse {
             String contentEncoding = mConnection.getContentEncoding();
             try {
                 if (this.rawInputStream == null) {
-                    this.rawInputStream = mConnection.getInputStream();
+                    this.rawInputStream = trackClose(mConnection.getInputStream());
                 }
 
                 if (listener == null) {
@@ -125,14 +149,42 @@ public class BoxHttpResponse {
         return this.mInputStream;
     }
 
+    /**
+     * Gets a Reader for the UTF-8 decoded body of this response. The body is read directly from the connection as it
+     * is consumed, unless it has already been read into memory by {@link #getStringBody()}. Once the body has been read
+     * this way it can no longer be read as a string.
+     *
+     * @return a Reader for the response's body, or null if the response does not have a body.
+     */
+    public Reader getBodyReader() throws BoxException {
+        if (mBodyString != null) {
+            return new StringReader(mBodyString);
+        }
+        InputStream body = getBody();
+        if (body == null) {
+            return null;
+        }
+        try {
+            mBodyStreamed = true;
+            return new InputStreamReader(body, "UTF-8");
+        } catch (UnsupportedEncodingException e) {
+            throw new BoxException("Unable to read body", e);
+        }
+    }
+
     /**
      * Disconnects this response from the server and frees up any network resources. The body of this response can no
-     * longer be read after it has been disconnected.
+     * longer be read after it has been disconnected. The underlying socket is left open so that the platform can reuse
+     * it for another request to the same host.
      */
     public void disconnect() throws BoxException {
         try {
             if (this.rawInputStream == null) {
-                this.rawInputStream = mConnection.getInputStream();
+                this.rawInputStream = openRawInputStream();
+            }
+            if (this.rawInputStream == null || mRawInputStreamClosed) {
+                // Nothing left to drain, the stream was fully read and closed by whoever consumed the body.
+                return;
             }
 
             // We need to manually read from the raw input stream in case there are any remaining bytes. There's a bug
@@ -159,18 +211,22 @@ public class BoxHttpResponse {
      * By default, it returns an empty string (to avoid accidentally logging binary data) unless the response contained
      * an error message.
      * @return a string representation of this response's body.
+     * @throws BoxException thrown if the body could not be read, or was already read by {@link #getBodyReader()}.
      */
     public String getStringBody() throws BoxException {
         if (mBodyString != null) {
             return mBodyString;
         }
+        if (mBodyStreamed) {
+            // Whatever is left on the connection is only the end of the body.
+            throw new BoxException("The body of the response was already read");
+        }
 
-        InputStream stream = null;
         try {
-            stream = isErrorCode(this.mResponseCode) ?
-                    mConnection.getErrorStream() :
-                    mConnection.getInputStream();
-            mBodyString = readStream(stream);
+            if (this.rawInputStream == null) {
+                this.rawInputStream = openRawInputStream();
+            }
+            mBodyString = readStream(this.rawInputStream);
         } catch (IOException e) {
             throw new BoxException("Unable to get string body", e);
         }
@@ -217,6 +273,33 @@ public class BoxHttpResponse {
         return mConnection;
     }
 
+    /**
+     * Opens the stream the remainder of the body is drained or read as a string from. Error responses are read from the
+     * error stream of the connection.
+     */
+    private InputStream openRawInputStream() throws IOException {
+        return trackClose(isErrorCode(this.mResponseCode) ?
+                mConnection.getErrorStream() :
+                mConnection.getInputStream());
+    }
+
+    /**
+     * Wraps a raw stream of the connection to keep track of when it gets closed, so that disconnect() does not try to
+     * drain it afterwards.
+     */
+    private InputStream trackClose(InputStream stream) {
+        if (stream == null) {
+            return null;
+        }
+        return new FilterInputStream(stream) {
+            @Override
+            public void close() throws IOException {
+                mRawInputStreamClosed = true;
+                super.close();
+            }
+        };
+    }
+
     private static boolean isErrorCode(int responseCode) {
         return responseCode >= 400;
     }
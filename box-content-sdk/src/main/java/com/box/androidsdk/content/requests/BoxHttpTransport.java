@@ -0,0 +1,35 @@
+package com.box.androidsdk.content.requests;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * The transport used by {@link BoxRequest} to open connections to the Box API and to release them once a response has
+ * been handled. The default transport is {@link BoxUrlConnectionTransport}, a different transport can be set for all
+ * requests through {@link BoxRequest#setDefaultTransport(BoxHttpTransport)} or for a single request through
+ * {@link BoxRequest#setTransport(BoxHttpTransport)}.
+ *
+ * <p>Implementations must be thread safe as a single transport is shared by all requests running concurrently.</p>
+ */
+public interface BoxHttpTransport {
+
+    /**
+     * Opens a connection that has not yet been connected.
+     *
+     * @param url       URL to connect to.
+     * @param method    method type for the HTTP request.
+     * @return  an unconnected connection to the url.
+     * @throws IOException thrown if the connection could not be created.
+     */
+    HttpURLConnection open(URL url, BoxRequest.Methods method) throws IOException;
+
+    /**
+     * Releases a connection once its response has been handled. Implementations decide whether the connection can be
+     * reused or has to be closed.
+     *
+     * @param connection    the connection returned by {@link #open(URL, BoxRequest.Methods)}.
+     * @param response      the response read from the connection, or null if the request failed before a response was read.
+     */
+    void release(HttpURLConnection connection, BoxHttpResponse response);
+}
@@ -0,0 +1,217 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxConstants;
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.utils.BoxLogUtils;
+import com.squareup.okhttp.ConnectionPool;
+import com.squareup.okhttp.OkHttpClient;
+import com.squareup.okhttp.OkUrlFactory;
+import com.squareup.okhttp.Protocol;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.net.URL;
+import java.util.Arrays;
+
+import javax.net.SocketFactory;
+
+/**
+ * Transport backed by OkHttp that negotiates HTTP/2 with the Box API and multiplexes concurrent requests to the same
+ * host as streams over a single connection, avoiding per-request connection setup and head-of-line blocking between
+ * parallel calls. Hosts or devices that cannot negotiate HTTP/2 (ALPN requires Android 5.0 or higher) fall back to
+ * pooled HTTP/1.1 connections.
+ *
+ * <p>The connections are kept in an OkHttp connection pool created with the idle limit and keep-alive duration of a
+ * {@link BoxConnectionPool}. Every request that reaches the server is counted as a miss of that pool if OkHttp opened a
+ * socket for it, or as a hit if it was sent over a pooled connection. OkHttp opens sockets on the thread that sends the
+ * request, which lets the transport tell them apart. Connections are always returned to the pool once their response
+ * has been read, whether or not {@link BoxConnectionPool#isEnabled()}.</p>
+ *
+ * <p>OkHttp is an optional dependency of the SDK. Applications using this transport need to include
+ * {@code com.squareup.okhttp:okhttp-urlconnection} themselves.</p>
+ *
+ * <pre>
+ * BoxRequest.setDefaultTransport(new BoxOkHttpTransport());
+ * </pre>
+ */
+public class BoxOkHttpTransport implements BoxHttpTransport {
+
+    private final OkHttpClient mClient;
+    private final OkUrlFactory mUrlFactory;
+    private final BoxConnectionPool mPool;
+
+    // Number of sockets opened on each thread since the last request sent from it was released.
+    private final ThreadLocal<int[]> mOpenedSockets = new ThreadLocal<int[]>() {
+        @Override
+        protected int[] initialValue() {
+            return new int[1];
+        }
+    };
+
+    /**
+     * Constructs a transport with a client that prefers HTTP/2 and falls back to HTTP/1.1, configured from the
+     * connection pool shared by the SDK.
+     */
+    public BoxOkHttpTransport() {
+        this(BoxConnectionPool.getInstance());
+    }
+
+    /**
+     * Constructs a transport with a client that prefers HTTP/2 and falls back to HTTP/1.1.
+     *
+     * @param pool  the pool whose idle limit and keep-alive duration are used and whose counters are updated.
+     */
+    public BoxOkHttpTransport(BoxConnectionPool pool) {
+        this(createDefaultClient(pool), pool);
+    }
+
+    /**
+     * Constructs a transport that uses a copy of the given client. The client should list {@link Protocol#HTTP_2} in its
+     * protocols for requests to be multiplexed. The connection pool of the client is used as it is, only the hit and
+     * miss counters of the pool shared by the SDK are updated.
+     *
+     * @param client    the client used to open connections.
+     */
+    public BoxOkHttpTransport(OkHttpClient client) {
+        this(client, BoxConnectionPool.getInstance());
+    }
+
+    private BoxOkHttpTransport(OkHttpClient client, BoxConnectionPool pool) {
+        mPool = pool;
+        mClient = client.clone();
+        SocketFactory socketFactory = client.getSocketFactory();
+        mClient.setSocketFactory(new CountingSocketFactory(socketFactory != null ? socketFactory : SocketFactory.getDefault()));
+        mUrlFactory = new OkUrlFactory(mClient);
+    }
+
+    /**
+     * Creates the client used by the default constructor.
+     *
+     * @return a client that prefers HTTP/2 with a connection pool configured from the pool shared by the SDK.
+     */
+    public static OkHttpClient createDefaultClient() {
+        return createDefaultClient(BoxConnectionPool.getInstance());
+    }
+
+    private static OkHttpClient createDefaultClient(BoxConnectionPool pool) {
+        OkHttpClient client = new OkHttpClient();
+        client.setProtocols(Arrays.asList(Protocol.HTTP_2, Protocol.HTTP_1_1));
+        client.setConnectionPool(new ConnectionPool(pool.getMaxIdleConnections(), pool.getKeepAliveDuration()));
+        return client;
+    }
+
+    /**
+     * @return the client used to open connections.
+     */
+    public OkHttpClient getClient() {
+        return mClient;
+    }
+
+    /**
+     * @return the connection pool whose counters are updated by this transport.
+     */
+    public BoxConnectionPool getConnectionPool() {
+        return mPool;
+    }
+
+    /**
+     * @return the number of connections currently held by the OkHttp connection pool, idle or multiplexing requests.
+     */
+    public int getConnectionCount() {
+        return getOkHttpConnectionPool().getConnectionCount();
+    }
+
+    /**
+     * @return the number of pooled connections that currently multiplex requests.
+     */
+    public int getMultiplexedConnectionCount() {
+        return getOkHttpConnectionPool().getMultiplexedConnectionCount();
+    }
+
+    private ConnectionPool getOkHttpConnectionPool() {
+        ConnectionPool pool = mClient.getConnectionPool();
+        // Clients without a pool of their own use the default pool of OkHttp.
+        return pool != null ? pool : ConnectionPool.getDefault();
+    }
+
+    /**
+     * Counts the request a connection was opened for as a hit or a miss once it is released.
+     */
+    private void countConnectionUse(BoxHttpResponse response) {
+        int[] openedSockets = mOpenedSockets.get();
+        if (openedSockets[0] > 0) {
+            mPool.onConnectionUsed(false);
+        } else if (response != null) {
+            mPool.onConnectionUsed(true);
+        }
+        // A request that failed before connecting opened no socket and is not counted.
+        openedSockets[0] = 0;
+    }
+
+    @Override
+    public HttpURLConnection open(URL url, BoxRequest.Methods method) throws IOException {
+        HttpURLConnection connection = mUrlFactory.open(url);
+        connection.setRequestMethod(method.toString());
+        return connection;
+    }
+
+    @Override
+    public void release(HttpURLConnection connection, BoxHttpResponse response) {
+        countConnectionUse(response);
+        if (response != null) {
+            try {
+                // Reading the body to the end closes the stream and leaves the shared connection open for other requests.
+                response.disconnect();
+                return;
+            } catch (BoxException e) {
+                BoxLogUtils.e(BoxConstants.TAG, "Unable to release connection", e);
+            }
+        }
+        // Only cancels this request, other streams multiplexed on the same connection are not affected.
+        connection.disconnect();
+    }
+
+    /**
+     * Records the sockets OkHttp opens for new connections on the thread sending the request.
+     */
+    private class CountingSocketFactory extends SocketFactory {
+
+        private final SocketFactory mDelegate;
+
+        CountingSocketFactory(SocketFactory delegate) {
+            mDelegate = delegate;
+        }
+
+        @Override
+        public Socket createSocket() throws IOException {
+            mOpenedSockets.get()[0]++;
+            return mDelegate.createSocket();
+        }
+
+        @Override
+        public Socket createSocket(String host, int port) throws IOException {
+            mOpenedSockets.get()[0]++;
+            return mDelegate.createSocket(host, port);
+        }
+
+        @Override
+        public Socket createSocket(String host, int port, InetAddress localHost, int localPort) throws IOException {
+            mOpenedSockets.get()[0]++;
+            return mDelegate.createSocket(host, port, localHost, localPort);
+        }
+
+        @Override
+        public Socket createSocket(InetAddress host, int port) throws IOException {
+            mOpenedSockets.get()[0]++;
+            return mDelegate.createSocket(host, port);
+        }
+
+        @Override
+        public Socket createSocket(InetAddress address, int port, InetAddress localAddress, int localPort) throws IOException {
+            mOpenedSockets.get()[0]++;
+            return mDelegate.createSocket(address, port, localAddress, localPort);
+        }
+    }
+}
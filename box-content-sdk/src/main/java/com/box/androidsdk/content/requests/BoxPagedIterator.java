@@ -0,0 +1,216 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.models.BoxJsonObject;
+import com.box.androidsdk.content.models.BoxList;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Goes through every entry of a list that is fetched one page at a time, such as the items of a large folder. As soon
+ * as a page has been received the next one is requested in the background, so the network time of a page overlaps
+ * with the time spent on the entries of the page before it. The offset advances by the page size requested, since a
+ * page can hold fewer entries than requested before the end of the list, for instance when some items are not visible
+ * to the user. Iteration ends once the offset reaches the total count of the list, at the first empty page, or at the
+ * first partial page of lists without a total count.
+ *
+ * <pre>
+ * BoxPagedIterator&lt;BoxItem&gt; items = new BoxPagedIterator&lt;BoxItem&gt;(folderApi.getItemsRequest(folderId), 500);
+ * try {
+ *     while (items.hasNext()) {
+ *         BoxItem item = items.next();
+ *     }
+ * } finally {
+ *     items.close();
+ * }
+ * </pre>
+ *
+ * The request given to the iterator has its limit and offset changed as pages are fetched, and should not be used
+ * elsewhere until the iterator is closed. An iterator is meant to be used from a single thread.
+ *
+ * @param <T>   the type of the entries of the list.
+ */
+public class BoxPagedIterator<T extends BoxJsonObject> {
+
+    /**
+     * Number of entries fetched in a page by default, the current maximum supported by most lists of the API. The page
+     * size is lowered to the maximum of the request, see {@link BoxPagedRequest#getMaxLimit()}.
+     */
+    public static final int DEFAULT_PAGE_SIZE = 1000;
+
+    private final BoxPagedRequest<? extends BoxList<T>, ?> mRequest;
+    private final int mPageSize;
+    private ExecutorService mExecutor;
+    private boolean mOwnsExecutor;
+
+    private Future<? extends BoxList<T>> mNextPage;
+    private BoxList<T> mPage;
+    private int mIndex;
+    private int mOffset;
+    private Long mTotalCount;
+    private boolean mDone;
+
+    /**
+     * Creates an iterator fetching pages of {@link #DEFAULT_PAGE_SIZE} entries.
+     *
+     * @param request   the request for the list, starting at offset 0.
+     */
+    public BoxPagedIterator(BoxPagedRequest<? extends BoxList<T>, ?> request) {
+        this(request, DEFAULT_PAGE_SIZE);
+    }
+
+    /**
+     * Creates an iterator.
+     *
+     * @param request   the request for the list, starting at offset 0.
+     * @param pageSize  the number of entries fetched in a page, lowered to the maximum limit of the request.
+     */
+    public BoxPagedIterator(BoxPagedRequest<? extends BoxList<T>, ?> request, int pageSize) {
+        if (pageSize < 1) {
+            throw new IllegalArgumentException("pageSize must be at least 1");
+        }
+        mRequest = request;
+        mPageSize = Math.min(pageSize, request.getMaxLimit());
+    }
+
+    /**
+     * Sets the executor pages are fetched on. If no executor is set, pages are fetched on a thread of the iterator that
+     * stops once the iterator is closed or has gone through the whole list.
+     *
+     * @param executor  the executor to fetch pages on.
+     * @return the iterator
+     */
+    public BoxPagedIterator<T> setExecutor(ExecutorService executor) {
+        if (mNextPage != null || mPage != null) {
+            throw new IllegalStateException("The executor has to be set before the first page is fetched");
+        }
+        mExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Returns the number of entries fetched in a page.
+     *
+     * @return the page size.
+     */
+    public int getPageSize() {
+        return mPageSize;
+    }
+
+    /**
+     * Returns the total number of entries in the list, as reported by the last page received.
+     *
+     * @return the total count, or null if no page has been received yet or the list does not report it.
+     */
+    public Long getTotalCount() {
+        return mTotalCount;
+    }
+
+    /**
+     * Returns whether the list has more entries, waiting for the next page to be received if every entry of the current
+     * page has been returned.
+     *
+     * @return true if {@link #next()} will return an entry.
+     * @throws BoxException thrown if the next page could not be fetched or the wait was interrupted.
+     */
+    public boolean hasNext() throws BoxException {
+        while (mPage == null || mIndex >= mPage.size()) {
+            if (mNextPage == null) {
+                if (mDone) {
+                    close();
+                    return false;
+                }
+                fetch();
+            }
+            Future<? extends BoxList<T>> nextPage = mNextPage;
+            mNextPage = null;
+            onPage(waitFor(nextPage));
+        }
+        return true;
+    }
+
+    /**
+     * Returns the next entry of the list.
+     *
+     * @return the next entry.
+     * @throws BoxException thrown if the next page could not be fetched or the wait was interrupted.
+     * @throws NoSuchElementException thrown if the list has no more entries.
+     */
+    public T next() throws BoxException {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return mPage.get(mIndex++);
+    }
+
+    /**
+     * Stops fetching pages, cancelling the page being fetched if any. The iterator returns no more entries afterwards.
+     */
+    public void close() {
+        mDone = true;
+        mPage = null;
+        if (mNextPage != null) {
+            mNextPage.cancel(true);
+            mNextPage = null;
+        }
+        if (mOwnsExecutor) {
+            mExecutor.shutdown();
+            mExecutor = null;
+            mOwnsExecutor = false;
+        }
+    }
+
+    private void onPage(BoxList<T> page) {
+        mPage = page;
+        mIndex = 0;
+        mOffset += mPageSize;
+        mTotalCount = page.fullSize();
+        if (page.size() == 0) {
+            mDone = true;
+        } else if (mTotalCount != null) {
+            mDone = mOffset >= mTotalCount;
+        } else {
+            mDone = page.size() < mPageSize;
+        }
+        if (!mDone) {
+            // Fetch the next page while the entries of this one are being used.
+            fetch();
+        }
+    }
+
+    private void fetch() {
+        if (mExecutor == null) {
+            mExecutor = SdkUtils.createDefaultThreadPoolExecutor(0, 1, 60, TimeUnit.SECONDS);
+            mOwnsExecutor = true;
+        }
+        // Only one page is fetched at a time, so the request can be reused for every page.
+        mRequest.setLimit(mPageSize);
+        mRequest.setOffset(mOffset);
+        mNextPage = mExecutor.submit(new Callable<BoxList<T>>() {
+            @Override
+            public BoxList<T> call() throws BoxException {
+                return mRequest.send();
+            }
+        });
+    }
+
+    private BoxList<T> waitFor(Future<? extends BoxList<T>> page) throws BoxException {
+        try {
+            return page.get();
+        } catch (InterruptedException e) {
+            page.cancel(true);
+            throw new BoxException("Paged iteration was interrupted", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof BoxException) {
+                throw (BoxException) e.getCause();
+            }
+            throw new BoxException("Unable to fetch page", e.getCause());
+        }
+    }
+}
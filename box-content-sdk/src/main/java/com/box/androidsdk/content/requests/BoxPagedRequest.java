@@ -0,0 +1,45 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.models.BoxList;
+
+/**
+ * Request for a list that can be fetched one page at a time with a limit and an offset, such as the items of a folder.
+ * See {@link BoxPagedIterator} to go through all the pages of such a list.
+ *
+ * @param <E>   the list returned by the request.
+ * @param <R>   the type of the request.
+ */
+public interface BoxPagedRequest<E extends BoxList, R extends BoxRequest<E, R>> {
+
+    /**
+     * Sets the maximum number of entries returned in a page.
+     *
+     * @param limit limit of entries to return
+     * @return the request
+     */
+    R setLimit(int limit);
+
+    /**
+     * Sets the offset of the first entry of the page.
+     *
+     * @param offset    offset of the entries to return
+     * @return the request
+     */
+    R setOffset(int offset);
+
+    /**
+     * Returns the largest limit the endpoint of this request supports.
+     *
+     * @return the maximum number of entries in a page.
+     */
+    int getMaxLimit();
+
+    /**
+     * Sends the request for the page at the current limit and offset.
+     *
+     * @return the page of the list.
+     * @throws BoxException thrown if the page could not be fetched.
+     */
+    E send() throws BoxException;
+}
@@ -0,0 +1,436 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.listeners.ProgressListener;
+import com.box.androidsdk.content.models.BoxDownload;
+import com.box.androidsdk.content.models.BoxDownloadCheckpoint;
+import com.box.androidsdk.content.utils.BandwidthLimiter;
+import com.box.androidsdk.content.utils.FileChannelSink;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.InputStream;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Downloads the ranges of a file that follow the range carried by the response to the original request. The missing
+ * parts of the file are split into ranges of {@link BoxRequestDownload#getRangeSize()} bytes, which are requested by up
+ * to {@link BoxRequestDownload#getParallelism()} connections and written at their offsets in the target file. When the
+ * request is resumable, written ranges are recorded in its {@link BoxDownloadCheckpoint}.
+ *
+ * <p>When the request expects a SHA1 hash, the file is hashed from its first byte up to the end of the content written
+ * without gaps so far. Content is read back for hashing right after it is written, while it is still cached, so the
+ * file does not have to be read again once the download completes.</p>
+ */
+class BoxParallelDownload {
+
+    /**
+     * Number of bytes a connection writes before the checkpoint of a resumable download is saved.
+     */
+    static final long CHECKPOINT_INTERVAL = 4 * 1024 * 1024;
+
+    /**
+     * Number of bytes a connection hashes at most after writing a buffer, so that hashing content committed before a
+     * resume does not hold up a single connection.
+     */
+    static final long HASH_STEP = 4 * 1024 * 1024;
+
+    private final BoxRequestDownload mRequest;
+    private final BandwidthLimiter mLimiter;
+    private final ProgressListener mListener;
+    private final BoxDownloadCheckpoint mCheckpoint;
+    private final long mTotal;
+
+    private FileChannel mChannel;
+    private final ArrayList<long[]> mPendingRanges = new ArrayList<long[]>();
+    private long mTransferred;
+    private volatile boolean mCancelled;
+
+    private final MessageDigest mDigest;
+    private final TreeMap<Long, Long> mWritten = new TreeMap<Long, Long>();
+    private long mHashed;
+    private boolean mHashing;
+
+    /**
+     * @param request       the request being downloaded.
+     * @param total         the size of the file in bytes.
+     * @param checkpoint    the checkpoint of a resumable download, null otherwise.
+     */
+    BoxParallelDownload(BoxRequestDownload request, long total, BoxDownloadCheckpoint checkpoint) {
+        mRequest = request;
+        mLimiter = BandwidthLimiter.get(request.mBandwidthClass);
+        mListener = request.mListener;
+        mTotal = total;
+        mCheckpoint = checkpoint;
+        MessageDigest digest = null;
+        if (request.mExpectedSha1 != null) {
+            try {
+                digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                // Every platform provides SHA-1.
+                throw new IllegalStateException(e);
+            }
+        }
+        mDigest = digest;
+    }
+
+    /**
+     * Downloads the file, blocking until all of its ranges have been written.
+     *
+     * @param target            the file to write to.
+     * @param firstRange        the body of the response to the original request.
+     * @param firstRangeStart   the offset of the first byte in the response.
+     * @param firstRangeLength  the number of bytes in the response.
+     * @return the SHA1 hash of the file as a hexadecimal string, or null if the request does not expect a hash.
+     * @throws BoxException thrown if any of the ranges could not be downloaded.
+     */
+    String download(File target, InputStream firstRange, long firstRangeStart, long firstRangeLength) throws BoxException {
+        long firstRangeEnd = firstRangeStart + firstRangeLength - 1;
+        List<long[]> missing = mCheckpoint != null ? mCheckpoint.getMissingRanges() : null;
+        if (missing == null) {
+            missing = new ArrayList<long[]>();
+            missing.add(new long[]{0, mTotal - 1});
+        }
+        long remainingRanges = 0;
+        for (long[] range : missing) {
+            // The first range is already on its way.
+            if (range[0] < firstRangeStart) {
+                mPendingRanges.add(new long[]{range[0], Math.min(range[1], firstRangeStart - 1)});
+            }
+            if (range[1] > firstRangeEnd) {
+                mPendingRanges.add(new long[]{Math.max(range[0], firstRangeEnd + 1), range[1]});
+            }
+        }
+        for (long[] range : mPendingRanges) {
+            remainingRanges += (range[1] - range[0] + mRequest.getRangeSize()) / mRequest.getRangeSize();
+        }
+        mTransferred = mCheckpoint != null ? mCheckpoint.getBytesCommitted() : 0;
+        if (mCheckpoint != null) {
+            for (long[] range : mCheckpoint.getCommittedRanges()) {
+                onWritten(range[0], range[1] - range[0] + 1);
+            }
+        }
+
+        int workers = (int) Math.min(mRequest.getParallelism() - 1, remainingRanges);
+        RandomAccessFile file = null;
+        ThreadPoolExecutor executor = workers > 0 ? SdkUtils.createDefaultThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS) : null;
+        ArrayList<Future<Void>> futures = new ArrayList<Future<Void>>(workers);
+        Exception failure = null;
+        try {
+            file = new RandomAccessFile(target, "rw");
+            if (file.length() != mTotal) {
+                file.setLength(mTotal);
+            }
+            mChannel = file.getChannel();
+            if (mListener != null) {
+                mListener.onProgressChanged(mTransferred, mTotal);
+            }
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(new Callable<Void>() {
+                    @Override
+                    public Void call() throws Exception {
+                        downloadQueuedRanges();
+                        return null;
+                    }
+                }));
+            }
+
+            // The connection of the original request carries the first range, afterwards it helps with the rest.
+            RangeWriter writer = new RangeWriter(firstRangeStart, firstRangeEnd);
+            try {
+                writer.write(firstRange);
+                writer.checkComplete();
+            } finally {
+                writer.commit();
+            }
+            downloadQueuedRanges();
+        } catch (Exception e) {
+            failure = e;
+            mCancelled = true;
+        } finally {
+            for (Future<Void> future : futures) {
+                try {
+                    future.get();
+                } catch (ExecutionException e) {
+                    if (failure == null) {
+                        failure = e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+                        mCancelled = true;
+                    }
+                } catch (InterruptedException e) {
+                    if (failure == null) {
+                        failure = e;
+                        mCancelled = true;
+                    }
+                }
+            }
+            if (executor != null) {
+                executor.shutdown();
+            }
+            if (mCheckpoint != null && mChannel != null) {
+                try {
+                    saveCheckpoint();
+                } catch (IOException e) {
+                    if (failure == null) {
+                        failure = e;
+                    }
+                }
+            }
+            if (file != null) {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    // Ignore
+                }
+            }
+        }
+
+        if (failure == null && mDigest != null) {
+            // Finish hashing whatever the connections did not get to.
+            try {
+                file = new RandomAccessFile(target, "r");
+                mChannel = file.getChannel();
+                hashWritten(Long.MAX_VALUE);
+                if (mHashed != mTotal) {
+                    failure = new IOException("Only " + mHashed + " of " + mTotal + " bytes were written");
+                }
+            } catch (IOException e) {
+                failure = e;
+            } finally {
+                try {
+                    file.close();
+                } catch (IOException e) {
+                    // Ignore
+                }
+            }
+        }
+        if (failure instanceof BoxException) {
+            throw (BoxException) failure;
+        } else if (failure != null) {
+            throw new BoxException(failure.getMessage(), failure);
+        }
+        return mDigest == null ? null : SdkUtils.toHexString(mDigest.digest());
+    }
+
+    private void downloadQueuedRanges() throws BoxException, IOException {
+        long[] range;
+        while ((range = nextRange()) != null) {
+            RangeWriter writer = new RangeWriter(range[0], range[1]);
+            try {
+                new RangeRequest(mRequest, writer).send();
+                writer.checkComplete();
+            } finally {
+                writer.commit();
+            }
+        }
+    }
+
+    private synchronized long[] nextRange() {
+        if (mCancelled || mPendingRanges.isEmpty()) {
+            return null;
+        }
+        long[] pending = mPendingRanges.get(0);
+        long start = pending[0];
+        long end = Math.min(start + mRequest.getRangeSize() - 1, pending[1]);
+        if (end == pending[1]) {
+            mPendingRanges.remove(0);
+        } else {
+            pending[0] = end + 1;
+        }
+        return new long[]{start, end};
+    }
+
+    /**
+     * Flushes the target to disk before saving the checkpoint, so that the checkpoint never claims bytes that could
+     * still be lost.
+     */
+    private synchronized void saveCheckpoint() throws IOException {
+        mChannel.force(false);
+        mCheckpoint.save(mRequest.mCheckpointFile);
+    }
+
+    /**
+     * Records content written to the target, merging it with the adjacent content written before.
+     */
+    private void onWritten(long position, long count) {
+        if (mDigest == null || count <= 0) {
+            return;
+        }
+        synchronized (mWritten) {
+            long start = position;
+            long end = position + count;
+            Map.Entry<Long, Long> before = mWritten.floorEntry(start);
+            if (before != null && before.getValue() >= start) {
+                start = before.getKey();
+                end = Math.max(end, before.getValue());
+            }
+            Map.Entry<Long, Long> after = mWritten.ceilingEntry(start);
+            while (after != null && after.getKey() <= end) {
+                end = Math.max(end, after.getValue());
+                mWritten.remove(after.getKey());
+                after = mWritten.ceilingEntry(start);
+            }
+            mWritten.put(start, end);
+        }
+    }
+
+    /**
+     * Hashes the content written without gaps after the content hashed so far. Only one thread hashes at a time, a
+     * thread finding another one hashing leaves the newly written content to it.
+     *
+     * @param maxCount  the maximum number of bytes to hash.
+     */
+    private void hashWritten(long maxCount) throws IOException {
+        long end;
+        synchronized (mWritten) {
+            if (mHashing) {
+                return;
+            }
+            mHashing = true;
+        }
+        boolean hashing = true;
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(FileChannelSink.BUFFER_SIZE);
+            long hashed = 0;
+            while (true) {
+                synchronized (mWritten) {
+                    Map.Entry<Long, Long> written = mWritten.floorEntry(mHashed);
+                    end = written == null ? mHashed : Math.min(written.getValue(), mHashed + maxCount - hashed);
+                    if (end <= mHashed) {
+                        mHashing = false;
+                        hashing = false;
+                        return;
+                    }
+                }
+                while (mHashed < end) {
+                    buffer.clear();
+                    buffer.limit((int) Math.min(buffer.capacity(), end - mHashed));
+                    int read = mChannel.read(buffer, mHashed);
+                    if (read == -1) {
+                        throw new IOException("Target ended at " + mHashed + " bytes");
+                    }
+                    mDigest.update(buffer.array(), 0, read);
+                    mHashed += read;
+                    hashed += read;
+                }
+            }
+        } finally {
+            if (hashing) {
+                synchronized (mWritten) {
+                    mHashing = false;
+                }
+            }
+        }
+    }
+
+    private synchronized void onBytesWritten(long count) {
+        mTransferred += count;
+        if (mListener != null) {
+            mListener.onProgressChanged(mTransferred, mTotal);
+        }
+    }
+
+    /**
+     * Writes the body of a range response at its offset in the target file.
+     */
+    private class RangeWriter implements FileChannelSink.Listener {
+
+        private final long mStart;
+        private final long mEnd;
+        private long mPosition;
+        private long mCommitted;
+
+        RangeWriter(long start, long end) {
+            mStart = start;
+            mPosition = start;
+            mCommitted = start;
+            mEnd = end;
+        }
+
+        void write(InputStream body) throws IOException, InterruptedException {
+            FileChannelSink.transfer(body, mChannel, mStart, mEnd - mStart + 1, this);
+        }
+
+        @Override
+        public void onTransferred(long position, long count) throws IOException {
+            mPosition = position + count;
+            onBytesWritten(count);
+            if (mDigest != null) {
+                onWritten(position, count);
+                hashWritten(HASH_STEP);
+            }
+            try {
+                mLimiter.acquire(count);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+            if (mCheckpoint != null && mPosition - mCommitted >= CHECKPOINT_INTERVAL) {
+                commit();
+                saveCheckpoint();
+            }
+            if (mCancelled) {
+                throw new IOException("Download cancelled");
+            }
+        }
+
+        /**
+         * Records the bytes written since the last commit in the checkpoint of a resumable download.
+         */
+        void commit() {
+            if (mCheckpoint != null && mPosition > mCommitted) {
+                mCheckpoint.addCommittedRange(mCommitted, mPosition - 1);
+                mCommitted = mPosition;
+            }
+        }
+
+        void checkComplete() throws IOException {
+            if (mPosition != mEnd + 1) {
+                throw new IOException("Incomplete range, expected data up to " + mEnd + " but received up to " + (mPosition - 1));
+            }
+        }
+    }
+
+    /**
+     * Request for one range of a parallel download, sent with the session, version and transport of the original request.
+     */
+    private static class RangeRequest extends BoxRequestDownload<BoxDownload, RangeRequest> {
+
+        RangeRequest(BoxRequestDownload request, final RangeWriter writer) {
+            super(request);
+            mTarget = null;
+            mFileOutputStream = null;
+            mRangeStart = writer.mStart;
+            mRangeEnd = writer.mEnd;
+            mParallelism = 1;
+            mListener = null;
+            mDownloadStartListener = null;
+            mCheckpoint = null;
+            mCheckpointFile = null;
+            mExpectedSha1 = null;
+            setRequestHandler(new DownloadRequestHandler(this) {
+                @Override
+                protected void writeBody(BoxDownload downloadInfo, InputStream body, long contentLength) throws BoxException {
+                    try {
+                        writer.write(body);
+                    } catch (Exception e) {
+                        throw new BoxException(e.getMessage(), e);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -12,6 +12,7 @@ import com.box.androidsdk.content.models.BoxJsonObject;
 import com.box.androidsdk.content.models.BoxObject;
 import com.box.androidsdk.content.models.BoxSession;
 import com.box.androidsdk.content.models.BoxSharedLinkSession;
+import com.box.androidsdk.content.utils.BoxJsonReader;
 import com.box.androidsdk.content.utils.BoxLogUtils;
 import com.box.androidsdk.content.utils.SdkUtils;
 import com.eclipsesource.json.JsonArray;
@@ -22,6 +23,7 @@ import org.apache.http.HttpStatus;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.net.HttpURLConnection;
 import java.net.MalformedURLException;
@@ -42,6 +44,8 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
 
     public static final String JSON_OBJECT = "json_object";
 
+    private static volatile BoxHttpTransport mDefaultTransport = new BoxUrlConnectionTransport();
+
     protected String mRequestUrlString;
     protected Methods mRequestMethod;
 
@@ -52,6 +56,7 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
 
     protected BoxSession mSession;
     protected ProgressListener mListener;
+    protected BoxHttpTransport mTransport;
 
     private int mTimeout;
 
@@ -91,6 +96,7 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
         this.mIfNoneMatchEtag = request.getIfNoneMatchEtag();
         this.mTimeout = request.mTimeout;
         this.mStringBody = request.mStringBody;
+        this.mTransport = request.mTransport;
         importRequestContentMapsFrom(request);
     }
 
@@ -132,6 +138,47 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
         return (R) this;
     }
 
+    /**
+     * Sets the transport used to open connections for all requests that do not set their own transport.
+     *
+     * @param transport the transport to use by default.
+     */
+    public static void setDefaultTransport(BoxHttpTransport transport) {
+        if (transport == null) {
+            throw new IllegalArgumentException("transport cannot be null");
+        }
+        mDefaultTransport = transport;
+    }
+
+    /**
+     * Gets the transport used to open connections for all requests that do not set their own transport.
+     *
+     * @return the default transport.
+     */
+    public static BoxHttpTransport getDefaultTransport() {
+        return mDefaultTransport;
+    }
+
+    /**
+     * Sets the transport used to open connections for this request.
+     *
+     * @param transport the transport to use, or null to use the default transport.
+     * @return this request.
+     */
+    public R setTransport(BoxHttpTransport transport) {
+        mTransport = transport;
+        return (R) this;
+    }
+
+    /**
+     * Gets the transport used to open connections for this request.
+     *
+     * @return the transport set on this request, or the default transport if none was set.
+     */
+    public BoxHttpTransport getTransport() {
+        return mTransport != null ? mTransport : mDefaultTransport;
+    }
+
     /**
      * Set the time out for this request in milliseconds via the method in HttpUrlConnection.
      *
@@ -157,6 +204,7 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
      */
     public T send() throws BoxException {
         BoxRequest.BoxRequestHandler requestHandler = getRequestHandler();
+        BoxHttpTransport transport = getTransport();
         BoxHttpResponse response = null;
         HttpURLConnection connection = null;
         try {
@@ -191,7 +239,7 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
         }
         finally {
             if (connection != null){
-                connection.disconnect();
+                transport.release(connection, response);
             }
         }
     }
@@ -222,7 +270,7 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
 
     protected BoxHttpRequest createHttpRequest() throws IOException, BoxException {
         URL requestUrl = buildUrl();
-        BoxHttpRequest httpRequest = new BoxHttpRequest(requestUrl, mRequestMethod, mListener);
+        BoxHttpRequest httpRequest = new BoxHttpRequest(requestUrl, mRequestMethod, mListener, getTransport());
         setHeaders(httpRequest);
         setBody(httpRequest);
 
@@ -265,13 +313,32 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
         mHeaderMap.put("Accept-Encoding", "gzip");
         mHeaderMap.put("Accept-Charset", "utf-8");
         mHeaderMap.put("Content-Type", mContentType.toString());
+        putItemHeaders(mHeaderMap);
+
+        for (Map.Entry<String,String> h : mHeaderMap.entrySet()) {
+            request.addHeader(h.getKey(), h.getValue());
+        }
+    }
+
+    /**
+     * Returns the headers specific to this request, as opposed to the headers every request is sent with such as the
+     * authorization. These are the headers sent with the request when it is part of a server side batch.
+     *
+     * @return the headers of the request.
+     */
+    Map<String, String> getItemHeaders() {
+        LinkedHashMap<String, String> headers = new LinkedHashMap<String, String>();
+        putItemHeaders(headers);
+        return headers;
+    }
 
+    private void putItemHeaders(Map<String, String> headers) {
         if (mIfMatchEtag != null) {
-            mHeaderMap.put("If-Match", mIfMatchEtag);
+            headers.put("If-Match", mIfMatchEtag);
         }
 
         if (mIfNoneMatchEtag != null) {
-            mHeaderMap.put("If-None-Match", mIfNoneMatchEtag);
+            headers.put("If-None-Match", mIfNoneMatchEtag);
         }
 
         if (mSession instanceof BoxSharedLinkSession) {
@@ -280,12 +347,19 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
             if (slSession.getPassword() != null) {
                 shareLinkHeader += String.format(Locale.ENGLISH, "&shared_link_password=%s", slSession.getPassword());
             }
-            mHeaderMap.put("BoxApi", shareLinkHeader);
+            headers.put("BoxApi", shareLinkHeader);
         }
+    }
 
-        for (Map.Entry<String,String> h : mHeaderMap.entrySet()) {
-            request.addHeader(h.getKey(), h.getValue());
-        }
+    /**
+     * Returns whether this request can be sent as part of a server side batch, which only carries the method, URL,
+     * headers and JSON body of the request and parses the response with the request handler. Requests that send or
+     * read content in other ways, or that are made of several calls, have to be sent on their own.
+     *
+     * @return true if the request can be sent in a server side batch.
+     */
+    protected boolean isBatchable() {
+        return mContentType == ContentTypes.JSON;
     }
 
     protected R setIfMatchEtag(String etag) {
@@ -353,6 +427,8 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
             jsonBody.add(entry.getKey(), parseJsonObject(obj));
         } else if (obj instanceof Double) {
             jsonBody.add(entry.getKey(), Double.toString((Double) obj));
+        } else if (obj instanceof Long) {
+            jsonBody.add(entry.getKey(), (Long) obj);
         } else if (obj instanceof Enum || obj instanceof Boolean) {
             jsonBody.add(entry.getKey(), obj.toString());
         } else if (obj instanceof JsonArray) {
@@ -370,6 +446,10 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
 
 
     protected void logDebug(BoxHttpResponse response) throws BoxException {
+        if (!BoxLogUtils.getIsLoggingEnabled()) {
+            // Reading the body as a string would prevent it from being parsed as it is read from the connection.
+            return;
+        }
         logRequest();
         BoxLogUtils.i(BoxConstants.TAG, String.format(Locale.ENGLISH, "Response (%s):  %s", response.getResponseCode(), response.getStringBody()));
     }
@@ -456,8 +536,18 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
             String contentType = response.getContentType();
             T entity = clazz.newInstance();
             if (entity instanceof BoxJsonObject && contentType.contains(ContentTypes.JSON.toString())) {
-                String json = response.getStringBody();
-                ((BoxJsonObject) entity).createFromJson(json);
+                Reader body = response.getBodyReader();
+                if (body != null) {
+                    // Parse while reading from the connection instead of buffering the whole body as a string first. The
+                    // body is partly consumed when parsing fails, so the error is reported without the body.
+                    try {
+                        ((BoxJsonObject) entity).createFromJson(new BoxJsonReader(body));
+                    } catch (IOException e) {
+                        throw new BoxException("Unable to parse response", response.getResponseCode(), null, e);
+                    } catch (RuntimeException e) {
+                        throw new BoxException("Unable to parse response", response.getResponseCode(), null, e);
+                    }
+                }
             }
             return entity;
         }
@@ -513,7 +603,7 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
 
         protected static int getRetryAfterFromResponse(BoxHttpResponse response, int defaultSeconds) {
             int retryAfterSeconds = defaultSeconds;
-            String value = response.getHttpURLConnection().getHeaderField("Retry-After");
+            String value = response.getHeaderField("Retry-After");
             if (!SdkUtils.isBlank(value)) {
                 try {
                     retryAfterSeconds = Integer.parseInt(value);
@@ -537,7 +627,7 @@ public abstract class BoxRequest<T extends BoxObject, R extends BoxRequest<T, R>
             if (HttpStatus.SC_UNAUTHORIZED != response.getResponseCode()) {
                 return false;
             }
-            String header = response.mConnection.getHeaderField(WWW_AUTHENTICATE);
+            String header = response.getHeaderField(WWW_AUTHENTICATE);
             if (!SdkUtils.isEmptyString(header)) {
                 String[] authStrs = header.split(",");
                 for (String str : authStrs) {
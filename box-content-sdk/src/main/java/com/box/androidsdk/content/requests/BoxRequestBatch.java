@@ -1,18 +1,67 @@
 package com.box.androidsdk.content.requests;
 
+import com.box.androidsdk.content.BoxConstants;
 import com.box.androidsdk.content.BoxException;
 import com.box.androidsdk.content.models.BoxObject;
+import com.box.androidsdk.content.models.BoxSession;
+import com.box.androidsdk.content.utils.SdkUtils;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Batch request class that allows the ability to send multiple BoxRequests through an executor and
- * return a batch response object that contains all of the response information for each individual request
+ * return a batch response object that contains all of the response information for each individual request.
+ * Requests are sent one after another unless a maximum parallelism greater than one is set, in which case up to that
+ * many requests are sent at the same time. Responses are always returned in the order the requests were added.
+ *
+ * <p>A batch created with the URL of a batch endpoint sends its requests to the server in groups of up to
+ * {@link #getServerBatchSize()}, each group in a single round trip. Every request of a group is sent as an object
+ * holding its method, URL relative to the parent of the batch endpoint, headers and JSON body:</p>
+ * <pre>
+ * {"requests": [{"method": "GET", "relative_url": "/files/1234?fields=name", "headers": {}}, ...]}
+ * </pre>
+ * and the server answers with the status, headers and body of each request in the same order:
+ * <pre>
+ * {"responses": [{"status": 200, "headers": {}, "response": {"type": "file", "id": "1234", ...}}, ...]}
+ * </pre>
+ * Each response is then processed by the handler of its request. Requests that cannot be part of a server side batch,
+ * such as uploads and downloads or requests to other hosts, are sent on their own.
  */
 public class BoxRequestBatch extends BoxRequest<BoxResponseBatch, BoxRequestBatch> {
 
+    /**
+     * Number of requests sent in a single round trip to a batch endpoint by default.
+     */
+    public static final int DEFAULT_SERVER_BATCH_SIZE = 20;
+
+    static final String FIELD_REQUESTS = "requests";
+    static final String FIELD_RESPONSES = "responses";
+    static final String FIELD_METHOD = "method";
+    static final String FIELD_RELATIVE_URL = "relative_url";
+    static final String FIELD_HEADERS = "headers";
+    static final String FIELD_BODY = "body";
+    static final String FIELD_STATUS = "status";
+    static final String FIELD_RESPONSE = "response";
+
     protected ArrayList<BoxRequest> mRequests = new ArrayList<BoxRequest>();
 
+    private ExecutorService mExecutor;
+    private int mMaxParallelism = 1;
+    private boolean mFailFast;
+    private int mServerBatchSize = DEFAULT_SERVER_BATCH_SIZE;
+
     /**
      * Initializes a new BoxRequestBatch
      */
@@ -20,6 +69,17 @@ public class BoxRequestBatch extends BoxRequest<BoxResponseBatch, BoxRequestBatc
         super(BoxResponseBatch.class, null, null);
     }
 
+    /**
+     * Initializes a new BoxRequestBatch that sends its requests to a batch endpoint
+     *
+     * @param batchUrl  URL of the batch endpoint, whose parent the URLs of the requests are relative to
+     * @param session   the authenticated session that will be used to send the batch with
+     */
+    public BoxRequestBatch(String batchUrl, BoxSession session) {
+        super(BoxResponseBatch.class, batchUrl, session);
+        mRequestMethod = Methods.POST;
+    }
+
     /**
      * Adds a BoxRequest to the batch
      *
@@ -31,11 +91,234 @@ public class BoxRequestBatch extends BoxRequest<BoxResponseBatch, BoxRequestBatc
         return this;
     }
 
+    /**
+     * Sets the executor the requests of the batch are sent on when they are sent in parallel. If no executor is set, a
+     * thread pool is created for each send and shut down once all requests have finished.
+     *
+     * @param executor  the executor to send requests on, or null to use a thread pool of the batch.
+     * @return the batch request
+     */
+    public BoxRequestBatch setExecutor(ExecutorService executor) {
+        mExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests of the batch that are sent at the same time. When the batch is sent to a
+     * batch endpoint, this is the number of round trips made at the same time.
+     *
+     * @param maxParallelism    the number of requests sent at the same time, or 1 to send them one after another.
+     * @return the batch request
+     */
+    public BoxRequestBatch setMaxParallelism(int maxParallelism) {
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("maxParallelism must be at least 1");
+        }
+        mMaxParallelism = maxParallelism;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of requests of the batch that are sent at the same time.
+     *
+     * @return the number of requests sent at the same time.
+     */
+    public int getMaxParallelism() {
+        return mMaxParallelism;
+    }
+
+    /**
+     * Sets whether the batch stops at the first request that fails. Requests that have not been sent by then are not
+     * sent, and their responses hold a {@link CancellationException}. Requests already being sent are allowed to
+     * finish.
+     *
+     * @param failFast  true to stop at the first failure, false to send every request.
+     * @return the batch request
+     */
+    public BoxRequestBatch setFailFast(boolean failFast) {
+        mFailFast = failFast;
+        return this;
+    }
+
+    /**
+     * Returns whether the batch stops at the first request that fails.
+     *
+     * @return true if the batch stops at the first failure.
+     */
+    public boolean isFailFast() {
+        return mFailFast;
+    }
+
+    /**
+     * Sets the largest number of requests sent in a single round trip to the batch endpoint.
+     *
+     * @param serverBatchSize   the number of requests per round trip.
+     * @return the batch request
+     */
+    public BoxRequestBatch setServerBatchSize(int serverBatchSize) {
+        if (serverBatchSize < 1) {
+            throw new IllegalArgumentException("serverBatchSize must be at least 1");
+        }
+        mServerBatchSize = serverBatchSize;
+        return this;
+    }
+
+    /**
+     * Returns the largest number of requests sent in a single round trip to the batch endpoint.
+     *
+     * @return the number of requests per round trip.
+     */
+    public int getServerBatchSize() {
+        return mServerBatchSize;
+    }
+
+    @Override
+    protected boolean isBatchable() {
+        // A batch is made of many calls.
+        return false;
+    }
+
     @Override
     public BoxResponseBatch send() throws BoxException {
+        BatchRun run = new BatchRun();
+        int workers = Math.min(mMaxParallelism, run.mUnits.size());
+        if (workers <= 1) {
+            run.sendQueued();
+        } else {
+            sendInParallel(run, workers);
+        }
+
         BoxResponseBatch responses = new BoxResponseBatch();
+        for (BoxResponse response : run.mResponses) {
+            responses.addResponse(response);
+        }
+        return responses;
+    }
 
-        for (BoxRequest req : mRequests) {
+    private void sendInParallel(final BatchRun run, int workers) throws BoxException {
+        ExecutorService executor = mExecutor != null ? mExecutor
+                : SdkUtils.createDefaultThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS);
+        ArrayList<Future<?>> futures = new ArrayList<Future<?>>(workers);
+        try {
+            // Each worker takes the next request once its previous one has finished, which bounds the number of
+            // requests in flight even on an executor with more threads.
+            for (int i = 0; i < workers; i++) {
+                futures.add(executor.submit(new Runnable() {
+                    @Override
+                    public void run() {
+                        run.sendQueued();
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } catch (InterruptedException e) {
+            run.mStopped = true;
+            for (Future<?> future : futures) {
+                future.cancel(true);
+            }
+            throw new BoxException("Batch was interrupted", e);
+        } catch (ExecutionException e) {
+            throw new BoxException("Unable to send batch", e.getCause());
+        } finally {
+            if (executor != mExecutor) {
+                executor.shutdown();
+            }
+        }
+    }
+
+    /**
+     * @return the URL of a request relative to a base URL, or null if the request is not sent below the base URL.
+     */
+    private static String getRelativeUrl(BoxRequest request, String baseUrl) {
+        try {
+            String url = request.buildUrl().toString();
+            return url.startsWith(baseUrl + "/") ? url.substring(baseUrl.length()) : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    /**
+     * Tracks the requests of a single send of the batch. Requests are grouped in units, each unit being either a
+     * single request sent on its own or a group of requests sent to the batch endpoint in one round trip.
+     */
+    private class BatchRun {
+
+        private final BoxResponse[] mResponses = new BoxResponse[mRequests.size()];
+        private final String[] mRelativeUrls = new String[mRequests.size()];
+        private final List<int[]> mUnits = new ArrayList<int[]>();
+        private int mNext;
+        private volatile boolean mStopped;
+
+        BatchRun() {
+            String baseUrl = mRequestUrlString == null ? null
+                    : mRequestUrlString.substring(0, Math.max(0, mRequestUrlString.lastIndexOf('/')));
+            ArrayList<Integer> group = new ArrayList<Integer>();
+            for (int i = 0; i < mResponses.length; i++) {
+                BoxRequest request = mRequests.get(i);
+                if (baseUrl != null && request.isBatchable()) {
+                    mRelativeUrls[i] = getRelativeUrl(request, baseUrl);
+                }
+                if (mRelativeUrls[i] == null) {
+                    mUnits.add(new int[]{i});
+                    continue;
+                }
+                group.add(i);
+                if (group.size() == mServerBatchSize) {
+                    addGroup(group);
+                }
+            }
+            addGroup(group);
+        }
+
+        private void addGroup(ArrayList<Integer> group) {
+            if (group.isEmpty()) {
+                return;
+            }
+            int[] unit = new int[group.size()];
+            for (int i = 0; i < unit.length; i++) {
+                unit[i] = group.get(i);
+            }
+            mUnits.add(unit);
+            group.clear();
+        }
+
+        /**
+         * Sends units of the batch until none is left to send.
+         */
+        void sendQueued() {
+            for (int[] unit = takeNext(); unit != null; unit = takeNext()) {
+                if (mStopped) {
+                    for (int index : unit) {
+                        mResponses[index] = new BoxResponse<BoxObject>(null,
+                                new CancellationException("An earlier request of the batch failed"), mRequests.get(index));
+                    }
+                    continue;
+                }
+                if (unit.length == 1) {
+                    // A single request gains nothing from going through the batch endpoint.
+                    sendOne(unit[0]);
+                } else {
+                    sendToServer(unit);
+                }
+                if (mFailFast) {
+                    for (int index : unit) {
+                        if (!mResponses[index].isSuccess()) {
+                            mStopped = true;
+                        }
+                    }
+                }
+            }
+        }
+
+        private synchronized int[] takeNext() {
+            return mNext < mUnits.size() ? mUnits.get(mNext++) : null;
+        }
+
+        private void sendOne(int index) {
+            BoxRequest req = mRequests.get(index);
             BoxObject value = null;
             Exception ex = null;
             try {
@@ -43,11 +326,124 @@ public class BoxRequestBatch extends BoxRequest<BoxResponseBatch, BoxRequestBatc
             } catch (Exception e) {
                 ex = e;
             }
+            mResponses[index] = new BoxResponse<BoxObject>(value, ex, req);
+        }
 
-            BoxResponse<BoxObject> response = new BoxResponse<BoxObject>(value, ex, req);
-            responses.addResponse(response);
+        private void sendToServer(int[] unit) {
+            try {
+                JsonArray items = new JsonArray();
+                for (int index : unit) {
+                    items.add(toBatchItem(mRequests.get(index), mRelativeUrls[index]));
+                }
+                BoxResponseBatch responses = new ServerBatch(items, unit, mRequestUrlString, mSession)
+                        .setTransport(mTransport)
+                        .send();
+                for (int i = 0; i < unit.length; i++) {
+                    mResponses[unit[i]] = responses.getResponses().get(i);
+                }
+            } catch (Exception e) {
+                for (int index : unit) {
+                    mResponses[index] = new BoxResponse<BoxObject>(null, e, mRequests.get(index));
+                }
+            }
         }
 
-        return responses;
+        private JsonObject toBatchItem(BoxRequest request, String relativeUrl) throws BoxException {
+            JsonObject item = new JsonObject()
+                    .add(FIELD_METHOD, request.mRequestMethod.toString())
+                    .add(FIELD_RELATIVE_URL, relativeUrl);
+            Map<String, String> headers = request.getItemHeaders();
+            if (!headers.isEmpty()) {
+                JsonObject headersJson = new JsonObject();
+                for (Map.Entry<String, String> header : headers.entrySet()) {
+                    headersJson.add(header.getKey(), header.getValue());
+                }
+                item.add(FIELD_HEADERS, headersJson);
+            }
+            if (!request.mBodyMap.isEmpty()) {
+                try {
+                    item.add(FIELD_BODY, JsonValue.readFrom(request.getStringBody()));
+                } catch (Exception e) {
+                    throw new BoxException("Unable to create the body of a batched request", e);
+                }
+            }
+            return item;
+        }
+    }
+
+    /**
+     * Request for sending a group of requests to the batch endpoint in one round trip.
+     */
+    private class ServerBatch extends BoxRequest<BoxResponseBatch, ServerBatch> {
+
+        private final int[] mUnit;
+
+        ServerBatch(JsonArray items, int[] unit, String requestUrl, BoxSession session) {
+            super(BoxResponseBatch.class, requestUrl, session);
+            mRequestMethod = Methods.POST;
+            mUnit = unit;
+            mBodyMap.put(FIELD_REQUESTS, items);
+            setRequestHandler(new ServerBatchHandler(this));
+        }
+    }
+
+    /**
+     * Handler that splits the response of the batch endpoint into the responses of the batched requests, each
+     * processed by the handler of its request.
+     */
+    private class ServerBatchHandler extends BoxRequestHandler<ServerBatch> {
+
+        ServerBatchHandler(ServerBatch request) {
+            super(request);
+        }
+
+        @Override
+        public <T extends BoxObject> T onResponse(Class<T> clazz, BoxHttpResponse response) throws IllegalAccessException, InstantiationException, BoxException {
+            if (response.getResponseCode() == BoxConstants.HTTP_STATUS_TOO_MANY_REQUESTS) {
+                return retryRateLimited(response);
+            }
+            JsonArray items;
+            try {
+                items = JsonObject.readFrom(response.getStringBody()).get(FIELD_RESPONSES).asArray();
+            } catch (RuntimeException e) {
+                throw new BoxException("Unable to parse batch response", e);
+            }
+            int[] unit = mRequest.mUnit;
+            if (items.size() != unit.length) {
+                throw new BoxException("Batch response has " + items.size() + " responses for " + unit.length + " requests");
+            }
+            BoxResponseBatch responses = new BoxResponseBatch();
+            for (int i = 0; i < unit.length; i++) {
+                responses.addResponse(toResponse(mRequests.get(unit[i]), items.get(i).asObject()));
+            }
+            return (T) responses;
+        }
+
+        private BoxResponse<BoxObject> toResponse(BoxRequest request, JsonObject item) {
+            HashMap<String, String> headers = new HashMap<String, String>();
+            JsonValue headersJson = item.get(FIELD_HEADERS);
+            if (headersJson != null && headersJson.isObject()) {
+                for (JsonObject.Member header : headersJson.asObject()) {
+                    JsonValue value = header.getValue();
+                    headers.put(header.getName().toLowerCase(Locale.ENGLISH), value.isString() ? value.asString() : value.toString());
+                }
+            }
+            JsonValue body = item.get(FIELD_RESPONSE);
+            String bodyString = body == null || body.isNull() ? null : (body.isString() ? body.asString() : body.toString());
+            BoxBatchItemResponse itemResponse = new BoxBatchItemResponse(item.get(FIELD_STATUS).asInt(), headers, bodyString);
+
+            BoxObject value = null;
+            Exception ex = null;
+            try {
+                BoxRequestHandler handler = request.getRequestHandler();
+                if (!handler.isResponseSuccess(itemResponse)) {
+                    throw new BoxException("An error occurred while sending the request", itemResponse);
+                }
+                value = handler.onResponse(request.mClazz, itemResponse);
+            } catch (Exception e) {
+                ex = e;
+            }
+            return new BoxResponse<BoxObject>(value, ex, request);
+        }
     }
 }
@@ -0,0 +1,396 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxConstants;
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.listeners.ProgressListener;
+import com.box.androidsdk.content.models.BoxBulkCheckpoint;
+import com.box.androidsdk.content.models.BoxObject;
+import com.box.androidsdk.content.models.BoxSession;
+import com.box.androidsdk.content.utils.BoxLogUtils;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request that runs the same operation, such as a move or a delete, on many items. A request is created for each item
+ * id and up to {@link #getMaxParallelism()} of them are sent at the same time. Whenever Box answers with a rate limit
+ * response the number of requests sent at the same time is halved, and it grows back by one after as many successes
+ * in a row as requests allowed at the same time. Items that still hit the rate limit after the retry of their request
+ * are sent again with a new request.
+ *
+ * <p>Progress is reported as the number of items done out of the number of items. When a checkpoint file is set, the
+ * ids of the items the operation has succeeded on are saved to it as the operation goes, and sending the same operation
+ * again with the same checkpoint file skips them. The checkpoint file is deleted once every item has succeeded.</p>
+ */
+public class BoxRequestBulk extends BoxRequest<BoxResponseBulk, BoxRequestBulk> {
+
+    /**
+     * Number of requests sent at the same time by default.
+     */
+    public static final int DEFAULT_MAX_PARALLELISM = 4;
+
+    /**
+     * Number of times an item is sent again after its request ran out of rate limit retries.
+     */
+    static final int MAX_RATE_LIMITED_ATTEMPTS = 3;
+
+    /**
+     * Number of items completed between two saves of the checkpoint.
+     */
+    static final int CHECKPOINT_INTERVAL = 25;
+
+    private final ArrayList<String> mIds;
+    private final String mOperation;
+    private final ItemRequestFactory mFactory;
+    private int mMaxParallelism = DEFAULT_MAX_PARALLELISM;
+    private File mCheckpointFile;
+
+    /**
+     * Creates a bulk request
+     *
+     * @param ids   ids of the items to run the operation on. Duplicate ids are only sent once.
+     * @param operation description of the operation, such as the kind of request and its destination, that a saved
+     *                  checkpoint has to match to be used.
+     * @param factory   factory creating the request for each item.
+     * @param session   the authenticated session that will be used to make the requests with
+     */
+    public BoxRequestBulk(Collection<String> ids, String operation, ItemRequestFactory factory, BoxSession session) {
+        super(BoxResponseBulk.class, null, session);
+        mIds = new ArrayList<String>(new LinkedHashSet<String>(ids));
+        mOperation = operation;
+        mFactory = factory;
+    }
+
+    /**
+     * Returns the ids of the items the operation runs on.
+     *
+     * @return the item ids.
+     */
+    public ArrayList<String> getIds() {
+        return mIds;
+    }
+
+    /**
+     * Returns the description of the operation, used to match saved checkpoints.
+     *
+     * @return the description of the operation.
+     */
+    public String getOperation() {
+        return mOperation;
+    }
+
+    /**
+     * Sets the listener notified of the number of items done out of the number of items.
+     *
+     * @param listener  progress listener for the request.
+     * @return  request with the updated progress listener.
+     */
+    public BoxRequestBulk setProgressListener(ProgressListener listener) {
+        mListener = listener;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests sent at the same time. Fewer requests are sent at the same time while Box
+     * rate limits them.
+     *
+     * @param maxParallelism    the number of requests sent at the same time.
+     * @return  request with the updated parallelism.
+     */
+    public BoxRequestBulk setMaxParallelism(int maxParallelism) {
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("maxParallelism must be at least 1");
+        }
+        mMaxParallelism = maxParallelism;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of requests sent at the same time.
+     *
+     * @return the number of requests sent at the same time.
+     */
+    public int getMaxParallelism() {
+        return mMaxParallelism;
+    }
+
+    /**
+     * Sets the file the progress of the operation is saved to, so that an interrupted or partially failed operation can
+     * be sent again without repeating the items it has already succeeded on.
+     *
+     * @param checkpointFile    the file to save the checkpoint to, or null to not keep a checkpoint.
+     * @return  request with the updated checkpoint file.
+     */
+    public BoxRequestBulk setCheckpointFile(File checkpointFile) {
+        mCheckpointFile = checkpointFile;
+        return this;
+    }
+
+    /**
+     * Returns the file the progress of the operation is saved to.
+     *
+     * @return the checkpoint file, or null if no checkpoint is kept.
+     */
+    public File getCheckpointFile() {
+        return mCheckpointFile;
+    }
+
+    @Override
+    protected boolean isBatchable() {
+        // The operation is made of many calls.
+        return false;
+    }
+
+    /**
+     * Runs the operation on every item, blocking until each item has either succeeded or failed.
+     *
+     * @return the responses of the items.
+     * @throws BoxException thrown if the operation was interrupted, in which case the checkpoint is saved.
+     */
+    @Override
+    public BoxResponseBulk send() throws BoxException {
+        BoxBulkCheckpoint checkpoint = mCheckpointFile == null ? null : BoxBulkCheckpoint.load(mCheckpointFile);
+        if (checkpoint == null || !mOperation.equals(checkpoint.getOperation())) {
+            checkpoint = new BoxBulkCheckpoint(mOperation);
+        }
+        BulkRun run = new BulkRun(checkpoint);
+        int workers = Math.min(mMaxParallelism, run.mPending.size());
+        if (workers > 0) {
+            ExecutorService executor = SdkUtils.createDefaultThreadPoolExecutor(workers, workers, 60, TimeUnit.SECONDS);
+            ArrayList<Future<?>> futures = new ArrayList<Future<?>>(workers);
+            try {
+                for (int i = 0; i < workers; i++) {
+                    futures.add(executor.submit(run));
+                }
+                for (Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (InterruptedException e) {
+                run.mStopped = true;
+                for (Future<?> future : futures) {
+                    future.cancel(true);
+                }
+                run.saveCheckpoint();
+                throw new BoxException("Bulk operation was interrupted", e);
+            } catch (ExecutionException e) {
+                run.saveCheckpoint();
+                throw new BoxException("Unable to run bulk operation", e.getCause());
+            } finally {
+                executor.shutdown();
+            }
+        }
+
+        BoxResponseBulk responses = new BoxResponseBulk();
+        for (int i = 0; i < mIds.size(); i++) {
+            String id = mIds.get(i);
+            if (run.mResponses[i] == null) {
+                responses.addSkippedId(id);
+            } else {
+                responses.addResponse(id, run.mResponses[i]);
+            }
+        }
+        if (mCheckpointFile != null) {
+            if (responses.isComplete()) {
+                mCheckpointFile.delete();
+            } else {
+                run.saveCheckpoint();
+            }
+        }
+        return responses;
+    }
+
+    /**
+     * Tracks the items of a single send of the bulk request. Each worker takes the next pending item until none are
+     * left.
+     */
+    private class BulkRun implements Runnable {
+
+        private final BoxBulkCheckpoint mCheckpoint;
+        private final BoxResponse[] mResponses = new BoxResponse[mIds.size()];
+        private final ArrayList<Integer> mPending = new ArrayList<Integer>();
+        private final Throttle mThrottle = new Throttle(mMaxParallelism);
+        private int mNext;
+        private int mDone;
+        private int mUnsaved;
+        private volatile boolean mStopped;
+
+        BulkRun(BoxBulkCheckpoint checkpoint) {
+            mCheckpoint = checkpoint;
+            for (int i = 0; i < mIds.size(); i++) {
+                if (checkpoint.isCompleted(mIds.get(i))) {
+                    mDone++;
+                } else {
+                    mPending.add(i);
+                }
+            }
+            if (mListener != null) {
+                mListener.onProgressChanged(mDone, mIds.size());
+            }
+        }
+
+        @Override
+        public void run() {
+            for (int index = takeNext(); index >= 0 && !mStopped; index = takeNext()) {
+                try {
+                    mThrottle.acquire();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                try {
+                    mResponses[index] = sendItem(mIds.get(index));
+                } finally {
+                    mThrottle.release();
+                }
+                onItemDone(index);
+            }
+        }
+
+        private synchronized int takeNext() {
+            return mNext < mPending.size() ? mPending.get(mNext++) : -1;
+        }
+
+        private BoxResponse sendItem(String id) {
+            BoxRequest request = null;
+            Exception ex = null;
+            for (int attempt = 0; attempt <= MAX_RATE_LIMITED_ATTEMPTS; attempt++) {
+                BoxObject result;
+                try {
+                    request = mFactory.createRequest(id);
+                    request.setTransport(mTransport);
+                    if (request.getRequestHandler().getClass() == BoxRequestHandler.class) {
+                        // Requests with their own handler keep it and are only throttled by their failures.
+                        request.setRequestHandler(new ThrottledRequestHandler(request, mThrottle));
+                    }
+                    result = request.send();
+                } catch (BoxException.RateLimitAttemptsExceeded e) {
+                    mThrottle.onRateLimited();
+                    ex = e;
+                    continue;
+                } catch (Exception e) {
+                    return new BoxResponse<BoxObject>(null, e, request);
+                }
+                mThrottle.onSuccess();
+                return new BoxResponse<BoxObject>(result, null, request);
+            }
+            return new BoxResponse<BoxObject>(null, ex, request);
+        }
+
+        private void onItemDone(int index) {
+            boolean save = false;
+            synchronized (this) {
+                mDone++;
+                if (mResponses[index].isSuccess()) {
+                    mCheckpoint.addCompletedId(mIds.get(index));
+                    if (++mUnsaved >= CHECKPOINT_INTERVAL) {
+                        mUnsaved = 0;
+                        save = true;
+                    }
+                }
+                if (mListener != null) {
+                    mListener.onProgressChanged(mDone, mIds.size());
+                }
+            }
+            if (save) {
+                saveCheckpoint();
+            }
+        }
+
+        void saveCheckpoint() {
+            if (mCheckpointFile == null) {
+                return;
+            }
+            try {
+                mCheckpoint.save(mCheckpointFile);
+            } catch (IOException e) {
+                // The operation goes on, only a later resume repeats more items.
+                BoxLogUtils.e(BoxConstants.TAG, "Unable to save checkpoint", e);
+            }
+        }
+    }
+
+    /**
+     * Limits the number of requests sent at the same time, halving the limit on rate limit responses and raising it
+     * by one after as many successes in a row as the limit.
+     */
+    static class Throttle {
+
+        private final int mMax;
+        private int mLimit;
+        private int mActive;
+        private int mSuccesses;
+
+        Throttle(int max) {
+            mMax = max;
+            mLimit = max;
+        }
+
+        synchronized void acquire() throws InterruptedException {
+            while (mActive >= mLimit) {
+                wait();
+            }
+            mActive++;
+        }
+
+        synchronized void release() {
+            mActive--;
+            notifyAll();
+        }
+
+        synchronized void onSuccess() {
+            if (mLimit < mMax && ++mSuccesses >= mLimit) {
+                mLimit++;
+                mSuccesses = 0;
+                notifyAll();
+            }
+        }
+
+        synchronized void onRateLimited() {
+            mLimit = Math.max(1, mLimit / 2);
+            mSuccesses = 0;
+        }
+
+        synchronized int getLimit() {
+            return mLimit;
+        }
+    }
+
+    /**
+     * Default request handler that lowers the number of requests sent at the same time before retrying a rate limited
+     * request.
+     */
+    private static class ThrottledRequestHandler extends BoxRequestHandler<BoxRequest> {
+
+        private final Throttle mThrottle;
+
+        ThrottledRequestHandler(BoxRequest request, Throttle throttle) {
+            super(request);
+            mThrottle = throttle;
+        }
+
+        @Override
+        protected <T extends BoxObject> T retryRateLimited(BoxHttpResponse response) throws BoxException {
+            mThrottle.onRateLimited();
+            return super.retryRateLimited(response);
+        }
+    }
+
+    /**
+     * Creates the request run on each item of a bulk request.
+     */
+    public interface ItemRequestFactory {
+
+        /**
+         * @param id    id of the item.
+         * @return the request running the operation on the item.
+         */
+        BoxRequest createRequest(String id);
+    }
+}
@@ -0,0 +1,202 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxConstants;
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.listeners.ProgressListener;
+import com.box.androidsdk.content.models.BoxFile;
+import com.box.androidsdk.content.models.BoxSession;
+import com.box.androidsdk.content.models.BoxUploadSession;
+import com.box.androidsdk.content.models.BoxUploadSessionPart;
+import com.box.androidsdk.content.utils.BandwidthLimiter;
+import com.box.androidsdk.content.utils.BoxLogUtils;
+
+import java.io.File;
+import java.util.List;
+
+/**
+ * Abstract class representing a request to upload a file through a chunked upload session. The session is created
+ * first, then the parts of the file are uploaded by up to {@link #getParallelism()} connections, each with the SHA1
+ * hash of its content. A part that fails is retried on its own up to {@link #getPartRetries()} times. Once all parts
+ * are uploaded the session is committed, which creates the file or new version. If the upload fails the session is
+ * aborted.
+ *
+ * @param <R>   type of BoxRequest being created.
+ */
+public abstract class BoxRequestChunkedUpload<R extends BoxRequest<BoxFile, R>> extends BoxRequest<BoxFile, R> {
+
+    /**
+     * Number of parts uploaded at the same time by default.
+     */
+    public static final int DEFAULT_PARALLELISM = 4;
+
+    /**
+     * Number of times a failed part is retried by default.
+     */
+    public static final int DEFAULT_PART_RETRIES = 3;
+
+    File mFile;
+    String mFileName;
+    int mParallelism = DEFAULT_PARALLELISM;
+    int mPartRetries = DEFAULT_PART_RETRIES;
+    String mBandwidthClass;
+
+    /**
+     * Creates a chunked upload request for a file with the default parameters.
+     *
+     * @param file  file to upload.
+     * @param requestUrl    URL of the endpoint the upload session is created at.
+     * @param session   the authenticated session that will be used to make the request with.
+     */
+    public BoxRequestChunkedUpload(File file, String requestUrl, BoxSession session) {
+        super(BoxFile.class, requestUrl, session);
+        mRequestMethod = Methods.POST;
+        mFile = file;
+        mFileName = file.getName();
+    }
+
+    /**
+     * Creates the upload session the parts of the file are uploaded to.
+     *
+     * @return the created upload session.
+     * @throws BoxException thrown if the session could not be created.
+     */
+    protected abstract BoxUploadSession createUploadSession() throws BoxException;
+
+    @Override
+    protected boolean isBatchable() {
+        // The upload is made of several calls.
+        return false;
+    }
+
+    @Override
+    public BoxFile send() throws BoxException {
+        BoxUploadSession session = createUploadSession();
+        BoxUploadSession.Endpoints endpoints = session.getSessionEndpoints();
+        if (endpoints == null || session.getPartSize() == null) {
+            throw new BoxException("Upload session " + session.getId() + " is missing its part size or endpoints");
+        }
+        try {
+            BoxChunkedUpload upload = new BoxChunkedUpload(this, session);
+            List<BoxUploadSessionPart> parts = upload.uploadParts();
+            return new BoxRequestsFile.CommitUploadSession(parts, upload.getSha1(), endpoints.getCommitEndpoint(), mSession)
+                    .setTransport(mTransport)
+                    .send();
+        } catch (BoxException e) {
+            try {
+                new BoxRequestsFile.AbortUploadSession(endpoints.getAbortEndpoint(), mSession)
+                        .setTransport(mTransport)
+                        .send();
+            } catch (BoxException abortException) {
+                BoxLogUtils.e(BoxConstants.TAG, "Unable to abort upload session", abortException);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Sets the progress listener for the upload, which is notified of the bytes uploaded across all parts.
+     *
+     * @param listener  progress listener for the request.
+     * @return  request with the updated progress listener.
+     */
+    public R setProgressListener(ProgressListener listener) {
+        mListener = listener;
+        return (R) this;
+    }
+
+    /**
+     * Sets the number of parts that are uploaded at the same time.
+     *
+     * @param parallelism   the number of connections to upload with.
+     * @return  request with the updated parallelism.
+     */
+    public R setParallelism(int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be at least 1");
+        }
+        mParallelism = parallelism;
+        return (R) this;
+    }
+
+    /**
+     * Returns the number of parts that are uploaded at the same time.
+     *
+     * @return  the number of connections to upload with.
+     */
+    public int getParallelism() {
+        return mParallelism;
+    }
+
+    /**
+     * Sets the number of times a part that failed to upload because of a network or server error is retried.
+     *
+     * @param retries   the number of retries for each part.
+     * @return  request with the updated number of retries.
+     */
+    public R setPartRetries(int retries) {
+        if (retries < 0) {
+            throw new IllegalArgumentException("retries cannot be negative");
+        }
+        mPartRetries = retries;
+        return (R) this;
+    }
+
+    /**
+     * Returns the number of times a part that failed to upload is retried.
+     *
+     * @return  the number of retries for each part.
+     */
+    public int getPartRetries() {
+        return mPartRetries;
+    }
+
+    /**
+     * Sets the class of transfers this upload belongs to, which paces it with the {@link BandwidthLimiter} of the class
+     * along with the global limiter.
+     *
+     * @param bandwidthClass    the name of the class, or null for {@link BandwidthLimiter#CLASS_DEFAULT}.
+     * @return  request with the updated class.
+     */
+    public R setBandwidthClass(String bandwidthClass) {
+        mBandwidthClass = bandwidthClass;
+        return (R) this;
+    }
+
+    /**
+     * Returns the class of transfers this upload belongs to.
+     *
+     * @return  the name of the class, or null if it belongs to {@link BandwidthLimiter#CLASS_DEFAULT}.
+     */
+    public String getBandwidthClass() {
+        return mBandwidthClass;
+    }
+
+    /**
+     * Returns the name of the file to upload.
+     *
+     * @return  name of the file to upload.
+     */
+    public String getFileName() {
+        return mFileName;
+    }
+
+    /**
+     * Sets the name of the file to upload.
+     *
+     * @param fileName  name of the file to upload.
+     * @return  request with the updated file name.
+     */
+    public R setFileName(String fileName) {
+        mFileName = fileName;
+        return (R) this;
+    }
+
+    /**
+     * Returns the file to upload.
+     *
+     * @return  file to upload.
+     */
+    public File getFile() {
+        return mFile;
+    }
+}
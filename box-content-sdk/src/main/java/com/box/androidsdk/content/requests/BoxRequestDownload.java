@@ -5,9 +5,12 @@ import com.box.androidsdk.content.BoxException;
 import com.box.androidsdk.content.listeners.DownloadStartListener;
 import com.box.androidsdk.content.listeners.ProgressListener;
 import com.box.androidsdk.content.models.BoxDownload;
+import com.box.androidsdk.content.models.BoxDownloadCheckpoint;
 import com.box.androidsdk.content.models.BoxObject;
 import com.box.androidsdk.content.models.BoxSession;
+import com.box.androidsdk.content.utils.BandwidthLimiter;
 import com.box.androidsdk.content.utils.BoxLogUtils;
+import com.box.androidsdk.content.utils.FileChannelSink;
 import com.box.androidsdk.content.utils.ProgressOutputStream;
 import com.box.androidsdk.content.utils.SdkUtils;
 
@@ -15,8 +18,12 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.InputStream;
 import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
 import java.util.Locale;
 
 
@@ -32,9 +39,21 @@ public abstract class BoxRequestDownload<E extends BoxObject, R extends BoxReque
     OutputStream mFileOutputStream;
     File mTarget;
     DownloadStartListener mDownloadStartListener;
+    int mParallelism = 1;
+    long mRangeSize = DEFAULT_RANGE_SIZE;
+    BoxDownloadCheckpoint mCheckpoint;
+    File mCheckpointFile;
+    String mExpectedSha1;
+    String mBandwidthClass;
+    boolean mFirstRangeUnsatisfiable;
 
     private static final String QUERY_VERSION = "version";
 
+    /**
+     * Default number of bytes requested by each connection of a parallel download.
+     */
+    public static final long DEFAULT_RANGE_SIZE = 8 * 1024 * 1024;
+
 
     /**
      * Creates a download request to an output stream with the default parameters.
@@ -68,6 +87,32 @@ public abstract class BoxRequestDownload<E extends BoxObject, R extends BoxReque
         this.setRequestHandler(new DownloadRequestHandler(this));
     }
 
+    /**
+     * Helper constructor used to copy the fields of one download request to another.
+     *
+     * @param request the request to copy data from.
+     */
+    protected BoxRequestDownload(BoxRequestDownload request) {
+        super(request);
+        mRangeStart = request.mRangeStart;
+        mRangeEnd = request.mRangeEnd;
+        mFileOutputStream = request.mFileOutputStream;
+        mTarget = request.mTarget;
+        mDownloadStartListener = request.mDownloadStartListener;
+        mParallelism = request.mParallelism;
+        mRangeSize = request.mRangeSize;
+        mCheckpoint = request.mCheckpoint;
+        mCheckpointFile = request.mCheckpointFile;
+        mExpectedSha1 = request.mExpectedSha1;
+        mBandwidthClass = request.mBandwidthClass;
+    }
+
+    @Override
+    protected boolean isBatchable() {
+        // The content is streamed from the connection.
+        return false;
+    }
+
     @Override
     protected void setHeaders(BoxHttpRequest request) {
         super.setHeaders(request);
@@ -76,6 +121,13 @@ public abstract class BoxRequestDownload<E extends BoxObject, R extends BoxReque
             request.addHeader("Range", String.format("bytes=%s-%s", Long.toString(mRangeStart),
                     Long.toString(mRangeEnd)));
 
+        } else if (mCheckpoint != null) {
+            long[] range = getResumeRange();
+            request.addHeader("Range", String.format("bytes=%s-%s", Long.toString(range[0]),
+                    range[1] == -1 ? "" : Long.toString(range[1])));
+        } else if (isParallelDownload() && !mFirstRangeUnsatisfiable) {
+            // The first range also tells us the size of the file, which is needed to split up the rest of it.
+            request.addHeader("Range", String.format("bytes=0-%s", Long.toString(mRangeSize - 1)));
         }
     }
 
@@ -155,6 +207,99 @@ public abstract class BoxRequestDownload<E extends BoxObject, R extends BoxReque
         return mQueryMap.get(QUERY_VERSION);
     }
 
+    /**
+     * Sets the class of transfers this download belongs to, which paces it with the {@link BandwidthLimiter} of the class
+     * along with the global limiter.
+     *
+     * @param bandwidthClass    the name of the class, or null for {@link BandwidthLimiter#CLASS_DEFAULT}.
+     * @return  request with the updated class.
+     */
+    public R setBandwidthClass(String bandwidthClass) {
+        mBandwidthClass = bandwidthClass;
+        return (R) this;
+    }
+
+    /**
+     * Returns the class of transfers this download belongs to.
+     *
+     * @return  the name of the class, or null if it belongs to {@link BandwidthLimiter#CLASS_DEFAULT}.
+     */
+    public String getBandwidthClass() {
+        return mBandwidthClass;
+    }
+
+    /**
+     * Sets the number of connections used to download the file. When greater than one and the request targets a
+     * file, the file is split into byte ranges of {@link #getRangeSize()} bytes that are downloaded concurrently and
+     * written at their offsets in the target file. This has no effect on downloads to an output stream or when a
+     * range has been set with {@link #setRange(long, long)}.
+     *
+     * @param connections the maximum number of concurrent connections, 1 by default.
+     * @return this download request.
+     */
+    public R setParallelism(int connections) {
+        if (connections < 1) {
+            throw new IllegalArgumentException("At least one connection is required");
+        }
+        mParallelism = connections;
+        return (R) this;
+    }
+
+    /**
+     * Returns the maximum number of connections used to download the file.
+     *
+     * @return the number of connections set by setParallelism, 1 otherwise.
+     */
+    public int getParallelism() {
+        return mParallelism;
+    }
+
+    /**
+     * Sets the number of bytes requested by each connection of a parallel download.
+     *
+     * @param rangeSize the size of each range in bytes, {@link #DEFAULT_RANGE_SIZE} by default.
+     * @return this download request.
+     */
+    public R setRangeSize(long rangeSize) {
+        if (rangeSize < 1) {
+            throw new IllegalArgumentException("Range size must be positive");
+        }
+        mRangeSize = rangeSize;
+        return (R) this;
+    }
+
+    /**
+     * Returns the number of bytes requested by each connection of a parallel download.
+     *
+     * @return the size of each range in bytes.
+     */
+    public long getRangeSize() {
+        return mRangeSize;
+    }
+
+    /**
+     * Returns whether this request downloads its target in ranges over several connections.
+     *
+     * @return true if the file will be downloaded in parallel.
+     */
+    protected boolean isParallelDownload() {
+        return mParallelism > 1 && mTarget != null && mRangeStart == -1 && mRangeEnd == -1;
+    }
+
+    /**
+     * Returns the range requested when continuing a resumable download, which is the first range missing from its
+     * checkpoint.
+     *
+     * @return the offsets of the first and last byte requested, the last offset is -1 if the size of the file is unknown.
+     */
+    long[] getResumeRange() {
+        long[] range = mCheckpoint.getMissingRanges().get(0);
+        if (mParallelism > 1 && (range[1] == -1 || range[1] - range[0] + 1 > mRangeSize)) {
+            return new long[]{range[0], range[0] + mRangeSize - 1};
+        }
+        return range;
+    }
+
     /**
      * Sets the progress listener for the download request.
      *
@@ -209,6 +354,102 @@ public abstract class BoxRequestDownload<E extends BoxObject, R extends BoxReque
             return mRequest.mFileOutputStream;
         }
 
+        /**
+         * Writes the body of a download response to its destination. Files are written through a {@link FileChannelSink},
+         * other destinations through the stream returned by {@link #getOutputStream(BoxDownload)}.
+         *
+         * @param downloadInfo  information about the download.
+         * @param body          the body of the response.
+         * @param contentLength the number of bytes in the body, or -1 if it is unknown.
+         * @throws BoxException thrown if the body could not be written.
+         */
+        protected void writeBody(BoxDownload downloadInfo, InputStream body, long contentLength) throws BoxException {
+            OutputStream output = null;
+            MessageDigest digest = null;
+
+            try {
+                if (mRequest.mExpectedSha1 != null && mRequest.mRangeStart == -1) {
+                    digest = MessageDigest.getInstance("SHA-1");
+                }
+                output = getOutputStream(downloadInfo);
+                final BandwidthLimiter limiter = BandwidthLimiter.get(mRequest.mBandwidthClass);
+                if (mRequest.getTargetStream() == null && output instanceof FileOutputStream) {
+                    // Only files opened by the request are written from the start, a stream given by the caller may
+                    // already hold content or be in append mode.
+                    final ProgressListener listener = mRequest.mListener;
+                    final long total = contentLength;
+                    if (listener != null) {
+                        listener.onProgressChanged(0, total);
+                    }
+                    FileChannelSink.transfer(body, ((FileOutputStream) output).getChannel(), 0, -1, digest, new FileChannelSink.Listener() {
+                        @Override
+                        public void onTransferred(long position, long count) throws IOException {
+                            if (listener != null) {
+                                listener.onProgressChanged(position + count, total);
+                            }
+                            try {
+                                limiter.acquire(count);
+                            } catch (InterruptedException e) {
+                                throw new InterruptedIOException();
+                            }
+                        }
+                    });
+                } else {
+                    output = limiter.limit(output);
+                    if (digest != null) {
+                        output = new DigestOutputStream(output, digest);
+                    }
+                    if (mRequest.mListener != null) {
+                        output = new ProgressOutputStream(output, mRequest.mListener, contentLength);
+                        mRequest.mListener.onProgressChanged(0, contentLength);
+                    }
+                    SdkUtils.copyStream(body, output);
+                }
+            } catch (Exception e) {
+                throw new BoxException(e.getMessage(), e);
+            } finally {
+                if (mRequest.getTargetStream() == null && output != null) {
+                    // if this is not from a stream, meaning we created the stream we will close the outputStream as well.
+                    try {
+                        output.close();
+                    } catch (IOException e) {
+
+                    }
+                }
+            }
+            if (digest != null) {
+                verifySha1(downloadInfo, SdkUtils.toHexString(digest.digest()));
+            }
+        }
+
+        /**
+         * Compares the SHA1 hash of downloaded content to the one expected by the request. On a mismatch the file
+         * written by the download is deleted.
+         *
+         * @param downloadInfo  information about the download.
+         * @param actualSha1    the SHA1 hash of the downloaded content.
+         * @throws BoxException.Sha1Mismatch thrown if the hashes do not match.
+         */
+        protected void verifySha1(BoxDownload downloadInfo, String actualSha1) throws BoxException.Sha1Mismatch {
+            if (!mRequest.mExpectedSha1.equalsIgnoreCase(actualSha1)) {
+                if (mRequest.getTarget() != null && downloadInfo.getOutputFile() != null) {
+                    downloadInfo.getOutputFile().delete();
+                }
+                throw new BoxException.Sha1Mismatch(mRequest.mExpectedSha1, actualSha1);
+            }
+        }
+
+        @Override
+        public boolean onException(BoxRequest request, BoxHttpResponse response, BoxException ex) throws BoxException.RefreshFailure {
+            if (response != null && response.getResponseCode() == BoxConstants.HTTP_STATUS_RANGE_NOT_SATISFIABLE
+                    && mRequest.isParallelDownload() && mRequest.mCheckpoint == null && !mRequest.mFirstRangeUnsatisfiable) {
+                // Only an empty file has no first range to split the download from, so it is requested as a whole.
+                mRequest.mFirstRangeUnsatisfiable = true;
+                return true;
+            }
+            return super.onException(request, response, ex);
+        }
+
         @Override
         public BoxDownload onResponse(Class clazz, BoxHttpResponse response) throws IllegalAccessException, InstantiationException, BoxException {
             String contentType = response.getContentType();
@@ -235,18 +476,47 @@ public abstract class BoxRequestDownload<E extends BoxObject, R extends BoxReque
                     throw new BoxException(e.getMessage(), response);
                 }
             } else if (response.getResponseCode() == HttpURLConnection.HTTP_OK || response.getResponseCode() == HttpURLConnection.HTTP_PARTIAL) {
+                // A later send asks for the first range again, the file may no longer be empty.
+                mRequest.mFirstRangeUnsatisfiable = false;
 
-                String contentLengthString = response.getHttpURLConnection().getHeaderField("Content-Length");
-                String contentDisposition = response.getHttpURLConnection().getHeaderField("Content-Disposition");
+                String contentLengthString = response.getHeaderField("Content-Length");
+                String contentDisposition = response.getHeaderField("Content-Disposition");
                 try {
                     // do this manually since the older 1.6 convenience method returns int.
                     contentLength = Long.parseLong(contentLengthString);
                 } catch (Exception e) {
                     // ignore any errors here.
                 }
-                String contentRange = response.getHttpURLConnection().getHeaderField("Content-Range");
-                String date = response.getHttpURLConnection().getHeaderField("Date");
-                String expirationDate = response.getHttpURLConnection().getHeaderField("Expiration");
+                String contentRange = response.getHeaderField("Content-Range");
+                String date = response.getHeaderField("Date");
+                String expirationDate = response.getHeaderField("Expiration");
+
+                long[] range = parseContentRange(contentRange);
+                long firstRangeStart = 0;
+                long firstRangeLength = contentLength;
+                boolean ranged = false;
+                BoxDownloadCheckpoint checkpoint = mRequest.mCheckpoint;
+                if (response.getResponseCode() == HttpURLConnection.HTTP_PARTIAL && range != null && range[2] > 0
+                        && (checkpoint != null || (mRequest.isParallelDownload() && range[2] > range[1] + 1))) {
+                    // The download as a whole covers the entire file rather than the range in this response.
+                    ranged = true;
+                    firstRangeStart = range[0];
+                    firstRangeLength = range[1] - range[0] + 1;
+                    contentLength = range[2];
+                    contentRange = null;
+                } else if (checkpoint != null && response.getResponseCode() == HttpURLConnection.HTTP_OK && contentLength > 0) {
+                    // The server ignored the range and sent the whole file.
+                    ranged = true;
+                    checkpoint.clearCommittedRanges();
+                }
+                if (checkpoint != null) {
+                    if (!ranged || (checkpoint.getSize() != null && checkpoint.getSize() != contentLength)) {
+                        checkpoint.clearCommittedRanges();
+                    }
+                    if (ranged) {
+                        checkpoint.setSize(contentLength);
+                    }
+                }
 
                 BoxDownload downloadInfo = new BoxDownload(contentDisposition, contentLength, contentType, contentRange, date, expirationDate) {
                     @Override
@@ -268,34 +538,57 @@ public abstract class BoxRequestDownload<E extends BoxObject, R extends BoxReque
                     mRequest.mDownloadStartListener.onStart(downloadInfo);
                 }
 
-
-                OutputStream output = null;
-
-                try {
-                    if (mRequest.mListener != null) {
-                        output = new ProgressOutputStream(getOutputStream(downloadInfo), mRequest.mListener, contentLength);
-                        mRequest.mListener.onProgressChanged(0, contentLength);
-                    } else {
-                        output = getOutputStream(downloadInfo);
-                    }
-                    SdkUtils.copyStream(response.getHttpURLConnection().getInputStream(), output);
-                } catch (Exception e) {
-                    throw new BoxException(e.getMessage(), e);
-                } finally {
-                    if (mRequest.getTargetStream() == null) {
-                        // if this is not from a stream, meaning we created the stream we will close the outputStream as well.
-                        try {
-                            output.close();
-                        } catch (IOException e) {
-
-                        }
+                if (ranged) {
+                    String sha1 = new BoxParallelDownload(mRequest, contentLength, checkpoint).download(downloadInfo.getOutputFile(),
+                            response.getBody(), firstRangeStart, firstRangeLength);
+                    if (sha1 != null) {
+                        verifySha1(downloadInfo, sha1);
                     }
-
+                    return downloadInfo;
                 }
 
+                writeBody(downloadInfo, response.getBody(), contentLength);
                 return downloadInfo;
             }
             return new BoxDownload(null, 0, null, null, null, null);
         }
+
+        /**
+         * Reads the size of the complete file from a Content-Range header such as "bytes 0-1/5".
+         *
+         * @param contentRange the value of the Content-Range header.
+         * @return the size of the file in bytes, or -1 if it is unknown.
+         */
+        protected static long getTotalFromContentRange(String contentRange) {
+            long[] range = parseContentRange(contentRange);
+            return range == null ? -1 : range[2];
+        }
+
+        /**
+         * Parses a Content-Range header such as "bytes 0-1/5".
+         *
+         * @param contentRange the value of the Content-Range header.
+         * @return the offsets of the first and last byte in the response followed by the size of the file, which is -1
+         * if it is unknown. Returns null if the header is missing or malformed.
+         */
+        protected static long[] parseContentRange(String contentRange) {
+            if (contentRange == null) {
+                return null;
+            }
+            int dash = contentRange.indexOf('-');
+            int separator = contentRange.lastIndexOf('/');
+            int space = contentRange.lastIndexOf(' ', dash);
+            if (dash == -1 || separator < dash) {
+                return null;
+            }
+            try {
+                long start = Long.parseLong(contentRange.substring(space + 1, dash).trim());
+                long end = Long.parseLong(contentRange.substring(dash + 1, separator).trim());
+                String total = contentRange.substring(separator + 1).trim();
+                return new long[]{start, end, total.equals("*") ? -1 : Long.parseLong(total)};
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
     }
 }
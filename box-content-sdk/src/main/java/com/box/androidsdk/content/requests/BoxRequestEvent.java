@@ -120,6 +120,12 @@ abstract class BoxRequestEvent<E extends BoxJsonObject, R extends BoxRequest<E,R
         return (R)this;
     }
 
+    @Override
+    protected boolean isBatchable() {
+        // Aggregating with previous events needs the request to be sent on its own.
+        return mListEvents == null && super.isBatchable();
+    }
+
     @Override
     public E send() throws BoxException {
         if (mListEvents != null){
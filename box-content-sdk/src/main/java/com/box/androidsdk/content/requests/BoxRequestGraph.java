@@ -0,0 +1,368 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.models.BoxObject;
+import com.box.androidsdk.content.utils.SdkUtils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Request that sends a graph of requests where some requests need the results of others, such as creating a folder,
+ * uploading files into it and then adding a collaborator to it. Each node of the graph is either a request or a
+ * {@link RequestFactory} that creates its request from the results of the nodes it depends on. A node is sent as soon
+ * as every node it depends on has succeeded, so independent branches of the graph are sent in parallel and the whole
+ * graph takes about as long as its longest chain of requests.
+ *
+ * <p>Nodes can only depend on nodes added before them, so the graph never has cycles. When a node fails, the nodes
+ * depending on it are not sent and their responses hold a {@link CancellationException}, while the other branches go on
+ * unless fail-fast is set. The responses of the nodes are returned in the order the nodes were added.</p>
+ *
+ * <pre>
+ * BoxRequestGraph graph = new BoxRequestGraph();
+ * final BoxRequestGraph.Node&lt;BoxFolder&gt; folder = graph.addRequest(folderApi.getCreateRequest("0", "Photos"));
+ * graph.addNode(new BoxRequestGraph.RequestFactory&lt;BoxFile&gt;() {
+ *     public BoxRequest&lt;BoxFile, ?&gt; createRequest(BoxRequestGraph.Results results) {
+ *         return fileApi.getUploadRequest(file, results.get(folder).getId());
+ *     }
+ * }, folder);
+ * BoxResponseBatch responses = graph.send();
+ * </pre>
+ */
+public class BoxRequestGraph extends BoxRequest<BoxResponseBatch, BoxRequestGraph> {
+
+    /**
+     * Number of requests of the graph sent at the same time by default.
+     */
+    public static final int DEFAULT_MAX_PARALLELISM = 4;
+
+    protected ArrayList<Node<?>> mNodes = new ArrayList<Node<?>>();
+
+    private ExecutorService mExecutor;
+    private int mMaxParallelism = DEFAULT_MAX_PARALLELISM;
+    private boolean mFailFast;
+
+    /**
+     * Initializes a new BoxRequestGraph
+     */
+    public BoxRequestGraph() {
+        super(BoxResponseBatch.class, null, null);
+    }
+
+    /**
+     * Adds a request to the graph that is sent once the given nodes have succeeded.
+     *
+     * @param request   the request to add.
+     * @param parents   the nodes that have to succeed before the request is sent.
+     * @param <E>   the type of the result of the request.
+     * @return the node of the request.
+     */
+    public <E extends BoxObject> Node<E> addRequest(BoxRequest<E, ?> request, Node<?>... parents) {
+        return addNode(new Node<E>(mNodes.size(), request, null, parents));
+    }
+
+    /**
+     * Adds a node to the graph whose request is created from the results of the given nodes once they have all
+     * succeeded.
+     *
+     * @param factory   the factory creating the request of the node.
+     * @param parents   the nodes whose results the request is created from.
+     * @param <E>   the type of the result of the request.
+     * @return the node added.
+     */
+    public <E extends BoxObject> Node<E> addNode(RequestFactory<E> factory, Node<?>... parents) {
+        return addNode(new Node<E>(mNodes.size(), null, factory, parents));
+    }
+
+    private <E extends BoxObject> Node<E> addNode(Node<E> node) {
+        for (Node<?> parent : node.mParents) {
+            if (parent.mIndex >= mNodes.size() || mNodes.get(parent.mIndex) != parent) {
+                throw new IllegalArgumentException("Nodes can only depend on nodes already added to the graph");
+            }
+            parent.mChildren.add(node);
+        }
+        mNodes.add(node);
+        return node;
+    }
+
+    /**
+     * Sets the executor the requests of the graph are sent on. If no executor is set, a thread pool is created for
+     * each send and shut down once the graph has finished.
+     *
+     * @param executor  the executor to send requests on, or null to use a thread pool of the graph.
+     * @return the graph request
+     */
+    public BoxRequestGraph setExecutor(ExecutorService executor) {
+        mExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the maximum number of requests of the graph that are sent at the same time.
+     *
+     * @param maxParallelism    the number of requests sent at the same time.
+     * @return the graph request
+     */
+    public BoxRequestGraph setMaxParallelism(int maxParallelism) {
+        if (maxParallelism < 1) {
+            throw new IllegalArgumentException("maxParallelism must be at least 1");
+        }
+        mMaxParallelism = maxParallelism;
+        return this;
+    }
+
+    /**
+     * Returns the maximum number of requests of the graph that are sent at the same time.
+     *
+     * @return the number of requests sent at the same time.
+     */
+    public int getMaxParallelism() {
+        return mMaxParallelism;
+    }
+
+    /**
+     * Sets whether the graph stops at the first node that fails. Nodes that have not been sent by then are not sent,
+     * and their responses hold a {@link CancellationException}. Requests already being sent are allowed to finish.
+     *
+     * @param failFast  true to stop at the first failure, false to keep sending the branches that did not fail.
+     * @return the graph request
+     */
+    public BoxRequestGraph setFailFast(boolean failFast) {
+        mFailFast = failFast;
+        return this;
+    }
+
+    /**
+     * Returns whether the graph stops at the first node that fails.
+     *
+     * @return true if the graph stops at the first failure.
+     */
+    public boolean isFailFast() {
+        return mFailFast;
+    }
+
+    @Override
+    protected boolean isBatchable() {
+        // A graph is made of many calls.
+        return false;
+    }
+
+    /**
+     * Sends the requests of the graph, blocking until every node has either been sent or been cancelled. Interrupting
+     * the calling thread, such as by cancelling the task of the graph, stops the graph and interrupts the requests
+     * being sent.
+     *
+     * @return the responses of the nodes, in the order the nodes were added.
+     * @throws BoxException thrown if the graph was interrupted.
+     */
+    @Override
+    public BoxResponseBatch send() throws BoxException {
+        Results results = new Results(mNodes.size());
+        if (!mNodes.isEmpty()) {
+            ExecutorService executor = mExecutor != null ? mExecutor
+                    : SdkUtils.createDefaultThreadPoolExecutor(mMaxParallelism, mMaxParallelism, 60, TimeUnit.SECONDS);
+            try {
+                new GraphRun(results, executor).run();
+            } finally {
+                if (executor != mExecutor) {
+                    executor.shutdownNow();
+                }
+            }
+        }
+
+        BoxResponseBatch responses = new BoxResponseBatch();
+        for (BoxResponse response : results.mResponses) {
+            responses.addResponse(response);
+        }
+        return responses;
+    }
+
+    /**
+     * Tracks the nodes of a single send of the graph. Nodes are submitted from the calling thread as their parents
+     * succeed, and the calling thread waits for the submitted nodes to finish one at a time.
+     */
+    private class GraphRun {
+
+        private final Results mResults;
+        private final ExecutorCompletionService<Integer> mCompletionService;
+        private final int[] mWaitingParents = new int[mNodes.size()];
+        private final LinkedList<Node<?>> mReady = new LinkedList<Node<?>>();
+        private final ArrayList<Future<Integer>> mInFlight = new ArrayList<Future<Integer>>();
+        private int mFinished;
+        private boolean mStopped;
+
+        GraphRun(Results results, ExecutorService executor) {
+            mResults = results;
+            mCompletionService = new ExecutorCompletionService<Integer>(executor);
+            for (Node<?> node : mNodes) {
+                mWaitingParents[node.mIndex] = node.mParents.size();
+                if (node.mParents.isEmpty()) {
+                    mReady.add(node);
+                }
+            }
+        }
+
+        void run() throws BoxException {
+            try {
+                while (mFinished < mNodes.size()) {
+                    while (!mStopped && !mReady.isEmpty() && mInFlight.size() < mMaxParallelism) {
+                        final Node<?> node = mReady.removeFirst();
+                        mInFlight.add(mCompletionService.submit(new Callable<Integer>() {
+                            @Override
+                            public Integer call() {
+                                mResults.mResponses[node.mIndex] = node.send(mResults);
+                                return node.mIndex;
+                            }
+                        }));
+                    }
+                    if (mInFlight.isEmpty()) {
+                        // Only happens once stopped, every node left is cancelled.
+                        for (Node<?> node : mNodes) {
+                            if (mResults.mResponses[node.mIndex] == null) {
+                                cancel(node, "An earlier request of the graph failed");
+                            }
+                        }
+                        return;
+                    }
+                    Future<Integer> future = mCompletionService.take();
+                    mInFlight.remove(future);
+                    onFinished(mNodes.get(future.get()));
+                }
+            } catch (InterruptedException e) {
+                for (Future<Integer> future : mInFlight) {
+                    future.cancel(true);
+                }
+                throw new BoxException("Request graph was interrupted", e);
+            } catch (ExecutionException e) {
+                throw new BoxException("Unable to send request graph", e.getCause());
+            }
+        }
+
+        private void onFinished(Node<?> node) {
+            mFinished++;
+            if (mResults.mResponses[node.mIndex].isSuccess()) {
+                for (Node<?> child : node.mChildren) {
+                    if (--mWaitingParents[child.mIndex] == 0) {
+                        mReady.add(child);
+                    }
+                }
+                return;
+            }
+            if (mFailFast) {
+                mStopped = true;
+            }
+            cancelChildren(node);
+        }
+
+        private void cancelChildren(Node<?> node) {
+            for (Node<?> child : node.mChildren) {
+                if (mResults.mResponses[child.mIndex] == null) {
+                    cancel(child, "A request this request depends on failed");
+                    cancelChildren(child);
+                }
+            }
+        }
+
+        private void cancel(Node<?> node, String message) {
+            mResults.mResponses[node.mIndex] = new BoxResponse<BoxObject>(null, new CancellationException(message),
+                    node.mRequest);
+            mFinished++;
+        }
+    }
+
+    /**
+     * Node of the graph, holding either a request or the factory creating it.
+     *
+     * @param <E>   the type of the result of the request of the node.
+     */
+    public static class Node<E extends BoxObject> {
+
+        private final int mIndex;
+        private final BoxRequest<E, ?> mRequest;
+        private final RequestFactory<E> mFactory;
+        private final List<Node<?>> mParents;
+        private final ArrayList<Node<?>> mChildren = new ArrayList<Node<?>>();
+
+        Node(int index, BoxRequest<E, ?> request, RequestFactory<E> factory, Node<?>[] parents) {
+            mIndex = index;
+            mRequest = request;
+            mFactory = factory;
+            mParents = Arrays.asList(parents);
+        }
+
+        /**
+         * Returns the position of the response of this node in the responses of the graph.
+         *
+         * @return the index of the node.
+         */
+        public int getIndex() {
+            return mIndex;
+        }
+
+        private BoxResponse<E> send(Results results) {
+            BoxRequest<E, ?> request = mRequest;
+            E ret = null;
+            Exception ex = null;
+            try {
+                if (request == null) {
+                    request = mFactory.createRequest(results);
+                }
+                ret = request.send();
+            } catch (Exception e) {
+                ex = e;
+            }
+            return new BoxResponse<E>(ret, ex, request);
+        }
+    }
+
+    /**
+     * Results of the nodes of the graph that have succeeded, given to request factories.
+     */
+    public static class Results {
+
+        private final BoxResponse[] mResponses;
+
+        Results(int size) {
+            mResponses = new BoxResponse[size];
+        }
+
+        /**
+         * Returns the result of a node that has succeeded, such as a parent of the node whose request is being created.
+         *
+         * @param node  the node to get the result of.
+         * @param <E>   the type of the result.
+         * @return the result of the node, or null if the node has not succeeded.
+         */
+        public <E extends BoxObject> E get(Node<E> node) {
+            BoxResponse response = mResponses[node.mIndex];
+            return response == null ? null : (E) response.getResult();
+        }
+    }
+
+    /**
+     * Creates the request of a node from the results of the nodes it depends on.
+     *
+     * @param <E>   the type of the result of the request.
+     */
+    public interface RequestFactory<E extends BoxObject> {
+
+        /**
+         * Creates the request of a node once every node it depends on has succeeded. This is called on the thread the
+         * request is sent on.
+         *
+         * @param results   the results of the nodes of the graph, including every node this node depends on.
+         * @return the request to send.
+         * @throws BoxException thrown if the request could not be created, which fails the node.
+         */
+        BoxRequest<E, ?> createRequest(Results results) throws BoxException;
+    }
+}
@@ -1,5 +1,6 @@
 package com.box.androidsdk.content.requests;
 
+import java.util.Arrays;
 import java.util.Locale;
 
 import com.box.androidsdk.content.models.BoxSession;
@@ -54,6 +55,21 @@ public abstract class BoxRequestItem<E extends BoxJsonObject, R extends BoxReque
         return (R) this;
     }
 
+    /**
+     * Adds a field to the fields returned in the response when only some fields were asked for. Without fields set, the
+     * default fields of the item are returned and nothing is changed.
+     *
+     * @param field field the response has to include.
+     * @return  request with the updated fields.
+     */
+    R addField(String field) {
+        String fields = mQueryMap.get(QUERY_FIELDS);
+        if (fields != null && !Arrays.asList(fields.split(",")).contains(field)) {
+            mQueryMap.put(QUERY_FIELDS, fields + "," + field);
+        }
+        return (R) this;
+    }
+
     /**
      * Returns the id of the Box item being modified.
      *
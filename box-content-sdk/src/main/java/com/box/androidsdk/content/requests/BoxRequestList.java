@@ -6,11 +6,12 @@ import com.box.androidsdk.content.models.BoxList;
 /**
  * Request for getting a list of items.
  */
-abstract class BoxRequestList<E extends BoxList, R extends BoxRequest<E,R>> extends BoxRequestItem<E, R> {
+abstract class BoxRequestList<E extends BoxList, R extends BoxRequest<E,R>> extends BoxRequestItem<E, R> implements BoxPagedRequest<E, R> {
     private static final String LIMIT = "limit";
     private static final String OFFSET = "offset";
 
     // 1000 is the current max that the API supports
+    private static final int MAX_LIMIT = 1000;
     private static final String DEFAULT_LIMIT = "1000";
     private static final String DEFAULT_OFFSET = "0";
 
@@ -50,4 +51,9 @@ abstract class BoxRequestList<E extends BoxList, R extends BoxRequest<E,R>> exte
         mQueryMap.put(OFFSET, String.valueOf(offset));
         return (R) this;
     }
+
+    @Override
+    public int getMaxLimit() {
+        return MAX_LIMIT;
+    }
 }
@@ -1,16 +1,24 @@
 package com.box.androidsdk.content.requests;
 
+import android.os.Build;
+
+import com.box.androidsdk.content.utils.BandwidthLimiter;
 import com.box.androidsdk.content.utils.BoxDateFormat;
 import com.box.androidsdk.content.BoxException;
 import com.box.androidsdk.content.listeners.ProgressListener;
 import com.box.androidsdk.content.utils.ProgressOutputStream;
 
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
-import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
 import java.nio.charset.Charset;
+import java.security.MessageDigest;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
@@ -28,16 +36,24 @@ import java.util.logging.Logger;
 class BoxRequestMultipart extends BoxHttpRequest {
     private static final Logger LOGGER = Logger.getLogger(BoxRequestMultipart.class.getName());
     private static final String BOUNDARY = "da39a3ee5e6b4b0d3255bfef95601890afd80709";
+    private static final Charset UTF_8 = Charset.forName("UTF-8");
+    private static final byte[] BOUNDARY_BYTES = ("--" + BOUNDARY).getBytes(UTF_8);
     private static final int BUFFER_SIZE = 8192;
+    private static final int CHANNEL_BUFFER_SIZE = 64 * 1024;
 
     private final StringBuilder loggedRequest = new StringBuilder();
 
     private OutputStream outputStream;
     private InputStream inputStream;
+    private File file;
+    private ReadableByteChannel channel;
+    private ByteBuffer buffer;
     private String filename;
     private long fileSize;
     private Map<String, String> fields;
     private boolean firstBoundary;
+    private MessageDigest digest;
+    private BandwidthLimiter limiter;
 
     /**
      * Creates a multipart request with the default parameters.
@@ -48,7 +64,20 @@ class BoxRequestMultipart extends BoxHttpRequest {
      * @throws IOException
      */
     public BoxRequestMultipart(URL url, BoxRequest.Methods method, ProgressListener listener) throws IOException{
-        super(url, method, listener);
+        this(url, method, listener, BoxRequest.getDefaultTransport());
+    }
+
+    /**
+     * Creates a multipart request whose connection is opened through the given transport.
+     *
+     * @param url   URL to connect to.
+     * @param method    HTTP method for the request.
+     * @param listener  ProgressListener for monitoring the progress of the request.
+     * @param transport transport used to open the connection.
+     * @throws IOException
+     */
+    public BoxRequestMultipart(URL url, BoxRequest.Methods method, ProgressListener listener, BoxHttpTransport transport) throws IOException{
+        super(url, method, listener, transport);
 
         this.fields = new HashMap<String, String>();
         this.firstBoundary = true;
@@ -95,6 +124,58 @@ class BoxRequestMultipart extends BoxHttpRequest {
         this.fileSize = fileSize;
     }
 
+    /**
+     * Sets the file contents of this request to a local file. The length of the body is known up front, so it is sent
+     * with fixed-length streaming and the contents are read through a {@link java.nio.channels.FileChannel}.
+     * @param file     the file to upload.
+     * @param filename the name of the file.
+     */
+    public void setFile(File file, String filename) {
+        this.file = file;
+        this.filename = filename;
+        this.fileSize = file.length();
+    }
+
+    /**
+     * Sets the file contents of this request to the bytes read from a channel.
+     * @param channel  a channel containing the file contents.
+     * @param filename the name of the file.
+     * @param fileSize the number of bytes the channel holds, or -1 if it is unknown.
+     */
+    public void setFile(ReadableByteChannel channel, String filename, long fileSize) {
+        this.channel = channel;
+        this.filename = filename;
+        this.fileSize = fileSize;
+    }
+
+    /**
+     * Sets the file contents of this request to the remaining bytes of a buffer. The position of the buffer is not
+     * changed.
+     * @param buffer   a buffer containing the file contents.
+     * @param filename the name of the file.
+     */
+    public void setFile(ByteBuffer buffer, String filename) {
+        this.buffer = buffer;
+        this.filename = filename;
+        this.fileSize = buffer.remaining();
+    }
+
+    /**
+     * Sets a digest that is updated with the file contents as they are written.
+     * @param digest the digest to update, or null to not compute one.
+     */
+    public void setDigest(MessageDigest digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * Sets a limiter that paces the file contents as they are written.
+     * @param limiter the limiter to pace the upload with, or null to not pace it.
+     */
+    public void setBandwidthLimiter(BandwidthLimiter limiter) {
+        this.limiter = limiter;
+    }
+
     /**
      * This method is unsupported in BoxRequestMultipart. Instead, the body should be modified via the {@code putField}
      * and {@code setFile} methods.
@@ -117,44 +198,135 @@ class BoxRequestMultipart extends BoxHttpRequest {
     }
 
 
-    protected void writeBody(HttpURLConnection connection, ProgressListener listener) throws BoxException{
+    protected void writeBody(ProgressListener listener) throws BoxException{
         try {
-            connection.setChunkedStreamingMode(0);
-            connection.setDoOutput(true);
-            this.outputStream = connection.getOutputStream();
-
+            if (this.file != null) {
+                this.fileSize = this.file.length();
+            }
+            // The part headers and fields are encoded once, which also gives the length of the body when the size of
+            // the file contents is known.
+            ByteArrayOutputStream head = new ByteArrayOutputStream();
+            this.outputStream = head;
             this.writePartHeader(new String[][] {{"name", "filename"}, {"filename", this.filename}},
                 "application/octet-stream");
-
-            OutputStream fileContentsOutputStream = this.outputStream;
-            if (listener != null) {
-                fileContentsOutputStream = new ProgressOutputStream(this.outputStream, listener, this.fileSize);
-            }
-            byte[] buffer = new byte[BUFFER_SIZE];
-            int n = this.inputStream.read(buffer);
-            while (n != -1) {
-                fileContentsOutputStream.write(buffer, 0, n);
-                n = this.inputStream.read(buffer);
-            }
-
             if (LOGGER.isLoggable(Level.FINE)) {
                 this.loggedRequest.append("<File Contents Omitted>");
             }
-
+            ByteArrayOutputStream tail = new ByteArrayOutputStream();
+            this.outputStream = tail;
             for (Map.Entry<String, String> entry : this.fields.entrySet()) {
                 this.writePartHeader(new String[][] {{"name", entry.getKey()}});
                 this.writeOutput(entry.getValue());
             }
-
             this.writeBoundary();
+
+            if (this.inputStream == null && this.fileSize >= 0) {
+                setFixedLength(head.size() + this.fileSize + tail.size());
+            } else {
+                mUrlConnection.setChunkedStreamingMode(0);
+            }
+            mUrlConnection.setDoOutput(true);
+            this.outputStream = mUrlConnection.getOutputStream();
+            head.writeTo(this.outputStream);
+
+            OutputStream fileContentsOutputStream = this.outputStream;
+            if (this.limiter != null) {
+                fileContentsOutputStream = this.limiter.limit(fileContentsOutputStream);
+            }
+            if (listener != null) {
+                fileContentsOutputStream = new ProgressOutputStream(fileContentsOutputStream, listener, this.fileSize);
+            }
+            if (this.file != null) {
+                FileInputStream fileInputStream = new FileInputStream(this.file);
+                try {
+                    this.writeContents(fileInputStream.getChannel(), fileContentsOutputStream);
+                } finally {
+                    fileInputStream.close();
+                }
+            } else if (this.channel != null) {
+                this.writeContents(this.channel, fileContentsOutputStream);
+            } else if (this.buffer != null) {
+                this.writeContents(this.buffer.duplicate(), fileContentsOutputStream);
+            } else {
+                byte[] buffer = new byte[BUFFER_SIZE];
+                int n = this.inputStream.read(buffer);
+                while (n != -1) {
+                    if (this.digest != null) {
+                        this.digest.update(buffer, 0, n);
+                    }
+                    fileContentsOutputStream.write(buffer, 0, n);
+                    n = this.inputStream.read(buffer);
+                }
+            }
+
+            tail.writeTo(this.outputStream);
         } catch (IOException e) {
             throw new BoxException("Couldn't connect to the Box API due to a network error.", e);
         }
     }
 
+    private void setFixedLength(long contentLength) {
+        if (contentLength <= Integer.MAX_VALUE) {
+            mUrlConnection.setFixedLengthStreamingMode((int) contentLength);
+        } else if (Build.VERSION.SDK_INT >= 19) {
+            // The long variant is only available from KitKat on.
+            mUrlConnection.setFixedLengthStreamingMode(contentLength);
+        } else {
+            mUrlConnection.setChunkedStreamingMode(0);
+        }
+    }
+
+    private void writeContents(ReadableByteChannel source, OutputStream output) throws IOException {
+        byte[] bytes = new byte[CHANNEL_BUFFER_SIZE];
+        ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+        int n = source.read(wrapped);
+        while (n != -1) {
+            if (n > 0) {
+                if (this.digest != null) {
+                    this.digest.update(bytes, 0, n);
+                }
+                output.write(bytes, 0, n);
+            }
+            wrapped.clear();
+            n = source.read(wrapped);
+        }
+    }
+
+    private void writeContents(ByteBuffer source, OutputStream output) throws IOException {
+        if (source.hasArray()) {
+            // Written straight from the backing array.
+            byte[] bytes = source.array();
+            int offset = source.arrayOffset() + source.position();
+            int end = offset + source.remaining();
+            while (offset < end) {
+                int n = Math.min(CHANNEL_BUFFER_SIZE, end - offset);
+                if (this.digest != null) {
+                    this.digest.update(bytes, offset, n);
+                }
+                output.write(bytes, offset, n);
+                offset += n;
+            }
+            return;
+        }
+        byte[] bytes = new byte[Math.min(CHANNEL_BUFFER_SIZE, source.remaining())];
+        while (source.hasRemaining()) {
+            int n = Math.min(bytes.length, source.remaining());
+            source.get(bytes, 0, n);
+            if (this.digest != null) {
+                this.digest.update(bytes, 0, n);
+            }
+            output.write(bytes, 0, n);
+        }
+    }
+
     protected void resetBody() throws IOException {
         this.firstBoundary = true;
-        this.inputStream.reset();
+        if (this.inputStream != null) {
+            this.inputStream.reset();
+        }
+        if (this.digest != null) {
+            this.digest.reset();
+        }
         this.loggedRequest.setLength(0);
     }
 
@@ -168,8 +340,10 @@ class BoxRequestMultipart extends BoxHttpRequest {
         }
 
         this.firstBoundary = false;
-        this.writeOutput("--");
-        this.writeOutput(BOUNDARY);
+        this.outputStream.write(BOUNDARY_BYTES);
+        if (LOGGER.isLoggable(Level.FINE)) {
+            this.loggedRequest.append("--").append(BOUNDARY);
+        }
     }
 
     private void writePartHeader(String[][] formData) throws IOException {
@@ -197,7 +371,7 @@ class BoxRequestMultipart extends BoxHttpRequest {
     }
 
     private void writeOutput(String s) throws IOException {
-        this.outputStream.write(s.getBytes(Charset.forName("UTF-8")));
+        this.outputStream.write(s.getBytes(UTF_8));
         if (LOGGER.isLoggable(Level.FINE)) {
             this.loggedRequest.append(s);
         }
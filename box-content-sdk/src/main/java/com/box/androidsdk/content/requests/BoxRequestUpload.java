@@ -4,15 +4,25 @@ import com.box.androidsdk.content.models.BoxSession;
 import com.box.androidsdk.content.BoxException;
 import com.box.androidsdk.content.listeners.ProgressListener;
 
+import com.box.androidsdk.content.models.BoxFile;
 import com.box.androidsdk.content.models.BoxJsonObject;
 import com.box.androidsdk.content.models.BoxList;
+import com.box.androidsdk.content.models.BoxObject;
+import com.box.androidsdk.content.utils.BandwidthLimiter;
+import com.box.androidsdk.content.utils.SdkUtils;
 
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.HttpURLConnection;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
 import java.util.Locale;
 
@@ -25,12 +35,20 @@ import java.util.Locale;
 public abstract class BoxRequestUpload<E extends BoxJsonObject, R extends BoxRequest<E,R>> extends BoxRequest<E,R> {
 
     InputStream mStream;
+    ReadableByteChannel mChannel;
+    // Position of a file channel when its contents were first sent, or -1 if they have not been sent yet.
+    long mChannelStart = -1;
+    ByteBuffer mBuffer;
     long mUploadSize;
     Date mCreatedDate;
     Date mModifiedDate;
     String mFileName;
     String mSha1;
     File mFile;
+    boolean mVerifySha1;
+    String mComputedSha1;
+    boolean mDeduplicated;
+    String mBandwidthClass;
 
     /**
      * Creates an upload request from an InputStream with the default parameters.
@@ -47,6 +65,12 @@ public abstract class BoxRequestUpload<E extends BoxJsonObject, R extends BoxReq
         mFileName = "";
     }
 
+    @Override
+    protected boolean isBatchable() {
+        // The content is streamed to the connection.
+        return false;
+    }
+
     @Override
     protected void setHeaders(BoxHttpRequest request) {
         super.setHeaders(request);
@@ -68,11 +92,37 @@ public abstract class BoxRequestUpload<E extends BoxJsonObject, R extends BoxReq
         return new FileInputStream(mFile);
     }
 
+    /**
+     * Puts a channel back at the start of the contents when they are sent again, such as when the request is retried
+     * after a rate limit response or a token refresh. Only file channels can be read again, so sending the contents of
+     * any other channel a second time fails instead of uploading what the first attempt left unread.
+     */
+    private void rewindChannel() throws IOException, BoxException {
+        if (mChannelStart < 0) {
+            mChannelStart = mChannel instanceof FileChannel ? ((FileChannel) mChannel).position() : 0;
+        } else if (mChannel instanceof FileChannel) {
+            ((FileChannel) mChannel).position(mChannelStart);
+        } else {
+            throw new BoxException("The contents of the channel were already sent and cannot be read again");
+        }
+    }
+
     protected BoxRequestMultipart createMultipartRequest() throws IOException, BoxException{
         URL requestUrl = buildUrl();
-        BoxRequestMultipart httpRequest = new BoxRequestMultipart(requestUrl, mRequestMethod, mListener);
+        BoxRequestMultipart httpRequest = new BoxRequestMultipart(requestUrl, mRequestMethod, mListener, getTransport());
         setHeaders(httpRequest);
-        httpRequest.setFile(getInputStream(),mFileName,mUploadSize);
+        httpRequest.setBandwidthLimiter(BandwidthLimiter.get(mBandwidthClass));
+        if (mChannel != null) {
+            rewindChannel();
+            httpRequest.setFile(mChannel, mFileName, mUploadSize);
+        } else if (mBuffer != null) {
+            httpRequest.setFile(mBuffer, mFileName);
+        } else if (mStream == null && mFile != null) {
+            // The length of a file is known up front, so it can be sent without chunked encoding.
+            httpRequest.setFile(mFile, mFileName);
+        } else {
+            httpRequest.setFile(getInputStream(), mFileName, mUploadSize);
+        }
 
         if (mCreatedDate != null) {
             httpRequest.putField("content_created_at", mCreatedDate);
@@ -88,26 +138,106 @@ public abstract class BoxRequestUpload<E extends BoxJsonObject, R extends BoxReq
     @Override
     protected BoxHttpRequest createHttpRequest() throws IOException, BoxException {
         BoxRequestMultipart httpRequest = createMultipartRequest();
-        httpRequest.writeBody(httpRequest.mUrlConnection, mListener);
+        MessageDigest digest = null;
+        if (mVerifySha1) {
+            try {
+                digest = MessageDigest.getInstance("SHA-1");
+            } catch (NoSuchAlgorithmException e) {
+                throw new BoxException(e.getMessage(), e);
+            }
+            httpRequest.setDigest(digest);
+        }
+        mComputedSha1 = null;
+        httpRequest.writeBody(mListener);
+        if (digest != null) {
+            mComputedSha1 = SdkUtils.toHexString(digest.digest());
+        }
         return httpRequest;
     }
 
+    /**
+     * Returns the SHA1 hash of the content to upload, hashing a file or buffer source if the hash was not set. Streams
+     * and channels cannot be read twice, so no hash is computed for them.
+     *
+     * @return  the SHA1 hash of the content, or null if it is not known.
+     * @throws BoxException thrown if the content could not be read.
+     */
+    protected String getContentSha1() throws BoxException {
+        if (mSha1 != null) {
+            return mSha1;
+        }
+        try {
+            if (mStream == null && mFile != null) {
+                mSha1 = SdkUtils.sha1(new FileInputStream(mFile));
+            } else if (mBuffer != null) {
+                MessageDigest digest = MessageDigest.getInstance("SHA-1");
+                digest.update(mBuffer.duplicate());
+                mSha1 = SdkUtils.toHexString(digest.digest());
+            }
+        } catch (IOException e) {
+            throw new BoxException("Unable to read the content to upload", e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new BoxException(e.getMessage(), e);
+        }
+        return mSha1;
+    }
+
+    /**
+     * Called instead of uploading when identical content is already on Box, reporting the content as fully uploaded.
+     *
+     * @param result    the file returned in place of the upload.
+     * @return  the file returned in place of the upload.
+     */
+    protected BoxFile onDeduplicated(BoxFile result) {
+        mDeduplicated = true;
+        if (mListener != null) {
+            mListener.onProgressChanged(mUploadSize, mUploadSize);
+        }
+        return result;
+    }
+
+    /**
+     * Checks the SHA1 hash computed while uploading against the one Box reports for the uploaded file.
+     *
+     * @param uploaded  the object returned for the upload.
+     * @throws BoxException.Sha1Mismatch thrown if the hashes do not match.
+     */
+    protected void verifySha1(E uploaded) throws BoxException.Sha1Mismatch {
+        if (mComputedSha1 == null || !(uploaded instanceof BoxFile)) {
+            return;
+        }
+        String sha1 = ((BoxFile) uploaded).getSha1();
+        if (sha1 != null && !mComputedSha1.equalsIgnoreCase(sha1)) {
+            throw new BoxException.Sha1Mismatch(mComputedSha1, sha1);
+        }
+    }
+
     @Override
     public E send() throws BoxException {
+        mDeduplicated = false;
         BoxRequest.BoxRequestHandler requestHandler = getRequestHandler();
+        BoxHttpTransport transport = getTransport();
         BoxHttpResponse response = null;
+        HttpURLConnection connection = null;
         try {
             // Create the HTTP request and send it
             BoxHttpRequest request = createHttpRequest();
+            connection = request.getUrlConnection();
 
-            response = new BoxHttpResponse(request.getUrlConnection());
+            response = new BoxHttpResponse(connection);
             response.open();
             logDebug(response);
             
             // Process the response through the provided handler
             if (requestHandler.isResponseSuccess(response)) {
-                BoxList list = (BoxList) requestHandler.onResponse(BoxList.class, response);
-                return (E)list.toArray()[0];
+                BoxObject result = requestHandler.onResponse(BoxList.class, response);
+                if (!(result instanceof BoxList)) {
+                    // A rate limited upload is sent again by the handler, which returns the already verified file.
+                    return (E) result;
+                }
+                E uploaded = (E) ((BoxList) result).toArray()[0];
+                verifySha1(uploaded);
+                return uploaded;
             }
 
             // All non successes will throw
@@ -121,6 +251,10 @@ public abstract class BoxRequestUpload<E extends BoxJsonObject, R extends BoxReq
             throw handleSendException(requestHandler, response, e);
         } catch (BoxException e) {
             throw handleSendException(requestHandler, response, e);
+        } finally {
+            if (connection != null) {
+                transport.release(connection, response);
+            }
         }
     }
 
@@ -219,6 +353,67 @@ public abstract class BoxRequestUpload<E extends BoxJsonObject, R extends BoxReq
         mSha1 = sha1;
     }
 
+    /**
+     * Sets whether the SHA1 hash of the content is computed while it is uploaded and checked against the hash Box
+     * reports for the uploaded file. Unlike {@link #setSha1(String)} this does not require reading the content
+     * beforehand. If the hashes do not match the request fails with {@link BoxException.Sha1Mismatch}.
+     *
+     * @param verifySha1    true to compute and verify the SHA1 hash.
+     * @return  request with the updated setting.
+     */
+    public R setVerifySha1(boolean verifySha1) {
+        mVerifySha1 = verifySha1;
+        return (R) this;
+    }
+
+    /**
+     * Returns whether the SHA1 hash of the content is computed and verified during the upload.
+     *
+     * @return  true if the SHA1 hash is verified.
+     */
+    public boolean getVerifySha1() {
+        return mVerifySha1;
+    }
+
+    /**
+     * Returns the SHA1 hash computed while the content was uploaded.
+     *
+     * @return  the SHA1 hash of the uploaded content, or null if it was not computed.
+     */
+    public String getComputedSha1() {
+        return mComputedSha1;
+    }
+
+    /**
+     * Sets the class of transfers this upload belongs to, which paces it with the {@link BandwidthLimiter} of the class
+     * along with the global limiter.
+     *
+     * @param bandwidthClass    the name of the class, or null for {@link BandwidthLimiter#CLASS_DEFAULT}.
+     * @return  request with the updated class.
+     */
+    public R setBandwidthClass(String bandwidthClass) {
+        mBandwidthClass = bandwidthClass;
+        return (R) this;
+    }
+
+    /**
+     * Returns the class of transfers this upload belongs to.
+     *
+     * @return  the name of the class, or null if it belongs to {@link BandwidthLimiter#CLASS_DEFAULT}.
+     */
+    public String getBandwidthClass() {
+        return mBandwidthClass;
+    }
+
+    /**
+     * Returns whether the last send found identical content already on Box and did not transfer the content.
+     *
+     * @return  true if the upload was skipped or replaced by a copy on the server.
+     */
+    public boolean isDeduplicated() {
+        return mDeduplicated;
+    }
+
     /**
      * Returns the file to upload.
      *
@@ -1,21 +1,43 @@
 package com.box.androidsdk.content.requests;
 
 import com.box.androidsdk.content.models.BoxSession;
+import com.box.androidsdk.content.BoxConstants;
 import com.box.androidsdk.content.BoxException;
 import com.box.androidsdk.content.models.BoxComment;
 import com.box.androidsdk.content.models.BoxDownload;
+import com.box.androidsdk.content.models.BoxDownloadCheckpoint;
 import com.box.androidsdk.content.models.BoxFile;
 import com.box.androidsdk.content.models.BoxFileVersion;
 import com.box.androidsdk.content.models.BoxFolder;
 import com.box.androidsdk.content.models.BoxListComments;
+import com.box.androidsdk.content.models.BoxList;
 import com.box.androidsdk.content.models.BoxListFileVersions;
+import com.box.androidsdk.content.models.BoxObject;
+import com.box.androidsdk.content.models.BoxUploadSession;
+import com.box.androidsdk.content.models.BoxUploadSessionPart;
 import com.box.androidsdk.content.models.BoxVoid;
+import com.box.androidsdk.content.listeners.ProgressListener;
+import com.box.androidsdk.content.utils.BandwidthLimiter;
+import com.box.androidsdk.content.utils.BoxLogUtils;
+import com.box.androidsdk.content.utils.ProgressOutputStream;
+import com.box.androidsdk.content.utils.SdkUtils;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
 
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.io.RandomAccessFile;
+import java.net.HttpURLConnection;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.List;
+import java.util.Locale;
 
 /**
  * Request class that groups all file operation requests together
@@ -355,6 +377,7 @@ public class BoxRequestsFile {
      */
     public static class UploadFile extends BoxRequestUpload<BoxFile, UploadFile> {
         String mDestinationFolderId;
+        BoxContentHashIndex mContentIndex;
 
         /**
          * Creates an upload file from input stream request with the default parameters
@@ -393,6 +416,47 @@ public class BoxRequestsFile {
             mModifiedDate = new Date(file.lastModified());
         }
 
+        /**
+         * Creates an upload file from channel request with the default parameters. If the request has to be sent again,
+         * such as after a rate limit response, a FileChannel is read again from its starting position and other channels
+         * fail the request.
+         *
+         * @param channel   channel containing the contents of the file
+         * @param size  number of bytes the channel holds, or -1 if it is unknown
+         * @param fileName  name of the new file
+         * @param destinationFolderId   id of the parent folder for the new file
+         * @param requestUrl    URL of the upload file endpoint
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public UploadFile(ReadableByteChannel channel, long size, String fileName, String destinationFolderId, String requestUrl, BoxSession session) {
+            super(BoxFile.class, null, requestUrl, session);
+            mRequestUrlString = requestUrl;
+            mRequestMethod = Methods.POST;
+            mFileName = fileName;
+            mChannel = channel;
+            mUploadSize = size;
+            mDestinationFolderId = destinationFolderId;
+        }
+
+        /**
+         * Creates an upload file from buffer request with the default parameters
+         *
+         * @param buffer    buffer whose remaining bytes are the contents of the file
+         * @param fileName  name of the new file
+         * @param destinationFolderId   id of the parent folder for the new file
+         * @param requestUrl    URL of the upload file endpoint
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public UploadFile(ByteBuffer buffer, String fileName, String destinationFolderId, String requestUrl, BoxSession session) {
+            super(BoxFile.class, null, requestUrl, session);
+            mRequestUrlString = requestUrl;
+            mRequestMethod = Methods.POST;
+            mFileName = fileName;
+            mBuffer = buffer;
+            mUploadSize = buffer.remaining();
+            mDestinationFolderId = destinationFolderId;
+        }
+
 
         @Override
         protected BoxRequestMultipart createMultipartRequest() throws IOException, BoxException {
@@ -429,6 +493,39 @@ public class BoxRequestsFile {
         public String getDestinationFolderId() {
             return mDestinationFolderId;
         }
+
+        /**
+         * Sets an index of content already on Box. Before uploading, the SHA1 hash of the file is looked up in the
+         * index and if a file with the same content is found it is copied into the destination folder on the server
+         * instead of uploading the content. Only file and buffer uploads are hashed.
+         *
+         * @param index index of content already on Box, or null to always upload.
+         * @return  request with the updated index.
+         */
+        public UploadFile setContentIndex(BoxContentHashIndex index) {
+            mContentIndex = index;
+            return this;
+        }
+
+        @Override
+        public BoxFile send() throws BoxException {
+            if (mContentIndex != null) {
+                mDeduplicated = false;
+                String sha1 = getContentSha1();
+                CopyFile copy = sha1 == null ? null : mContentIndex.getCopyRequest(sha1, mDestinationFolderId);
+                if (copy != null) {
+                    try {
+                        return onDeduplicated(copy.setName(mFileName).send());
+                    } catch (BoxException e) {
+                        // The indexed file may have been deleted since it was indexed.
+                        if (e.getResponseCode() != HttpURLConnection.HTTP_NOT_FOUND) {
+                            throw e;
+                        }
+                    }
+                }
+            }
+            return super.send();
+        }
     }
 
     /**
@@ -436,6 +533,8 @@ public class BoxRequestsFile {
      */
     public static class UploadNewVersion extends BoxRequestUpload<BoxFile, UploadNewVersion> {
 
+        GetFileInfo mCurrentFileRequest;
+
         /**
          * Creates an upload new file version request with the default parameters
          *
@@ -447,6 +546,49 @@ public class BoxRequestsFile {
             super(BoxFile.class, fileInputStream, requestUrl, session);
         }
 
+        /**
+         * Creates an upload new file version from file request with the default parameters
+         *
+         * @param file  file to upload as the new version
+         * @param requestUrl    URL of the upload new version endpoint
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public UploadNewVersion(File file, String requestUrl, BoxSession session) {
+            super(BoxFile.class, null, requestUrl, session);
+            mFile = file;
+            mUploadSize = file.length();
+            mModifiedDate = new Date(file.lastModified());
+        }
+
+        /**
+         * Creates an upload new file version from channel request with the default parameters. If the request has to be sent again,
+         * such as after a rate limit response, a FileChannel is read again from its starting position and other channels
+         * fail the request.
+         *
+         * @param channel   channel containing the contents of the new file version
+         * @param size  number of bytes the channel holds, or -1 if it is unknown
+         * @param requestUrl    URL of the upload new version endpoint
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public UploadNewVersion(ReadableByteChannel channel, long size, String requestUrl, BoxSession session) {
+            super(BoxFile.class, null, requestUrl, session);
+            mChannel = channel;
+            mUploadSize = size;
+        }
+
+        /**
+         * Creates an upload new file version from buffer request with the default parameters
+         *
+         * @param buffer    buffer whose remaining bytes are the contents of the new file version
+         * @param requestUrl    URL of the upload new version endpoint
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public UploadNewVersion(ByteBuffer buffer, String requestUrl, BoxSession session) {
+            super(BoxFile.class, null, requestUrl, session);
+            mBuffer = buffer;
+            mUploadSize = buffer.remaining();
+        }
+
         /**
          * Sets the if-match header for the request.
          * The new version will only be uploaded if the specified etag matches the most current etag for the file.
@@ -459,6 +601,37 @@ public class BoxRequestsFile {
             return super.setIfMatchEtag(etag);
         }
 
+        /**
+         * Skips the upload if the new version is identical to the current version of the file. Before uploading, the
+         * SHA1 hash of the new version is compared with the hash of the current version returned by the given request,
+         * and if they match the current version is returned without uploading. Only file and buffer uploads are hashed.
+         * If the request only asks for some fields, the SHA1 field is added to them.
+         *
+         * @param currentFileRequest    request for the information of the file, such as one created by
+         *                              {@link com.box.androidsdk.content.BoxApiFile#getInfoRequest(String)}, or null
+         *                              to always upload.
+         * @return  request with the updated setting.
+         */
+        public UploadNewVersion setSkipIfIdentical(GetFileInfo currentFileRequest) {
+            mCurrentFileRequest = currentFileRequest;
+            return this;
+        }
+
+        @Override
+        public BoxFile send() throws BoxException {
+            if (mCurrentFileRequest != null) {
+                mDeduplicated = false;
+                String sha1 = getContentSha1();
+                if (sha1 != null) {
+                    BoxFile current = mCurrentFileRequest.addField(BoxFile.FIELD_SHA1).send();
+                    if (sha1.equalsIgnoreCase(current.getSha1())) {
+                        return onDeduplicated(current);
+                    }
+                }
+            }
+            return super.send();
+        }
+
         /**
          * Returns the etag currently set in the if-match header.
          *
@@ -470,11 +643,399 @@ public class BoxRequestsFile {
         }
     }
 
+    /**
+     * Request for uploading a new file in parts through a chunked upload session
+     */
+    public static class ChunkedUploadFile extends BoxRequestChunkedUpload<ChunkedUploadFile> {
+        String mDestinationFolderId;
+
+        /**
+         * Creates a chunked upload file request with the default parameters
+         *
+         * @param file  file to upload
+         * @param destinationFolderId   id of the parent folder for the new file
+         * @param requestUrl    URL of the upload sessions endpoint
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public ChunkedUploadFile(File file, String destinationFolderId, String requestUrl, BoxSession session) {
+            super(file, requestUrl, session);
+            mDestinationFolderId = destinationFolderId;
+        }
+
+        @Override
+        protected BoxUploadSession createUploadSession() throws BoxException {
+            return new CreateUploadSession(mFileName, mFile.length(), mDestinationFolderId, mRequestUrlString, mSession)
+                    .setTransport(mTransport)
+                    .send();
+        }
+
+        /**
+         * Returns the destination folder id for the uploaded file.
+         *
+         * @return  id of the destination folder for the uploaded file.
+         */
+        public String getDestinationFolderId() {
+            return mDestinationFolderId;
+        }
+    }
+
+    /**
+     * Request for uploading a new version of a file in parts through a chunked upload session
+     */
+    public static class ChunkedUploadNewVersion extends BoxRequestChunkedUpload<ChunkedUploadNewVersion> {
+
+        /**
+         * Creates a chunked upload new file version request with the default parameters
+         *
+         * @param file  file to upload as a new version
+         * @param requestUrl    URL of the upload sessions endpoint of the file
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public ChunkedUploadNewVersion(File file, String requestUrl, BoxSession session) {
+            super(file, requestUrl, session);
+            // The file keeps its name unless a new one is set.
+            mFileName = null;
+        }
+
+        @Override
+        protected BoxUploadSession createUploadSession() throws BoxException {
+            return new CreateNewVersionUploadSession(mFile.length(), mRequestUrlString, mSession)
+                    .setFileName(mFileName)
+                    .setTransport(mTransport)
+                    .send();
+        }
+    }
+
+    /**
+     * Request for creating a chunked upload session for a new file
+     */
+    public static class CreateUploadSession extends BoxRequest<BoxUploadSession, CreateUploadSession> {
+        static final String FIELD_FOLDER_ID = "folder_id";
+        static final String FIELD_FILE_SIZE = "file_size";
+        static final String FIELD_FILE_NAME = "file_name";
+
+        /**
+         * Creates a create upload session request with the default parameters
+         *
+         * @param fileName  name of the new file
+         * @param fileSize  size of the new file in bytes
+         * @param destinationFolderId   id of the parent folder for the new file
+         * @param requestUrl    URL of the upload sessions endpoint
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public CreateUploadSession(String fileName, long fileSize, String destinationFolderId, String requestUrl, BoxSession session) {
+            super(BoxUploadSession.class, requestUrl, session);
+            mRequestMethod = Methods.POST;
+            mBodyMap.put(FIELD_FOLDER_ID, destinationFolderId);
+            mBodyMap.put(FIELD_FILE_SIZE, fileSize);
+            mBodyMap.put(FIELD_FILE_NAME, fileName);
+        }
+    }
+
+    /**
+     * Request for creating a chunked upload session for a new version of a file
+     */
+    public static class CreateNewVersionUploadSession extends BoxRequest<BoxUploadSession, CreateNewVersionUploadSession> {
+
+        /**
+         * Creates a create new version upload session request with the default parameters
+         *
+         * @param fileSize  size of the new version in bytes
+         * @param requestUrl    URL of the upload sessions endpoint of the file
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public CreateNewVersionUploadSession(long fileSize, String requestUrl, BoxSession session) {
+            super(BoxUploadSession.class, requestUrl, session);
+            mRequestMethod = Methods.POST;
+            mBodyMap.put(CreateUploadSession.FIELD_FILE_SIZE, fileSize);
+        }
+
+        /**
+         * Sets a new name for the file along with the new version.
+         *
+         * @param fileName  new name of the file, or null to keep the current name.
+         * @return  request with the updated file name.
+         */
+        public CreateNewVersionUploadSession setFileName(String fileName) {
+            if (fileName == null) {
+                mBodyMap.remove(CreateUploadSession.FIELD_FILE_NAME);
+            } else {
+                mBodyMap.put(CreateUploadSession.FIELD_FILE_NAME, fileName);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Request for uploading one part of a file to a chunked upload session
+     */
+    public static class UploadSessionPart extends BoxRequest<BoxUploadSessionPart, UploadSessionPart> {
+        private static final int BUFFER_SIZE = 64 * 1024;
+
+        private final File mFile;
+        private final long mOffset;
+        private final long mPartSize;
+        private final long mFileSize;
+        private String mSha1;
+        private String mBandwidthClass;
+
+        /**
+         * Creates an upload session part request with the default parameters
+         *
+         * @param file  file the part is read from
+         * @param offset    offset of the first byte of the part in the file
+         * @param partSize  size of the part in bytes
+         * @param fileSize  size of the whole file in bytes
+         * @param requestUrl    URL of the upload part endpoint of the session
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public UploadSessionPart(File file, long offset, long partSize, long fileSize, String requestUrl, BoxSession session) {
+            super(BoxUploadSessionPart.class, requestUrl, session);
+            mRequestMethod = Methods.PUT;
+            mFile = file;
+            mOffset = offset;
+            mPartSize = partSize;
+            mFileSize = fileSize;
+        }
+
+        /**
+         * Sets the SHA1 hash of the part. If it is not set the part is read an extra time to compute it.
+         *
+         * @param sha1  SHA1 hash of the part as a hexadecimal string.
+         * @return  request with the updated SHA1 hash.
+         */
+        public UploadSessionPart setSha1(String sha1) {
+            mSha1 = sha1;
+            return this;
+        }
+
+        /**
+         * Returns the SHA1 hash of the part.
+         *
+         * @return  SHA1 hash of the part, or null if it has not been set or computed yet.
+         */
+        public String getSha1() {
+            return mSha1;
+        }
+
+        /**
+         * Returns the offset of the first byte of the part in the file.
+         *
+         * @return  offset of the part.
+         */
+        public long getOffset() {
+            return mOffset;
+        }
+
+        /**
+         * Returns the size of the part.
+         *
+         * @return  size of the part in bytes.
+         */
+        public long getPartSize() {
+            return mPartSize;
+        }
+
+        /**
+         * Sets the progress listener for the part upload.
+         *
+         * @param listener  progress listener for the request.
+         * @return  request with the updated progress listener.
+         */
+        public UploadSessionPart setProgressListener(ProgressListener listener) {
+            mListener = listener;
+            return this;
+        }
+
+        /**
+         * Sets the class of transfers this part belongs to, which paces it with the {@link BandwidthLimiter} of the
+         * class along with the global limiter.
+         *
+         * @param bandwidthClass    the name of the class, or null for {@link BandwidthLimiter#CLASS_DEFAULT}.
+         * @return  request with the updated class.
+         */
+        public UploadSessionPart setBandwidthClass(String bandwidthClass) {
+            mBandwidthClass = bandwidthClass;
+            return this;
+        }
+
+        @Override
+        protected boolean isBatchable() {
+            // The content is streamed to the connection.
+            return false;
+        }
+
+        @Override
+        protected void setHeaders(BoxHttpRequest request) {
+            super.setHeaders(request);
+            request.getUrlConnection().setRequestProperty("Content-Type", "application/octet-stream");
+            request.addHeader("Content-Range", String.format(Locale.ENGLISH, "bytes %d-%d/%d", mOffset, mOffset + mPartSize - 1, mFileSize));
+            request.addHeader("Digest", "sha=" + SdkUtils.hexToBase64(mSha1));
+        }
+
+        @Override
+        protected BoxHttpRequest createHttpRequest() throws IOException, BoxException {
+            if (mSha1 == null) {
+                mSha1 = computeSha1();
+            }
+            BoxHttpRequest httpRequest = new BoxHttpRequest(buildUrl(), mRequestMethod, mListener, getTransport());
+            setHeaders(httpRequest);
+
+            HttpURLConnection connection = httpRequest.getUrlConnection();
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode((int) mPartSize);
+            OutputStream output = BandwidthLimiter.get(mBandwidthClass).limit(connection.getOutputStream());
+            if (mListener != null) {
+                output = new ProgressOutputStream(output, mListener, mPartSize);
+            }
+            FileInputStream input = new FileInputStream(mFile);
+            try {
+                input.getChannel().position(mOffset);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long remaining = mPartSize;
+                while (remaining > 0) {
+                    int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read == -1) {
+                        throw new BoxException("File ended before the part was complete");
+                    }
+                    output.write(buffer, 0, read);
+                    remaining -= read;
+                }
+                output.close();
+            } finally {
+                input.close();
+            }
+            return httpRequest;
+        }
+
+        private String computeSha1() throws IOException, BoxException {
+            FileInputStream input = new FileInputStream(mFile);
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-1");
+                input.getChannel().position(mOffset);
+                byte[] buffer = new byte[BUFFER_SIZE];
+                long remaining = mPartSize;
+                while (remaining > 0) {
+                    int read = input.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read == -1) {
+                        throw new BoxException("File ended before the part was complete");
+                    }
+                    digest.update(buffer, 0, read);
+                    remaining -= read;
+                }
+                return SdkUtils.toHexString(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new BoxException(e.getMessage(), e);
+            } finally {
+                input.close();
+            }
+        }
+    }
+
+    /**
+     * Request for committing a chunked upload session once all of its parts are uploaded
+     */
+    public static class CommitUploadSession extends BoxRequest<BoxFile, CommitUploadSession> {
+        static final String FIELD_PARTS = "parts";
+
+        private final String mSha1;
+
+        /**
+         * Creates a commit upload session request with the default parameters
+         *
+         * @param parts the uploaded parts, in order of their offsets
+         * @param sha1  SHA1 hash of the whole file as a hexadecimal string
+         * @param requestUrl    URL of the commit endpoint of the session
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public CommitUploadSession(List<BoxUploadSessionPart> parts, String sha1, String requestUrl, BoxSession session) {
+            super(BoxFile.class, requestUrl, session);
+            mRequestMethod = Methods.POST;
+            mSha1 = sha1;
+            JsonArray partsJson = new JsonArray();
+            for (BoxUploadSessionPart part : parts) {
+                partsJson.add(JsonObject.readFrom(part.toJson()));
+            }
+            mBodyMap.put(FIELD_PARTS, partsJson);
+            setRequestHandler(new CommitUploadSessionHandler(this));
+        }
+
+        @Override
+        protected boolean isBatchable() {
+            // The digest header is only sent with the request on its own.
+            return false;
+        }
+
+        @Override
+        protected void setHeaders(BoxHttpRequest request) {
+            super.setHeaders(request);
+            request.addHeader("Digest", "sha=" + SdkUtils.hexToBase64(mSha1));
+        }
+    }
+
+    /**
+     * Handler for committing an upload session, which waits while the server is still processing parts and reads the
+     * created file from the list returned.
+     */
+    static class CommitUploadSessionHandler extends BoxRequest.BoxRequestHandler<CommitUploadSession> {
+        protected static final int DEFAULT_NUM_PROCESSING_RETRIES = 10;
+
+        protected int mNumProcessingRetries = 0;
+
+        public CommitUploadSessionHandler(CommitUploadSession request) {
+            super(request);
+        }
+
+        @Override
+        public <T extends BoxObject> T onResponse(Class<T> clazz, BoxHttpResponse response) throws IllegalAccessException, InstantiationException, BoxException {
+            if (response.getResponseCode() == BoxConstants.HTTP_STATUS_TOO_MANY_REQUESTS) {
+                return retryRateLimited(response);
+            }
+            if (response.getResponseCode() == HttpURLConnection.HTTP_ACCEPTED) {
+                // The server has not finished processing all parts yet.
+                if (mNumProcessingRetries >= DEFAULT_NUM_PROCESSING_RETRIES) {
+                    throw new BoxException.MaxAttemptsExceeded("Upload session was not processed after attempts: ", mNumProcessingRetries, response);
+                }
+                mNumProcessingRetries++;
+                try {
+                    Thread.sleep(getRetryAfterFromResponse(response, 1));
+                } catch (InterruptedException e) {
+                    throw new BoxException(e.getMessage(), e);
+                }
+                return (T) mRequest.send();
+            }
+            BoxList list = super.onResponse(BoxList.class, response);
+            return (T) list.toArray()[0];
+        }
+    }
+
+    /**
+     * Request for aborting a chunked upload session and discarding its parts
+     */
+    public static class AbortUploadSession extends BoxRequest<BoxVoid, AbortUploadSession> {
+
+        /**
+         * Creates an abort upload session request with the default parameters
+         *
+         * @param requestUrl    URL of the abort endpoint of the session
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public AbortUploadSession(String requestUrl, BoxSession session) {
+            super(BoxVoid.class, requestUrl, session);
+            mRequestMethod = Methods.DELETE;
+        }
+    }
+
     /**
      * Request for downloading a file
      */
     public static class DownloadFile extends BoxRequestDownload<BoxDownload, DownloadFile> {
 
+        private static final String CONTENT_PATH = "/content";
+
+        private String mId;
+        private boolean mResumable;
+
         /**
          * Creates a download file to output stream request with the default parameters
          *
@@ -496,6 +1057,155 @@ public class BoxRequestsFile {
         public DownloadFile(final File target, String requestUrl, BoxSession session) {
             super(BoxDownload.class, target, requestUrl, session);
         }
+
+        /**
+         * Creates a download file to file request for a file with a known id, which allows the download to be resumable.
+         *
+         * @param id    id of the file to download
+         * @param target    target file to download to
+         * @param requestUrl    URL of the download file endpoint
+         * @param session   the authenticated session that will be used to make the request with
+         */
+        public DownloadFile(String id, final File target, String requestUrl, BoxSession session) {
+            super(BoxDownload.class, target, requestUrl, session);
+            mId = id;
+        }
+
+        /**
+         * Returns the id of the file to download.
+         *
+         * @return id of the file, or null if the request was created from a download URL only.
+         */
+        public String getId() {
+            return mId;
+        }
+
+        /**
+         * Sets whether the download can continue where a previous attempt stopped. Progress is recorded in a
+         * checkpoint file next to the target (see {@link BoxDownloadCheckpoint#getCheckpointFile(File)}). Before
+         * downloading, the checkpoint is validated against the current etag, SHA1 and version of the file and the
+         * download continues with a range request from the bytes already committed. A checkpoint recorded for a file that
+         * has changed since is discarded. The checkpoint is deleted once the download completes.
+         *
+         * Resumable downloads require the file id and a target file rather than a folder.
+         *
+         * @param resumable true to make the download resumable.
+         * @return this download request.
+         */
+        public DownloadFile setResumable(boolean resumable) {
+            if (resumable && (mId == null || mTarget == null || mTarget.isDirectory())) {
+                throw new IllegalStateException("Resumable downloads require a file id and a target file");
+            }
+            mResumable = resumable;
+            return this;
+        }
+
+        /**
+         * Returns whether the download can continue where a previous attempt stopped.
+         *
+         * @return true if the download is resumable.
+         */
+        public boolean isResumable() {
+            return mResumable;
+        }
+
+        /**
+         * Sets the SHA1 hash the downloaded content is expected to have, as returned by {@link BoxFile#getSha1()}. The
+         * hash is computed as the content is written, so the file does not need to be read again afterwards. Parallel
+         * and resumed downloads receive the file out of order and hash each part of the target as soon as everything
+         * before it has been written, reading back content committed before a resume once. If the
+         * hashes do not match the download fails with {@link BoxException.Sha1Mismatch} and the target file is
+         * deleted. The hash is not checked when only a range of the file is downloaded.
+         *
+         * @param sha1 the expected SHA1 hash, or null to skip verification.
+         * @return this download request.
+         */
+        public DownloadFile setExpectedSha1(String sha1) {
+            mExpectedSha1 = sha1;
+            return this;
+        }
+
+        /**
+         * Returns the SHA1 hash the downloaded content is expected to have.
+         *
+         * @return the expected SHA1 hash, or null if the content is not verified.
+         */
+        public String getExpectedSha1() {
+            return mExpectedSha1;
+        }
+
+        @Override
+        public BoxDownload send() throws BoxException {
+            if (!mResumable || mCheckpoint != null) {
+                return super.send();
+            }
+
+            BoxFile file = new GetFileInfo(mId, getFileInfoUrl(), mSession)
+                    .setFields(BoxFile.FIELD_ETAG, BoxFile.FIELD_SHA1, BoxFile.FIELD_SIZE, BoxFile.FIELD_FILE_VERSION)
+                    .setTransport(mTransport)
+                    .send();
+            File checkpointFile = BoxDownloadCheckpoint.getCheckpointFile(mTarget);
+            BoxDownloadCheckpoint checkpoint = BoxDownloadCheckpoint.load(checkpointFile);
+            if (checkpoint == null || !checkpoint.matches(file, getVersion()) || checkpoint.getBytesCommitted() > mTarget.length()) {
+                checkpoint = new BoxDownloadCheckpoint(file, getVersion());
+            }
+
+            mCheckpoint = checkpoint;
+            mCheckpointFile = checkpointFile;
+            try {
+                BoxDownload download;
+                if (checkpoint.isComplete()) {
+                    // Nothing is left to request, either because a previous attempt finished writing the file but did
+                    // not get to remove the checkpoint or because the file is empty. The target may still hold more
+                    // than the file, such as the content of a larger earlier download.
+                    RandomAccessFile target = new RandomAccessFile(mTarget, "rw");
+                    try {
+                        target.setLength(checkpoint.getSize());
+                    } finally {
+                        target.close();
+                    }
+                    download = new BoxDownload(null, checkpoint.getSize(), null, null, null, null);
+                    if (mExpectedSha1 != null) {
+                        String sha1 = SdkUtils.sha1(new FileInputStream(mTarget));
+                        if (!mExpectedSha1.equalsIgnoreCase(sha1)) {
+                            mTarget.delete();
+                            throw new BoxException.Sha1Mismatch(mExpectedSha1, sha1);
+                        }
+                    }
+                } else {
+                    download = super.send();
+                }
+                checkpointFile.delete();
+                return download;
+            } catch (BoxException.Sha1Mismatch e) {
+                // The content written so far cannot be trusted.
+                checkpointFile.delete();
+                throw e;
+            } catch (BoxException e) {
+                try {
+                    checkpoint.save(checkpointFile);
+                } catch (IOException ioe) {
+                    BoxLogUtils.e(BoxConstants.TAG, "Unable to save download checkpoint", ioe);
+                }
+                throw e;
+            } catch (IOException e) {
+                throw new BoxException(e.getMessage(), e);
+            } catch (NoSuchAlgorithmException e) {
+                throw new BoxException(e.getMessage(), e);
+            } finally {
+                mCheckpoint = null;
+                mCheckpointFile = null;
+            }
+        }
+
+        /**
+         * @return the URL of the information endpoint of the file being downloaded.
+         */
+        protected String getFileInfoUrl() {
+            return mRequestUrlString.endsWith(CONTENT_PATH)
+                    ? mRequestUrlString.substring(0, mRequestUrlString.length() - CONTENT_PATH.length())
+                    : mRequestUrlString;
+        }
     }
 
     /**
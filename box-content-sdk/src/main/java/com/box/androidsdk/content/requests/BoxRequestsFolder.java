@@ -1,14 +1,21 @@
 package com.box.androidsdk.content.requests;
 
+import com.box.androidsdk.content.BoxApiFile;
+import com.box.androidsdk.content.BoxApiFolder;
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.listeners.ProgressListener;
 import com.box.androidsdk.content.models.BoxFolder;
+import com.box.androidsdk.content.models.BoxFolderTransferSummary;
 import com.box.androidsdk.content.models.BoxItem;
 import com.box.androidsdk.content.models.BoxListCollaborations;
 import com.box.androidsdk.content.models.BoxListItems;
 import com.box.androidsdk.content.models.BoxSession;
 import com.box.androidsdk.content.models.BoxUploadEmail;
 import com.box.androidsdk.content.models.BoxUser;
+import com.box.androidsdk.content.utils.BandwidthLimiter;
 import com.eclipsesource.json.JsonObject;
 
+import java.io.File;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -447,11 +454,12 @@ public class BoxRequestsFolder {
     /**
      * Request for getting a folders items
      */
-    public static class GetFolderItems extends BoxRequestItem<BoxListItems, GetFolderItems> {
+    public static class GetFolderItems extends BoxRequestItem<BoxListItems, GetFolderItems> implements BoxPagedRequest<BoxListItems, GetFolderItems> {
         private static final String LIMIT = "limit";
         private static final String OFFSET = "offset";
 
         // 1000 is the current max that the API supports
+        private static final int MAX_LIMIT = 1000;
         private static final String DEFAULT_LIMIT = "1000";
         private static final String DEFAULT_OFFSET = "0";
 
@@ -491,6 +499,11 @@ public class BoxRequestsFolder {
             mQueryMap.put(OFFSET, String.valueOf(offset));
             return this;
         }
+
+        @Override
+        public int getMaxLimit() {
+            return MAX_LIMIT;
+        }
     }
 
     /**
@@ -545,7 +558,12 @@ public class BoxRequestsFolder {
     /**
      * Request for getting trashed items.
      */
-    public static class GetTrashedItems extends BoxRequest<BoxListItems, GetTrashedItems> {
+    public static class GetTrashedItems extends BoxRequest<BoxListItems, GetTrashedItems> implements BoxPagedRequest<BoxListItems, GetTrashedItems> {
+        private static final String LIMIT = "limit";
+        private static final String OFFSET = "offset";
+
+        // 1000 is the current max that the API supports
+        private static final int MAX_LIMIT = 1000;
 
         /**
          * Creates a request to get trashed items with the default parameters.
@@ -557,5 +575,385 @@ public class BoxRequestsFolder {
             super(BoxListItems.class, requestUrl, session);
             mRequestMethod = Methods.GET;
         }
+
+        /**
+         * Sets the limit of items that should be returned
+         *
+         * @param limit limit of items to return
+         * @return the get trashed items request
+         */
+        public GetTrashedItems setLimit(int limit) {
+            mQueryMap.put(LIMIT, String.valueOf(limit));
+            return this;
+        }
+
+        /**
+         * Sets the offset of the items that should be returned
+         *
+         * @param offset offset of items to return
+         * @return the get trashed items request
+         */
+        public GetTrashedItems setOffset(int offset) {
+            mQueryMap.put(OFFSET, String.valueOf(offset));
+            return this;
+        }
+
+        @Override
+        public int getMaxLimit() {
+            return MAX_LIMIT;
+        }
+    }
+
+    /**
+     * Request for uploading a local folder tree into a folder on Box. The local folder is created in the parent folder,
+     * followed by its subfolders breadth-first, each as soon as its parent exists. Files are uploaded into their
+     * folders as soon as the folders exist, by up to {@link #getParallelism()} connections at the same time. Folders
+     * that already exist on Box are reused and files that already exist are handled according to the
+     * {@link ConflictPolicy}. A file or folder that fails does not stop the rest of the tree from being uploaded, and
+     * is reported in the returned summary.
+     */
+    public static class UploadFolder extends BoxRequest<BoxFolderTransferSummary, UploadFolder> {
+
+        /**
+         * Number of folders and files uploaded at the same time by default.
+         */
+        public static final int DEFAULT_PARALLELISM = 4;
+
+        /**
+         * How to upload a file whose name is already used by a file in its destination folder.
+         */
+        public enum ConflictPolicy {
+            /**
+             * Leave the existing file alone.
+             */
+            SKIP,
+
+            /**
+             * Upload the file as a new version of the existing file, unless their content is identical.
+             */
+            NEW_VERSION,
+
+            /**
+             * Report the file as failed.
+             */
+            FAIL
+        }
+
+        private final File mLocalFolder;
+        private final String mParentId;
+        private final BoxApiFile mFileApi;
+        private String mFolderName;
+        private int mParallelism = DEFAULT_PARALLELISM;
+        private ConflictPolicy mConflictPolicy = ConflictPolicy.SKIP;
+        private String mBandwidthClass;
+
+        /**
+         * Creates a folder upload request with the default parameters.
+         *
+         * @param localFolder   local folder to upload.
+         * @param parentId  id of the folder on Box to create the uploaded folder in.
+         * @param fileApi   the API the files of the tree are uploaded with.
+         * @param requestUrl    URL of the create folder endpoint.
+         * @param session   the authenticated session that will be used to make the request with.
+         */
+        public UploadFolder(File localFolder, String parentId, BoxApiFile fileApi, String requestUrl, BoxSession session) {
+            super(BoxFolderTransferSummary.class, requestUrl, session);
+            mRequestMethod = Methods.POST;
+            mLocalFolder = localFolder;
+            mParentId = parentId;
+            mFileApi = fileApi;
+            mFolderName = localFolder.getName();
+        }
+
+        @Override
+        protected boolean isBatchable() {
+            // The upload is made of many calls.
+            return false;
+        }
+
+        @Override
+        public BoxFolderTransferSummary send() throws BoxException {
+            return new BoxFolderUpload(this).upload();
+        }
+
+        /**
+         * Sets the progress listener for the upload, which is notified of the bytes of all files processed so far.
+         * Files that are skipped count as processed.
+         *
+         * @param listener  progress listener for the request.
+         * @return  request with the updated progress listener.
+         */
+        public UploadFolder setProgressListener(ProgressListener listener) {
+            mListener = listener;
+            return this;
+        }
+
+        /**
+         * Sets the number of folders and files that are uploaded at the same time.
+         *
+         * @param parallelism   the number of connections to upload with.
+         * @return  request with the updated parallelism.
+         */
+        public UploadFolder setParallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            mParallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Returns the number of folders and files that are uploaded at the same time.
+         *
+         * @return  the number of connections to upload with.
+         */
+        public int getParallelism() {
+            return mParallelism;
+        }
+
+        /**
+         * Sets how files whose name is already used in their destination folder are uploaded.
+         *
+         * @param policy    the policy for existing files.
+         * @return  request with the updated policy.
+         */
+        public UploadFolder setConflictPolicy(ConflictPolicy policy) {
+            mConflictPolicy = policy;
+            return this;
+        }
+
+        /**
+         * Returns how files whose name is already used in their destination folder are uploaded.
+         *
+         * @return  the policy for existing files.
+         */
+        public ConflictPolicy getConflictPolicy() {
+            return mConflictPolicy;
+        }
+
+        /**
+         * Sets the class of transfers the files of the tree belong to, which paces them with the
+         * {@link BandwidthLimiter} of the class along with the global limiter.
+         *
+         * @param bandwidthClass    the name of the class, or null for {@link BandwidthLimiter#CLASS_DEFAULT}.
+         * @return  request with the updated class.
+         */
+        public UploadFolder setBandwidthClass(String bandwidthClass) {
+            mBandwidthClass = bandwidthClass;
+            return this;
+        }
+
+        /**
+         * Returns the class of transfers the files of the tree belong to.
+         *
+         * @return  the name of the class, or null if they belong to {@link BandwidthLimiter#CLASS_DEFAULT}.
+         */
+        public String getBandwidthClass() {
+            return mBandwidthClass;
+        }
+
+        /**
+         * Sets the name of the folder created on Box for the local folder.
+         *
+         * @param name  name of the uploaded folder.
+         * @return  request with the updated name.
+         */
+        public UploadFolder setFolderName(String name) {
+            mFolderName = name;
+            return this;
+        }
+
+        /**
+         * Returns the name of the folder created on Box for the local folder.
+         *
+         * @return  name of the uploaded folder.
+         */
+        public String getFolderName() {
+            return mFolderName;
+        }
+
+        /**
+         * Returns the local folder to upload.
+         *
+         * @return  local folder to upload.
+         */
+        public File getLocalFolder() {
+            return mLocalFolder;
+        }
+
+        /**
+         * Returns the id of the folder on Box the local folder is uploaded into.
+         *
+         * @return  id of the parent folder.
+         */
+        public String getParentId() {
+            return mParentId;
+        }
+
+        BoxApiFile getFileApi() {
+            return mFileApi;
+        }
+    }
+
+    /**
+     * Request for downloading a folder tree from Box into a local folder. The items of the folder are listed page by
+     * page, subfolders are created locally and files are downloaded into them, with at most {@link #getParallelism()}
+     * listings and downloads running at the same time. Files whose local copy already has the same SHA1 hash as the
+     * file on Box are skipped. A file or folder that fails does not stop the rest of the tree from being downloaded,
+     * and is reported in the returned summary.
+     */
+    public static class DownloadFolder extends BoxRequest<BoxFolderTransferSummary, DownloadFolder> {
+
+        /**
+         * Number of listings and downloads run at the same time by default.
+         */
+        public static final int DEFAULT_PARALLELISM = 4;
+
+        // 1000 is the current max that the API supports
+        private static final int DEFAULT_PAGE_SIZE = 1000;
+
+        private final String mId;
+        private final File mLocalFolder;
+        private final BoxApiFolder mFolderApi;
+        private final BoxApiFile mFileApi;
+        private int mParallelism = DEFAULT_PARALLELISM;
+        private int mPageSize = DEFAULT_PAGE_SIZE;
+        private String mBandwidthClass;
+
+        /**
+         * Creates a folder download request with the default parameters.
+         *
+         * @param id    id of the folder to download.
+         * @param localFolder   local folder the items of the folder are downloaded into, created if needed.
+         * @param folderApi the API the folders of the tree are listed with.
+         * @param fileApi   the API the files of the tree are downloaded with.
+         * @param requestUrl    URL of the folder items endpoint.
+         * @param session   the authenticated session that will be used to make the request with.
+         */
+        public DownloadFolder(String id, File localFolder, BoxApiFolder folderApi, BoxApiFile fileApi, String requestUrl,
+                              BoxSession session) {
+            super(BoxFolderTransferSummary.class, requestUrl, session);
+            mRequestMethod = Methods.GET;
+            mId = id;
+            mLocalFolder = localFolder;
+            mFolderApi = folderApi;
+            mFileApi = fileApi;
+        }
+
+        @Override
+        protected boolean isBatchable() {
+            // The download is made of many calls.
+            return false;
+        }
+
+        @Override
+        public BoxFolderTransferSummary send() throws BoxException {
+            return new BoxFolderDownload(this).download();
+        }
+
+        /**
+         * Sets the progress listener for the download, which is notified of the bytes of all files processed so far.
+         * The total grows as folders are listed, and files that are skipped count as processed.
+         *
+         * @param listener  progress listener for the request.
+         * @return  request with the updated progress listener.
+         */
+        public DownloadFolder setProgressListener(ProgressListener listener) {
+            mListener = listener;
+            return this;
+        }
+
+        /**
+         * Sets the number of listings and downloads run at the same time.
+         *
+         * @param parallelism   the number of connections to download with.
+         * @return  request with the updated parallelism.
+         */
+        public DownloadFolder setParallelism(int parallelism) {
+            if (parallelism < 1) {
+                throw new IllegalArgumentException("parallelism must be at least 1");
+            }
+            mParallelism = parallelism;
+            return this;
+        }
+
+        /**
+         * Returns the number of listings and downloads run at the same time.
+         *
+         * @return  the number of connections to download with.
+         */
+        public int getParallelism() {
+            return mParallelism;
+        }
+
+        /**
+         * Sets the number of items requested with each page of a folder listing.
+         *
+         * @param pageSize  the number of items per page.
+         * @return  request with the updated page size.
+         */
+        public DownloadFolder setPageSize(int pageSize) {
+            if (pageSize < 1) {
+                throw new IllegalArgumentException("pageSize must be at least 1");
+            }
+            mPageSize = pageSize;
+            return this;
+        }
+
+        /**
+         * Returns the number of items requested with each page of a folder listing.
+         *
+         * @return  the number of items per page.
+         */
+        public int getPageSize() {
+            return mPageSize;
+        }
+
+        /**
+         * Sets the class of transfers the files of the tree belong to, which paces them with the
+         * {@link BandwidthLimiter} of the class along with the global limiter.
+         *
+         * @param bandwidthClass    the name of the class, or null for {@link BandwidthLimiter#CLASS_DEFAULT}.
+         * @return  request with the updated class.
+         */
+        public DownloadFolder setBandwidthClass(String bandwidthClass) {
+            mBandwidthClass = bandwidthClass;
+            return this;
+        }
+
+        /**
+         * Returns the class of transfers the files of the tree belong to.
+         *
+         * @return  the name of the class, or null if they belong to {@link BandwidthLimiter#CLASS_DEFAULT}.
+         */
+        public String getBandwidthClass() {
+            return mBandwidthClass;
+        }
+
+        /**
+         * Returns the id of the folder to download.
+         *
+         * @return  id of the folder.
+         */
+        public String getId() {
+            return mId;
+        }
+
+        /**
+         * Returns the local folder the items of the folder are downloaded into.
+         *
+         * @return  local folder to download into.
+         */
+        public File getLocalFolder() {
+            return mLocalFolder;
+        }
+
+        BoxApiFolder getFolderApi() {
+            return mFolderApi;
+        }
+
+        BoxApiFile getFileApi() {
+            return mFileApi;
+        }
     }
 }
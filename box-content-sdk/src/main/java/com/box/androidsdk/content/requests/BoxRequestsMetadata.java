@@ -153,10 +153,10 @@ public class BoxRequestsMetadata {
              * @param value The value for the path (key). Can leave blank if performing REMOVE operation.
              */
             public BoxMetadataUpdateTask (Operations operation, String key, String value) {
-                mProperties.put(OPERATION, operation.toString());
-                mProperties.put(PATH, "/" + key);
+                getPropertyMap().put(OPERATION, operation.toString());
+                getPropertyMap().put(PATH, "/" + key);
                 if (operation != Operations.REMOVE) {
-                    mProperties.put(VALUE, value);
+                    getPropertyMap().put(VALUE, value);
                 }
             }
         }
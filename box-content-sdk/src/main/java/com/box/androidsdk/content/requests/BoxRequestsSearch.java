@@ -16,7 +16,7 @@ public class BoxRequestsSearch {
     /**
      * Request for searching.
      */
-    public static class Search extends BoxRequest<BoxListItems, Search> {
+    public static class Search extends BoxRequest<BoxListItems, Search> implements BoxPagedRequest<BoxListItems, Search> {
 
         /**
          * Only search in names.
@@ -88,6 +88,8 @@ public class BoxRequestsSearch {
          */
         protected static final String FIELD_OFFSET = "offset";
 
+        // 200 is the current max that the search API supports
+        private static final int MAX_LIMIT = 200;
 
         public static enum Scope {
             USER_CONTENT,
@@ -221,6 +223,11 @@ public class BoxRequestsSearch {
             return this;
         }
 
+        @Override
+        public int getMaxLimit() {
+            return MAX_LIMIT;
+        }
+
         /**
          * @return the minimum last updated at date set in this request if this request was limited, null otherwise.
          */
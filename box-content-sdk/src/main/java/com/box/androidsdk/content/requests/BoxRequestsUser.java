@@ -33,11 +33,14 @@ public class BoxRequestsUser {
     /**
      * Request to get users that belong to the admins enterprise
      */
-    public static class GetEnterpriseUsers extends BoxRequestItem<BoxListUsers, GetEnterpriseUsers> {
+    public static class GetEnterpriseUsers extends BoxRequestItem<BoxListUsers, GetEnterpriseUsers> implements BoxPagedRequest<BoxListUsers, GetEnterpriseUsers> {
         protected static final String QUERY_FILTER_TERM = "filter_term";
         protected static final String QUERY_LIMIT = "limit";
         protected static final String QUERY_OFFSET = "offset";
 
+        // 1000 is the current max that the API supports
+        private static final int MAX_LIMIT = 1000;
+
         /**
          * Creates a get enterprise users request with the default parameters
          *
@@ -89,6 +92,16 @@ public class BoxRequestsUser {
             return this;
         }
 
+        /**
+         * Sets the number of records to return.
+         *
+         * @param limit the number of records to return.
+         * @return The get enterprise users request
+         */
+        public GetEnterpriseUsers setLimit(int limit) {
+            return setLimit((long) limit);
+        }
+
         /**
          * Gets the record at which to start
          *
@@ -108,6 +121,21 @@ public class BoxRequestsUser {
             mQueryMap.put(QUERY_OFFSET, Long.toString(offset));
             return this;
         }
+
+        /**
+         * Sets the record at which to start
+         *
+         * @param offset the record at which to start
+         * @return The get enterprise users request
+         */
+        public GetEnterpriseUsers setOffset(int offset) {
+            return setOffset((long) offset);
+        }
+
+        @Override
+        public int getMaxLimit() {
+            return MAX_LIMIT;
+        }
     }
 
     /**
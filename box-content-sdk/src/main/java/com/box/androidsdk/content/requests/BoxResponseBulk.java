@@ -0,0 +1,88 @@
+package com.box.androidsdk.content.requests;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Response of a completed BoxRequestBulk, with the response of each item the operation was sent for and the items
+ * that were skipped because a checkpoint showed they had already succeeded.
+ */
+public class BoxResponseBulk extends BoxResponseBatch {
+
+    protected LinkedHashMap<String, BoxResponse> mResponsesById = new LinkedHashMap<String, BoxResponse>();
+    protected ArrayList<String> mSkippedIds = new ArrayList<String>();
+
+    /**
+     * Adds the response of an item
+     *
+     * @param id    the id of the item
+     * @param response  the response to add
+     */
+    public void addResponse(String id, BoxResponse response) {
+        mResponsesById.put(id, response);
+        addResponse(response);
+    }
+
+    /**
+     * Adds an item that was skipped because the operation had already succeeded on it
+     *
+     * @param id    the id of the item
+     */
+    public void addSkippedId(String id) {
+        mSkippedIds.add(id);
+    }
+
+    /**
+     * Returns the response of an item
+     *
+     * @param id    the id of the item
+     * @return the response of the item, or null if no request was sent for the item
+     */
+    public BoxResponse getResponse(String id) {
+        return mResponsesById.get(id);
+    }
+
+    /**
+     * Returns the responses keyed by the id of their item, in the order the ids were given
+     *
+     * @return responses keyed by item id
+     */
+    public Map<String, BoxResponse> getResponsesById() {
+        return mResponsesById;
+    }
+
+    /**
+     * Returns the ids of the items that were skipped because a checkpoint showed the operation had already succeeded
+     * on them
+     *
+     * @return ids of the skipped items
+     */
+    public List<String> getSkippedIds() {
+        return mSkippedIds;
+    }
+
+    /**
+     * Returns the ids of the items the operation was sent for and failed on. Items skipped because of a checkpoint are
+     * in {@link #getSkippedIds()} instead.
+     *
+     * @return ids of the failed items
+     */
+    public List<String> getFailedIds() {
+        ArrayList<String> failed = new ArrayList<String>();
+        for (Map.Entry<String, BoxResponse> entry : mResponsesById.entrySet()) {
+            if (!entry.getValue().isSuccess()) {
+                failed.add(entry.getKey());
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * @return true if the operation succeeded on every item.
+     */
+    public boolean isComplete() {
+        return getFailedIds().isEmpty();
+    }
+}
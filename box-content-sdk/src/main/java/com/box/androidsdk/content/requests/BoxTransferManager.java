@@ -0,0 +1,893 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxConstants;
+import com.box.androidsdk.content.listeners.ProgressListener;
+import com.box.androidsdk.content.models.BoxDownloadCheckpoint;
+import com.box.androidsdk.content.models.BoxSession;
+import com.box.androidsdk.content.utils.BoxLogUtils;
+import com.box.androidsdk.content.utils.SdkUtils;
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs upload and download requests in the background with a limited number of concurrent transfers. Queued transfers
+ * start in order of their priority, and each transfer can be paused, resumed and cancelled on its own.
+ *
+ * <p>Transfers of local files are recorded in a small journal file, so that transfers that were queued, running or
+ * paused when the process ended are restored when a manager is created with the same journal. The journal is written
+ * in the background, with state changes made while a write is waiting written together. Downloads of a file
+ * by id to a target file are made resumable, so a paused or interrupted download continues from its checkpoint. Uploads
+ * start over when they are resumed. Requests whose content is a stream, channel or buffer run like any other transfer
+ * but cannot be restored.</p>
+ *
+ * <p>The manager reports the progress of every transfer and the progress and throughput of all transfers together.
+ * It takes over the progress listener of the requests added to it, forwarding progress to the listener that was set
+ * beforehand.</p>
+ */
+public class BoxTransferManager {
+
+    /**
+     * Number of transfers run at the same time by default.
+     */
+    public static final int DEFAULT_MAX_CONCURRENT_TRANSFERS = 2;
+
+    public static final int PRIORITY_LOW = -10;
+    public static final int PRIORITY_NORMAL = 0;
+    public static final int PRIORITY_HIGH = 10;
+
+    /**
+     * Period over which the throughput of the transfers is measured.
+     */
+    static final int THROUGHPUT_WINDOW_MILLIS = 1000;
+
+    private static final String FIELD_ID = "id";
+    private static final String FIELD_KIND = "kind";
+    private static final String FIELD_STATE = "state";
+    private static final String FIELD_PRIORITY = "priority";
+    private static final String FIELD_URL = "url";
+    private static final String FIELD_PATH = "path";
+    private static final String FIELD_FOLDER_ID = "folder_id";
+    private static final String FIELD_FILE_ID = "file_id";
+    private static final String FIELD_VERSION = "version";
+    private static final String FIELD_NAME = "name";
+    private static final String FIELD_SHA1 = "sha1";
+    private static final String FIELD_BANDWIDTH_CLASS = "bandwidth_class";
+    private static final String FIELD_CREATED_AT = "created_at";
+    private static final String FIELD_MODIFIED_AT = "modified_at";
+    private static final String FIELD_VERIFY_SHA1 = "verify_sha1";
+    private static final String FIELD_IF_MATCH = "if_match";
+
+    private static final String KIND_DOWNLOAD = "download";
+    private static final String KIND_UPLOAD = "upload";
+    private static final String KIND_UPLOAD_NEW_VERSION = "upload_new_version";
+
+    /**
+     * The states of a transfer.
+     */
+    public enum State {
+        QUEUED, RUNNING, PAUSED, COMPLETED, FAILED, CANCELLED
+    }
+
+    /**
+     * The listener interface for changes to the transfers of a manager.
+     */
+    public interface Listener {
+
+        /**
+         * Invoked after a transfer changed its state.
+         *
+         * @param transfer  the transfer whose state changed.
+         */
+        void onStateChanged(Transfer transfer);
+    }
+
+    private final BoxSession mSession;
+    private final File mJournalFile;
+    private final ThreadPoolExecutor mExecutor;
+    private final ThreadPoolExecutor mJournalExecutor;
+    private final Object mJournalWriteLock = new Object();
+    private final LinkedHashMap<String, Transfer> mTransfers = new LinkedHashMap<String, Transfer>();
+    private long mSequence;
+    private boolean mShutdown;
+    private boolean mJournalPending;
+
+    private long mBytesTransferred;
+    private long mTotalBytes;
+
+    private Listener mListener;
+    private ProgressListener mProgressListener;
+
+    private long mWindowStart;
+    private long mWindowBytes;
+    private long mThroughput;
+
+    /**
+     * Creates a transfer manager running {@link #DEFAULT_MAX_CONCURRENT_TRANSFERS} transfers at the same time.
+     *
+     * @param session   the authenticated session restored transfers are made with.
+     * @param journalFile   the file transfers are recorded in, or null to not record transfers.
+     */
+    public BoxTransferManager(BoxSession session, File journalFile) {
+        this(session, journalFile, DEFAULT_MAX_CONCURRENT_TRANSFERS);
+    }
+
+    /**
+     * Creates a transfer manager. Transfers recorded in the journal that had not finished are restored, and those that
+     * were queued or running are queued again.
+     *
+     * @param session   the authenticated session restored transfers are made with.
+     * @param journalFile   the file transfers are recorded in, or null to not record transfers.
+     * @param maxConcurrentTransfers    the number of transfers run at the same time.
+     */
+    public BoxTransferManager(BoxSession session, File journalFile, int maxConcurrentTransfers) {
+        if (maxConcurrentTransfers < 1) {
+            throw new IllegalArgumentException("maxConcurrentTransfers must be at least 1");
+        }
+        mSession = session;
+        mJournalFile = journalFile;
+        mExecutor = new ThreadPoolExecutor(maxConcurrentTransfers, maxConcurrentTransfers, 60, TimeUnit.SECONDS,
+                new PriorityBlockingQueue<Runnable>());
+        mJournalExecutor = journalFile == null ? null : SdkUtils.createDefaultThreadPoolExecutor(0, 1, 10, TimeUnit.SECONDS);
+        restoreJournal();
+    }
+
+    /**
+     * Adds a download to the queue. A download of a file by id to a target file is made resumable.
+     *
+     * @param request   the download to run.
+     * @param priority  the priority of the download, transfers with a higher priority start first.
+     * @return  the queued transfer.
+     */
+    public Transfer addDownload(BoxRequestDownload request, int priority) {
+        if (request instanceof BoxRequestsFile.DownloadFile) {
+            BoxRequestsFile.DownloadFile download = (BoxRequestsFile.DownloadFile) request;
+            if (download.getId() != null && download.mTarget != null && !download.mTarget.isDirectory()) {
+                download.setResumable(true);
+            }
+        }
+        return add(request, priority, createRecord(request));
+    }
+
+    /**
+     * Adds an upload to the queue.
+     *
+     * @param request   the upload to run.
+     * @param priority  the priority of the upload, transfers with a higher priority start first.
+     * @return  the queued transfer.
+     */
+    public Transfer addUpload(BoxRequestUpload request, int priority) {
+        return add(request, priority, createRecord(request));
+    }
+
+    /**
+     * Returns a transfer of this manager.
+     *
+     * @param id    the id of the transfer.
+     * @return  the transfer, or null if there is no transfer with the id.
+     */
+    public synchronized Transfer getTransfer(String id) {
+        return mTransfers.get(id);
+    }
+
+    /**
+     * Returns the transfers of this manager in the order they were added.
+     *
+     * @return  the transfers of this manager.
+     */
+    public synchronized List<Transfer> getTransfers() {
+        return new ArrayList<Transfer>(mTransfers.values());
+    }
+
+    /**
+     * Removes the transfers that completed or were cancelled from this manager.
+     */
+    public synchronized void removeFinishedTransfers() {
+        Iterator<Transfer> iterator = mTransfers.values().iterator();
+        while (iterator.hasNext()) {
+            Transfer transfer = iterator.next();
+            if (transfer.mState == State.COMPLETED || transfer.mState == State.CANCELLED) {
+                uncount(transfer);
+                iterator.remove();
+            }
+        }
+    }
+
+    /**
+     * Sets the number of transfers run at the same time. Running transfers are not stopped when the number is lowered.
+     *
+     * @param maxConcurrentTransfers    the number of transfers run at the same time.
+     */
+    public synchronized void setMaxConcurrentTransfers(int maxConcurrentTransfers) {
+        if (maxConcurrentTransfers < 1) {
+            throw new IllegalArgumentException("maxConcurrentTransfers must be at least 1");
+        }
+        if (maxConcurrentTransfers > mExecutor.getMaximumPoolSize()) {
+            mExecutor.setMaximumPoolSize(maxConcurrentTransfers);
+            mExecutor.setCorePoolSize(maxConcurrentTransfers);
+        } else {
+            mExecutor.setCorePoolSize(maxConcurrentTransfers);
+            mExecutor.setMaximumPoolSize(maxConcurrentTransfers);
+        }
+    }
+
+    /**
+     * Returns the number of transfers run at the same time.
+     *
+     * @return  the number of transfers run at the same time.
+     */
+    public int getMaxConcurrentTransfers() {
+        return mExecutor.getCorePoolSize();
+    }
+
+    /**
+     * Sets the listener notified when a transfer changes its state.
+     *
+     * @param listener  the listener, or null to remove it.
+     */
+    public synchronized void setListener(Listener listener) {
+        mListener = listener;
+    }
+
+    /**
+     * Sets the listener notified of the progress of all transfers of this manager together.
+     *
+     * @param listener  the listener, or null to remove it.
+     */
+    public synchronized void setProgressListener(ProgressListener listener) {
+        mProgressListener = listener;
+    }
+
+    /**
+     * Returns the number of bytes transferred by the transfers of this manager.
+     *
+     * @return  the number of bytes transferred.
+     */
+    public synchronized long getBytesTransferred() {
+        return mBytesTransferred;
+    }
+
+    /**
+     * Returns the number of bytes to transfer by the transfers of this manager, as far as they are known.
+     *
+     * @return  the number of bytes to transfer.
+     */
+    public synchronized long getTotalBytes() {
+        return mTotalBytes;
+    }
+
+    /**
+     * Returns the number of bytes transferred per second by all transfers together, measured over the last second.
+     *
+     * @return  the throughput in bytes per second.
+     */
+    public synchronized long getThroughput() {
+        if (System.currentTimeMillis() - mWindowStart > 2 * THROUGHPUT_WINDOW_MILLIS) {
+            // Nothing has been transferred for a while.
+            return 0;
+        }
+        return mThroughput;
+    }
+
+    /**
+     * Stops all transfers. Transfers that were queued or running stay in the journal and are restored by the next
+     * manager created with it. The journal has been written once this method returns.
+     */
+    public void shutdown() {
+        synchronized (this) {
+            mShutdown = true;
+            for (Transfer transfer : mTransfers.values()) {
+                if (transfer.mState == State.RUNNING) {
+                    transfer.stop();
+                }
+            }
+        }
+        mExecutor.shutdownNow();
+        if (mJournalFile != null) {
+            writeJournal();
+        }
+    }
+
+    private Transfer add(BoxRequest request, int priority, JsonObject record) {
+        Transfer transfer = new Transfer(record == null ? UUID.randomUUID().toString() : record.get(FIELD_ID).asString(),
+                request, priority, record);
+        synchronized (this) {
+            if (mShutdown) {
+                throw new IllegalStateException("The transfer manager has been shut down");
+            }
+            mTransfers.put(transfer.mId, transfer);
+            transfer.mCounted = true;
+            saveJournal();
+        }
+        notifyStateChanged(transfer);
+        schedule(transfer);
+        return transfer;
+    }
+
+    private void schedule(Transfer transfer) {
+        synchronized (this) {
+            if (mShutdown) {
+                return;
+            }
+            mExecutor.execute(new TransferTask(transfer, transfer.mRun, mSequence++));
+        }
+    }
+
+    private void onProgress(Transfer transfer, long numBytes, long totalBytes) {
+        ProgressListener listener;
+        long transferred;
+        long total;
+        synchronized (this) {
+            long count = numBytes - transfer.mBytesTransferred;
+            long totalCount = Math.max(totalBytes, numBytes) - transfer.mTotalBytes;
+            transfer.mBytesTransferred += count;
+            transfer.mTotalBytes += totalCount;
+            if (transfer.mCounted) {
+                mBytesTransferred += count;
+                mTotalBytes += totalCount;
+            }
+            long now = System.currentTimeMillis();
+            if (now - mWindowStart > 2 * THROUGHPUT_WINDOW_MILLIS) {
+                mWindowStart = now;
+                mWindowBytes = 0;
+            }
+            if (count > 0) {
+                mWindowBytes += count;
+            }
+            if (now - mWindowStart >= THROUGHPUT_WINDOW_MILLIS) {
+                mThroughput = mWindowBytes * 1000 / (now - mWindowStart);
+                mWindowStart = now;
+                mWindowBytes = 0;
+            }
+            listener = mProgressListener;
+            transferred = mBytesTransferred;
+            total = mTotalBytes;
+        }
+        if (listener != null) {
+            listener.onProgressChanged(transferred, total);
+        }
+    }
+
+    private void onFinished(Transfer transfer, int run, Object result, Exception exception) {
+        boolean reschedule = false;
+        State previous;
+        synchronized (this) {
+            previous = transfer.mState;
+            transfer.mThread = null;
+            // Clear an interrupt meant for the transfer so that it does not affect the next one on this thread.
+            Thread.interrupted();
+            if (exception == null) {
+                transfer.mResult = result;
+                transfer.mException = null;
+                transfer.mState = State.COMPLETED;
+            } else if (mShutdown) {
+                // Left as running in the journal to be restored.
+                return;
+            } else if (transfer.mRun != run) {
+                // Resumed while it was stopping.
+                reschedule = transfer.mState == State.QUEUED;
+            } else if (transfer.mState == State.RUNNING) {
+                transfer.mException = exception;
+                transfer.mState = State.FAILED;
+            }
+            if (transfer.mState == State.CANCELLED) {
+                transfer.discard();
+            }
+            saveJournal();
+        }
+        if (reschedule) {
+            schedule(transfer);
+        }
+        if (transfer.mState != previous) {
+            notifyStateChanged(transfer);
+        }
+    }
+
+    /**
+     * Removes a transfer from the byte totals of the manager, once it is cancelled or removed.
+     */
+    private void uncount(Transfer transfer) {
+        if (transfer.mCounted) {
+            transfer.mCounted = false;
+            mBytesTransferred -= transfer.mBytesTransferred;
+            mTotalBytes -= transfer.mTotalBytes;
+        }
+    }
+
+    private void notifyStateChanged(Transfer transfer) {
+        Listener listener;
+        synchronized (this) {
+            listener = mListener;
+        }
+        if (listener != null) {
+            listener.onStateChanged(transfer);
+        }
+    }
+
+    private static JsonObject createRecord(BoxRequest request) {
+        JsonObject record = new JsonObject();
+        if (request instanceof BoxRequestsFile.DownloadFile) {
+            BoxRequestsFile.DownloadFile download = (BoxRequestsFile.DownloadFile) request;
+            if (download.getId() == null || download.mTarget == null) {
+                return null;
+            }
+            record.add(FIELD_KIND, KIND_DOWNLOAD);
+            record.add(FIELD_PATH, download.mTarget.getPath());
+            record.add(FIELD_FILE_ID, download.getId());
+            if (download.getVersion() != null) {
+                record.add(FIELD_VERSION, download.getVersion());
+            }
+            if (download.getExpectedSha1() != null) {
+                record.add(FIELD_SHA1, download.getExpectedSha1());
+            }
+            if (download.getBandwidthClass() != null) {
+                record.add(FIELD_BANDWIDTH_CLASS, download.getBandwidthClass());
+            }
+        } else if (request instanceof BoxRequestUpload) {
+            BoxRequestUpload upload = (BoxRequestUpload) request;
+            if (upload.mFile == null || upload.mStream != null || upload.mChannel != null || upload.mBuffer != null) {
+                return null;
+            }
+            if (request instanceof BoxRequestsFile.UploadFile) {
+                record.add(FIELD_KIND, KIND_UPLOAD);
+                record.add(FIELD_FOLDER_ID, ((BoxRequestsFile.UploadFile) request).getDestinationFolderId());
+                record.add(FIELD_NAME, upload.mFileName);
+            } else if (request instanceof BoxRequestsFile.UploadNewVersion) {
+                record.add(FIELD_KIND, KIND_UPLOAD_NEW_VERSION);
+            } else {
+                return null;
+            }
+            record.add(FIELD_PATH, upload.mFile.getPath());
+            if (upload.getBandwidthClass() != null) {
+                record.add(FIELD_BANDWIDTH_CLASS, upload.getBandwidthClass());
+            }
+            if (upload.mCreatedDate != null) {
+                record.add(FIELD_CREATED_AT, upload.mCreatedDate.getTime());
+            }
+            if (upload.mModifiedDate != null) {
+                record.add(FIELD_MODIFIED_AT, upload.mModifiedDate.getTime());
+            }
+            if (upload.mSha1 != null) {
+                record.add(FIELD_SHA1, upload.mSha1);
+            }
+            if (upload.getVerifySha1()) {
+                record.add(FIELD_VERIFY_SHA1, true);
+            }
+            if (upload.getIfMatchEtag() != null) {
+                record.add(FIELD_IF_MATCH, upload.getIfMatchEtag());
+            }
+        } else {
+            return null;
+        }
+        record.add(FIELD_ID, UUID.randomUUID().toString());
+        record.add(FIELD_URL, request.mRequestUrlString);
+        return record;
+    }
+
+    private BoxRequest createRequest(JsonObject record) {
+        String kind = record.get(FIELD_KIND).asString();
+        String url = record.get(FIELD_URL).asString();
+        File file = new File(record.get(FIELD_PATH).asString());
+        String bandwidthClass = record.get(FIELD_BANDWIDTH_CLASS) == null ? null : record.get(FIELD_BANDWIDTH_CLASS).asString();
+        if (kind.equals(KIND_DOWNLOAD)) {
+            BoxRequestsFile.DownloadFile download = new BoxRequestsFile.DownloadFile(record.get(FIELD_FILE_ID).asString(),
+                    file, url, mSession);
+            if (record.get(FIELD_VERSION) != null) {
+                download.setVersion(record.get(FIELD_VERSION).asString());
+            }
+            if (record.get(FIELD_SHA1) != null) {
+                download.setExpectedSha1(record.get(FIELD_SHA1).asString());
+            }
+            if (!file.isDirectory()) {
+                download.setResumable(true);
+            }
+            return download.setBandwidthClass(bandwidthClass);
+        }
+        BoxRequestUpload upload;
+        if (kind.equals(KIND_UPLOAD)) {
+            upload = new BoxRequestsFile.UploadFile(file, record.get(FIELD_FOLDER_ID).asString(), url, mSession)
+                    .setFileName(record.get(FIELD_NAME).asString());
+        } else if (kind.equals(KIND_UPLOAD_NEW_VERSION)) {
+            upload = new BoxRequestsFile.UploadNewVersion(file, url, mSession);
+        } else {
+            return null;
+        }
+        upload.setBandwidthClass(bandwidthClass);
+        // The file constructors set the modified date from the file, an explicit date or its absence overrides it.
+        upload.setCreatedDate(record.get(FIELD_CREATED_AT) == null ? null : new Date(record.get(FIELD_CREATED_AT).asLong()));
+        upload.setModifiedDate(record.get(FIELD_MODIFIED_AT) == null ? null : new Date(record.get(FIELD_MODIFIED_AT).asLong()));
+        if (record.get(FIELD_SHA1) != null) {
+            upload.setSha1(record.get(FIELD_SHA1).asString());
+        }
+        upload.setVerifySha1(record.get(FIELD_VERIFY_SHA1) != null && record.get(FIELD_VERIFY_SHA1).asBoolean());
+        if (record.get(FIELD_IF_MATCH) != null) {
+            upload.setIfMatchEtag(record.get(FIELD_IF_MATCH).asString());
+        }
+        return upload;
+    }
+
+    private void restoreJournal() {
+        if (mJournalFile == null || !mJournalFile.exists()) {
+            return;
+        }
+        JsonArray records;
+        InputStreamReader reader = null;
+        try {
+            reader = new InputStreamReader(new FileInputStream(mJournalFile), "UTF-8");
+            records = JsonArray.readFrom(reader);
+        } catch (Exception e) {
+            // A damaged journal only means the transfers it held are not restored.
+            BoxLogUtils.e(BoxConstants.TAG, "Unable to read transfer journal", e);
+            return;
+        } finally {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    // Ignore
+                }
+            }
+        }
+
+        ArrayList<Transfer> queued = new ArrayList<Transfer>();
+        synchronized (this) {
+            for (JsonValue value : records) {
+                JsonObject record = value.asObject();
+                BoxRequest request;
+                try {
+                    request = createRequest(record);
+                } catch (Exception e) {
+                    BoxLogUtils.e(BoxConstants.TAG, "Unable to restore transfer", e);
+                    continue;
+                }
+                if (request == null) {
+                    continue;
+                }
+                Transfer transfer = new Transfer(record.get(FIELD_ID).asString(), request, record.get(FIELD_PRIORITY).asInt(), record);
+                State state = State.valueOf(record.get(FIELD_STATE).asString());
+                if (state == State.PAUSED || state == State.FAILED) {
+                    transfer.mState = state;
+                } else {
+                    queued.add(transfer);
+                }
+                mTransfers.put(transfer.mId, transfer);
+                transfer.mCounted = true;
+            }
+            saveJournal();
+        }
+        for (Transfer transfer : queued) {
+            schedule(transfer);
+        }
+    }
+
+    /**
+     * Queues a write of the journal unless one is already waiting, which then also writes the current change. The
+     * journal is written on a thread of its own, so state changes never wait for the disk.
+     */
+    private synchronized void saveJournal() {
+        if (mJournalFile == null || mJournalPending) {
+            return;
+        }
+        mJournalPending = true;
+        mJournalExecutor.execute(new Runnable() {
+            @Override
+            public void run() {
+                writeJournal();
+            }
+        });
+    }
+
+    /**
+     * Writes the transfers that have not finished to the journal. The journal is written to a temporary file first so
+     * that an interrupted save never leaves a damaged journal behind. Writes are serialized and each one takes the
+     * state of the transfers when it starts, so the journal always ends up with the latest state.
+     */
+    private void writeJournal() {
+        synchronized (mJournalWriteLock) {
+            String journal;
+            synchronized (this) {
+                mJournalPending = false;
+                JsonArray records = new JsonArray();
+                for (Transfer transfer : mTransfers.values()) {
+                    if (transfer.mRecord != null && transfer.mState != State.COMPLETED && transfer.mState != State.CANCELLED) {
+                        transfer.mRecord.set(FIELD_STATE, transfer.mState.name());
+                        transfer.mRecord.set(FIELD_PRIORITY, transfer.mPriority);
+                        records.add(transfer.mRecord);
+                    }
+                }
+                journal = records.toString();
+            }
+            try {
+                File temporary = new File(mJournalFile.getPath() + ".tmp");
+                Writer writer = new OutputStreamWriter(new FileOutputStream(temporary), "UTF-8");
+                try {
+                    writer.write(journal);
+                } finally {
+                    writer.close();
+                }
+                if (!temporary.renameTo(mJournalFile)) {
+                    mJournalFile.delete();
+                    if (!temporary.renameTo(mJournalFile)) {
+                        throw new IOException("Unable to save transfer journal to " + mJournalFile);
+                    }
+                }
+            } catch (IOException e) {
+                BoxLogUtils.e(BoxConstants.TAG, "Unable to save transfer journal", e);
+            }
+        }
+    }
+
+    /**
+     * An upload or download run by a transfer manager.
+     */
+    public class Transfer {
+
+        private final String mId;
+        private final BoxRequest mRequest;
+        private final int mPriority;
+        private final JsonObject mRecord;
+
+        private volatile State mState = State.QUEUED;
+        private volatile boolean mStopRequested;
+        private Thread mThread;
+        private int mRun;
+        private boolean mCounted;
+        private long mBytesTransferred;
+        private long mTotalBytes;
+        private Object mResult;
+        private Exception mException;
+
+        Transfer(String id, BoxRequest request, int priority, JsonObject record) {
+            mId = id;
+            mRequest = request;
+            mPriority = priority;
+            mRecord = record;
+            final ProgressListener listener = request.mListener;
+            request.mListener = new ProgressListener() {
+                @Override
+                public void onProgressChanged(long numBytes, long totalBytes) {
+                    if (mStopRequested) {
+                        // Unwinds the request, which is reported as a failure of the run that was stopped.
+                        throw new CancellationException();
+                    }
+                    onProgress(Transfer.this, numBytes, totalBytes);
+                    if (listener != null) {
+                        listener.onProgressChanged(numBytes, totalBytes);
+                    }
+                }
+            };
+        }
+
+        /**
+         * Returns the id of this transfer, which stays the same when the transfer is restored from the journal.
+         *
+         * @return  the id of this transfer.
+         */
+        public String getId() {
+            return mId;
+        }
+
+        /**
+         * Returns the request this transfer runs.
+         *
+         * @return  the request of this transfer.
+         */
+        public BoxRequest getRequest() {
+            return mRequest;
+        }
+
+        /**
+         * Returns the priority of this transfer.
+         *
+         * @return  the priority of this transfer.
+         */
+        public int getPriority() {
+            return mPriority;
+        }
+
+        /**
+         * Returns the state of this transfer.
+         *
+         * @return  the state of this transfer.
+         */
+        public State getState() {
+            return mState;
+        }
+
+        /**
+         * Returns whether this transfer is recorded in the journal and restored with it.
+         *
+         * @return  true if the transfer is recorded in the journal.
+         */
+        public boolean isPersistent() {
+            return mRecord != null && mJournalFile != null;
+        }
+
+        /**
+         * Returns the number of bytes this transfer has transferred.
+         *
+         * @return  the number of bytes transferred.
+         */
+        public long getBytesTransferred() {
+            synchronized (BoxTransferManager.this) {
+                return mBytesTransferred;
+            }
+        }
+
+        /**
+         * Returns the number of bytes this transfer has to transfer.
+         *
+         * @return  the number of bytes to transfer, or 0 if it is not known yet.
+         */
+        public long getTotalBytes() {
+            synchronized (BoxTransferManager.this) {
+                return mTotalBytes;
+            }
+        }
+
+        /**
+         * Returns the object returned by the request once the transfer has completed.
+         *
+         * @return  the result of the request, or null if the transfer has not completed.
+         */
+        public Object getResult() {
+            synchronized (BoxTransferManager.this) {
+                return mResult;
+            }
+        }
+
+        /**
+         * Returns the reason the transfer failed.
+         *
+         * @return  the exception thrown by the request, or null if the transfer has not failed.
+         */
+        public Exception getException() {
+            synchronized (BoxTransferManager.this) {
+                return mException;
+            }
+        }
+
+        /**
+         * Pauses this transfer. A running transfer is stopped, a download keeps the content written so far.
+         */
+        public void pause() {
+            synchronized (BoxTransferManager.this) {
+                if (mState != State.QUEUED && mState != State.RUNNING) {
+                    return;
+                }
+                if (mState == State.RUNNING) {
+                    stop();
+                }
+                mState = State.PAUSED;
+                saveJournal();
+            }
+            notifyStateChanged(this);
+        }
+
+        /**
+         * Queues this transfer again after it was paused or failed.
+         */
+        public void resume() {
+            boolean schedule;
+            synchronized (BoxTransferManager.this) {
+                if (mState != State.PAUSED && mState != State.FAILED) {
+                    return;
+                }
+                mState = State.QUEUED;
+                mException = null;
+                mRun++;
+                // A transfer that is still stopping is queued again once it has stopped.
+                schedule = mThread == null;
+                saveJournal();
+            }
+            if (schedule) {
+                schedule(this);
+            }
+            notifyStateChanged(this);
+        }
+
+        /**
+         * Cancels this transfer. A running transfer is stopped and the partial content of a download is deleted.
+         */
+        public void cancel() {
+            synchronized (BoxTransferManager.this) {
+                if (mState == State.COMPLETED || mState == State.CANCELLED) {
+                    return;
+                }
+                boolean running = mThread != null;
+                if (running) {
+                    stop();
+                }
+                mState = State.CANCELLED;
+                uncount(this);
+                if (!running) {
+                    discard();
+                }
+                saveJournal();
+            }
+            notifyStateChanged(this);
+        }
+
+        private void stop() {
+            mStopRequested = true;
+            if (mThread != null) {
+                mThread.interrupt();
+            }
+        }
+
+        /**
+         * Deletes the partial content of a cancelled download.
+         */
+        private void discard() {
+            if (mRequest instanceof BoxRequestsFile.DownloadFile && ((BoxRequestsFile.DownloadFile) mRequest).isResumable()) {
+                File target = ((BoxRequestsFile.DownloadFile) mRequest).mTarget;
+                BoxDownloadCheckpoint.getCheckpointFile(target).delete();
+                target.delete();
+            }
+        }
+    }
+
+    /**
+     * Runs a transfer on the executor, ordered by the priority of the transfer and then by the time it was queued.
+     */
+    private class TransferTask implements Runnable, Comparable<TransferTask> {
+
+        private final Transfer mTransfer;
+        private final int mRun;
+        private final long mSequence;
+
+        TransferTask(Transfer transfer, int run, long sequence) {
+            mTransfer = transfer;
+            mRun = run;
+            mSequence = sequence;
+        }
+
+        @Override
+        public void run() {
+            synchronized (BoxTransferManager.this) {
+                if (mShutdown || mTransfer.mState != State.QUEUED || mTransfer.mRun != mRun || mTransfer.mThread != null) {
+                    return;
+                }
+                mTransfer.mState = State.RUNNING;
+                mTransfer.mStopRequested = false;
+                mTransfer.mThread = Thread.currentThread();
+                saveJournal();
+            }
+            notifyStateChanged(mTransfer);
+            Object result = null;
+            Exception exception = null;
+            try {
+                result = mTransfer.mRequest.send();
+            } catch (Exception e) {
+                exception = e;
+            }
+            onFinished(mTransfer, mRun, result, exception);
+        }
+
+        @Override
+        public int compareTo(TransferTask another) {
+            if (mTransfer.mPriority != another.mTransfer.mPriority) {
+                return mTransfer.mPriority > another.mTransfer.mPriority ? -1 : 1;
+            }
+            return mSequence < another.mSequence ? -1 : (mSequence == another.mSequence ? 0 : 1);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.box.androidsdk.content.requests;
+
+import com.box.androidsdk.content.BoxConstants;
+import com.box.androidsdk.content.BoxException;
+import com.box.androidsdk.content.utils.BoxLogUtils;
+
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+
+/**
+ * Default transport that opens connections through {@link URL#openConnection()}. Connections are disconnected after
+ * every request unless keep-alive pooling has been enabled on the {@link BoxConnectionPool}, in which case they are
+ * handed back to the platform pool. The idle limit, keep-alive duration and hit and miss counters of the
+ * {@link BoxConnectionPool} do not apply to this transport.
+ */
+public class BoxUrlConnectionTransport implements BoxHttpTransport {
+
+    private final BoxConnectionPool mPool;
+
+    /**
+     * Constructs a transport that uses the connection pool shared by the SDK.
+     */
+    public BoxUrlConnectionTransport() {
+        this(BoxConnectionPool.getInstance());
+    }
+
+    /**
+     * Constructs a transport that uses the given connection pool.
+     *
+     * @param pool  the pool that tells whether connections are reused.
+     */
+    public BoxUrlConnectionTransport(BoxConnectionPool pool) {
+        mPool = pool;
+    }
+
+    /**
+     * @return the connection pool used by this transport.
+     */
+    public BoxConnectionPool getConnectionPool() {
+        return mPool;
+    }
+
+    @Override
+    public HttpURLConnection open(URL url, BoxRequest.Methods method) throws IOException {
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method.toString());
+        return connection;
+    }
+
+    @Override
+    public void release(HttpURLConnection connection, BoxHttpResponse response) {
+        if (mPool.isEnabled() && response != null) {
+            try {
+                // The body has to be read to the end before the platform will reuse the socket.
+                response.disconnect();
+                return;
+            } catch (BoxException e) {
+                BoxLogUtils.e(BoxConstants.TAG, "Unable to return connection to the pool", e);
+            }
+        }
+        connection.disconnect();
+    }
+}
@@ -0,0 +1,190 @@
+package com.box.androidsdk.content.utils;
+
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.HashMap;
+
+/**
+ * Limits the rate at which uploads and downloads transfer content with a token bucket. Every transfer belongs to a
+ * class, such as {@link #CLASS_DEFAULT} or a name chosen by the app for bulk transfers, and is paced by the limiter of
+ * its class as well as by the global limiter shared by all classes. Limits can be changed at any time and apply to
+ * transfers that are already running. All limiters are unlimited until a limit is set.
+ *
+ * <pre>
+ * // Keep background sync from starving the rest of the app.
+ * BandwidthLimiter.get("sync").setLimit(256 * 1024);
+ * fileApi.getDownloadRequest(target, fileId).setBandwidthClass("sync").send();
+ * </pre>
+ */
+public class BandwidthLimiter {
+
+    /**
+     * Class of transfers that were not assigned to a class.
+     */
+    public static final String CLASS_DEFAULT = "default";
+
+    /**
+     * Largest number of bytes written at once by a limited stream, so that large writes are paced smoothly.
+     */
+    private static final int MAX_WRITE_SIZE = 16 * 1024;
+
+    /**
+     * Longest time a transfer waits before checking again whether the limit has changed.
+     */
+    private static final long MAX_WAIT_MILLIS = 100;
+
+    private static final BandwidthLimiter GLOBAL = new BandwidthLimiter(null);
+    private static final HashMap<String, BandwidthLimiter> CLASSES = new HashMap<String, BandwidthLimiter>();
+
+    private final BandwidthLimiter mParent;
+    private long mLimit;
+    private double mTokens;
+    private long mLastRefill;
+
+    private BandwidthLimiter(BandwidthLimiter parent) {
+        mParent = parent;
+    }
+
+    /**
+     * Returns the limiter shared by all transfers.
+     *
+     * @return the global limiter.
+     */
+    public static BandwidthLimiter getGlobal() {
+        return GLOBAL;
+    }
+
+    /**
+     * Returns the limiter of a class of transfers, creating it if needed.
+     *
+     * @param transferClass the name of the class, or null for {@link #CLASS_DEFAULT}.
+     * @return the limiter of the class.
+     */
+    public static BandwidthLimiter get(String transferClass) {
+        if (transferClass == null) {
+            transferClass = CLASS_DEFAULT;
+        }
+        synchronized (CLASSES) {
+            BandwidthLimiter limiter = CLASSES.get(transferClass);
+            if (limiter == null) {
+                limiter = new BandwidthLimiter(GLOBAL);
+                CLASSES.put(transferClass, limiter);
+            }
+            return limiter;
+        }
+    }
+
+    /**
+     * Sets the number of bytes per second transfers paced by this limiter may transfer together. Up to a second worth
+     * of content may be transferred at once after a pause.
+     *
+     * @param bytesPerSecond the limit in bytes per second, or 0 to not limit transfers.
+     */
+    public synchronized void setLimit(long bytesPerSecond) {
+        if (bytesPerSecond < 0) {
+            throw new IllegalArgumentException("bytesPerSecond cannot be negative");
+        }
+        refill();
+        if (mLimit == 0) {
+            mTokens = bytesPerSecond;
+        }
+        mLimit = bytesPerSecond;
+        mTokens = Math.min(mTokens, mLimit);
+        // Waiting transfers recompute their wait with the new limit.
+        notifyAll();
+    }
+
+    /**
+     * Returns the limit of this limiter.
+     *
+     * @return the limit in bytes per second, or 0 if transfers are not limited.
+     */
+    public synchronized long getLimit() {
+        return mLimit;
+    }
+
+    /**
+     * Records that content is about to be transferred, waiting as long as needed to stay within the limit of this
+     * limiter and the global limiter.
+     *
+     * @param bytes the number of bytes transferred.
+     * @throws InterruptedException thrown if the current thread is interrupted while waiting.
+     */
+    public void acquire(long bytes) throws InterruptedException {
+        take(bytes);
+        if (mParent != null) {
+            mParent.take(bytes);
+        }
+    }
+
+    private synchronized void take(long bytes) throws InterruptedException {
+        if (mLimit == 0) {
+            return;
+        }
+        refill();
+        // The bytes are taken right away, possibly going into debt, so that concurrent transfers share the limit.
+        mTokens -= bytes;
+        while (mLimit != 0 && mTokens < 0) {
+            long waitMillis = (long) Math.ceil(-mTokens * 1000 / mLimit);
+            wait(Math.max(1, Math.min(waitMillis, MAX_WAIT_MILLIS)));
+            refill();
+        }
+    }
+
+    private void refill() {
+        long now = System.nanoTime();
+        if (mLimit == 0) {
+            mTokens = 0;
+        } else {
+            mTokens = Math.min(mLimit, mTokens + (now - mLastRefill) * mLimit / 1e9);
+        }
+        mLastRefill = now;
+    }
+
+    /**
+     * Wraps a stream so that writes to it are paced by this limiter.
+     *
+     * @param stream the stream content is transferred to.
+     * @return a stream pacing writes to the given stream.
+     */
+    public OutputStream limit(OutputStream stream) {
+        return new LimitedOutputStream(stream, this);
+    }
+
+    private static class LimitedOutputStream extends FilterOutputStream {
+
+        private final BandwidthLimiter mLimiter;
+
+        LimitedOutputStream(OutputStream out, BandwidthLimiter limiter) {
+            super(out);
+            mLimiter = limiter;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            acquire(1);
+            out.write(b);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                int count = Math.min(len, MAX_WRITE_SIZE);
+                acquire(count);
+                out.write(b, off, count);
+                off += count;
+                len -= count;
+            }
+        }
+
+        private void acquire(int count) throws InterruptedIOException {
+            try {
+                mLimiter.acquire(count);
+            } catch (InterruptedException e) {
+                throw new InterruptedIOException();
+            }
+        }
+    }
+}
@@ -11,12 +11,12 @@ import java.util.TimeZone;
  * Contains methods for parsing and formatting dates for use with the Box API.
  */
 public final class BoxDateFormat {
-    private static final ThreadLocal<DateFormat> THREAD_LOCAL_DATE_FORMAT = new ThreadLocal<DateFormat>() {
-        @Override
-        protected DateFormat initialValue() {
-            return new SimpleDateFormat("yyyy-MM-dd'T'HH:mm:ssZ");
-        }
-    };
+    private static final long MILLIS_PER_SECOND = 1000L;
+    private static final long MILLIS_PER_MINUTE = 60 * MILLIS_PER_SECOND;
+    private static final long MILLIS_PER_HOUR = 60 * MILLIS_PER_MINUTE;
+    private static final long MILLIS_PER_DAY = 24 * MILLIS_PER_HOUR;
+    // Length of a date formatted as yyyy-MM-ddTHH:mm:ss+hh:mm
+    private static final int FORMATTED_LENGTH = 25;
 
     private static final ThreadLocal<DateFormat> THREAD_LOCAL_ROUND_TO_DAY_DATE_FORMAT = new ThreadLocal<DateFormat>() {
         @Override
@@ -44,7 +44,80 @@ public final class BoxDateFormat {
      * @throws java.text.ParseException if the string cannot be parsed into a valid date.
      */
     public static Date parse(String dateString) throws ParseException {
-        return THREAD_LOCAL_DATE_FORMAT.get().parse(dateString);
+        return new Date(parseMillis(dateString));
+    }
+
+    /**
+     * Parses an RFC 3339 date string returned by the Box API, such as 2012-12-12T10:55:30-08:00, into milliseconds since
+     * the epoch. Fractions of a second and a Z offset are accepted as well.
+     * @param  dateString     a string containing the date.
+     * @return                the parsed date in milliseconds since January 1, 1970 UTC.
+     * @throws java.text.ParseException if the string cannot be parsed into a valid date.
+     */
+    public static long parseMillis(String dateString) throws ParseException {
+        if (dateString == null) {
+            throw new ParseException("Unparseable date: null", 0);
+        }
+        int length = dateString.length();
+        if (length < 20 || dateString.charAt(4) != '-' || dateString.charAt(7) != '-' || dateString.charAt(10) != 'T'
+                || dateString.charAt(13) != ':' || dateString.charAt(16) != ':') {
+            throw new ParseException("Unparseable date: \"" + dateString + "\"", 0);
+        }
+        int year = parseDigits(dateString, 0, 4);
+        int month = parseDigits(dateString, 5, 2);
+        int day = parseDigits(dateString, 8, 2);
+        int hour = parseDigits(dateString, 11, 2);
+        int minute = parseDigits(dateString, 14, 2);
+        int second = parseDigits(dateString, 17, 2);
+        if (month < 1 || month > 12 || day < 1 || day > 31 || hour > 23 || minute > 59 || second > 60) {
+            throw new ParseException("Unparseable date: \"" + dateString + "\"", 0);
+        }
+
+        int position = 19;
+        int millis = 0;
+        if (dateString.charAt(position) == '.') {
+            // Only the first three digits of the fraction are significant.
+            position++;
+            int digits = 0;
+            while (position < length && Character.isDigit(dateString.charAt(position))) {
+                if (digits < 3) {
+                    millis = millis * 10 + (dateString.charAt(position) - '0');
+                }
+                digits++;
+                position++;
+            }
+            if (digits == 0) {
+                throw new ParseException("Unparseable date: \"" + dateString + "\"", position);
+            }
+            for (; digits < 3; digits++) {
+                millis *= 10;
+            }
+        }
+
+        long offset;
+        char sign = position < length ? dateString.charAt(position) : 0;
+        if ((sign == 'Z' || sign == 'z') && position + 1 == length) {
+            offset = 0;
+        } else if (sign == '+' || sign == '-') {
+            int offsetHours = parseDigits(dateString, position + 1, 2);
+            int minutesStart = position + 3;
+            if (minutesStart < length && dateString.charAt(minutesStart) == ':') {
+                minutesStart++;
+            }
+            if (minutesStart + 2 != length) {
+                throw new ParseException("Unparseable date: \"" + dateString + "\"", position);
+            }
+            int offsetMinutes = parseDigits(dateString, minutesStart, 2);
+            offset = offsetHours * MILLIS_PER_HOUR + offsetMinutes * MILLIS_PER_MINUTE;
+            if (sign == '-') {
+                offset = -offset;
+            }
+        } else {
+            throw new ParseException("Unparseable date: \"" + dateString + "\"", position);
+        }
+
+        return daysFromCivil(year, month, day) * MILLIS_PER_DAY + hour * MILLIS_PER_HOUR + minute * MILLIS_PER_MINUTE
+                + second * MILLIS_PER_SECOND + millis - offset;
     }
 
     /**
@@ -53,9 +126,94 @@ public final class BoxDateFormat {
      * @return      a string containing the formatted date.
      */
     public static String format(Date date) {
-        String format = THREAD_LOCAL_DATE_FORMAT.get().format(date);
-        // Java 6 does not have a convenient way of having the colon in the timezone offset
-        return format.substring(0,22) + ":" + format.substring(22);
+        return formatMillis(date.getTime());
+    }
+
+    /**
+     * Formats a date as an RFC 3339 string in the default time zone that can be sent to the Box API, such as
+     * 2012-12-12T10:55:30-08:00.
+     * @param  millis the date in milliseconds since January 1, 1970 UTC.
+     * @return      a string containing the formatted date.
+     */
+    public static String formatMillis(long millis) {
+        int offsetMillis = TimeZone.getDefault().getOffset(millis);
+        long local = millis + offsetMillis;
+        long days = floorDiv(local, MILLIS_PER_DAY);
+        int millisOfDay = (int) (local - days * MILLIS_PER_DAY);
+
+        // Civil date from days since the epoch, see http://howardhinnant.github.io/date_algorithms.html
+        long z = days + 719468;
+        long era = floorDiv(z, 146097);
+        int dayOfEra = (int) (z - era * 146097);
+        int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+        int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+        int shiftedMonth = (5 * dayOfYear + 2) / 153;
+        int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+        int month = shiftedMonth < 10 ? shiftedMonth + 3 : shiftedMonth - 9;
+        long year = yearOfEra + era * 400 + (month <= 2 ? 1 : 0);
+
+        char[] chars = new char[FORMATTED_LENGTH];
+        writeDigits(chars, 0, (int) year, 4);
+        chars[4] = '-';
+        writeDigits(chars, 5, month, 2);
+        chars[7] = '-';
+        writeDigits(chars, 8, day, 2);
+        chars[10] = 'T';
+        writeDigits(chars, 11, (int) (millisOfDay / MILLIS_PER_HOUR), 2);
+        chars[13] = ':';
+        writeDigits(chars, 14, (int) (millisOfDay / MILLIS_PER_MINUTE % 60), 2);
+        chars[16] = ':';
+        writeDigits(chars, 17, (int) (millisOfDay / MILLIS_PER_SECOND % 60), 2);
+        int offsetMinutes = offsetMillis / (int) MILLIS_PER_MINUTE;
+        chars[19] = offsetMinutes < 0 ? '-' : '+';
+        offsetMinutes = Math.abs(offsetMinutes);
+        writeDigits(chars, 20, offsetMinutes / 60, 2);
+        chars[22] = ':';
+        writeDigits(chars, 23, offsetMinutes % 60, 2);
+        return new String(chars);
+    }
+
+    private static int parseDigits(String string, int start, int count) throws ParseException {
+        if (start + count > string.length()) {
+            throw new ParseException("Unparseable date: \"" + string + "\"", start);
+        }
+        int value = 0;
+        for (int i = start; i < start + count; i++) {
+            char c = string.charAt(i);
+            if (c < '0' || c > '9') {
+                throw new ParseException("Unparseable date: \"" + string + "\"", i);
+            }
+            value = value * 10 + (c - '0');
+        }
+        return value;
+    }
+
+    private static void writeDigits(char[] chars, int start, int value, int count) {
+        for (int i = start + count - 1; i >= start; i--) {
+            chars[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+    }
+
+    /**
+     * Days since the epoch of a date in the proleptic Gregorian calendar, see
+     * http://howardhinnant.github.io/date_algorithms.html
+     */
+    private static long daysFromCivil(int year, int month, int day) {
+        year -= month <= 2 ? 1 : 0;
+        long era = floorDiv(year, 400);
+        int yearOfEra = (int) (year - era * 400);
+        int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2) / 5 + day - 1;
+        int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+        return era * 146097 + dayOfEra - 719468;
+    }
+
+    private static long floorDiv(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        if ((dividend % divisor != 0) && ((dividend < 0) != (divisor < 0))) {
+            quotient--;
+        }
+        return quotient;
     }
 
 
@@ -0,0 +1,457 @@
+package com.box.androidsdk.content.utils;
+
+import com.eclipsesource.json.JsonArray;
+import com.eclipsesource.json.JsonObject;
+import com.eclipsesource.json.JsonValue;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads a JSON document one token at a time from a character stream. Unlike {@link JsonObject#readFrom(Reader)} the
+ * document is never held in memory as a whole, which allows large responses such as folder listings to be parsed
+ * while they are being read from the network. Values that are needed as a whole can be read into a {@link JsonValue}
+ * through {@link #nextValue()}.
+ */
+public class BoxJsonReader implements Closeable {
+
+    private static final int BUFFER_SIZE = 8192;
+
+    /**
+     * Types of tokens that can be returned by {@link #peek()}.
+     */
+    public enum Token {
+        BEGIN_OBJECT,
+        END_OBJECT,
+        BEGIN_ARRAY,
+        END_ARRAY,
+        NAME,
+        STRING,
+        NUMBER,
+        BOOLEAN,
+        NULL,
+        END_DOCUMENT
+    }
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int DANGLING_NAME = 3;
+    private static final int NONEMPTY_OBJECT = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final Reader mReader;
+    private final char[] mBuffer = new char[BUFFER_SIZE];
+    private int mPos = 0;
+    private int mLimit = 0;
+
+    private int[] mStack = new int[32];
+    private int mStackSize = 0;
+
+    private Token mPeeked;
+    private final StringBuilder mStringBuilder = new StringBuilder();
+
+    /**
+     * Constructs a reader that reads a JSON document from the given stream.
+     *
+     * @param reader    the stream to read the JSON document from.
+     */
+    public BoxJsonReader(Reader reader) {
+        if (reader == null) {
+            throw new NullPointerException("reader == null");
+        }
+        mReader = reader;
+        push(EMPTY_DOCUMENT);
+    }
+
+    /**
+     * Gets the type of the next token without consuming it.
+     *
+     * @return the type of the next token.
+     * @throws IOException thrown if the stream could not be read or is not valid JSON.
+     */
+    public Token peek() throws IOException {
+        if (mPeeked != null) {
+            return mPeeked;
+        }
+        int scope = mStack[mStackSize - 1];
+        int c;
+        switch (scope) {
+            case EMPTY_ARRAY:
+                mStack[mStackSize - 1] = NONEMPTY_ARRAY;
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return mPeeked = Token.END_ARRAY;
+                }
+                mPos--;
+                break;
+            case NONEMPTY_ARRAY:
+                c = nextNonWhitespace();
+                if (c == ']') {
+                    return mPeeked = Token.END_ARRAY;
+                } else if (c != ',') {
+                    throw syntaxError("Expected ',' or ']'");
+                }
+                break;
+            case EMPTY_OBJECT:
+            case NONEMPTY_OBJECT:
+                c = nextNonWhitespace();
+                if (c == '}') {
+                    return mPeeked = Token.END_OBJECT;
+                }
+                if (scope == NONEMPTY_OBJECT) {
+                    if (c != ',') {
+                        throw syntaxError("Expected ',' or '}'");
+                    }
+                    c = nextNonWhitespace();
+                }
+                if (c != '"') {
+                    throw syntaxError("Expected name");
+                }
+                mStack[mStackSize - 1] = DANGLING_NAME;
+                return mPeeked = Token.NAME;
+            case DANGLING_NAME:
+                if (nextNonWhitespace() != ':') {
+                    throw syntaxError("Expected ':'");
+                }
+                mStack[mStackSize - 1] = NONEMPTY_OBJECT;
+                break;
+            case EMPTY_DOCUMENT:
+                mStack[mStackSize - 1] = NONEMPTY_DOCUMENT;
+                break;
+            default:
+                if (skipWhitespace() == -1) {
+                    return mPeeked = Token.END_DOCUMENT;
+                }
+                throw syntaxError("Expected end of document");
+        }
+
+        c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return mPeeked = Token.BEGIN_OBJECT;
+            case '[':
+                return mPeeked = Token.BEGIN_ARRAY;
+            case '"':
+                return mPeeked = Token.STRING;
+            case 't':
+            case 'f':
+                mPos--;
+                return mPeeked = Token.BOOLEAN;
+            case 'n':
+                mPos--;
+                return mPeeked = Token.NULL;
+            default:
+                if (c == '-' || (c >= '0' && c <= '9')) {
+                    mPos--;
+                    return mPeeked = Token.NUMBER;
+                }
+                throw syntaxError("Unexpected character");
+        }
+    }
+
+    /**
+     * Consumes the opening brace of an object.
+     *
+     * @throws IOException thrown if the next token is not the beginning of an object.
+     */
+    public void beginObject() throws IOException {
+        expect(Token.BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consumes the closing brace of the current object.
+     *
+     * @throws IOException thrown if the next token is not the end of an object.
+     */
+    public void endObject() throws IOException {
+        expect(Token.END_OBJECT);
+        mStackSize--;
+    }
+
+    /**
+     * Consumes the opening bracket of an array.
+     *
+     * @throws IOException thrown if the next token is not the beginning of an array.
+     */
+    public void beginArray() throws IOException {
+        expect(Token.BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consumes the closing bracket of the current array.
+     *
+     * @throws IOException thrown if the next token is not the end of an array.
+     */
+    public void endArray() throws IOException {
+        expect(Token.END_ARRAY);
+        mStackSize--;
+    }
+
+    /**
+     * @return true if the current object or array has another element.
+     * @throws IOException thrown if the stream could not be read or is not valid JSON.
+     */
+    public boolean hasNext() throws IOException {
+        Token token = peek();
+        return token != Token.END_OBJECT && token != Token.END_ARRAY && token != Token.END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the name of the next member of the current object.
+     *
+     * @return the name of the member.
+     * @throws IOException thrown if the next token is not a name.
+     */
+    public String nextName() throws IOException {
+        expect(Token.NAME);
+        return readString();
+    }
+
+    /**
+     * Consumes the next value and returns it as a {@link JsonValue}. Objects and arrays are read fully, including all
+     * of their nested values.
+     *
+     * @return the value that was read.
+     * @throws IOException thrown if the next token is not the beginning of a value.
+     */
+    public JsonValue nextValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_OBJECT:
+                JsonObject object = new JsonObject();
+                beginObject();
+                while (hasNext()) {
+                    String name = nextName();
+                    object.add(name, nextValue());
+                }
+                endObject();
+                return object;
+            case BEGIN_ARRAY:
+                JsonArray array = new JsonArray();
+                beginArray();
+                while (hasNext()) {
+                    array.add(nextValue());
+                }
+                endArray();
+                return array;
+            case STRING:
+                mPeeked = null;
+                return JsonValue.valueOf(readString());
+            case NUMBER:
+                mPeeked = null;
+                return readNumber();
+            case BOOLEAN:
+            case NULL:
+                mPeeked = null;
+                return readLiteral();
+            default:
+                throw syntaxError("Expected a value but was " + mPeeked);
+        }
+    }
+
+    /**
+     * Consumes and discards the next value.
+     *
+     * @throws IOException thrown if the next token is not the beginning of a value.
+     */
+    public void skipValue() throws IOException {
+        switch (peek()) {
+            case BEGIN_OBJECT:
+                beginObject();
+                while (hasNext()) {
+                    nextName();
+                    skipValue();
+                }
+                endObject();
+                break;
+            case BEGIN_ARRAY:
+                beginArray();
+                while (hasNext()) {
+                    skipValue();
+                }
+                endArray();
+                break;
+            default:
+                nextValue();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        mPeeked = null;
+        mReader.close();
+    }
+
+    private void expect(Token expected) throws IOException {
+        Token token = peek();
+        if (token != expected) {
+            throw syntaxError("Expected " + expected + " but was " + token);
+        }
+        mPeeked = null;
+    }
+
+    private void push(int scope) {
+        if (mStackSize == mStack.length) {
+            int[] stack = new int[mStackSize * 2];
+            System.arraycopy(mStack, 0, stack, 0, mStackSize);
+            mStack = stack;
+        }
+        mStack[mStackSize++] = scope;
+    }
+
+    private String readString() throws IOException {
+        mStringBuilder.setLength(0);
+        while (true) {
+            int start = mPos;
+            while (mPos < mLimit) {
+                char c = mBuffer[mPos++];
+                if (c == '"') {
+                    mStringBuilder.append(mBuffer, start, mPos - start - 1);
+                    return mStringBuilder.toString();
+                } else if (c == '\\') {
+                    mStringBuilder.append(mBuffer, start, mPos - start - 1);
+                    mStringBuilder.append(readEscapeCharacter());
+                    start = mPos;
+                }
+            }
+            mStringBuilder.append(mBuffer, start, mPos - start);
+            if (!fill()) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    private char readEscapeCharacter() throws IOException {
+        int c = read();
+        switch (c) {
+            case 'u':
+                int value = 0;
+                for (int i = 0; i < 4; i++) {
+                    int digit = Character.digit(read(), 16);
+                    if (digit == -1) {
+                        throw syntaxError("Invalid unicode escape");
+                    }
+                    value = (value << 4) | digit;
+                }
+                return (char) value;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    private JsonValue readNumber() throws IOException {
+        mStringBuilder.setLength(0);
+        boolean integral = true;
+        int c = read();
+        while (c != -1 && (c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E' || (c >= '0' && c <= '9'))) {
+            if (c == '.' || c == 'e' || c == 'E') {
+                integral = false;
+            }
+            mStringBuilder.append((char) c);
+            c = read();
+        }
+        if (c != -1) {
+            mPos--;
+        }
+        String number = mStringBuilder.toString();
+        if (integral && number.length() < 19) {
+            try {
+                return JsonValue.valueOf(Long.parseLong(number));
+            } catch (NumberFormatException e) {
+                throw syntaxError("Invalid number " + number);
+            }
+        }
+        try {
+            return JsonValue.readFrom(number);
+        } catch (RuntimeException e) {
+            throw syntaxError("Invalid number " + number);
+        }
+    }
+
+    private JsonValue readLiteral() throws IOException {
+        mStringBuilder.setLength(0);
+        int c = read();
+        while (c >= 'a' && c <= 'z') {
+            mStringBuilder.append((char) c);
+            c = read();
+        }
+        if (c != -1) {
+            mPos--;
+        }
+        String literal = mStringBuilder.toString();
+        if (literal.equals("true")) {
+            return JsonValue.TRUE;
+        } else if (literal.equals("false")) {
+            return JsonValue.FALSE;
+        } else if (literal.equals("null")) {
+            return JsonValue.NULL;
+        }
+        throw syntaxError("Unexpected literal " + literal);
+    }
+
+    private int nextNonWhitespace() throws IOException {
+        int c = skipWhitespace();
+        if (c == -1) {
+            throw syntaxError("Unexpected end of input");
+        }
+        mPos++;
+        return c;
+    }
+
+    /**
+     * Skips whitespace and returns the next character without consuming it, or -1 at the end of the stream.
+     */
+    private int skipWhitespace() throws IOException {
+        while (mPos < mLimit || fill()) {
+            char c = mBuffer[mPos];
+            if (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+                mPos++;
+            } else {
+                return c;
+            }
+        }
+        return -1;
+    }
+
+    private int read() throws IOException {
+        if (mPos == mLimit && !fill()) {
+            return -1;
+        }
+        return mBuffer[mPos++];
+    }
+
+    private boolean fill() throws IOException {
+        int read = mReader.read(mBuffer, 0, mBuffer.length);
+        while (read == 0) {
+            read = mReader.read(mBuffer, 0, mBuffer.length);
+        }
+        if (read == -1) {
+            return false;
+        }
+        mPos = 0;
+        mLimit = read;
+        return true;
+    }
+
+    private IOException syntaxError(String message) {
+        return new IOException("Malformed JSON: " + message);
+    }
+}
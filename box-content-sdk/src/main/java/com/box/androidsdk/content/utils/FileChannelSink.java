@@ -0,0 +1,125 @@
+package com.box.androidsdk.content.utils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.security.MessageDigest;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * Writes downloaded content straight to a {@link FileChannel}. Content is read into large buffers taken from a small
+ * shared pool and written with positional channel writes, avoiding the per-write overhead of an 8 KB stream copy loop,
+ * the allocation of a buffer per download and the extra stream layers used for progress reporting. Progress is
+ * reported once per transferred buffer.
+ */
+public class FileChannelSink {
+
+    /**
+     * Size of the buffers used to transfer content.
+     */
+    public static final int BUFFER_SIZE = 256 * 1024;
+
+    private static final int MAX_POOLED_BUFFERS = 8;
+    private static final ConcurrentLinkedQueue<byte[]> BUFFER_POOL = new ConcurrentLinkedQueue<byte[]>();
+
+    /**
+     * The listener interface for content written by a FileChannelSink.
+     */
+    public interface Listener {
+
+        /**
+         * Invoked after a buffer of content has been written to the channel.
+         *
+         * @param position  the position in the channel the buffer was written to.
+         * @param count     the number of bytes written.
+         * @throws IOException thrown to stop the transfer.
+         */
+        void onTransferred(long position, long count) throws IOException;
+    }
+
+    private FileChannelSink() {
+    }
+
+    /**
+     * Transfers the content of a stream to a channel until the end of the stream.
+     *
+     * @param source    the stream to read from.
+     * @param channel   the channel to write to.
+     * @param position  the position in the channel to write the first byte to.
+     * @param maxCount  the maximum number of bytes expected from the stream, or -1 if there is no limit.
+     * @param listener  an optional listener notified after each buffer is written.
+     * @return the number of bytes transferred.
+     * @throws IOException thrown if the content could not be transferred or the stream holds more than maxCount bytes.
+     * @throws InterruptedException thrown if the current thread is interrupted during the transfer.
+     */
+    public static long transfer(InputStream source, FileChannel channel, long position, long maxCount, Listener listener)
+            throws IOException, InterruptedException {
+        return transfer(source, channel, position, maxCount, null, listener);
+    }
+
+    /**
+     * Transfers the content of a stream to a channel until the end of the stream, updating a digest with the content
+     * as it is transferred.
+     *
+     * @param source    the stream to read from.
+     * @param channel   the channel to write to.
+     * @param position  the position in the channel to write the first byte to.
+     * @param maxCount  the maximum number of bytes expected from the stream, or -1 if there is no limit.
+     * @param digest    an optional digest to update with the transferred content.
+     * @param listener  an optional listener notified after each buffer is written.
+     * @return the number of bytes transferred.
+     * @throws IOException thrown if the content could not be transferred or the stream holds more than maxCount bytes.
+     * @throws InterruptedException thrown if the current thread is interrupted during the transfer.
+     */
+    public static long transfer(InputStream source, FileChannel channel, long position, long maxCount, MessageDigest digest,
+                                Listener listener) throws IOException, InterruptedException {
+        byte[] buffer = BUFFER_POOL.poll();
+        if (buffer == null) {
+            buffer = new byte[BUFFER_SIZE];
+        }
+        long transferred = 0;
+        try {
+            while (true) {
+                // Fill the buffer before writing, network streams tend to return far fewer bytes per read.
+                int filled = 0;
+                int read = 0;
+                while (filled < buffer.length && (read = source.read(buffer, filled, buffer.length - filled)) != -1) {
+                    filled += read;
+                }
+                if (Thread.currentThread().isInterrupted()) {
+                    throw new InterruptedException();
+                }
+                if (filled > 0) {
+                    if (maxCount != -1 && transferred + filled > maxCount) {
+                        throw new IOException("Received more than the expected " + maxCount + " bytes");
+                    }
+                    if (digest != null) {
+                        digest.update(buffer, 0, filled);
+                    }
+                    ByteBuffer byteBuffer = ByteBuffer.wrap(buffer, 0, filled);
+                    long writePosition = position + transferred;
+                    while (byteBuffer.hasRemaining()) {
+                        writePosition += channel.write(byteBuffer, writePosition);
+                    }
+                    if (listener != null) {
+                        listener.onTransferred(position + transferred, filled);
+                    }
+                    transferred += filled;
+                }
+                if (read == -1) {
+                    return transferred;
+                }
+            }
+        } finally {
+            if (BUFFER_POOL.size() < MAX_POOLED_BUFFERS) {
+                BUFFER_POOL.offer(buffer);
+            }
+            try {
+                source.close();
+            } catch (IOException e) {
+                // Ignore
+            }
+        }
+    }
+}
@@ -4,6 +4,7 @@ import android.content.Context;
 import android.content.res.AssetManager;
 import android.net.ConnectivityManager;
 import android.net.NetworkInfo;
+import android.util.Base64;
 
 import com.eclipsesource.json.JsonValue;
 
@@ -141,6 +142,31 @@ public class SdkUtils {
         return new String(encodeHex(md.digest()));
     }
 
+    /**
+     * Encodes bytes, such as a digest, as a lower case hexadecimal string.
+     *
+     * @param data the bytes to encode.
+     * @return the hexadecimal representation of the bytes.
+     */
+    public static String toHexString(byte[] data) {
+        return new String(encodeHex(data));
+    }
+
+    /**
+     * Converts a hexadecimal digest, such as a SHA1 hash returned by Box, to its Base64 representation used in Digest
+     * headers.
+     *
+     * @param hex the hexadecimal digest.
+     * @return the Base64 encoded bytes of the digest.
+     */
+    public static String hexToBase64(String hex) {
+        byte[] data = new byte[hex.length() / 2];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) Integer.parseInt(hex.substring(i * 2, i * 2 + 2), 16);
+        }
+        return Base64.encodeToString(data, Base64.NO_WRAP);
+    }
+
     private static final char[] HEX_CHARS = "0123456789abcdef".toCharArray();
     private static char[] encodeHex(byte[] data) {
         int l = data.length;